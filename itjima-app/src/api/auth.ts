@@ -9,8 +9,8 @@ export const registerApi = (params: any) => {
   return publicApi.post("/auth/signup", params);
 };
 
-export const verifyEmailApi = (token: string) => {
-  return publicApi.get(`/auth/verify-email?token=${token}`);
+export const verifyEmailApi = (token: string, email: string) => {
+  return publicApi.get("/auth/verify-email", { params: { token, email } });
 };
 
 export const resendVerificationEmailApi = (email: string) => {
@@ -47,6 +47,7 @@ export const findPasswordEmailResendApi = async (params: { email: string }) => {
 
 export const passwordResetApi = async (params: {
   code: string;
+  email: string;
   password: string;
 }) => {
   return publicApi.post("/auth/password-reset/confirm",params);
@@ -34,9 +34,13 @@ privateApi.interceptors.response.use(
       isRefreshing = true;
       try {
         const { data } = await refreshApi();
-        const { accessToken } = data.data;
+        const { accessToken, refreshToken } = data.data;
 
-        await AsyncStorage.setItem("authToken", accessToken);
+        // 서버가 리프레시 토큰을 회전시키므로 새 토큰으로 교체해야 함
+        await AsyncStorage.multiSet([
+          ["authToken", accessToken],
+          ["refreshToken", refreshToken],
+        ]);
         privateApi.defaults.headers.common.Authorization = `Bearer ${accessToken}`;
         originalRequest.headers.Authorization = `Bearer ${accessToken}`;
 
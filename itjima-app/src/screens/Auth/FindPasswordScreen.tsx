@@ -87,6 +87,7 @@ export default function FindPasswordScreen({ navigation }: any) {
     try {
       const res = await passwordResetApi({
         code: code.trim(),
+        email: email.trim(),
         password: password,
       });
       getData(res);
@@ -32,7 +32,7 @@ const VerifyEmailScreen = ({ route, navigation }: any) => {
     setIsLoading(true);
 
     try {
-      await verifyEmailApi(token);
+      await verifyEmailApi(token, email);
 
       if (password) {
         Alert.alert("인증 성공", "자동으로 로그인합니다.");
@@ -0,0 +1,79 @@
+package com.itjima_server.client;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 API 호출용 서킷 브레이커
+ * <p>
+ * 연속 실패가 임계치에 도달하면 OPEN 상태로 전환되어 openMs 동안 호출을 즉시 거절한다. 이후 HALF_OPEN 상태에서 한 건의 시험 호출만
+ * 허용하고, 성공하면 CLOSED로 복귀, 실패하면 다시 OPEN으로 돌아간다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMs;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtMs;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openMs) {
+        this(failureThreshold, openMs, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(int failureThreshold, long openMs, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 허용 여부 확인
+     *
+     * @return 호출해도 되면 true (허용 시 반드시 onSuccess/onFailure 중 하나를 호출해야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAtMs < openMs) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtMs = clock.getAsLong();
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,174 @@
+package com.itjima_server.client;
+
+import com.itjima_server.dto.user.response.KakaoTokenResponseDTO;
+import com.itjima_server.dto.user.response.KakaoUserInfoDTO;
+import com.itjima_server.exception.common.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 카카오 OAuth API 호출 전용 클라이언트
+ * <p>
+ * 연결을 재사용(keep-alive)하는 JDK HttpClient 위에서 연결/응답 타임아웃을 강제하고, 동시 호출 수를 세마포어로 제한(벌크헤드)하며,
+ * 연속 장애 시 서킷 브레이커로 즉시 실패시킨다. 카카오 장애가 요청 스레드를 붙잡아 다른 API까지 느려지는 것을 막기 위함이다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class KakaoOAuthClient {
+
+    private static final String UNAVAILABLE_MESSAGE = "카카오 로그인이 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요.";
+
+    private final RestClient restClient;
+    private final Semaphore bulkhead;
+    private final long acquireTimeoutMs;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter rejectedCounter;
+
+    @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
+    private String clientId;
+
+    @Value("${spring.security.oauth2.client.registration.kakao.redirect-uri}")
+    private String redirectUri;
+
+    @Value("${spring.security.oauth2.client.provider.kakao.token-uri}")
+    private String tokenUri;
+
+    @Value("${spring.security.oauth2.client.provider.kakao.user-info-uri}")
+    private String userInfoUri;
+
+    public KakaoOAuthClient(MeterRegistry meterRegistry,
+            @Value("${kakao.client.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${kakao.client.read-timeout-ms:3000}") long readTimeoutMs,
+            @Value("${kakao.client.max-concurrent:20}") int maxConcurrent,
+            @Value("${kakao.client.acquire-timeout-ms:100}") long acquireTimeoutMs,
+            @Value("${kakao.client.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${kakao.client.circuit.open-ms:10000}") long openMs) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMs);
+        this.rejectedCounter = Counter.builder("kakao.client.rejected").register(meterRegistry);
+        meterRegistry.gauge("kakao.client.circuit.open", circuitBreaker,
+                breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1);
+    }
+
+    /**
+     * 인가 코드로 카카오 액세스 토큰 발급
+     *
+     * @param code 인가 코드(authorization_code)
+     * @return 카카오 액세스 토큰 문자열
+     */
+    public String getAccessToken(String code) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("grant_type", "authorization_code");
+        params.add("client_id", clientId);
+        params.add("redirect_uri", redirectUri);
+        params.add("code", code);
+
+        KakaoTokenResponseDTO body = call(() -> restClient.post()
+                .uri(tokenUri)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(params)
+                .retrieve()
+                .body(KakaoTokenResponseDTO.class));
+
+        if (body == null || body.getAccessToken() == null) {
+            throw new IllegalArgumentException("카카오로부터 액세스 토큰을 받아오지 못했습니다.");
+        }
+        return body.getAccessToken();
+    }
+
+    /**
+     * 카카오 액세스 토큰으로 사용자 정보 조회
+     *
+     * @param accessToken 카카오 액세스 토큰
+     * @return 카카오 사용자 정보 DTO
+     */
+    public KakaoUserInfoDTO getUserInfo(String accessToken) {
+        KakaoUserInfoDTO body = call(() -> restClient.post()
+                .uri(userInfoUri)
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .retrieve()
+                .body(KakaoUserInfoDTO.class));
+
+        if (body == null || body.getId() == null) {
+            throw new IllegalArgumentException("카카오로부터 사용자 정보를 받아오지 못했습니다.");
+        }
+        return body;
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    // ==========================
+    // 내부 유틸리티
+    // ==========================
+
+    /**
+     * 벌크헤드와 서킷 브레이커를 거쳐 카카오 API 호출
+     * <p>
+     * 4xx 응답은 요청 자체의 문제이므로 장애로 집계하지 않고 400으로 변환한다. 타임아웃·연결 실패·5xx만 장애로 집계한다.
+     */
+    private <T> T call(Supplier<T> request) {
+        boolean acquired = false;
+        try {
+            acquired = bulkhead.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!acquired) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException(UNAVAILABLE_MESSAGE);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException(UNAVAILABLE_MESSAGE);
+        }
+
+        try {
+            T result = request.get();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (HttpClientErrorException e) {
+            circuitBreaker.onSuccess();
+            throw new IllegalArgumentException("카카오 인증 요청이 거절되었습니다. 다시 로그인해주세요.");
+        } catch (RestClientException e) {
+            circuitBreaker.onFailure();
+            log.warn("카카오 API 호출 실패: {}", e.getMessage());
+            throw new ServiceUnavailableException(UNAVAILABLE_MESSAGE);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+}
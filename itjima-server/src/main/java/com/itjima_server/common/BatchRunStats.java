@@ -0,0 +1,63 @@
+package com.itjima_server.common;
+
+import lombok.Getter;
+
+/**
+ * 청크 단위 배치의 실행 통계
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Getter
+public class BatchRunStats {
+
+    private final long startedAtNanos = System.nanoTime();
+    private final long resumedFromId;
+    private int chunks;
+    private long rows;
+    private long maxChunkNanos;
+    private long elapsedNanos;
+
+    public BatchRunStats(long resumedFromId) {
+        this.resumedFromId = resumedFromId;
+    }
+
+    /**
+     * 커밋된 청크 하나의 결과 기록
+     *
+     * @param chunkRows  청크에서 변경된 행 수
+     * @param chunkNanos   청크 처리 소요 시간
+     */
+    public void addChunk(int chunkRows, long chunkNanos) {
+        chunks++;
+        rows += chunkRows;
+        maxChunkNanos = Math.max(maxChunkNanos, chunkNanos);
+    }
+
+    public void finish() {
+        elapsedNanos = System.nanoTime() - startedAtNanos;
+    }
+
+    public long getElapsedMs() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    public long getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rows * 1_000_000_000L / elapsedNanos;
+    }
+
+    public long getAvgChunkMs() {
+        return chunks == 0 ? 0 : elapsedNanos / chunks / 1_000_000;
+    }
+
+    public long getMaxChunkMs() {
+        return maxChunkNanos / 1_000_000;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d건 / %d청크, %dms (%d건/초, 청크 평균 %dms, 최대 %dms, 시작 ID %d)",
+                rows, chunks, getElapsedMs(), getRowsPerSecond(), getAvgChunkMs(),
+                getMaxChunkMs(), resumedFromId);
+    }
+}
@@ -0,0 +1,98 @@
+package com.itjima_server.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ID 키셋 청크 배치 실행기
+ * <p>
+ * 마지막으로 처리한 ID 다음부터 청크 끝 ID를 찾고, (이전 끝 ID, 이번 끝 ID] 구간을 트랜잭션 하나로 처리해 커밋하기를 더 찾을
+ * 청크가 없을 때까지 반복한다. 행 잠금은 청크 하나를 처리하는 동안만 유지된다.
+ *
+ * @author Rege-97
+ * @since 2026-10-18
+ */
+@Slf4j
+public class KeysetChunkRunner {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public KeysetChunkRunner(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 다음 청크의 끝 ID 조회
+     */
+    @FunctionalInterface
+    public interface ChunkEndFinder {
+
+        /**
+         * @param afterId 마지막으로 처리한 ID
+         * @return 다음 청크의 끝 ID (처리할 청크가 없으면 null)
+         */
+        Long find(long afterId);
+    }
+
+    /**
+     * 청크 하나 처리 (트랜잭션 안에서 호출됨)
+     */
+    @FunctionalInterface
+    public interface ChunkHandler {
+
+        /**
+         * @param fromId 구간 시작 (포함하지 않음)
+         * @param toId   구간 끝 (포함)
+         * @return 변경된 행 수
+         */
+        int handle(long fromId, long toId);
+    }
+
+    /**
+     * 처음부터 끝까지 청크 처리
+     *
+     * @param startAfterId 이 ID 다음부터 처리
+     * @param finder       청크 끝 ID 조회
+     * @param handler      청크 처리
+     * @return 실행 통계
+     */
+    public BatchRunStats run(long startAfterId, ChunkEndFinder finder, ChunkHandler handler) {
+        BatchRunStats stats = new BatchRunStats(startAfterId);
+        runInto(stats, startAfterId, finder, handler);
+        stats.finish();
+        return stats;
+    }
+
+    /**
+     * 청크를 처리하며 결과를 기존 통계에 누적 (여러 대상을 한 실행으로 묶을 때 사용)
+     *
+     * @param stats        누적할 실행 통계
+     * @param startAfterId 이 ID 다음부터 처리
+     * @param finder       청크 끝 ID 조회
+     * @param handler      청크 처리
+     * @return 마지막으로 커밋한 청크의 끝 ID (처리한 청크가 없으면 startAfterId)
+     */
+    public long runInto(BatchRunStats stats, long startAfterId, ChunkEndFinder finder,
+            ChunkHandler handler) {
+        long afterId = startAfterId;
+        while (true) {
+            long chunkStartedAt = System.nanoTime();
+            Long toId = finder.find(afterId);
+            if (toId == null) {
+                return afterId;
+            }
+
+            long fromId = afterId;
+            Integer changed = transactionTemplate.execute(
+                    status -> handler.handle(fromId, toId));
+            int rows = changed == null ? 0 : changed;
+
+            long chunkNanos = System.nanoTime() - chunkStartedAt;
+            stats.addChunk(rows, chunkNanos);
+            log.debug("청크 커밋: ID {} ~ {}, {}건, {}ms", fromId + 1, toId, rows,
+                    chunkNanos / 1_000_000);
+            afterId = toId;
+        }
+    }
+}
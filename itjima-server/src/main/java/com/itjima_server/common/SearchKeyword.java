@@ -0,0 +1,91 @@
+package com.itjima_server.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 목록 검색어
+ * <p>
+ * 검색어를 MySQL ngram FULLTEXT 인덱스용 BOOLEAN MODE 질의로 바꾼다. 단어마다 구문 검색({@code "단어"})으로 감싸 ngram
+ * 토큰이 연속으로 나타나는 행만 찾으므로 단어 단위로는 부분 문자열 검색과 같은 결과를 낸다. 공백으로 나뉜 단어는 순서와 관계없이
+ * 모두 포함된 행을 찾으며, 여러 컬럼을 검색할 때는 단어마다 어느 컬럼에든 있으면 된다(예: "아이패드 홍길동"은 물품 제목의
+ * "아이패드"와 상대방 이름의 "홍길동"으로 찾음). ngram 토큰보다 짧은 단어가 섞여 있으면 인덱스로 찾을 수 없으므로 검색어
+ * 전체를 하나의 부분 문자열로 보는 LIKE 검색으로 되돌아간다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Getter
+public class SearchKeyword {
+
+    /**
+     * MySQL ngram_token_size 기본값
+     */
+    static final int NGRAM_TOKEN_SIZE = 2;
+
+    private static final String BOOLEAN_OPERATORS = "+-<>()~*\"@";
+
+    private final String keyword;
+    /**
+     * 단어별 구문 질의 (한 컬럼 묶음에 대해 단어 하나씩 조건을 걸 때 사용)
+     */
+    private final List<String> phrases;
+    /**
+     * 모든 단어가 한 컬럼 묶음에 있어야 하는 질의
+     */
+    private final String booleanQuery;
+    /**
+     * 단어 중 하나라도 있으면 점수를 주는 질의 (여러 컬럼 묶음의 관련도 합산용)
+     */
+    private final String relevanceQuery;
+
+    private SearchKeyword(String keyword, List<String> phrases) {
+        this.keyword = keyword;
+        this.phrases = phrases;
+        this.booleanQuery = phrases == null ? null
+                : String.join(" ", phrases.stream().map(phrase -> "+" + phrase).toList());
+        this.relevanceQuery = phrases == null ? null : String.join(" ", phrases);
+    }
+
+    /**
+     * 검색어 생성
+     *
+     * @param keyword 사용자가 입력한 검색어
+     * @return 검색어 (비어 있으면 null)
+     */
+    public static SearchKeyword of(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        String trimmed = keyword.trim();
+
+        List<String> phrases = new ArrayList<>();
+        for (String word : trimmed.split("\\s+")) {
+            String term = stripOperators(word);
+            if (term.codePointCount(0, term.length()) < NGRAM_TOKEN_SIZE) {
+                return new SearchKeyword(trimmed, null);
+            }
+            phrases.add("\"" + term + "\"");
+        }
+        return new SearchKeyword(trimmed, List.copyOf(phrases));
+    }
+
+    /**
+     * FULLTEXT 인덱스로 검색할 수 있는지 여부 (false면 LIKE 검색)
+     */
+    public boolean isFullText() {
+        return booleanQuery != null;
+    }
+
+    private static String stripOperators(String word) {
+        StringBuilder sb = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (BOOLEAN_OPERATORS.indexOf(c) < 0) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
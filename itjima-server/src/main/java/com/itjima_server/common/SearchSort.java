@@ -0,0 +1,20 @@
+package com.itjima_server.common;
+
+/**
+ * 검색 목록 정렬 기준
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+public enum SearchSort {
+
+    /**
+     * 최신순 (ID 역순)
+     */
+    LATEST,
+
+    /**
+     * 검색어 관련도순 (FULLTEXT 검색일 때만 적용, 그 외에는 최신순)
+     */
+    RELEVANCE
+}
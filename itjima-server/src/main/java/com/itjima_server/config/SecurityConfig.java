@@ -1,17 +1,24 @@
 package com.itjima_server.config;
 
+import com.itjima_server.security.BoundedPasswordEncoder;
 import com.itjima_server.security.JwtAccessDeniedHandler;
 import com.itjima_server.security.JwtAuthenticationEntryPoint;
 import com.itjima_server.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.CsrfConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -22,12 +29,30 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    /**
+     * 인증 없이 접근 가능한 경로 (JWT 필터도 이 경로는 검증하지 않음)
+     */
+    public static final String[] PERMIT_ALL_PATHS = {
+            "/api/auth/signup", "/api/auth/login", "/api/auth/refresh",
+            "/api/auth/verify-email", "/api/auth/kakao", "/api/auth/find-email",
+            "/api/auth/verify-email/resend", "/api/auth/password-reset/resend",
+            "/api/auth/password-reset/request", "/api/auth/password-reset/confirm",
+            "/uploads/**", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html"
+    };
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
+    /**
+     * 보안 필터 체인
+     * <p>
+     * actuator는 루프백에만 바인딩한 관리 포트로 들어온 요청만 허용한다. 앱 포트(로드밸런서/프록시 뒤)로 들어온 actuator 요청은
+     * 로그인한 사용자라도 거부한다.
+     */
     @Bean
-    SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain securityFilterChain(HttpSecurity http,
+            @Value("${management.server.port:-1}") int managementPort) throws Exception {
         http.csrf(CsrfConfigurer::disable)
                 .cors(Customizer.withDefaults())
                 .exceptionHandling(exceptionHandling ->
@@ -40,14 +65,12 @@ public class SecurityConfig {
                 .addFilterBefore(jwtAuthenticationFilter,
                         UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/auth/signup", "/api/auth/login", "/api/auth/refresh",
-                                "/api/auth/verify-email", "/api/auth/kakao", "/api/auth/find-email",
-                                "/api/auth/verify-email/resend", "/api/auth/password-reset/resend",
-                                "/api/auth/password-reset/request",
-                                "/api/auth/password-reset/confirm","/uploads/**")
-                        .permitAll()
-                        .requestMatchers("/v3/api-docs/**", "/swagger-ui/**",
-                                "/swagger-ui.html").permitAll()
+                        // SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(request -> managementPort > 0
+                                && request.getLocalPort() == managementPort).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).denyAll()
+                        .requestMatchers(PERMIT_ALL_PATHS).permitAll()
                         .anyRequest().authenticated());
         return http.build();
     }
@@ -70,8 +93,24 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * 전용 스레드 풀에서 동작하는 BCrypt 인코더
+     * <p>
+     * cost는 설정값으로 고정하고(서버마다 기동 시점 부하에 따라 달라지지 않도록), threads가 0이면 CPU 코어 수의 절반을 사용한다.
+     */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+            @Value("${password.hash.strength:12}") int strength,
+            @Value("${password.hash.threads:0}") int threads,
+            @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+            @Value("${password.hash.wait-timeout-ms:5000}") long waitTimeoutMs) {
+        int resolvedThreads = threads > 0 ? threads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(strength,
+                resolvedThreads, queueCapacity, waitTimeoutMs);
+        new ExecutorServiceMetrics(encoder.getExecutor(), "password.hash", Tags.empty())
+                .bindTo(meterRegistry);
+        return encoder;
     }
 }
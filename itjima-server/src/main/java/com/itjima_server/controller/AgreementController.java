@@ -2,6 +2,7 @@ package com.itjima_server.controller;
 
 import com.itjima_server.common.ApiResponseDTO;
 import com.itjima_server.common.PagedResultDTO;
+import com.itjima_server.common.SearchSort;
 import com.itjima_server.domain.agreement.AgreementPartyRole;
 import com.itjima_server.dto.agreement.request.AgreementCreateRequestDTO;
 import com.itjima_server.dto.agreement.request.AgreementExtendRequestDTO;
@@ -17,6 +18,7 @@ import com.itjima_server.dto.transaction.response.TransactionResponseDTO;
 import com.itjima_server.dto.transaction.swagger.TransactionPagedResponse;
 import com.itjima_server.security.CustomUserDetails;
 import com.itjima_server.service.AgreementService;
+import com.itjima_server.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -24,6 +26,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -345,6 +348,7 @@ public class AgreementController {
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
             }
     )
+    @ConditionalGet
     @GetMapping("/{id}/transactions")
     public ResponseEntity<?> getTransactionList(@PathVariable Long id,
             @AuthenticationPrincipal CustomUserDetails user,
@@ -429,15 +433,18 @@ public class AgreementController {
      * 화면 렌더링용 대여 물품 리스트 조회
      *
      * @param user    로그인한 사용자
-     * @param keyword 물품명 또는 상대방 이름 검색 필터
-     * @param role    역할 필터
-     * @param lastId  조회할 마지막 id
-     * @param size    한 페이지에 보여줄 개수
+     * @param keyword       물품명/설명 또는 상대방 이름 검색 필터
+     * @param role          역할 필터
+     * @param sort          정렬 기준
+     * @param lastRelevance 관련도순일 때 이전 페이지 마지막 항목의 관련도
+     * @param lastId        조회할 마지막 id
+     * @param size          한 페이지에 보여줄 개수
      * @return 대여 리스트 응답 DTO
      */
     @Operation(
             summary = "화면 렌더링용 대여 목록 조회(커서 기반)",
-            description = "lastId와 size로 커서 기반 페이지네이션",
+            description = "lastId와 size로 커서 기반 페이지네이션. sort=RELEVANCE이면 검색어 관련도순으로 정렬하며, "
+                    + "다음 페이지는 마지막 항목의 relevance를 lastRelevance로 함께 넘긴다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "대여 목록 조회 성공",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -446,14 +453,17 @@ public class AgreementController {
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
             }
     )
+    @ConditionalGet
     @GetMapping("/summary")
     public ResponseEntity<?> getSummaries(@RequestParam(required = false) Long lastId,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) AgreementPartyRole role,
+            @RequestParam(defaultValue = "LATEST") SearchSort sort,
+            @RequestParam(required = false) BigDecimal lastRelevance,
             @RequestParam(defaultValue = "10") int size,
             @AuthenticationPrincipal CustomUserDetails user) {
-        PagedResultDTO<?> res = agreementService.getSummaries(user.getId(), keyword, role, lastId,
-                size);
+        PagedResultDTO<?> res = agreementService.getSummaries(user.getId(), keyword, role, sort,
+                lastRelevance, lastId, size);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponseDTO.success(HttpStatus.OK.value(), "대여 목록 조회 성공", res));
     }
@@ -484,6 +494,7 @@ public class AgreementController {
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
             }
     )
+    @ConditionalGet
     @GetMapping("/{id}/detail")
     public ResponseEntity<?> getDetail(@PathVariable Long id,
             @AuthenticationPrincipal CustomUserDetails user) {
@@ -80,6 +80,7 @@ public class AuthController {
      * 이메일 인증 처리
      *
      * @param token 인증할 인증번호
+     * @param email 인증번호를 받은 이메일
      * @return 인증 완료 응답
      */
     @Operation(
@@ -98,8 +99,9 @@ public class AuthController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
     })
     @GetMapping("/verify-email")
-    public ResponseEntity<?> verifyEmail(@RequestParam(required = false) String token) {
-        authService.verifyEmail(token);
+    public ResponseEntity<?> verifyEmail(@RequestParam(required = false) String token,
+            @RequestParam(required = false) String email) {
+        authService.verifyEmail(token, email);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponseDTO.success(HttpStatus.OK.value(), "이메일 인증 성공"));
     }
@@ -304,7 +306,7 @@ public class AuthController {
     })
     @PostMapping("/password-reset/confirm")
     public ResponseEntity<?> resetPassword(@Valid @RequestBody UserPasswordResetRequestDTO req) {
-        authService.passwordReset(req.getCode(), req.getPassword());
+        authService.passwordReset(req.getCode(), req.getEmail(), req.getPassword());
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponseDTO.success(HttpStatus.OK.value(), "비밀번호 변경 완료"));
     }
@@ -7,16 +7,22 @@ import com.itjima_server.dto.dashboard.response.DashboardResponseDTO;
 import com.itjima_server.dto.dashboard.swagger.DashboardPendingPagedResponse;
 import com.itjima_server.security.CustomUserDetails;
 import com.itjima_server.service.DashboardService;
+import com.itjima_server.web.ConditionalGet;
+import com.itjima_server.web.ConditionalGetInterceptor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -37,7 +43,8 @@ public class DashboardController {
     /**
      * 화면 렌더링용 대쉬보드
      *
-     * @param user 로그인한 사용자
+     * @param user         로그인한 사용자
+     * @param stampVersion 조건부 GET 처리에서 읽은 변경 스탬프 버전
      * @return 대여 리스트 응답 DTO
      */
     @Operation(
@@ -51,9 +58,12 @@ public class DashboardController {
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
             }
     )
+    @ConditionalGet(daily = true)
     @GetMapping("/summary")
-    public ResponseEntity<?> getSummaries(@AuthenticationPrincipal CustomUserDetails user) {
-        DashboardResponseDTO res = dashboardService.getDashboardInfo(user.getId());
+    public ResponseEntity<?> getSummaries(@AuthenticationPrincipal CustomUserDetails user,
+            @RequestAttribute(name = ConditionalGetInterceptor.STAMP_VERSION, required = false)
+            Long stampVersion) {
+        DashboardResponseDTO res = dashboardService.getDashboardInfo(user.getId(), stampVersion);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponseDTO.success(HttpStatus.OK.value(), "대쉬보드 조회 성공", res));
     }
@@ -61,14 +71,16 @@ public class DashboardController {
     /**
      * 요청 목록 조회 (무한 스크롤 커서 기반)
      *
-     * @param lastId 조회할 마지막 id
-     * @param size   한 페이지에 보여줄 개수
-     * @param user   로그인한 유저
+     * @param lastCreatedAt 이전 페이지 마지막 항목의 createdAt
+     * @param lastId        이전 페이지 마지막 항목의 cursorKey
+     * @param size          한 페이지에 보여줄 개수
+     * @param user          로그인한 유저
+     * @param stampVersion  조건부 GET 처리에서 읽은 변경 스탬프 버전
      * @return 항목(items), hasNext, lastId를 포함한 페이지 응답
      */
     @Operation(
             summary = "요청 목록 조회(커서 기반)",
-            description = "lastId와 size로 커서 기반 페이지네이션",
+            description = "lastCreatedAt, lastId와 size로 커서 기반 페이지네이션 (lastId는 직전 응답의 lastId)",
             responses = {
                     @ApiResponse(responseCode = "200", description = "요청 목록 조회 성공",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -77,11 +89,18 @@ public class DashboardController {
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
             }
     )
+    @ConditionalGet
     @GetMapping("/pending")
-    public ResponseEntity<?> getPending(@RequestParam(required = false) Long lastId,
+    public ResponseEntity<?> getPending(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+            @RequestParam(required = false) Long lastId,
             @RequestParam(defaultValue = "5") int size,
-            @AuthenticationPrincipal CustomUserDetails user) {
-        PagedResultDTO<?> res = dashboardService.getPending(user.getId(), lastId, size);
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestAttribute(name = ConditionalGetInterceptor.STAMP_VERSION, required = false)
+            Long stampVersion) {
+        PagedResultDTO<?> res = dashboardService.getPending(user.getId(), stampVersion,
+                lastCreatedAt, lastId, size);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponseDTO.success(HttpStatus.OK.value(), "요청 목록 조회 성공", res));
     }
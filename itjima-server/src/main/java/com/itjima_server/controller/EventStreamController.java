@@ -0,0 +1,59 @@
+package com.itjima_server.controller;
+
+import com.itjima_server.dto.event.response.ChangeEventResponseDTO;
+import com.itjima_server.security.CustomUserDetails;
+import com.itjima_server.service.EventStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class EventStreamController {
+
+    private final EventStreamService eventStreamService;
+
+    /**
+     * 실시간 변경 이벤트 스트림 연결 (SSE)
+     *
+     * @param lastEventIdHeader 재연결 시 브라우저 EventSource가 보내는 마지막 이벤트 ID
+     * @param lastEventId       헤더를 보낼 수 없는 클라이언트용 마지막 이벤트 ID
+     * @param user              로그인한 사용자
+     * @return SSE 연결
+     */
+    @Operation(
+            summary = "실시간 변경 이벤트 스트림",
+            description = "대여 상태 변경, 상환 요청, 새 알림을 text/event-stream으로 받는다. "
+                    + "이벤트 이름은 type과 같고, 재연결 시 Last-Event-ID(또는 lastEventId)로 놓친 이벤트를 이어 받는다. "
+                    + "이어 받을 수 없으면 RESYNC 이벤트가 오며, 이때는 화면을 다시 조회한다. "
+                    + "이벤트는 연결한 서버에서 처리된 변경만 오므로 기존 화면 조회를 대신하지 않는다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "스트림 연결 성공",
+                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    schema = @Schema(implementation = ChangeEventResponseDTO.class))),
+                    @ApiResponse(responseCode = "401", description = "인증 필요",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+                    @ApiResponse(responseCode = "503", description = "서버의 연결 수 한도 초과",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
+            }
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId,
+            @AuthenticationPrincipal CustomUserDetails user) {
+        return eventStreamService.subscribe(user.getId(),
+                lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+}
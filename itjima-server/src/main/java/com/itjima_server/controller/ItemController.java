@@ -2,17 +2,23 @@ package com.itjima_server.controller;
 
 import com.itjima_server.common.ApiResponseDTO;
 import com.itjima_server.common.PagedResultDTO;
+import com.itjima_server.common.SearchSort;
 import com.itjima_server.dto.item.request.ItemCreateRequestDTO;
 import com.itjima_server.dto.item.request.ItemUpdateRequestDTO;
+import com.itjima_server.dto.item.request.ItemUploadConfirmRequestDTO;
+import com.itjima_server.dto.item.request.ItemUploadUrlRequestDTO;
 import com.itjima_server.dto.item.response.ItemCountResponseDTO;
 import com.itjima_server.dto.item.response.ItemDetailResponseDTO;
+import com.itjima_server.dto.item.response.ItemImageResponseDTO;
 import com.itjima_server.dto.item.response.ItemResponseDTO;
+import com.itjima_server.dto.item.response.ItemUploadUrlResponseDTO;
 import com.itjima_server.dto.item.swagger.ItemAgreementPagedResponse;
 import com.itjima_server.dto.item.swagger.ItemPagedResponse;
 import com.itjima_server.dto.item.swagger.ItemSummaryPagedResponse;
 import com.itjima_server.security.CustomUserDetails;
 import com.itjima_server.service.ItemService;
-import com.itjima_server.util.FileResult;
+import com.itjima_server.service.ItemUploadService;
+import com.itjima_server.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -20,6 +26,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -50,6 +57,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class ItemController {
 
     private final ItemService itemService;
+    private final ItemUploadService itemUploadService;
 
     /**
      * 대여물품 등록 처리
@@ -113,19 +121,21 @@ public class ItemController {
     }
 
     /**
-     * 이미지 저장 및 DB 경로 수정 처리
+     * 이미지 업로드 접수 (썸네일/상세 이미지는 비동기로 만들어짐)
      *
-     * @param id  이미지를 저장할 물품 id
-     * @param img 저장할 이미지 파일
-     * @return 저장된 경로 응답
+     * @param user 로그인한 사용자
+     * @param id   이미지를 저장할 물품 id
+     * @param img  저장할 이미지 파일
+     * @return 처리 상태 응답
      */
     @Operation(
             summary = "물품 이미지 업로드",
-            description = "이미지 저장 및 경로 업데이트",
+            description = "원본을 접수하고 바로 응답한다. 상세용/썸네일 이미지는 서버에서 만들어지며, "
+                    + "처리가 끝나면 물품 조회 시 imageStatus가 READY로 바뀌고 fileUrl/thumbnailUrl이 새 이미지를 가리킨다.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "이미지 저장 성공",
+                    @ApiResponse(responseCode = "202", description = "이미지 처리 요청 성공",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                                    schema = @Schema(implementation = FileResult.class))),
+                                    schema = @Schema(implementation = ItemImageResponseDTO.class))),
                     @ApiResponse(responseCode = "400", description = "요청 검증 실패",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
                     @ApiResponse(responseCode = "401", description = "인증 필요",
@@ -133,14 +143,89 @@ public class ItemController {
                     @ApiResponse(responseCode = "403", description = "권한 없음",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
                     @ApiResponse(responseCode = "404", description = "대상 물품 없음",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+                    @ApiResponse(responseCode = "503", description = "처리 대기 중인 이미지가 많음",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
             }
     )
     @PostMapping("/{id}/file")
-    public ResponseEntity<?> saveImage(@PathVariable Long id, @RequestPart MultipartFile img) {
-        FileResult res = itemService.saveImage(id, img);
-        return ResponseEntity.status(HttpStatus.OK)
-                .body(ApiResponseDTO.success(HttpStatus.OK.value(), "이미지 저장 성공", res));
+    public ResponseEntity<?> saveImage(@AuthenticationPrincipal CustomUserDetails user,
+            @PathVariable Long id, @RequestPart MultipartFile img) {
+        ItemImageResponseDTO res = itemService.saveImage(user.getId(), id, img);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDTO.success(HttpStatus.ACCEPTED.value(), "이미지 처리 요청 성공", res));
+    }
+
+    /**
+     * 이미지 직접 업로드 URL 발급
+     *
+     * @param user 로그인한 사용자
+     * @param id   이미지를 바꿀 물품 id
+     * @param req  올릴 파일 정보
+     * @return 업로드 URL 응답
+     */
+    @Operation(
+            summary = "물품 이미지 업로드 URL 발급",
+            description = "저장소에 파일을 직접 올릴 서명된 URL을 발급한다. 클라이언트는 uploadUrl에 method와 headers 그대로 "
+                    + "파일 본문을 보낸 뒤, 만료 전에 업로드 확인 API를 호출한다. Content-Type과 크기가 요청과 다르면 저장소가 거절한다.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "업로드 URL 발급 성공",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ItemUploadUrlResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "요청 검증 실패 또는 허용 크기 초과",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+                    @ApiResponse(responseCode = "401", description = "인증 필요",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+                    @ApiResponse(responseCode = "403", description = "권한 없음",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+                    @ApiResponse(responseCode = "404", description = "대상 물품 없음",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
+            }
+    )
+    @PostMapping("/{id}/file/upload-url")
+    public ResponseEntity<?> createUploadUrl(@AuthenticationPrincipal CustomUserDetails user,
+            @PathVariable Long id, @Valid @RequestBody ItemUploadUrlRequestDTO req) {
+        ItemUploadUrlResponseDTO res = itemUploadService.createUploadUrl(user.getId(), id, req);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponseDTO.success(HttpStatus.CREATED.value(), "업로드 URL 발급 성공", res));
+    }
+
+    /**
+     * 직접 업로드한 이미지 확인 및 처리 접수
+     *
+     * @param user 로그인한 사용자
+     * @param id   이미지를 바꿀 물품 id
+     * @param req  업로드 ID
+     * @return 처리 상태 응답
+     */
+    @Operation(
+            summary = "물품 이미지 업로드 확인",
+            description = "저장소에 파일이 요청한 크기/타입 그대로 올라왔는지 확인하고 이미지 처리를 접수한다. "
+                    + "이후 흐름은 물품 이미지 업로드와 같다 (imageStatus가 READY가 되면 새 이미지 반영).",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "이미지 처리 요청 성공",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ItemImageResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "요청 검증 실패",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+                    @ApiResponse(responseCode = "401", description = "인증 필요",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+                    @ApiResponse(responseCode = "403", description = "권한 없음",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+                    @ApiResponse(responseCode = "404", description = "업로드 정보 없음",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+                    @ApiResponse(responseCode = "409", description = "만료되었거나 업로드된 파일이 없거나 요청과 다름",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+                    @ApiResponse(responseCode = "503", description = "처리 대기 중인 이미지가 많음",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
+            }
+    )
+    @PostMapping("/{id}/file/confirm")
+    public ResponseEntity<?> confirmUpload(@AuthenticationPrincipal CustomUserDetails user,
+            @PathVariable Long id, @Valid @RequestBody ItemUploadConfirmRequestDTO req) {
+        ItemImageResponseDTO res = itemUploadService.confirm(user.getId(), id, req.getUploadId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDTO.success(HttpStatus.ACCEPTED.value(), "이미지 처리 요청 성공", res));
     }
 
     /**
@@ -205,15 +290,18 @@ public class ItemController {
      * 화면 렌더링용 대여 물품 리스트 조회
      *
      * @param user    로그인한 사용자
-     * @param keyword 물품명 검색 필터
-     * @param lastId  조회할 마지막 id
-     * @param status  상태 필터
-     * @param size    한 페이지에 보여줄 개수
+     * @param keyword       물품명/설명 검색 필터
+     * @param lastId        조회할 마지막 id
+     * @param status        상태 필터
+     * @param sort          정렬 기준
+     * @param lastRelevance 관련도순일 때 이전 페이지 마지막 항목의 관련도
+     * @param size          한 페이지에 보여줄 개수
      * @return 대여 물품 리스트 응답 DTO
      */
     @Operation(
             summary = "화면 렌더링용 물품 목록 조회(커서 기반)",
-            description = "lastId와 size로 커서 기반 페이지네이션",
+            description = "lastId와 size로 커서 기반 페이지네이션. sort=RELEVANCE이면 검색어 관련도순으로 정렬하며, "
+                    + "다음 페이지는 마지막 항목의 relevance를 lastRelevance로 함께 넘긴다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "물품 목록 조회 성공",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -222,14 +310,17 @@ public class ItemController {
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
             }
     )
+    @ConditionalGet
     @GetMapping("/summary")
     public ResponseEntity<?> getSummaries(@RequestParam(required = false) Long lastId,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "LATEST") SearchSort sort,
+            @RequestParam(required = false) BigDecimal lastRelevance,
             @RequestParam(defaultValue = "10") int size,
             @AuthenticationPrincipal CustomUserDetails user) {
-        PagedResultDTO<?> res = itemService.getSummaries(user.getId(), keyword, status, lastId,
-                size);
+        PagedResultDTO<?> res = itemService.getSummaries(user.getId(), keyword, status, sort,
+                lastRelevance, lastId, size);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponseDTO.success(HttpStatus.OK.value(), "물품 목록 조회 성공", res));
     }
@@ -251,6 +342,7 @@ public class ItemController {
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
             }
     )
+    @ConditionalGet
     @GetMapping("/count")
     public ResponseEntity<?> getCount(@AuthenticationPrincipal CustomUserDetails user) {
         ItemCountResponseDTO res = itemService.getCount(user.getId());
@@ -280,6 +372,7 @@ public class ItemController {
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
             }
     )
+    @ConditionalGet
     @GetMapping("/{id}/detail")
     public ResponseEntity<?> getDetail(@PathVariable Long id,
             @AuthenticationPrincipal CustomUserDetails user) {
@@ -310,6 +403,7 @@ public class ItemController {
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
             }
     )
+    @ConditionalGet
     @GetMapping("/{id}/agreements")
     public ResponseEntity<?> getAgreementHistory(@PathVariable Long id,
             @RequestParam(required = false) Long lastId,
@@ -0,0 +1,169 @@
+package com.itjima_server.controller;
+
+import com.itjima_server.service.LocalFileStorage;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * 로컬 저장소 파일 제공 (file.storage=local일 때만 등록)
+ * <p>
+ * 파일 본문은 힙을 거치지 않게 보낸다. Tomcat이 sendfile을 지원하면 파일 구간을 넘겨 커널이 바로 소켓으로 보내게 하고, 아니면
+ * {@link FileChannel#transferTo}로 응답 채널에 옮긴다. 단일 바이트 구간(Range/If-Range)과 If-Modified-Since를
+ * 처리하며, UUID로 만든 파일 이름은 내용이 바뀌지 않으므로 immutable로 캐시하게 한다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Hidden
+@Controller
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.storage", havingValue = "local")
+public class LocalFileController {
+
+    private static final String PATH_PREFIX = "/uploads/";
+
+    /**
+     * 내용 주소 파일 이름 (예: 3f1c2a9e-7b1d-4c55-9a0e-2f0b6c8d1e47-thumb.jpg)
+     */
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}(-[a-z]+)?\\.[A-Za-z0-9]+");
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "no-cache";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final LocalFileStorage localFileStorage;
+
+    /**
+     * 저장된 파일 내려주기
+     */
+    @RequestMapping(value = "/uploads/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String key = URL_PATH_HELPER.getPathWithinApplication(request)
+                .substring(PATH_PREFIX.length());
+        Path file = localFileStorage.resolveServable(key);
+        if (file == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = Files.size(file);
+        // HTTP 날짜는 초 단위이므로 비교 전에 밀리초를 버림
+        long lastModified = Files.getLastModifiedTime(file).toMillis() / 1000 * 1000;
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CONTENT_ADDRESSED.matcher(file.getFileName().toString()).matches()
+                        ? IMMUTABLE : REVALIDATE);
+
+        long ifModifiedSince = parseDate(request, HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince >= lastModified) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = singleRange(request, lastModified);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                // 파일 밖의 구간
+                start = length;
+            }
+            if (start >= length || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(count);
+        if (RequestMethod.HEAD.name().equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 요청 처리가 끝난 뒤 Tomcat이 sendfile(2)로 보냄
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * 단일 구간 Range만 처리 (여러 구간이거나 형식이 잘못되었거나 If-Range가 맞지 않으면 전체 응답)
+     */
+    private static HttpRange singleRange(HttpServletRequest request, long lastModified) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && parseDate(request, HttpHeaders.IF_RANGE) != lastModified) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long parseDate(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            // 날짜가 아닌 값(If-Range의 ETag 등)
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.itjima_server.controller;
+
+import com.itjima_server.service.LocalFileStorage;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 로컬 저장소용 서명된 PUT 업로드 처리 (S3 presigned URL 대역, file.storage=local일 때만 등록)
+ * <p>
+ * 서명이 인증을 대신하므로 JWT 없이 호출된다 (/uploads/** 는 인증 제외 경로).
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Hidden
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.storage", havingValue = "local")
+public class LocalUploadController {
+
+    private final LocalFileStorage localFileStorage;
+
+    /**
+     * 서명된 URL로 올린 파일 저장
+     *
+     * @return 본문 없는 200 (S3 PUT 응답과 같음)
+     */
+    @PutMapping(LocalFileStorage.PRESIGNED_PATH)
+    public ResponseEntity<Void> upload(@RequestParam String key, @RequestParam String contentType,
+            @RequestParam long size, @RequestParam long expires, @RequestParam String signature,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String requestContentType,
+            HttpServletRequest request) throws IOException {
+        localFileStorage.receive(key, contentType, size, expires, signature, requestContentType,
+                request.getInputStream());
+        return ResponseEntity.ok().build();
+    }
+}
@@ -12,11 +12,16 @@ public class Agreement {
 
     private long id;
     private long itemId;
+    private long creditorId;
+    private long debtorId;
     private AgreementStatus status;
     private BigDecimal amount;
+    @Builder.Default
+    private BigDecimal paidAmount = BigDecimal.ZERO;
     private LocalDate dueAt;
     private String terms;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime returnDate;
+    private long version;
 }
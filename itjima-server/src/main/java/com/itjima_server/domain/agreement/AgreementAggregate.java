@@ -0,0 +1,37 @@
+package com.itjima_server.domain.agreement;
+
+import com.itjima_server.dto.user.response.UserSimpleInfoDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 대여와 양측 참여자, 참여자 이름을 한 번의 조회로 묶은 집합체
+ * <p>
+ * 상태 전이 시 권한/상태 검증과 응답 생성에 필요한 정보를 모두 담고 있어 추가 조회가 필요 없다. 참여자 행이 없으면 해당 필드는
+ * null이다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgreementAggregate {
+
+    private Agreement agreement;
+    private AgreementParty creditor;
+    private String creditorName;
+    private AgreementParty debtor;
+    private String debtorName;
+
+    public UserSimpleInfoDTO getCreditorInfo() {
+        return new UserSimpleInfoDTO(creditor.getUserId(), creditorName);
+    }
+
+    public UserSimpleInfoDTO getDebtorInfo() {
+        return new UserSimpleInfoDTO(debtor.getUserId(), debtorName);
+    }
+}
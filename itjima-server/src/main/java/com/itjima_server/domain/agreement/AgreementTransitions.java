@@ -0,0 +1,100 @@
+package com.itjima_server.domain.agreement;
+
+import com.itjima_server.domain.item.ItemStatus;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대여 상태 전이 규칙표
+ * <p>
+ * 역할별로 어떤 상태에서 어떤 상태로 바꿀 수 있는지와, 대여 상태마다 물품이 가져야 할 상태를 정의한다. 서비스는 이 표의 이전 상태
+ * 목록을 조건부 UPDATE의 WHERE 절에 그대로 넘겨, 검증과 변경 사이에 다른 요청이 끼어들면 UPDATE가 0건이 되도록 한다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+public final class AgreementTransitions {
+
+    private static final Map<AgreementPartyRole, Map<AgreementStatus, Set<AgreementStatus>>> BY_ROLE =
+            new EnumMap<>(AgreementPartyRole.class);
+    private static final Map<AgreementStatus, Set<AgreementStatus>> BY_SYSTEM =
+            new EnumMap<>(AgreementStatus.class);
+    private static final Map<AgreementStatus, ItemStatus> ITEM_STATUS =
+            new EnumMap<>(AgreementStatus.class);
+    private static final Set<AgreementStatus> ACTIVE =
+            Collections.unmodifiableSet(EnumSet.of(AgreementStatus.ACCEPTED,
+                    AgreementStatus.OVERDUE));
+
+    static {
+        allow(AgreementPartyRole.DEBTOR, AgreementStatus.ACCEPTED, AgreementStatus.PENDING);
+        allow(AgreementPartyRole.DEBTOR, AgreementStatus.REJECTED, AgreementStatus.PENDING);
+        allow(AgreementPartyRole.CREDITOR, AgreementStatus.CANCELED, AgreementStatus.PENDING);
+        allow(AgreementPartyRole.CREDITOR, AgreementStatus.COMPLETED, AgreementStatus.ACCEPTED,
+                AgreementStatus.OVERDUE);
+
+        BY_SYSTEM.put(AgreementStatus.OVERDUE,
+                Collections.unmodifiableSet(EnumSet.of(AgreementStatus.ACCEPTED)));
+
+        ITEM_STATUS.put(AgreementStatus.PENDING, ItemStatus.PENDING_APPROVAL);
+        ITEM_STATUS.put(AgreementStatus.ACCEPTED, ItemStatus.ON_LOAN);
+        ITEM_STATUS.put(AgreementStatus.OVERDUE, ItemStatus.ON_LOAN);
+        ITEM_STATUS.put(AgreementStatus.REJECTED, ItemStatus.AVAILABLE);
+        ITEM_STATUS.put(AgreementStatus.CANCELED, ItemStatus.AVAILABLE);
+        ITEM_STATUS.put(AgreementStatus.COMPLETED, ItemStatus.AVAILABLE);
+    }
+
+    private AgreementTransitions() {
+    }
+
+    /**
+     * 역할이 target 상태로 바꿀 수 있는 이전 상태 목록
+     *
+     * @param role   요청자 역할
+     * @param target 바꿀 상태
+     * @return 허용된 이전 상태 목록 (허용되지 않으면 빈 집합)
+     */
+    public static Set<AgreementStatus> sourcesOf(AgreementPartyRole role,
+            AgreementStatus target) {
+        return BY_ROLE.getOrDefault(role, Map.of()).getOrDefault(target, Set.of());
+    }
+
+    /**
+     * 배치 등 시스템이 target 상태로 바꿀 수 있는 이전 상태 목록
+     *
+     * @param target 바꿀 상태
+     * @return 허용된 이전 상태 목록 (허용되지 않으면 빈 집합)
+     */
+    public static Set<AgreementStatus> systemSourcesOf(AgreementStatus target) {
+        return BY_SYSTEM.getOrDefault(target, Set.of());
+    }
+
+    /**
+     * 대여가 진행 중인 상태 목록 (상환 요청과 승인/거절이 가능한 상태)
+     *
+     * @return 진행 중 상태 목록
+     */
+    public static Set<AgreementStatus> activeStatuses() {
+        return ACTIVE;
+    }
+
+    /**
+     * 대여가 해당 상태일 때 물품이 가져야 할 상태
+     *
+     * @param status 대여 상태
+     * @return 물품 상태
+     */
+    public static ItemStatus itemStatusOf(AgreementStatus status) {
+        return ITEM_STATUS.get(status);
+    }
+
+    private static void allow(AgreementPartyRole role, AgreementStatus target,
+            AgreementStatus... sources) {
+        Set<AgreementStatus> from = EnumSet.noneOf(AgreementStatus.class);
+        Collections.addAll(from, sources);
+        BY_ROLE.computeIfAbsent(role, r -> new EnumMap<>(AgreementStatus.class))
+                .put(target, Collections.unmodifiableSet(from));
+    }
+}
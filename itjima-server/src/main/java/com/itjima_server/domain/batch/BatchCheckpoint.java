@@ -0,0 +1,16 @@
+package com.itjima_server.domain.batch;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BatchCheckpoint {
+
+    private String jobName;
+    private String runKey;
+    private long lastId;
+    private LocalDateTime completedAt;
+    private LocalDateTime updatedAt;
+}
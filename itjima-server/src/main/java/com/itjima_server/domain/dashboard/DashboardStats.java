@@ -0,0 +1,49 @@
+package com.itjima_server.domain.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 대시보드 카운터 (USER_DASHBOARD_STATS)
+ * <p>
+ * 카운터를 바꿀 때는 같은 타입을 증감값으로 쓴다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardStats {
+
+    private long userId;
+    /**
+     * 빌려준 진행 중(ACCEPTED/OVERDUE) 대여 수
+     */
+    private int activeLent;
+    /**
+     * 빌린 진행 중(ACCEPTED/OVERDUE) 대여 수
+     */
+    private int activeBorrowed;
+    private int overdueLent;
+    private int overdueBorrowed;
+    /**
+     * 채무자로서 응답을 기다리는 대여 요청 수
+     */
+    private int pendingRequests;
+    /**
+     * 채권자로서 승인을 기다리는 상환 요청 수
+     */
+    private int pendingRepayments;
+
+    /**
+     * 모든 증감값이 0인지 여부
+     */
+    public boolean isEmpty() {
+        return activeLent == 0 && activeBorrowed == 0 && overdueLent == 0 && overdueBorrowed == 0
+                && pendingRequests == 0 && pendingRepayments == 0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.itjima_server.domain.dashboard;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자가 처리해야 할 요청 한 건 (PENDING_ACTIONS)
+ * <p>
+ * 대여나 상환 요청이 PENDING이 될 때 만들고, PENDING을 벗어나면 지운다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingAction {
+
+    private long id;
+    /**
+     * 요청을 처리해야 하는 사용자 ID
+     */
+    private long userId;
+    private PendingActionSource source;
+    /**
+     * 출처 행 ID (AGREEMENTS.id 또는 TRANSACTIONS.id)
+     */
+    private long sourceId;
+    private long agreementId;
+    /**
+     * 요청을 보낸 사용자 ID
+     */
+    private long requesterId;
+    private LocalDateTime createdAt;
+}
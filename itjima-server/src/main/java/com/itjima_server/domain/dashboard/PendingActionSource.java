@@ -0,0 +1,18 @@
+package com.itjima_server.domain.dashboard;
+
+/**
+ * 처리 대기 요청의 출처
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+public enum PendingActionSource {
+    /**
+     * 대여 승인 요청 (채무자가 처리)
+     */
+    AGREEMENT,
+    /**
+     * 상환 완료 요청 (채권자가 처리)
+     */
+    TRANSACTION
+}
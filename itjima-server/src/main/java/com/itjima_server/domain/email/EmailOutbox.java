@@ -0,0 +1,21 @@
+package com.itjima_server.domain.email;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class EmailOutbox {
+
+    private long id;
+    private String recipient;
+    private String subject;
+    private String body;
+    private EmailOutboxStatus status;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+}
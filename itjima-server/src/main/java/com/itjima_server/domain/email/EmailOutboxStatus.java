@@ -0,0 +1,15 @@
+package com.itjima_server.domain.email;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum EmailOutboxStatus {
+    PENDING("발송 대기"),
+    SENDING("발송 중"),
+    SENT("발송 완료"),
+    FAILED("발송 실패");
+
+    private final String description;
+}
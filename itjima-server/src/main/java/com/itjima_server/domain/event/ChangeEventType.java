@@ -0,0 +1,30 @@
+package com.itjima_server.domain.event;
+
+/**
+ * 실시간 이벤트 스트림으로 보내는 변경 이벤트 종류
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+public enum ChangeEventType {
+    /**
+     * 대여 생성 또는 상태 변경
+     */
+    AGREEMENT_STATUS_CHANGED,
+    /**
+     * 상환 요청 생성
+     */
+    TRANSACTION_CREATED,
+    /**
+     * 상환 요청 확정/거절
+     */
+    TRANSACTION_STATUS_CHANGED,
+    /**
+     * 새 알림 생성
+     */
+    NOTIFICATION_CREATED,
+    /**
+     * 놓친 이벤트를 이어 받을 수 없으니 화면을 다시 조회해야 함
+     */
+    RESYNC
+}
@@ -0,0 +1,14 @@
+package com.itjima_server.domain.item;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ImageJob {
+
+    private long itemId;
+    private String jobId;
+    private LocalDateTime startedAt;
+}
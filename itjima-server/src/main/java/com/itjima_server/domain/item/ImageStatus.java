@@ -0,0 +1,14 @@
+package com.itjima_server.domain.item;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageStatus {
+    PROCESSING("처리 중"),
+    READY("처리 완료"),
+    FAILED("처리 실패");
+
+    private final String description;
+}
@@ -16,5 +16,7 @@ public class Item {
     private ItemStatus status;
     private String fileUrl;
     private String fileType;
+    private String thumbnailUrl;
+    private ImageStatus imageStatus;
     private LocalDateTime createdAt;
 }
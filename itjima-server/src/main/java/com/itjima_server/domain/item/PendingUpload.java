@@ -0,0 +1,19 @@
+package com.itjima_server.domain.item;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PendingUpload {
+
+    private String id;
+    private long itemId;
+    private long userId;
+    private String objectKey;
+    private String contentType;
+    private long size;
+    private LocalDateTime expiresAt;
+    private LocalDateTime createdAt;
+}
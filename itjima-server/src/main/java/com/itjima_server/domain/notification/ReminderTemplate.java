@@ -0,0 +1,55 @@
+package com.itjima_server.domain.notification;
+
+import com.itjima_server.domain.agreement.AgreementStatus;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리마인드 한 종류의 발송 조건과 메시지
+ * <p>
+ * 발송 대상은 대여 상태와 반납 예정일만으로 계산한다. dueAt이 null이면 상태만 본다. 발송 기록은 (대여, key, 반납 예정일)
+ * 단위로 남기므로, 연장으로 반납 예정일이 바뀌면 같은 리마인드가 새 날짜 기준으로 다시 발송된다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReminderTemplate {
+
+    public static final String OVERDUE_KEY = "OVERDUE";
+
+    private final String key;
+    private final Set<AgreementStatus> statuses;
+    private final LocalDate dueAt;
+    private final NotificationType notificationType;
+    private final String message;
+
+    /**
+     * 기준일에 발송할 리마인드 목록
+     *
+     * @param offsetDays 반납 예정일 며칠 전에 알릴지 (0이면 당일)
+     * @param today      기준일
+     * @return 반납 예정일 리마인드들과 연체 리마인드
+     */
+    public static List<ReminderTemplate> of(int[] offsetDays, LocalDate today) {
+        List<ReminderTemplate> templates = new ArrayList<>();
+        for (int offset : offsetDays) {
+            String key = offset == 0 ? "D-DAY" : "D-" + offset;
+            // 반납일 당일 0시에 연체 처리되므로 D-DAY는 OVERDUE 상태에도 발송
+            templates.add(new ReminderTemplate(key,
+                    EnumSet.of(AgreementStatus.ACCEPTED, AgreementStatus.OVERDUE),
+                    today.plusDays(offset), NotificationType.REMINDER,
+                    "[ " + key + " ] 반납일을 잊지 마세요!"));
+        }
+        templates.add(new ReminderTemplate(OVERDUE_KEY, EnumSet.of(AgreementStatus.OVERDUE), null,
+                NotificationType.OVERDUE, "[ 연체 ] 연체 중입니다!"));
+        return templates;
+    }
+}
@@ -10,6 +10,7 @@ public class RefreshToken {
 
     private long id;
     private long userId;
-    private String token;
+    private String tokenHash;
+    private String previousTokenHash;
     private LocalDateTime expiryDate;
 }
@@ -25,4 +25,5 @@ public class User {
     private LocalDateTime emailTokenGeneratedAt;
     private String passwordResetToken;
     private LocalDateTime passwordTokenGeneratedAt;
+    private int tokenVersion;
 }
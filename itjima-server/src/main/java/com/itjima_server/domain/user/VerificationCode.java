@@ -0,0 +1,16 @@
+package com.itjima_server.domain.user;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class VerificationCode {
+
+    private VerificationPurpose purpose;
+    private long userId;
+    private String codeHash;
+    private int attempts;
+    private LocalDateTime expiresAt;
+}
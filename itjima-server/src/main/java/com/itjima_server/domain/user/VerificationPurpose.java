@@ -0,0 +1,13 @@
+package com.itjima_server.domain.user;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum VerificationPurpose {
+    EMAIL_VERIFICATION("이메일 인증"),
+    PASSWORD_RESET("비밀번호 재설정");
+
+    private final String description;
+}
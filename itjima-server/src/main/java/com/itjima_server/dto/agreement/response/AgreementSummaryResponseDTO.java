@@ -41,6 +41,9 @@ public class AgreementSummaryResponseDTO {
     @Schema(description = "대여물품 파일 URL(있을 경우)", example = "https://cdn.example.com/files/abc.png")
     private String itemFileUrl;
 
+    @Schema(description = "대여물품 목록용 썸네일 URL(처리 완료된 경우)", example = "https://cdn.example.com/files/abc-thumb.jpg")
+    private String itemThumbnailUrl;
+
     @Schema(description = "상대방 이름(파트너)", example = "김철수")
     private String partnerName;
 
@@ -49,4 +52,7 @@ public class AgreementSummaryResponseDTO {
 
     @Schema(description = "잔액(아이템 타입이 MONEY일 때만 계산됨, 그 외는 null)", example = "90000.00", nullable = true)
     private BigDecimal remainingAmount;
+
+    @Schema(description = "검색어 관련도(sort=RELEVANCE일 때만, 다음 페이지 요청의 lastRelevance로 사용)", example = "1.2345", nullable = true)
+    private BigDecimal relevance;
 }
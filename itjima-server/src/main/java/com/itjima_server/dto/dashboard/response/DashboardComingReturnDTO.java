@@ -29,6 +29,9 @@ public class DashboardComingReturnDTO {
     @Schema(description = "대여물품 파일 URL", example = "https://cdn.example.com/files/abc.png")
     private String itemFileUrl;
 
+    @Schema(description = "대여물품 썸네일 URL", example = "https://cdn.example.com/files/abc-thumb.jpg")
+    private String itemThumbnailUrl;
+
     @Schema(description = "반납일까지 남은 일수", example = "5")
     private Integer daysLeft;
 }
@@ -30,6 +30,9 @@ public class DashboardOverdueDTO {
     @Schema(description = "대여물품 파일 URL", example = "https://cdn.example.com/files/abc.png")
     private String itemFileUrl;
 
+    @Schema(description = "대여물품 썸네일 URL", example = "https://cdn.example.com/files/abc-thumb.jpg")
+    private String itemThumbnailUrl;
+
     @Schema(description = "연체 일수", example = "5")
     private Integer overDays;
 }
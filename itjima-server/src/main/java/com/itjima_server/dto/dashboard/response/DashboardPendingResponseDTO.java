@@ -26,7 +26,7 @@ public class DashboardPendingResponseDTO {
     @Schema(description = "알림 설명 (물품 제목 또는 금액+원)", example = "아이패드 프로 11인치")
     private String description;
 
-    @Schema(description = "커서 키 (created_at → timestamp ms 단위)", example = "1678886400000")
+    @Schema(description = "커서 키 (요청함 ID, 다음 페이지 요청 시 createdAt과 함께 전달)", example = "1024")
     private Long cursorKey;
 
     @Schema(description = "알림 생성 시간", example = "2025-09-08T15:16:01.849")
@@ -38,4 +38,7 @@ public class DashboardResponseDTO {
             implementation = DashboardOverdueDTO.class
     )
     private List<DashboardOverdueDTO> overDues;
+
+    @Schema(description = "연체 중인 대여 수 (빌려준 것 + 빌린 것)", example = "2")
+    private int overdueCount;
 }
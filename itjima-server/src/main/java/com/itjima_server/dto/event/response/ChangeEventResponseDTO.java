@@ -0,0 +1,31 @@
+package com.itjima_server.dto.event.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.itjima_server.domain.event.ChangeEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "실시간 변경 이벤트 (SSE data)")
+public class ChangeEventResponseDTO {
+
+    @Schema(description = "이벤트 종류", implementation = ChangeEventType.class,
+            example = "AGREEMENT_STATUS_CHANGED")
+    private ChangeEventType type;
+
+    @Schema(description = "대여 ID", nullable = true, example = "987")
+    private Long agreementId;
+
+    @Schema(description = "상환 요청 ID", nullable = true, example = "55")
+    private Long transactionId;
+
+    @Schema(description = "바뀐 상태 (대여 또는 상환 요청 상태)", nullable = true, example = "ACCEPTED")
+    private String status;
+
+    public static ChangeEventResponseDTO of(ChangeEventType type) {
+        return ChangeEventResponseDTO.builder().type(type).build();
+    }
+}
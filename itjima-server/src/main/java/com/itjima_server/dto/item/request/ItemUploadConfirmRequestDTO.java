@@ -0,0 +1,16 @@
+package com.itjima_server.dto.item.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "물품 이미지 업로드 완료 확인 요청 DTO")
+public class ItemUploadConfirmRequestDTO {
+
+    @Schema(description = "업로드 URL 발급 시 받은 업로드 ID", example = "3f1c2a9e-7b1d-4c55-9a0e-2f0b6c8d1e47")
+    @NotBlank(message = "업로드 ID는 필수 항목입니다.")
+    private String uploadId;
+}
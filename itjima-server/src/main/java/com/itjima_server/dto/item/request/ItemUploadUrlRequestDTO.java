@@ -0,0 +1,25 @@
+package com.itjima_server.dto.item.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "물품 이미지 업로드 URL 발급 요청 DTO")
+public class ItemUploadUrlRequestDTO {
+
+    @Schema(description = "올릴 파일의 MIME 타입 (업로드 시 Content-Type과 같아야 함)", example = "image/jpeg")
+    @NotBlank(message = "파일 타입은 필수 항목입니다.")
+    @Pattern(regexp = "image/[\\w.+-]+", message = "이미지 파일만 업로드할 수 있습니다.")
+    private String contentType;
+
+    @Schema(description = "올릴 파일 크기(바이트, 업로드 시 Content-Length와 같아야 함)", example = "2483011")
+    @NotNull(message = "파일 크기는 필수 항목입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private Long size;
+}
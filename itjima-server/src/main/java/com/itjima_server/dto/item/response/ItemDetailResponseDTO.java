@@ -1,6 +1,7 @@
 package com.itjima_server.dto.item.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.itjima_server.domain.item.ImageStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 import lombok.Getter;
@@ -26,6 +27,9 @@ public class ItemDetailResponseDTO {
     @Schema(description = "대여물품 이미지 URL", example = "https://example.com/item/1.png")
     private String fileUrl;
 
+    @Schema(description = "이미지 처리 상태", example = "READY", nullable = true)
+    private ImageStatus imageStatus;
+
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     @Schema(description = "대여물품 등록일", example = "2023-01-01 10:00:00")
     private LocalDateTime createdAt;
@@ -49,4 +53,8 @@ public class ItemDetailResponseDTO {
 
     @Schema(description = "평균 대여일", example = "4")
     private Integer avgRentalDays;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Schema(description = "마지막 반납일시", example = "2023-02-01 18:00:00", nullable = true)
+    private LocalDateTime lastReturnedAt;
 }
@@ -0,0 +1,30 @@
+package com.itjima_server.dto.item.response;
+
+import com.itjima_server.domain.item.ImageStatus;
+import com.itjima_server.domain.item.Item;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "물품 이미지 업로드 응답 DTO")
+public class ItemImageResponseDTO {
+
+    @Schema(description = "물품 ID", example = "123")
+    private long itemId;
+
+    @Schema(description = "이미지 처리 상태 (처리가 끝나면 물품 조회 시 READY)", example = "PROCESSING")
+    private ImageStatus imageStatus;
+
+    @Schema(description = "현재 이미지 URL (처리 완료 전에는 이전 이미지)", example = "/uploads/items/10/abc123.jpg", nullable = true)
+    private String fileUrl;
+
+    @Schema(description = "현재 썸네일 URL (처리 완료 전에는 이전 썸네일)", example = "/uploads/items/10/abc123-thumb.jpg", nullable = true)
+    private String thumbnailUrl;
+
+    public static ItemImageResponseDTO from(Item item) {
+        return new ItemImageResponseDTO(item.getId(), item.getImageStatus(), item.getFileUrl(),
+                item.getThumbnailUrl());
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.itjima_server.domain.item.ItemStatus;
 import com.itjima_server.domain.item.ItemType;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.Setter;
@@ -37,14 +38,24 @@ public class ItemSummaryResponseDTO {
     @Schema(description = "첨부 파일 MIME 타입", example = "image/jpeg")
     private String fileType;
 
+    @Schema(description = "목록용 썸네일 URL(이미지 처리가 끝난 경우)", example = "/uploads/items/10/abc123-thumb.jpg", nullable = true)
+    private String thumbnailUrl;
+
     @Schema(description = "총 대여 횟수", example = "4")
     private int loanCount;
 
     @Schema(description = "마지막 대여자 이름", example = "홍길동")
     private String lastDebtorName;
 
+    @Schema(description = "마지막 반납일시", example = "2025-09-01 18:20:00", nullable = true)
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime lastReturnedAt;
+
     @Schema(description = "등록일시", example = "2025-08-22 13:45:10")
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
 
+    @Schema(description = "검색어 관련도(sort=RELEVANCE일 때만, 다음 페이지 요청의 lastRelevance로 사용)", example = "1.2345", nullable = true)
+    private BigDecimal relevance;
+
 }
@@ -0,0 +1,30 @@
+package com.itjima_server.dto.item.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "물품 이미지 업로드 URL 발급 응답 DTO")
+public class ItemUploadUrlResponseDTO {
+
+    @Schema(description = "업로드 ID (업로드 후 확인 요청에 사용)", example = "3f1c2a9e-7b1d-4c55-9a0e-2f0b6c8d1e47")
+    private String uploadId;
+
+    @Schema(description = "파일 본문을 그대로 보낼 서명된 URL", example = "https://bucket.s3.ap-northeast-2.amazonaws.com/pending/3f1c2a9e-...?X-Amz-Signature=...")
+    private String uploadUrl;
+
+    @Schema(description = "업로드 HTTP 메서드", example = "PUT")
+    private String method;
+
+    @Schema(description = "업로드 요청에 그대로 보내야 하는 헤더", example = "{\"Content-Type\": \"image/jpeg\"}")
+    private Map<String, String> headers;
+
+    @Schema(description = "URL 만료 시각", example = "2026-10-17 14:10:00")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime expiresAt;
+}
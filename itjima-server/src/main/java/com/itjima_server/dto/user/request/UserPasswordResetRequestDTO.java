@@ -1,6 +1,7 @@
 package com.itjima_server.dto.user.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
@@ -17,6 +18,11 @@ public class UserPasswordResetRequestDTO {
     @Size(min = 6, max = 6, message = "인증코드는 6자리 입니다.")
     private String code;
 
+    @Schema(description = "인증코드를 받은 이메일", example = "user@example.com")
+    @NotBlank(message = "이메일은 필수입니다.")
+    @Email(message = "올바른 이메일 형식이 아닙니다.")
+    private String email;
+
     @Schema(description = "비밀번호 (영문, 숫자, 특수문자 포함 8~64자)", example = "Test1234!")
     @NotBlank(message = "비밀번호는 필수입니다.")
     @Size(min = 8, max = 64, message = "비밀번호는 8~64자여야 합니다.")
@@ -0,0 +1,8 @@
+package com.itjima_server.exception.common;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.itjima_server.exception.item;
+
+import com.itjima_server.exception.common.NotFoundException;
+
+public class NotFoundUploadException extends NotFoundException {
+
+    public NotFoundUploadException(String message) {
+        super(message);
+    }
+}
@@ -1,18 +1,21 @@
 package com.itjima_server.mapper;
 
+import com.itjima_server.common.SearchKeyword;
 import com.itjima_server.domain.agreement.Agreement;
+import com.itjima_server.domain.agreement.AgreementAggregate;
 import com.itjima_server.domain.agreement.AgreementPartyRole;
 import com.itjima_server.domain.agreement.AgreementStatus;
 import com.itjima_server.dto.agreement.response.AgreementDetailDTO;
 import com.itjima_server.dto.agreement.response.AgreementRenderingDetailResponseDTO;
 import com.itjima_server.dto.agreement.response.AgreementSummaryResponseDTO;
-import com.itjima_server.dto.dashboard.response.DashboardAgreementCountResponseDTO;
 import com.itjima_server.dto.dashboard.response.DashboardComingReturnDTO;
 import com.itjima_server.dto.dashboard.response.DashboardOverdueDTO;
-import com.itjima_server.dto.dashboard.response.DashboardPendingResponseDTO;
 import com.itjima_server.dto.item.response.ItemAgreementHistoryResponseDTO;
 import com.itjima_server.dto.user.response.RecentPartnerResponseDTO;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -24,9 +27,11 @@ public interface AgreementMapper {
 
     Agreement findById(@Param("id") Long id);
 
-    int updateStatusById(@Param("id") Long id, @Param("status") AgreementStatus status);
+    AgreementAggregate findAggregateById(@Param("id") Long id);
 
-    int updateCompleted(@Param("id") Long id);
+    int transitionStatus(@Param("id") Long id,
+            @Param("fromStatuses") Collection<AgreementStatus> fromStatuses,
+            @Param("status") AgreementStatus status, @Param("version") long version);
 
     AgreementDetailDTO findDetailById(@Param("id") Long id);
 
@@ -38,34 +43,48 @@ public interface AgreementMapper {
             @Param("lastId") Long lastId,
             @Param("sizePlusOne") int sizePlusOne);
 
-    List<Long> findOverdueAgreementIds();
+    Long findOverdueChunkEndId(@Param("afterId") long afterId,
+            @Param("fromStatuses") Collection<AgreementStatus> fromStatuses,
+            @Param("now") LocalDateTime now, @Param("chunkSize") int chunkSize);
+
+    List<Agreement> findOverdueInRange(@Param("afterId") long afterId, @Param("toId") long toId,
+            @Param("fromStatuses") Collection<AgreementStatus> fromStatuses,
+            @Param("now") LocalDateTime now);
+
+    int markOverdueInRange(@Param("afterId") long afterId, @Param("toId") long toId,
+            @Param("fromStatuses") Collection<AgreementStatus> fromStatuses,
+            @Param("now") LocalDateTime now);
 
     int updateDueAtAndStatusById(@Param("id") Long id, @Param("status") AgreementStatus status,
-            @Param("dueAt") LocalDate dueAt);
+            @Param("dueAt") LocalDate dueAt, @Param("version") long version);
+
+    int updateTermsById(@Param("id") Long id, @Param("terms") String terms,
+            @Param("version") long version);
+
+    int addPaidAmount(@Param("id") long id, @Param("amount") BigDecimal amount);
+
+    BigDecimal findPaidAmountById(@Param("id") long id);
+
+    Long findChunkEndId(@Param("afterId") long afterId, @Param("chunkSize") int chunkSize);
 
-    int updateTermsById(@Param("id") Long id, @Param("terms") String terms);
+    int recomputePaidAmountInRange(@Param("afterId") long afterId, @Param("toId") long toId);
 
     List<ItemAgreementHistoryResponseDTO> findHistoryByItemId(@Param("itemId") Long itemId,
             @Param("lastId") Long lastId, @Param("sizePlusOne") int sizePlusOne);
 
     List<AgreementSummaryResponseDTO> findAgreementSummariesByUserId(@Param("userId") Long userId,
-            @Param("keyword") String keyword, @Param("role") AgreementPartyRole role,
-            @Param("lastId") Long lastId, @Param("sizePlusOne") int sizePlusOne);
+            @Param("search") SearchKeyword search, @Param("role") AgreementPartyRole role,
+            @Param("byRelevance") boolean byRelevance,
+            @Param("lastRelevance") BigDecimal lastRelevance, @Param("lastId") Long lastId,
+            @Param("sizePlusOne") int sizePlusOne);
 
     AgreementRenderingDetailResponseDTO findAgreementDetailByIdAndUserId(@Param("id") Long id,
             @Param("userId") Long userId);
 
     boolean existsByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 
-    List<DashboardAgreementCountResponseDTO> countAgreementsByUserId(@Param("userId") Long userId);
-
     List<DashboardComingReturnDTO> findComingAgreementsByUserId(@Param("userId") Long userId);
 
     List<DashboardOverdueDTO> findOverdueAgreementsByUserId(@Param("userId") Long userId);
-
-    List<DashboardPendingResponseDTO> findPendingAgreementsByUserId(@Param("userId") Long userId,
-            @Param("cursorKey") Long cursorKey, @Param("sizePlusOne") int sizePlusOne);
-
-    int countPendingAgreementsByUserId(@Param("userId") Long userId);
 }
 
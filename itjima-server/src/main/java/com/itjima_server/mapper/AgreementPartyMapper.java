@@ -16,7 +16,5 @@ public interface AgreementPartyMapper {
     int updateConfirmedAtById(@Param("id") Long id,
             @Param("confirmedAt") LocalDateTime confirmedAt);
 
-    List<Long> findUserIdsByAgreementId(@Param("agreementId") Long agreementId);
-
     int resetDebtorConfirmation(@Param("agreementId") Long agreementId);
 }
@@ -0,0 +1,18 @@
+package com.itjima_server.mapper;
+
+import com.itjima_server.domain.batch.BatchCheckpoint;
+import java.time.LocalDateTime;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface BatchCheckpointMapper {
+
+    BatchCheckpoint findByJobName(@Param("jobName") String jobName);
+
+    int save(@Param("jobName") String jobName, @Param("runKey") String runKey,
+            @Param("lastId") long lastId);
+
+    int complete(@Param("jobName") String jobName, @Param("runKey") String runKey,
+            @Param("completedAt") LocalDateTime completedAt);
+}
@@ -0,0 +1,30 @@
+package com.itjima_server.mapper;
+
+import com.itjima_server.domain.agreement.AgreementStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ChangeStampMapper {
+
+    Long findVersionByUserId(@Param("userId") long userId);
+
+    int touch(@Param("userIds") Collection<Long> userIds);
+
+    List<Long> findUserIdsByItemId(@Param("itemId") long itemId);
+
+    List<Long> findPartnerIdsByUserId(@Param("userId") long userId);
+
+    int touchOverdueInRange(@Param("afterId") long afterId, @Param("toId") long toId,
+            @Param("fromStatuses") Collection<AgreementStatus> fromStatuses,
+            @Param("now") LocalDateTime now);
+
+    int touchAgreementRange(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    int touchUserRange(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    int touchItemOwnerRange(@Param("afterId") long afterId, @Param("toId") long toId);
+}
@@ -0,0 +1,26 @@
+package com.itjima_server.mapper;
+
+import com.itjima_server.domain.agreement.AgreementStatus;
+import com.itjima_server.domain.dashboard.DashboardStats;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface DashboardStatsMapper {
+
+    DashboardStats findByUserId(@Param("userId") long userId);
+
+    int add(@Param("userId") long userId, @Param("delta") DashboardStats delta);
+
+    int addOverdueInRange(@Param("afterId") long afterId, @Param("toId") long toId,
+            @Param("fromStatuses") Collection<AgreementStatus> fromStatuses,
+            @Param("now") LocalDateTime now);
+
+    Long findUserChunkEndId(@Param("afterId") long afterId, @Param("chunkSize") int chunkSize);
+
+    int insertMissingInRange(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    int recomputeInRange(@Param("afterId") long afterId, @Param("toId") long toId);
+}
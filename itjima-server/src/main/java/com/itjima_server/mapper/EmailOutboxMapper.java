@@ -0,0 +1,27 @@
+package com.itjima_server.mapper;
+
+import com.itjima_server.domain.email.EmailOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface EmailOutboxMapper {
+
+    int insert(EmailOutbox emailOutbox);
+
+    List<EmailOutbox> findDispatchable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    int claim(@Param("id") long id, @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    int markSent(@Param("id") long id, @Param("sentAt") LocalDateTime sentAt);
+
+    int markRetry(@Param("id") long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("lastError") String lastError);
+
+    int markFailed(@Param("id") long id, @Param("lastError") String lastError);
+
+    int deleteSentBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -1,10 +1,14 @@
 package com.itjima_server.mapper;
 
+import com.itjima_server.common.SearchKeyword;
+import com.itjima_server.domain.item.ImageJob;
 import com.itjima_server.domain.item.Item;
 import com.itjima_server.domain.item.ItemStatus;
 import com.itjima_server.dto.item.response.ItemCountDTO;
 import com.itjima_server.dto.item.response.ItemDetailResponseDTO;
 import com.itjima_server.dto.item.response.ItemSummaryResponseDTO;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -23,15 +27,35 @@ public interface ItemMapper {
     List<Item> findByUserId(@Param("userId") Long userId, @Param("lastId") Long lastId,
             @Param("sizePlusOne") int sizePlusOne);
 
-    int updateStatusById(@Param("id") Long id, @Param("status") ItemStatus status);
+    int transitionStatus(@Param("id") Long id, @Param("fromStatus") ItemStatus fromStatus,
+            @Param("status") ItemStatus status);
 
     List<ItemSummaryResponseDTO> findItemSummariesByUserId(@Param("userId") Long userId,
-            @Param("keyword") String keyword, @Param("status") String status,
-            @Param("lastId") Long lastId, @Param("sizePlusOne") int sizePlusOne);
+            @Param("search") SearchKeyword search, @Param("status") String status,
+            @Param("byRelevance") boolean byRelevance,
+            @Param("lastRelevance") BigDecimal lastRelevance, @Param("lastId") Long lastId,
+            @Param("sizePlusOne") int sizePlusOne);
 
     List<ItemCountDTO> countStatusByUserId(@Param("userId") Long userId);
 
     ItemDetailResponseDTO findDetailById(@Param("id") Long id);
 
     boolean existsByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    int startImageJob(@Param("id") Long id, @Param("jobId") String jobId);
+
+    int completeImageJob(@Param("id") Long id, @Param("jobId") String jobId,
+            @Param("fileUrl") String fileUrl, @Param("thumbnailUrl") String thumbnailUrl,
+            @Param("fileType") String fileType);
+
+    int failImageJob(@Param("id") Long id, @Param("jobId") String jobId);
+
+    List<ImageJob> findStaleImageJobs(@Param("before") LocalDateTime before,
+            @Param("limit") int limit);
+
+    int addCompletedRental(@Param("agreementId") Long agreementId);
+
+    Long findItemChunkEndId(@Param("afterId") long afterId, @Param("chunkSize") int chunkSize);
+
+    int rebuildRentalStatsInRange(@Param("afterId") long afterId, @Param("toId") long toId);
 }
@@ -0,0 +1,22 @@
+package com.itjima_server.mapper;
+
+import com.itjima_server.domain.dashboard.PendingAction;
+import com.itjima_server.domain.dashboard.PendingActionSource;
+import com.itjima_server.dto.dashboard.response.DashboardPendingResponseDTO;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface PendingActionMapper {
+
+    int insert(PendingAction pendingAction);
+
+    int deleteBySource(@Param("source") PendingActionSource source,
+            @Param("sourceId") long sourceId);
+
+    List<DashboardPendingResponseDTO> findByUserId(@Param("userId") Long userId,
+            @Param("lastCreatedAt") LocalDateTime lastCreatedAt, @Param("lastId") Long lastId,
+            @Param("sizePlusOne") int sizePlusOne);
+}
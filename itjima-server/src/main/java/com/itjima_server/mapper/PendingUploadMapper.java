@@ -0,0 +1,21 @@
+package com.itjima_server.mapper;
+
+import com.itjima_server.domain.item.PendingUpload;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface PendingUploadMapper {
+
+    int insert(PendingUpload pendingUpload);
+
+    PendingUpload findById(@Param("id") String id);
+
+    int deleteById(@Param("id") String id);
+
+    List<PendingUpload> findExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    int deleteByIds(@Param("ids") List<String> ids);
+}
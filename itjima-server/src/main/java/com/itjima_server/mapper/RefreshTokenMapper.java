@@ -1,19 +1,24 @@
 package com.itjima_server.mapper;
 
 import com.itjima_server.domain.user.RefreshToken;
+import java.time.LocalDateTime;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface RefreshTokenMapper {
 
-    RefreshToken findByToken(@Param("token") String token);
+    RefreshToken findByTokenHash(@Param("tokenHash") String tokenHash);
 
-    boolean existsByUserId(@Param("userId") long userId);
+    RefreshToken findByUserId(@Param("userId") long userId);
 
-    void insert(RefreshToken refreshToken);
+    int upsert(RefreshToken refreshToken);
 
-    void update(RefreshToken refreshToken);
+    int rotate(@Param("userId") long userId, @Param("oldTokenHash") String oldTokenHash,
+            @Param("newTokenHash") String newTokenHash,
+            @Param("expiryDate") LocalDateTime expiryDate);
 
     void deleteByUserId(@Param("userId") long userId);
+
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -0,0 +1,31 @@
+package com.itjima_server.mapper;
+
+import com.itjima_server.domain.agreement.AgreementStatus;
+import com.itjima_server.domain.notification.ReminderTemplate;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ReminderMapper {
+
+    Long findDueChunkEndId(@Param("template") ReminderTemplate template,
+            @Param("afterId") long afterId, @Param("chunkSize") int chunkSize);
+
+    List<Long> findRecipientIdsInRange(@Param("template") ReminderTemplate template,
+            @Param("afterId") long afterId, @Param("toId") long toId);
+
+    int insertNotificationsInRange(@Param("template") ReminderTemplate template,
+            @Param("afterId") long afterId, @Param("toId") long toId);
+
+    int markSentInRange(@Param("template") ReminderTemplate template,
+            @Param("afterId") long afterId, @Param("toId") long toId,
+            @Param("sentAt") LocalDateTime sentAt);
+
+    int deleteStale(@Param("today") LocalDate today,
+            @Param("activeStatuses") Collection<AgreementStatus> activeStatuses,
+            @Param("overdueKey") String overdueKey);
+}
@@ -3,7 +3,6 @@ package com.itjima_server.mapper;
 import com.itjima_server.domain.user.Provider;
 import com.itjima_server.domain.user.User;
 import com.itjima_server.dto.user.response.UserSearchResponseDTO;
-import java.time.LocalDateTime;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -20,15 +19,18 @@ public interface UserMapper {
 
     User findByEmail(@Param("email") String email);
 
+    User findAuthInfoByEmail(@Param("email") String email);
+
+    Integer findTokenVersionById(@Param("id") Long id);
+
+    int increaseTokenVersionById(@Param("id") Long id);
+
     int updatePhoneById(@Param("id") Long id, @Param("phone") String phone);
 
     int updatePasswordById(@Param("id") Long id, @Param("password") String password);
 
     int updateEmailVerification(User user);
 
-    User findByEmailVerificationToken(
-            @Param("emailVerificationToken") String emailVerificationToken);
-
     int deleteById(@Param("id") Long id);
 
     User findByProviderAndProviderId(@Param("provider") Provider provider,
@@ -41,17 +43,7 @@ public interface UserMapper {
     User findByNameAndPhoneAndEmail(@Param("name") String name, @Param("phone") String phone,
             @Param("email") String email);
 
-    int updatePasswordResetById(@Param("id") Long id,
-            @Param("passwordResetToken") String passwordResetToken,
-            @Param("passwordTokenGeneratedAt")
-            LocalDateTime passwordResetTokenGeneratedAt,
-            @Param("password") String password);
-
-    User findByPasswordResetToken(@Param("passwordResetToken") String passwordResetToken);
-
     int updateDeleteStatusById(@Param("id") Long id);
 
     UserSearchResponseDTO findByPhone(@Param("phone") String phone);
-
-    String findNameById(@Param("id") Long id);
 }
@@ -0,0 +1,27 @@
+package com.itjima_server.mapper;
+
+import com.itjima_server.domain.user.VerificationCode;
+import com.itjima_server.domain.user.VerificationPurpose;
+import java.time.LocalDateTime;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface VerificationCodeMapper {
+
+    int insert(VerificationCode verificationCode);
+
+    VerificationCode findByPurposeAndUserId(@Param("purpose") VerificationPurpose purpose,
+            @Param("userId") long userId);
+
+    int increaseAttempts(@Param("purpose") VerificationPurpose purpose,
+            @Param("userId") long userId);
+
+    int deleteByPurposeAndUserId(@Param("purpose") VerificationPurpose purpose,
+            @Param("userId") long userId);
+
+    int deleteByPurposeAndUserIdAndCodeHash(@Param("purpose") VerificationPurpose purpose,
+            @Param("userId") long userId, @Param("codeHash") String codeHash);
+
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
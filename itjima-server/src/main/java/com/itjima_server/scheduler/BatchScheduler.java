@@ -1,7 +1,17 @@
 package com.itjima_server.scheduler;
 
-import com.itjima_server.service.AgreementService;
+import com.itjima_server.common.BatchRunStats;
+import com.itjima_server.service.AuthService;
+import com.itjima_server.service.DashboardCache;
+import com.itjima_server.service.DashboardStatsCheckService;
+import com.itjima_server.service.EmailService;
+import com.itjima_server.service.ItemImagePipeline;
+import com.itjima_server.service.ItemStatsRebuildService;
+import com.itjima_server.service.ItemUploadService;
 import com.itjima_server.service.NotificationService;
+import com.itjima_server.service.OverdueBatchService;
+import com.itjima_server.service.PaidAmountCheckService;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -18,8 +28,22 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class BatchScheduler {
 
-    private final AgreementService agreementService;
+    private static final int REFRESH_TOKEN_PURGE_CHUNK_SIZE = 1000;
+    private static final int SENT_EMAIL_PURGE_CHUNK_SIZE = 1000;
+    private static final int SENT_EMAIL_RETENTION_DAYS = 7;
+    private static final int PENDING_UPLOAD_PURGE_CHUNK_SIZE = 500;
+    private static final int STALE_IMAGE_JOB_CHUNK_SIZE = 500;
+
+    private final OverdueBatchService overdueBatchService;
     private final NotificationService notificationService;
+    private final AuthService authService;
+    private final EmailService emailService;
+    private final PaidAmountCheckService paidAmountCheckService;
+    private final DashboardStatsCheckService dashboardStatsCheckService;
+    private final ItemStatsRebuildService itemStatsRebuildService;
+    private final ItemUploadService itemUploadService;
+    private final ItemImagePipeline itemImagePipeline;
+    private final DashboardCache dashboardCache;
 
     /**
      * 연체 자동 변경 및 알림 생성 배치
@@ -28,11 +52,13 @@ public class BatchScheduler {
     public void checkOverdueAgreements() {
         log.info("연체된 계약을 확인하는 스케줄 작업을 시작합니다...");
         try {
-            agreementService.processOverdueAgreements();
-
-            log.info("연체된 계약 확인 작업이 성공적으로 완료되었습니다.");
+            BatchRunStats stats = overdueBatchService.processOverdueAgreements();
+            log.info("연체된 계약 확인 작업이 성공적으로 완료되었습니다. {}", stats);
         } catch (Exception e) {
             log.error("연체된 계약 확인 작업 중 오류가 발생했습니다.", e);
+        } finally {
+            // 일부 청크만 커밋되고 실패했을 수도 있으므로 결과와 관계없이 무효화
+            dashboardCache.invalidateAll();
         }
     }
 
@@ -43,10 +69,113 @@ public class BatchScheduler {
     public void sendReminderNotification() {
         log.info("리마인드 알림 생성 스케줄 작업을 시작합니다...");
         try {
-            notificationService.createReminders();
-            log.info("리마인드 알림 생성 작업이 성공적으로 완료되었습니다.");
+            BatchRunStats stats = notificationService.createReminders();
+            log.info("리마인드 알림 생성 작업이 성공적으로 완료되었습니다. {}", stats);
         } catch (Exception e) {
             log.error("리마인드 알림 생성 작업 중 오류가 발생했습니다.", e);
         }
     }
+
+    /**
+     * 만료된 리프레쉬 토큰 정리
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeExpiredRefreshTokens() {
+        log.info("만료된 리프레쉬 토큰 정리 작업을 시작합니다...");
+        try {
+            int deleted = authService.purgeExpiredRefreshTokens(REFRESH_TOKEN_PURGE_CHUNK_SIZE);
+            log.info("만료된 리프레쉬 토큰 {}건을 정리했습니다.", deleted);
+        } catch (Exception e) {
+            log.error("만료된 리프레쉬 토큰 정리 작업 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 발송 완료된 이메일 대기열 정리
+     */
+    @Scheduled(cron = "0 40 3 * * *")
+    public void purgeSentEmails() {
+        log.info("발송 완료된 이메일 대기열 정리 작업을 시작합니다...");
+        try {
+            int deleted = emailService.purgeSentEmails(
+                    LocalDateTime.now().minusDays(SENT_EMAIL_RETENTION_DAYS),
+                    SENT_EMAIL_PURGE_CHUNK_SIZE);
+            log.info("발송 완료된 이메일 {}건을 정리했습니다.", deleted);
+        } catch (Exception e) {
+            log.error("이메일 대기열 정리 작업 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 누적 상환액 정합성 점검
+     */
+    @Scheduled(cron = "0 50 3 * * *")
+    public void checkPaidAmountDrift() {
+        log.info("누적 상환액 정합성 점검 작업을 시작합니다...");
+        try {
+            BatchRunStats stats = paidAmountCheckService.recomputeDrift();
+            log.info("누적 상환액 정합성 점검 작업이 완료되었습니다. {}", stats);
+        } catch (Exception e) {
+            log.error("누적 상환액 정합성 점검 작업 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 대시보드 카운터 정합성 점검
+     */
+    @Scheduled(cron = "0 10 4 * * *")
+    public void reconcileDashboardStats() {
+        log.info("대시보드 카운터 정합성 점검 작업을 시작합니다...");
+        try {
+            BatchRunStats stats = dashboardStatsCheckService.reconcile();
+            log.info("대시보드 카운터 정합성 점검 작업이 완료되었습니다. {}", stats);
+            if (stats.getRows() > 0) {
+                dashboardCache.invalidateAll();
+            }
+        } catch (Exception e) {
+            log.error("대시보드 카운터 정합성 점검 작업 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 물품 대여 통계 재계산
+     */
+    @Scheduled(cron = "0 20 4 * * *")
+    public void rebuildItemStats() {
+        log.info("물품 대여 통계 재계산 작업을 시작합니다...");
+        try {
+            BatchRunStats stats = itemStatsRebuildService.rebuild();
+            log.info("물품 대여 통계 재계산 작업이 완료되었습니다. {}", stats);
+        } catch (Exception e) {
+            log.error("물품 대여 통계 재계산 작업 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 확인되지 않은 물품 이미지 직접 업로드 정리
+     */
+    @Scheduled(cron = "0 5 * * * *")
+    public void purgeExpiredUploads() {
+        log.info("만료된 직접 업로드 정리 작업을 시작합니다...");
+        try {
+            int deleted = itemUploadService.purgeExpiredUploads(PENDING_UPLOAD_PURGE_CHUNK_SIZE);
+            log.info("만료된 직접 업로드 {}건을 정리했습니다.", deleted);
+        } catch (Exception e) {
+            log.error("만료된 직접 업로드 정리 작업 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 끝나지 않은 채 남은 물품 이미지 처리 작업 정리
+     */
+    @Scheduled(cron = "0 15 * * * *")
+    public void failStaleImageJobs() {
+        log.info("끝나지 않은 이미지 처리 작업 정리를 시작합니다...");
+        try {
+            int failed = itemImagePipeline.failStaleJobs(STALE_IMAGE_JOB_CHUNK_SIZE);
+            log.info("끝나지 않은 이미지 처리 작업 {}건을 실패로 기록했습니다.", failed);
+        } catch (Exception e) {
+            log.error("이미지 처리 작업 정리 중 오류가 발생했습니다.", e);
+        }
+    }
 }
@@ -0,0 +1,146 @@
+package com.itjima_server.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.itjima_server.util.HashUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Date;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 검증이 끝난 액세스 토큰과 인증 주체(CustomUserDetails)를 매핑하는 캐시
+ * <p>
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며, 각 항목은 토큰의 exp 시각에 만료된다. 항목 수가 상한에 이르면 자주 쓰이지
+ * 않는 항목부터 밀어낸다. 로그아웃/회원 탈퇴/비밀번호 변경 시
+ * {@link #evictUser(Long)}로 해당 사용자의 항목을 제거한다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Component
+public class AuthenticatedPrincipalCache {
+
+    private final Cache<String, CachedPrincipal> cache;
+    private final LongSupplier clock;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public AuthenticatedPrincipalCache(MeterRegistry meterRegistry,
+            @Value("${jwt.principal-cache.max-size:10000}") int maxSize) {
+        this(meterRegistry, maxSize, System::currentTimeMillis, ForkJoinPool.commonPool());
+    }
+
+    AuthenticatedPrincipalCache(MeterRegistry meterRegistry, int maxSize, LongSupplier clock,
+            Executor executor) {
+        this.clock = clock;
+        // 상한에 이르면 덜 쓰이는 항목을 밀어내며 계속 캐시함
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.getAsLong()))
+                .executor(executor)
+                .build();
+        this.hitCounter = Counter.builder("auth.principal.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("auth.principal.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("auth.principal.cache.size", cache, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 인증 주체 조회
+     *
+     * @param token 액세스 토큰 원문
+     * @return 만료되지 않은 인증 주체, 없으면 null
+     */
+    public CustomUserDetails get(String token) {
+        CachedPrincipal cached = cache.getIfPresent(HashUtil.sha256Hex(token));
+        if (cached == null) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return cached.principal();
+    }
+
+    /**
+     * 검증된 토큰의 인증 주체 저장
+     *
+     * @param token      액세스 토큰 원문
+     * @param principal  인증 주체
+     * @param expiration 토큰 만료 시각
+     */
+    public void put(String token, CustomUserDetails principal, Date expiration) {
+        if (expiration == null || expiration.getTime() <= clock.getAsLong()) {
+            return;
+        }
+        cache.put(HashUtil.sha256Hex(token), new CachedPrincipal(principal, expiration.getTime()));
+    }
+
+    /**
+     * 특정 사용자의 캐시 항목 전체 제거
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 제거하여, 커밋 전 조회된 정보가 다시 캐시되는 것을 막는다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evictUser(Long userId) {
+        removeByUserId(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            removeByUserId(userId);
+                        }
+                    });
+        }
+    }
+
+    private void removeByUserId(Long userId) {
+        cache.asMap().values().removeIf(cached -> cached.principal().getId().equals(userId));
+    }
+
+    private record CachedPrincipal(CustomUserDetails principal, long expiresAtMs) {
+
+    }
+
+    /**
+     * 항목마다 토큰의 exp 시각에 만료
+     */
+    private class TokenExpiry implements Expiry<String, CachedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(
+                    Math.max(0, value.expiresAtMs() - clock.getAsLong()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedPrincipal value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -19,11 +19,12 @@ public class CustomUserDetailService implements UserDetailsService {
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userMapper.findByEmail(email);
+        User user = userMapper.findAuthInfoByEmail(email);
         if (user == null) {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다." + email);
         }
-        return new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(),
+        // 인증 주체는 캐시에 보관되므로 비밀번호 해시는 담지 않음
+        return new CustomUserDetails(user.getId(), user.getEmail(), "",
                 Collections.emptyList());
     }
 }
@@ -10,11 +10,21 @@ public class CustomUserDetails extends User {
 
     private final Long id;
     private final String email;
+    /**
+     * 토큰에 담긴 버전 (버전 클레임이 없는 이전 형식 토큰이면 null)
+     */
+    private final Integer tokenVersion;
 
     public CustomUserDetails(Long id, String email, String password,
             Collection<? extends GrantedAuthority> authorities) {
+        this(id, email, password, authorities, null);
+    }
+
+    public CustomUserDetails(Long id, String email, String password,
+            Collection<? extends GrantedAuthority> authorities, Integer tokenVersion) {
         super(email, password, authorities);
         this.id = id;
         this.email = email;
+        this.tokenVersion = tokenVersion;
     }
 }
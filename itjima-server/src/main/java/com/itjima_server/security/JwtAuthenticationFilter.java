@@ -1,18 +1,23 @@
 package com.itjima_server.security;
 
+import com.itjima_server.config.SecurityConfig;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @Component
@@ -20,18 +25,24 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
         try {
             String token = getJwtFromRequest(request);
-            if (token != null && jwtTokenProvider.getSubject(token) != null) {
-                String email = jwtTokenProvider.getSubject(token);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            if (token != null) {
+                CustomUserDetails userDetails = resolvePrincipal(token);
+                if (userDetails.getTokenVersion() != null && !tokenVersionRegistry.isCurrent(
+                        userDetails.getId(), userDetails.getTokenVersion())) {
+                    throw new BadCredentialsException("폐기된 토큰입니다.");
+                }
 
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
@@ -48,6 +59,51 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 인증이 필요 없는 경로(permitAll)는 토큰 검증 자체를 건너뜀
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        for (String pattern : SecurityConfig.PERMIT_ALL_PATHS) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 토큰으로 인증 주체 조회
+     * <p>
+     * 캐시에 있으면 파싱 없이 반환한다. 없으면 토큰을 한 번만 파싱해 클레임(id, ver)으로 인증 주체를 만들고, 해당 클레임이 없는
+     * 이전 형식 토큰만 DB에서 사용자 정보를 읽는다.
+     *
+     * @param token 액세스 토큰
+     * @return 인증 주체
+     */
+    private CustomUserDetails resolvePrincipal(String token) {
+        CustomUserDetails cached = principalCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        Long userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class);
+        Integer tokenVersion = claims.get(JwtTokenProvider.CLAIM_TOKEN_VERSION, Integer.class);
+
+        CustomUserDetails userDetails;
+        if (userId != null && tokenVersion != null) {
+            userDetails = new CustomUserDetails(userId, claims.getSubject(), "",
+                    Collections.emptyList(), tokenVersion);
+        } else {
+            userDetails = (CustomUserDetails) userDetailsService.loadUserByUsername(
+                    claims.getSubject());
+        }
+        principalCache.put(token, userDetails, claims.getExpiration());
+        return userDetails;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -2,11 +2,13 @@ package com.itjima_server.security;
 
 import com.itjima_server.domain.user.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +17,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtTokenProvider {
 
+    public static final String CLAIM_USER_ID = "id";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -28,18 +33,27 @@ public class JwtTokenProvider {
 
     private SecretKey secretKey;
 
+    private JwtParser jwtParser;
+
     @PostConstruct
     void init() {
         // HMAC-SHA 키 생성
         secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // 파서는 불변·스레드 안전하므로 요청마다 새로 만들지 않고 재사용
+        jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     public String generateAccessToken(User user) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + accessExpirationMs);
 
+        // 필터가 DB 조회 없이 인증 주체를 만들 수 있도록 사용자 ID와 토큰 버전을 함께 담음
         Claims claims = Jwts.claims()
                 .subject(user.getEmail())
+                .add(CLAIM_USER_ID, user.getId())
+                .add(CLAIM_TOKEN_VERSION, user.getTokenVersion())
                 .build();
 
         return Jwts.builder()
@@ -54,30 +68,33 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + refreshExpirationMs);
 
+        // 같은 초에 연속 발급돼도 토큰(해시)이 겹치지 않도록 jti를 부여
         return Jwts.builder()
-                .claim("id", user.getId())
+                .id(UUID.randomUUID().toString())
+                .claim(CLAIM_USER_ID, user.getId())
                 .issuedAt(now)
                 .expiration(expiration)
                 .signWith(secretKey)
                 .compact();
     }
 
+    /**
+     * 서명과 만료를 검증한 뒤 토큰의 클레임 반환
+     *
+     * @param token JWT 문자열
+     * @return 검증된 클레임
+     */
+    public Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
     public String getSubject(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public Long getUserIdFromRefreshToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("id", Long.class);
+        Claims claims = parseClaims(token);
+        return claims.get(CLAIM_USER_ID, Long.class);
     }
 
 }
@@ -0,0 +1,98 @@
+package com.itjima_server.security;
+
+import com.itjima_server.mapper.UserMapper;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 액세스 토큰 버전(token_version)을 메모리에 보관하는 레지스트리
+ * <p>
+ * 토큰의 ver 클레임이 현재 버전과 다르면 폐기된 토큰으로 본다. 버전은 사용자당 한 번 DB에서 읽어 두고
+ * {@code jwt.token-version.refresh-ms} 주기로 다시 읽으므로, 다른 서버에서 폐기된 토큰도 이 주기 안에 차단된다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Component
+public class TokenVersionRegistry {
+
+    /**
+     * 탈퇴 등으로 활성 사용자가 아닐 때 저장하는 버전 (어떤 토큰과도 일치하지 않음)
+     */
+    private static final int INACTIVE_VERSION = -1;
+
+    private final Map<Long, VersionEntry> versions = new ConcurrentHashMap<>();
+    private final UserMapper userMapper;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final long refreshMs;
+
+    public TokenVersionRegistry(UserMapper userMapper, AuthenticatedPrincipalCache principalCache,
+            @Value("${jwt.token-version.refresh-ms:30000}") long refreshMs) {
+        this.userMapper = userMapper;
+        this.principalCache = principalCache;
+        this.refreshMs = refreshMs;
+    }
+
+    /**
+     * 토큰 버전이 현재 유효한지 확인
+     *
+     * @param userId       사용자 ID
+     * @param tokenVersion 토큰에 담긴 버전
+     * @return 현재 버전과 같으면 true
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        long now = System.currentTimeMillis();
+        VersionEntry entry = versions.get(userId);
+        if (entry == null || entry.loadedAtMs() + refreshMs <= now) {
+            entry = load(userId, now);
+        }
+        return entry.version() == tokenVersion;
+    }
+
+    /**
+     * 사용자의 모든 액세스 토큰 폐기
+     * <p>
+     * DB의 token_version을 올리고, 커밋 이후 메모리 버전을 비워 다음 요청에서 새 버전을 읽게 한다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void revokeAll(Long userId) {
+        userMapper.increaseTokenVersionById(userId);
+        principalCache.evictUser(userId);
+        versions.remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            versions.remove(userId);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * 갱신 주기가 지난 항목 정리 (다음 요청 시 다시 읽음)
+     */
+    @Scheduled(fixedDelay = 600_000)
+    public void purgeStale() {
+        long now = System.currentTimeMillis();
+        versions.values().removeIf(entry -> entry.loadedAtMs() + refreshMs <= now);
+    }
+
+    private VersionEntry load(Long userId, long now) {
+        Integer version = userMapper.findTokenVersionById(userId);
+        VersionEntry entry = new VersionEntry(version == null ? INACTIVE_VERSION : version, now);
+        versions.put(userId, entry);
+        return entry;
+    }
+
+    private record VersionEntry(int version, long loadedAtMs) {
+
+    }
+}
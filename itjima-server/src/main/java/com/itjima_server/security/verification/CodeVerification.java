@@ -0,0 +1,24 @@
+package com.itjima_server.security.verification;
+
+/**
+ * 인증코드 검증 결과
+ *
+ * @param status 검증 상태
+ * @param userId 검증에 성공한 경우 코드 소유자 ID
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+public record CodeVerification(Status status, Long userId) {
+
+    public enum Status {
+        VALID, NOT_FOUND, EXPIRED, TOO_MANY_ATTEMPTS
+    }
+
+    public static CodeVerification valid(Long userId) {
+        return new CodeVerification(Status.VALID, userId);
+    }
+
+    public static CodeVerification of(Status status) {
+        return new CodeVerification(status, null);
+    }
+}
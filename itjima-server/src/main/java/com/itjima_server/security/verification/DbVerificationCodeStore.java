@@ -0,0 +1,114 @@
+package com.itjima_server.security.verification;
+
+import com.itjima_server.domain.user.VerificationCode;
+import com.itjima_server.domain.user.VerificationPurpose;
+import com.itjima_server.mapper.VerificationCodeMapper;
+import com.itjima_server.util.HashUtil;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 여러 서버가 공유하는 DB 인증코드 저장소
+ * <p>
+ * VERIFICATION_CODES 테이블은 (purpose, user_id) PK로만 조회하므로 USERS를 훑지 않는다. 검증은 호출 측 트랜잭션이 롤백되어도 실패 횟수와 코드 소모가 남도록 별도 트랜잭션으로 처리한다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "verification.code-store", havingValue = "db")
+public class DbVerificationCodeStore implements VerificationCodeStore {
+
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final VerificationCodeMapper verificationCodeMapper;
+    private final int maxAttempts;
+
+    public DbVerificationCodeStore(VerificationCodeMapper verificationCodeMapper,
+            @Value("${verification.code.max-attempts:5}") int maxAttempts) {
+        this.verificationCodeMapper = verificationCodeMapper;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
+    public void issue(VerificationPurpose purpose, long userId, String code, Duration ttl) {
+        verificationCodeMapper.deleteByPurposeAndUserId(purpose, userId);
+        verificationCodeMapper.insert(VerificationCode.builder()
+                .purpose(purpose)
+                .userId(userId)
+                .codeHash(HashUtil.sha256Hex(code))
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasPending(VerificationPurpose purpose, long userId) {
+        VerificationCode saved = verificationCodeMapper.findByPurposeAndUserId(purpose, userId);
+        return saved != null && saved.getExpiresAt().isAfter(LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
+    public CodeVerification verify(VerificationPurpose purpose, long userId, String code) {
+        VerificationCode saved = verificationCodeMapper.findByPurposeAndUserId(purpose, userId);
+        if (saved == null) {
+            return CodeVerification.of(CodeVerification.Status.NOT_FOUND);
+        }
+        if (!saved.getCodeHash().equals(HashUtil.sha256Hex(code))) {
+            if (saved.getAttempts() + 1 >= maxAttempts) {
+                verificationCodeMapper.deleteByPurposeAndUserId(purpose, userId);
+                return CodeVerification.of(CodeVerification.Status.TOO_MANY_ATTEMPTS);
+            }
+            verificationCodeMapper.increaseAttempts(purpose, userId);
+            return CodeVerification.of(CodeVerification.Status.NOT_FOUND);
+        }
+        return consume(saved);
+    }
+
+    /**
+     * 만료된 인증코드 정리
+     * <p>
+     * 조회 시에도 만료를 확인하므로 정리 주기는 테이블 크기에만 영향을 준다.
+     */
+    @Scheduled(cron = "0 */10 * * * *")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = verificationCodeMapper.deleteExpired(now, PURGE_CHUNK_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_CHUNK_SIZE);
+        if (total > 0) {
+            log.info("만료된 인증코드 {}건 삭제", total);
+        }
+    }
+
+    // ==========================
+    // 내부 유틸리티
+    // ==========================
+
+    private CodeVerification consume(VerificationCode saved) {
+        if (!saved.getExpiresAt().isAfter(LocalDateTime.now())) {
+            verificationCodeMapper.deleteByPurposeAndUserId(saved.getPurpose(), saved.getUserId());
+            return CodeVerification.of(CodeVerification.Status.EXPIRED);
+        }
+        // 조건부 DELETE: 같은 코드로 동시에 들어온 요청 중 한 요청만 성공
+        int deleted = verificationCodeMapper.deleteByPurposeAndUserIdAndCodeHash(
+                saved.getPurpose(), saved.getUserId(), saved.getCodeHash());
+        if (deleted == 0) {
+            return CodeVerification.of(CodeVerification.Status.NOT_FOUND);
+        }
+        return CodeVerification.valid(saved.getUserId());
+    }
+}
@@ -0,0 +1,170 @@
+package com.itjima_server.security.verification;
+
+import com.itjima_server.domain.user.VerificationPurpose;
+import com.itjima_server.util.HashUtil;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 서버용 메모리 인증코드 저장소
+ * <p>
+ * 만료 처리는 1초 단위 슬롯으로 나뉜 해시드 휠(hashed wheel)로 한다. 발급 시 만료 시각에 해당하는 슬롯에 등록해 두고, 매 틱마다 현재
+ * 슬롯만 비우므로 전체 항목을 훑지 않는다. 조회 시에도 만료 여부를 확인하므로 틱 지연과 무관하게 TTL이 지켜진다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Component
+@ConditionalOnProperty(name = "verification.code-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private static final long TICK_MS = 1_000;
+    private static final int WHEEL_SIZE = 512;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    @SuppressWarnings("unchecked")
+    private final Queue<Timeout>[] wheel = new Queue[WHEEL_SIZE];
+    private final int maxAttempts;
+    private final LongSupplier clock;
+    private long lastTick;
+
+    @Autowired
+    public InMemoryVerificationCodeStore(
+            @Value("${verification.code.max-attempts:5}") int maxAttempts) {
+        this(maxAttempts, System::currentTimeMillis);
+    }
+
+    InMemoryVerificationCodeStore(int maxAttempts, LongSupplier clock) {
+        this.maxAttempts = maxAttempts;
+        this.clock = clock;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastTick = clock.getAsLong() / TICK_MS;
+    }
+
+    @Override
+    public void issue(VerificationPurpose purpose, long userId, String code, Duration ttl) {
+        Entry entry = new Entry(userId, HashUtil.sha256Hex(code),
+                clock.getAsLong() + ttl.toMillis());
+        String key = entryKey(purpose, userId);
+        entries.put(key, entry);
+        schedule(key, entry);
+    }
+
+    @Override
+    public boolean hasPending(VerificationPurpose purpose, long userId) {
+        Entry entry = entries.get(entryKey(purpose, userId));
+        return entry != null && !entry.isExpired(clock.getAsLong());
+    }
+
+    @Override
+    public CodeVerification verify(VerificationPurpose purpose, long userId, String code) {
+        String key = entryKey(purpose, userId);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return CodeVerification.of(CodeVerification.Status.NOT_FOUND);
+        }
+        if (!entry.codeHash.equals(HashUtil.sha256Hex(code))) {
+            if (entry.attempts.incrementAndGet() >= maxAttempts) {
+                remove(key, entry);
+                return CodeVerification.of(CodeVerification.Status.TOO_MANY_ATTEMPTS);
+            }
+            return CodeVerification.of(CodeVerification.Status.NOT_FOUND);
+        }
+        return consume(key, entry);
+    }
+
+    /**
+     * 휠을 현재 시각까지 돌리며 만료된 항목 제거
+     */
+    @Scheduled(fixedRate = TICK_MS)
+    public synchronized void advance() {
+        long nowMs = clock.getAsLong();
+        long nowTick = nowMs / TICK_MS;
+        // 오래 멈춰 있었더라도 한 바퀴만 돌면 모든 슬롯을 확인한 것이 됨
+        long from = Math.max(lastTick + 1, nowTick - WHEEL_SIZE + 1);
+        for (long tick = from; tick <= nowTick; tick++) {
+            Queue<Timeout> slot = wheel[(int) (tick % WHEEL_SIZE)];
+            int size = slot.size();
+            for (int i = 0; i < size; i++) {
+                Timeout timeout = slot.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.entry.isExpired(nowMs)) {
+                    remove(timeout.key, timeout.entry);
+                } else if (entries.get(timeout.key) == timeout.entry) {
+                    // 아직 남은 바퀴가 있는 항목은 다시 등록
+                    slot.add(timeout);
+                }
+            }
+        }
+        lastTick = nowTick;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // ==========================
+    // 내부 유틸리티
+    // ==========================
+
+    private CodeVerification consume(String key, Entry entry) {
+        if (entry.isExpired(clock.getAsLong())) {
+            remove(key, entry);
+            return CodeVerification.of(CodeVerification.Status.EXPIRED);
+        }
+        if (!entries.remove(key, entry)) {
+            // 동시에 다른 요청이 먼저 소모한 경우
+            return CodeVerification.of(CodeVerification.Status.NOT_FOUND);
+        }
+        return CodeVerification.valid(entry.userId);
+    }
+
+    private void remove(String key, Entry entry) {
+        entries.remove(key, entry);
+    }
+
+    private void schedule(String key, Entry entry) {
+        long deadlineTick = (entry.expiresAtMs + TICK_MS - 1) / TICK_MS;
+        wheel[(int) (deadlineTick % WHEEL_SIZE)].add(new Timeout(key, entry));
+    }
+
+    private static String entryKey(VerificationPurpose purpose, long userId) {
+        return purpose.name() + ":" + userId;
+    }
+
+    private static final class Entry {
+
+        private final long userId;
+        private final String codeHash;
+        private final long expiresAtMs;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private Entry(long userId, String codeHash, long expiresAtMs) {
+            this.userId = userId;
+            this.codeHash = codeHash;
+            this.expiresAtMs = expiresAtMs;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAtMs <= now;
+        }
+    }
+
+    private record Timeout(String key, Entry entry) {
+
+    }
+}
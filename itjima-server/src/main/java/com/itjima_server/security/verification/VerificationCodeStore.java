@@ -0,0 +1,36 @@
+package com.itjima_server.security.verification;
+
+import com.itjima_server.domain.user.VerificationPurpose;
+import java.time.Duration;
+
+/**
+ * 이메일 인증/비밀번호 재설정용 단기 인증코드 저장소
+ * <p>
+ * 코드는 SHA-256 해시로만 보관하며, 검증에 성공하면 즉시 소모된다. 구현체는 {@code verification.code-store} 속성으로 선택한다
+ * (memory: 단일 서버용 메모리 저장소, db: 여러 서버가 공유하는 VERIFICATION_CODES 테이블).
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * 인증코드 발급 (같은 용도의 기존 코드는 대체)
+     *
+     * @param purpose 용도
+     * @param userId  코드 소유자 ID
+     * @param code    인증코드 원문
+     * @param ttl     유효 시간
+     */
+    void issue(VerificationPurpose purpose, long userId, String code, Duration ttl);
+
+    /**
+     * 만료되지 않은 코드가 발급되어 있는지 확인
+     */
+    boolean hasPending(VerificationPurpose purpose, long userId);
+
+    /**
+     * 특정 사용자의 코드 검증 (실패 횟수를 집계하며, 한도를 넘으면 코드를 폐기)
+     */
+    CodeVerification verify(VerificationPurpose purpose, long userId, String code);
+}
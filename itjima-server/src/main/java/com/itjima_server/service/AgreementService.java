@@ -2,16 +2,19 @@ package com.itjima_server.service;
 
 import com.itjima_server.aop.Audit;
 import com.itjima_server.common.PagedResultDTO;
+import com.itjima_server.common.SearchKeyword;
+import com.itjima_server.common.SearchSort;
 import com.itjima_server.domain.agreement.Agreement;
+import com.itjima_server.domain.agreement.AgreementAggregate;
 import com.itjima_server.domain.agreement.AgreementParty;
 import com.itjima_server.domain.agreement.AgreementPartyRole;
 import com.itjima_server.domain.agreement.AgreementStatus;
+import com.itjima_server.domain.agreement.AgreementTransitions;
 import com.itjima_server.domain.audit.AuditLogAction;
+import com.itjima_server.domain.event.ChangeEventType;
 import com.itjima_server.domain.item.Item;
 import com.itjima_server.domain.item.ItemStatus;
 import com.itjima_server.domain.item.ItemType;
-import com.itjima_server.domain.notification.Schedule;
-import com.itjima_server.domain.notification.ScheduleType;
 import com.itjima_server.domain.transaction.Transaction;
 import com.itjima_server.domain.transaction.TransactionStatus;
 import com.itjima_server.domain.transaction.TransactionType;
@@ -37,7 +40,6 @@ import com.itjima_server.mapper.AgreementMapper;
 import com.itjima_server.mapper.AgreementPartyMapper;
 import com.itjima_server.mapper.AuditLogMapper;
 import com.itjima_server.mapper.ItemMapper;
-import com.itjima_server.mapper.ScheduleMapper;
 import com.itjima_server.mapper.TransactionMapper;
 import com.itjima_server.mapper.UserMapper;
 import java.math.BigDecimal;
@@ -45,6 +47,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -64,8 +67,12 @@ public class AgreementService {
     private final UserMapper userMapper;
     private final ItemMapper itemMapper;
     private final TransactionMapper transactionMapper;
-    private final ScheduleMapper scheduleMapper;
     private final AuditLogMapper auditLogMapper;
+    private final ChangeStampService changeStampService;
+    private final DashboardStatsService dashboardStatsService;
+    private final PendingActionService pendingActionService;
+    private final EventStreamService eventStreamService;
+    private final AgreementTransitionService agreementTransitionService;
 
     /**
      * 대여 생성 처리
@@ -105,6 +112,8 @@ public class AgreementService {
         // 대여 생성
         Agreement agreement = Agreement.builder()
                 .itemId(req.getItemId())
+                .creditorId(userId)
+                .debtorId(req.getDebtorUserId())
                 .status(AgreementStatus.PENDING)
                 .amount(req.getAmount())
                 .dueAt(req.getDueAt())
@@ -135,9 +144,15 @@ public class AgreementService {
         checkInsertResult(agreementPartyMapper.insert(agreementPartyDebtor),
                 "채무자 정보 등록에 실패했습니다.");
 
-        checkUpdateResult(
-                itemMapper.updateStatusById(item.getId(), ItemStatus.PENDING_APPROVAL),
-                "물품 상태 변경에 실패했습니다.");
+        // 같은 물품으로 동시에 들어온 생성 요청 중 하나만 성공
+        if (itemMapper.transitionStatus(item.getId(), ItemStatus.AVAILABLE,
+                ItemStatus.PENDING_APPROVAL) == 0) {
+            throw new InvalidStateException("해당 물품은 대여가 불가능 합니다.");
+        }
+        pendingActionService.requestAgreement(agreement);
+        dashboardStatsService.onAgreementCreated(agreement);
+        changeStampService.touchAgreement(agreement);
+        eventStreamService.publishAgreementStatus(agreement);
 
         AgreementPartyInfoDTO creditor = AgreementPartyInfoDTO.from(agreementPartyCreditor,
                 UserSimpleInfoDTO.from(creditorUser));
@@ -158,19 +173,18 @@ public class AgreementService {
     @Audit(action = AuditLogAction.AGREEMENT_ACCEPT)
     public AgreementResponseDTO accept(Long userId, Long agreementId) {
         // 대여 검증
-        Agreement agreement = findByAgreementId(agreementId);
+        AgreementAggregate aggregate = agreementTransitionService.findAggregateById(agreementId);
+        Set<AgreementStatus> sources = AgreementTransitions.sourcesOf(AgreementPartyRole.DEBTOR,
+                AgreementStatus.ACCEPTED);
+        agreementTransitionService.verifyCanRespond(userId, aggregate, AgreementPartyRole.DEBTOR,
+                sources);
 
-        List<AgreementParty> agreementPartyList = verifyCanRespond(userId, agreement,
-                AgreementPartyRole.DEBTOR, List.of(AgreementStatus.PENDING));
+        Agreement agreement = aggregate.getAgreement();
+        AgreementParty agreementPartyDebtor = aggregate.getDebtor();
 
-        AgreementParty agreementPartyCreditor = agreementPartyList.get(0);
-        AgreementParty agreementPartyDebtor = agreementPartyList.get(1);
-
-        // 상태 업데이트: ACCEPTED
-        agreement.setStatus(AgreementStatus.ACCEPTED);
-        checkUpdateResult(
-                agreementMapper.updateStatusById(agreementId, agreement.getStatus()),
-                "대여 상태 변경에 실패했습니다.");
+        // 상태 전이: ACCEPTED (물품: ON_LOAN)
+        agreementTransitionService.transition(agreement, sources,
+                AgreementStatus.ACCEPTED);
 
         // 채무자 확인일 업데이트
         agreementPartyDebtor.setConfirmAt(LocalDateTime.now());
@@ -178,45 +192,7 @@ public class AgreementService {
                 agreementPartyMapper.updateConfirmedAtById(agreementPartyDebtor.getId(),
                         agreementPartyDebtor.getConfirmAt()), "대여 승인 등록에 실패했습니다.");
 
-        // 물품 상태 업데이트: ON_LOAN
-        checkUpdateResult(itemMapper.updateStatusById(agreement.getItemId(), ItemStatus.ON_LOAN),
-                "물품 상태 변경에 실패했습니다.");
-
-        LocalDate now = LocalDate.now();
-        LocalDate dueAt = agreement.getDueAt();
-
-        if (dueAt.minusDays(7).isAfter(now)) {
-            scheduleMapper.insert(Schedule.builder()
-                    .agreementId(agreementId)
-                    .type(ScheduleType.D_MINUS_7)
-                    .dueAt(dueAt.minusDays(7))
-                    .build());
-        }
-
-        if (dueAt.minusDays(3).isAfter(now)) {
-            scheduleMapper.insert(Schedule.builder()
-                    .agreementId(agreementId)
-                    .type(ScheduleType.D_MINUS_3)
-                    .dueAt(dueAt.minusDays(3))
-                    .build());
-
-        }
-
-        if (dueAt.minusDays(1).isAfter(now)) {
-            scheduleMapper.insert(Schedule.builder()
-                    .agreementId(agreementId)
-                    .type(ScheduleType.D_MINUS_1)
-                    .dueAt(dueAt.minusDays(1))
-                    .build());
-        }
-
-        scheduleMapper.insert(Schedule.builder()
-                .agreementId(agreementId)
-                .type(ScheduleType.D_DAY)
-                .dueAt(dueAt)
-                .build());
-
-        return toAgreementResponseDTO(agreementPartyCreditor, agreementPartyDebtor, agreement);
+        return toAgreementResponseDTO(aggregate);
     }
 
     /**
@@ -230,25 +206,17 @@ public class AgreementService {
     @Audit(action = AuditLogAction.AGREEMENT_REJECT)
     public AgreementResponseDTO reject(Long userId, Long agreementId) {
         // 대여 검증
-        Agreement agreement = findByAgreementId(agreementId);
-
-        List<AgreementParty> agreementPartyList = verifyCanRespond(userId, agreement,
-                AgreementPartyRole.DEBTOR, List.of(AgreementStatus.PENDING));
-
-        AgreementParty agreementPartyCreditor = agreementPartyList.get(0);
-        AgreementParty agreementPartyDebtor = agreementPartyList.get(1);
-
-        // 상태 업데이트: REJECTED
-        agreement.setStatus(AgreementStatus.REJECTED);
-        checkUpdateResult(
-                agreementMapper.updateStatusById(agreementId, agreement.getStatus()),
-                "대여 상태 변경에 실패했습니다.");
+        AgreementAggregate aggregate = agreementTransitionService.findAggregateById(agreementId);
+        Set<AgreementStatus> sources = AgreementTransitions.sourcesOf(AgreementPartyRole.DEBTOR,
+                AgreementStatus.REJECTED);
+        agreementTransitionService.verifyCanRespond(userId, aggregate, AgreementPartyRole.DEBTOR,
+                sources);
 
-        // 물품 상태 업데이트: AVAILABLE
-        checkUpdateResult(itemMapper.updateStatusById(agreement.getItemId(), ItemStatus.AVAILABLE),
-                "물품 상태 변경에 실패했습니다.");
+        // 상태 전이: REJECTED (물품: AVAILABLE)
+        agreementTransitionService.transition(aggregate.getAgreement(), sources,
+                AgreementStatus.REJECTED);
 
-        return toAgreementResponseDTO(agreementPartyCreditor, agreementPartyDebtor, agreement);
+        return toAgreementResponseDTO(aggregate);
     }
 
     /**
@@ -262,25 +230,17 @@ public class AgreementService {
     @Audit(action = AuditLogAction.AGREEMENT_CANCEL)
     public AgreementResponseDTO cancel(Long userId, Long agreementId) {
         // 대여 검증
-        Agreement agreement = findByAgreementId(agreementId);
+        AgreementAggregate aggregate = agreementTransitionService.findAggregateById(agreementId);
+        Set<AgreementStatus> sources = AgreementTransitions.sourcesOf(AgreementPartyRole.CREDITOR,
+                AgreementStatus.CANCELED);
+        agreementTransitionService.verifyCanRespond(userId, aggregate, AgreementPartyRole.CREDITOR,
+                sources);
 
-        List<AgreementParty> agreementPartyList = verifyCanRespond(userId, agreement,
-                AgreementPartyRole.CREDITOR, List.of(AgreementStatus.PENDING));
+        // 상태 전이: CANCELED (물품: AVAILABLE)
+        agreementTransitionService.transition(aggregate.getAgreement(), sources,
+                AgreementStatus.CANCELED);
 
-        AgreementParty agreementPartyCreditor = agreementPartyList.get(0);
-        AgreementParty agreementPartyDebtor = agreementPartyList.get(1);
-
-        // 상태 업데이트: CANCELED
-        agreement.setStatus(AgreementStatus.CANCELED);
-        checkUpdateResult(
-                agreementMapper.updateStatusById(agreementId, agreement.getStatus()),
-                "대여 상태 변경에 실패했습니다.");
-
-        // 물품 상태 업데이트: AVAILABLE
-        checkUpdateResult(itemMapper.updateStatusById(agreement.getItemId(), ItemStatus.AVAILABLE),
-                "물품 상태 변경에 실패했습니다.");
-
-        return toAgreementResponseDTO(agreementPartyCreditor, agreementPartyDebtor, agreement);
+        return toAgreementResponseDTO(aggregate);
     }
 
     /**
@@ -294,24 +254,17 @@ public class AgreementService {
     @Audit(action = AuditLogAction.AGREEMENT_COMPLETE)
     public AgreementResponseDTO complete(Long userId, Long agreementId) {
         // 대여 검증
-        Agreement agreement = findByAgreementId(agreementId);
-
-        List<AgreementParty> agreementPartyList = verifyCanRespond(userId, agreement,
-                AgreementPartyRole.CREDITOR,
-                List.of(AgreementStatus.ACCEPTED, AgreementStatus.OVERDUE));
-
-        AgreementParty agreementPartyCreditor = agreementPartyList.get(0);
-        AgreementParty agreementPartyDebtor = agreementPartyList.get(1);
-
-        // 상태 업데이트: COMPLETED
-        agreement.setStatus(AgreementStatus.COMPLETED);
-        checkUpdateResult(agreementMapper.updateCompleted(agreementId), "대여 상태 변경에 실패했습니다.");
+        AgreementAggregate aggregate = agreementTransitionService.findAggregateById(agreementId);
+        Set<AgreementStatus> sources = AgreementTransitions.sourcesOf(AgreementPartyRole.CREDITOR,
+                AgreementStatus.COMPLETED);
+        agreementTransitionService.verifyCanRespond(userId, aggregate, AgreementPartyRole.CREDITOR,
+                sources);
 
-        // 물품 상태 업데이트: AVAILABLE
-        checkUpdateResult(itemMapper.updateStatusById(agreement.getItemId(), ItemStatus.AVAILABLE),
-                "물품 상태 변경에 실패했습니다.");
+        // 상태 전이: COMPLETED (물품: AVAILABLE)
+        agreementTransitionService.transition(aggregate.getAgreement(), sources,
+                AgreementStatus.COMPLETED);
 
-        return toAgreementResponseDTO(agreementPartyCreditor, agreementPartyDebtor, agreement);
+        return toAgreementResponseDTO(aggregate);
     }
 
     /**
@@ -387,7 +340,8 @@ public class AgreementService {
     public TransactionResponseDTO createTransaction(Long userId, Long agreementId,
             BigDecimal amount) {
         // 대여 검증
-        Agreement agreement = findByAgreementId(agreementId);
+        AgreementAggregate aggregate = agreementTransitionService.findAggregateById(agreementId);
+        Agreement agreement = aggregate.getAgreement();
 
         // 대여 물품 검증
         Item item = itemMapper.findById(agreement.getItemId());
@@ -395,12 +349,11 @@ public class AgreementService {
             throw new InvalidStateException("상환 요청은 금전 대여에만 이용할 수 있습니다.");
         }
 
-        verifyCanRespond(userId, agreement, AgreementPartyRole.DEBTOR,
-                List.of(AgreementStatus.ACCEPTED, AgreementStatus.OVERDUE));
+        agreementTransitionService.verifyCanRespond(userId, aggregate, AgreementPartyRole.DEBTOR,
+                AgreementTransitions.activeStatuses());
 
         // 남은 상환 금액 검증
-        BigDecimal totalPaidAmount = transactionMapper.sumConfirmedAmountByAgreementId(agreementId);
-        BigDecimal remainingAmount = agreement.getAmount().subtract(totalPaidAmount);
+        BigDecimal remainingAmount = agreement.getAmount().subtract(agreement.getPaidAmount());
         if (amount.compareTo(remainingAmount) > 0) {
             throw new InvalidStateException("요청 금액이 남은 잔액(" + remainingAmount + "원)을 초과할 수 없습니다.");
         }
@@ -418,6 +371,11 @@ public class AgreementService {
                 .build();
 
         checkUpdateResult(transactionMapper.insert(transaction), "상환 요청에 실패했습니다.");
+        pendingActionService.requestRepayment(agreement, transaction);
+        dashboardStatsService.onRepaymentRequested(agreement);
+        changeStampService.touchAgreement(agreement);
+        eventStreamService.publishTransaction(agreement, transaction,
+                ChangeEventType.TRANSACTION_CREATED);
 
         return TransactionResponseDTO.from(transaction);
     }
@@ -435,7 +393,8 @@ public class AgreementService {
     public PagedResultDTO<?> getTransactionList(Long userId, Long agreementId, Long lastId,
             int size) {
         // 대여 검증
-        Agreement agreement = findByAgreementId(agreementId);
+        AgreementAggregate aggregate = agreementTransitionService.findAggregateById(agreementId);
+        Agreement agreement = aggregate.getAgreement();
 
         // 대여 물품 검증
         Item item = itemMapper.findById(agreement.getItemId());
@@ -443,7 +402,7 @@ public class AgreementService {
             throw new InvalidStateException("상환 요청은 금전 대여에만 이용할 수 있습니다.");
         }
 
-        verifyCanRespond(userId, agreement, null,
+        agreementTransitionService.verifyCanRespond(userId, aggregate, null,
                 List.of(AgreementStatus.ACCEPTED, AgreementStatus.OVERDUE,
                         AgreementStatus.COMPLETED));
 
@@ -473,28 +432,6 @@ public class AgreementService {
         return PagedResultDTO.from(transactions, hasNext, lastId);
     }
 
-    /**
-     * 대여 연체 처리
-     */
-    @Transactional(rollbackFor = Exception.class)
-    public void processOverdueAgreements() {
-        List<Long> overdueIds = agreementMapper.findOverdueAgreementIds();
-
-        if (overdueIds == null || overdueIds.isEmpty()) {
-            return;
-        }
-
-        for (Long id : overdueIds) {
-            agreementMapper.updateStatusById(id, AgreementStatus.OVERDUE);
-
-            scheduleMapper.insert(Schedule.builder()
-                    .agreementId(id)
-                    .type(ScheduleType.OVERDUE)
-                    .dueAt(LocalDate.now())
-                    .build());
-        }
-    }
-
     /**
      * 대여 기간 연장
      *
@@ -505,27 +442,31 @@ public class AgreementService {
      */
     @Transactional(rollbackFor = Exception.class)
     public AgreementResponseDTO agreementExtend(Long id, Long userId, LocalDate dueAt) {
-        Agreement agreement = findByAgreementId(id);
-
-        List<AgreementParty> agreementPartyList = verifyCanRespond(userId, agreement,
+        AgreementAggregate aggregate = agreementTransitionService.findAggregateById(id);
+        agreementTransitionService.verifyCanRespond(userId, aggregate,
                 AgreementPartyRole.CREDITOR,
                 List.of(AgreementStatus.ACCEPTED, AgreementStatus.OVERDUE,
                         AgreementStatus.PENDING));
 
-        AgreementParty agreementPartyCreditor = agreementPartyList.get(0);
-        AgreementParty agreementPartyDebtor = agreementPartyList.get(1);
+        Agreement agreement = aggregate.getAgreement();
+        AgreementStatus fromStatus = agreement.getStatus();
 
-        if (agreement.getStatus() == AgreementStatus.OVERDUE) {
+        if (fromStatus == AgreementStatus.OVERDUE) {
             agreement.setStatus(AgreementStatus.ACCEPTED);
         }
 
         agreement.setDueAt(dueAt);
 
-        checkUpdateResult(
+        agreementTransitionService.checkNotConflicted(
                 agreementMapper.updateDueAtAndStatusById(agreement.getId(), agreement.getStatus(),
-                        agreement.getDueAt()), "대여 연장 중 에러가 발생했습니다.");
+                        agreement.getDueAt(), agreement.getVersion()));
+        if (fromStatus != agreement.getStatus()) {
+            dashboardStatsService.onTransition(agreement, fromStatus, agreement.getStatus());
+            eventStreamService.publishAgreementStatus(agreement);
+        }
+        changeStampService.touchAgreement(agreement);
 
-        return toAgreementResponseDTO(agreementPartyCreditor, agreementPartyDebtor, agreement);
+        return toAgreementResponseDTO(aggregate);
     }
 
     /**
@@ -538,48 +479,55 @@ public class AgreementService {
      */
     @Transactional(rollbackFor = Exception.class)
     public AgreementResponseDTO updateAgreementTerms(Long id, Long userId, String terms) {
-        Agreement agreement = findByAgreementId(id);
-
-        List<AgreementParty> agreementPartyList = verifyCanRespond(userId, agreement,
+        AgreementAggregate aggregate = agreementTransitionService.findAggregateById(id);
+        agreementTransitionService.verifyCanRespond(userId, aggregate,
                 AgreementPartyRole.CREDITOR,
                 List.of(AgreementStatus.PENDING, AgreementStatus.ACCEPTED,
                         AgreementStatus.OVERDUE));
 
-        AgreementParty agreementPartyCreditor = agreementPartyList.get(0);
-        AgreementParty agreementPartyDebtor = agreementPartyList.get(1);
+        Agreement agreement = aggregate.getAgreement();
+        AgreementParty agreementPartyDebtor = aggregate.getDebtor();
 
         agreement.setTerms(terms);
 
-        checkUpdateResult(agreementMapper.updateTermsById(agreement.getId(), terms),
-                "대여 수정 중 에러가 발생했습니다.");
+        agreementTransitionService.checkNotConflicted(
+                agreementMapper.updateTermsById(agreement.getId(), terms, agreement.getVersion()));
 
         checkUpdateResult(agreementPartyMapper.resetDebtorConfirmation(agreement.getId()),
                 "채무자 동의 초기화에 실패했습니다.");
+        changeStampService.touchAgreement(agreement);
 
         agreement.setStatus(AgreementStatus.PENDING);
         agreementPartyDebtor.setConfirmAt(null);
 
-        return toAgreementResponseDTO(agreementPartyCreditor, agreementPartyDebtor, agreement);
+        return toAgreementResponseDTO(aggregate);
     }
 
 
     /**
      * 화면 렌더링용 대여 리스트
      *
-     * @param userId  로그인한 사용자 id
-     * @param keyword 물품명 또는 상대방 이름 검색 필터
-     * @param role    역할 필터
-     * @param lastId  조회할 마지막 id
-     * @param size    한 페이지에 보여줄 개수
+     * @param userId        로그인한 사용자 id
+     * @param keyword       물품명/설명 또는 상대방 이름 검색 필터
+     * @param role          역할 필터
+     * @param sort          정렬 기준
+     * @param lastRelevance 관련도순일 때 이전 페이지 마지막 항목의 관련도
+     * @param lastId        조회할 마지막 id
+     * @param size          한 페이지에 보여줄 개수
      * @return 대여 리스트 응답 DTO
+     * @throws IllegalArgumentException 관련도순 다음 페이지 요청에 lastRelevance가 없는 경우
      */
     @Transactional(readOnly = true)
     public PagedResultDTO<?> getSummaries(Long userId, String keyword, AgreementPartyRole role,
-            Long lastId, int size) {
+            SearchSort sort, BigDecimal lastRelevance, Long lastId, int size) {
         int sizePlusOne = size + 1;
+        SearchKeyword search = SearchKeyword.of(keyword);
+        boolean byRelevance = sort == SearchSort.RELEVANCE && search != null && search.isFullText();
+        if (byRelevance && lastId != null && lastRelevance == null) {
+            throw new IllegalArgumentException("관련도순 다음 페이지는 lastRelevance와 lastId를 함께 보내야 합니다.");
+        }
         List<AgreementSummaryResponseDTO> agreementSummaries = agreementMapper.findAgreementSummariesByUserId(
-                userId,
-                keyword, role, lastId, sizePlusOne);
+                userId, search, role, byRelevance, lastRelevance, lastId, sizePlusOne);
         if (agreementSummaries == null || agreementSummaries.isEmpty()) {
             return PagedResultDTO.from(null, false, null);
         }
@@ -672,108 +620,18 @@ public class AgreementService {
     }
 
     /**
-     * ID로 대여 조회 (없으면 예외 발생)
-     *
-     * @param agreementId 대여 ID
-     * @return 조회된 Agreement
-     * @throws NotFoundAgreementException 대여가 존재하지 않을 경우
-     */
-    private Agreement findByAgreementId(Long agreementId) {
-        Agreement agreement = agreementMapper.findById(agreementId);
-        if (agreement == null) {
-            throw new NotFoundAgreementException("해당 대여 요청을 찾을 수 없습니다.");
-        }
-        return agreement;
-    }
-
-    /**
-     * 대여 상태와 파티 정보 검증 유틸리티
+     * 대여 집합체를 응답 DTO로 변환 (참여자 이름은 집합체 조회 시 함께 가져옴)
      *
-     * @param agreement         대여 엔티티
-     * @param agreementStatuses 허용되는 상태 목록
-     * @return 대여 참여자 목록 (채권자, 채무자)
-     * @throws InvalidStateException      상태가 허용되지 않을 경우
-     * @throws NotFoundAgreementException 파티 정보가 없거나 올바르지 않을 경우
-     */
-    private List<AgreementParty> verifyAgreementStatus(Agreement agreement,
-            List<AgreementStatus> agreementStatuses) {
-        if (!agreementStatuses.contains(agreement.getStatus())) {
-            throw new InvalidStateException("이미 처리된 대여 요청입니다.");
-        }
-
-        List<AgreementParty> parties = agreementPartyMapper.findByAgreementId(agreement.getId());
-        if (parties == null || parties.size() != 2) {
-            throw new NotFoundAgreementException("해당 대여의 사용자들을 찾을 수 없습니다.");
-        }
-
-        return parties;
-    }
-
-    /**
-     * 특정 역할의 사용자가 응답할 수 있는지 검증 유틸리티
-     *
-     * @param userId             사용자 ID
-     * @param agreement          대여 엔티티
-     * @param agreementPartyRole 요구되는 역할 (CREDITOR/DEBTOR)
-     * @param agreementStatuses  허용되는 상태 목록
-     * @return 대여 참여자 목록 (채권자, 채무자)
-     * @throws NotAuthorException 권한 없는 사용자인 경우
-     */
-    private List<AgreementParty> verifyCanRespond(Long userId,
-            Agreement agreement, AgreementPartyRole agreementPartyRole,
-            List<AgreementStatus> agreementStatuses) {
-        List<AgreementParty> parties = verifyAgreementStatus(agreement,
-                agreementStatuses);
-
-        AgreementParty creditor = null;
-        AgreementParty debtor = null;
-        for (AgreementParty party : parties) {
-            if (party.getRole() == AgreementPartyRole.CREDITOR) {
-                creditor = party;
-            } else {
-                debtor = party;
-            }
-        }
-
-        if (creditor == null || debtor == null) {
-            throw new InvalidStateException("대여 참여자 정보 구성이 올바르지 않습니다.");
-        }
-
-        if (agreementPartyRole != null) {
-            AgreementParty requiredParty =
-                    (agreementPartyRole == AgreementPartyRole.CREDITOR) ? creditor : debtor;
-
-            if (requiredParty.getUserId() != userId) {
-                throw new NotAuthorException("해당 요청을 처리할 권한이 없습니다.");
-            }
-        } else {
-            if (creditor.getUserId() != userId && debtor.getUserId() != userId) {
-                throw new NotAuthorException("해당 요청을 처리할 권한이 없습니다.");
-            }
-        }
-
-        return List.of(creditor, debtor);
-    }
-
-    /**
-     * Agreement, 파티, 사용자 정보를 종합해 응답 DTO로 변환
-     *
-     * @param agreementPartyCreditor 채권자 파티
-     * @param agreementPartyDebtor   채무자 파티
-     * @param agreement              대여 엔티티
+     * @param aggregate 대여 집합체
      * @return 대여 응답 DTO
      */
-    private AgreementResponseDTO toAgreementResponseDTO(AgreementParty agreementPartyCreditor,
-            AgreementParty agreementPartyDebtor, Agreement agreement) {
-        User creditorUser = userMapper.findById(agreementPartyCreditor.getUserId());
-        User debtorUser = userMapper.findById(agreementPartyDebtor.getUserId());
+    private AgreementResponseDTO toAgreementResponseDTO(AgreementAggregate aggregate) {
+        AgreementPartyInfoDTO creditor = AgreementPartyInfoDTO.from(aggregate.getCreditor(),
+                aggregate.getCreditorInfo());
+        AgreementPartyInfoDTO debtor = AgreementPartyInfoDTO.from(aggregate.getDebtor(),
+                aggregate.getDebtorInfo());
 
-        AgreementPartyInfoDTO creditor = AgreementPartyInfoDTO.from(agreementPartyCreditor,
-                UserSimpleInfoDTO.from(creditorUser));
-        AgreementPartyInfoDTO debtor = AgreementPartyInfoDTO.from(agreementPartyDebtor,
-                UserSimpleInfoDTO.from(debtorUser));
-
-        return AgreementResponseDTO.from(agreement, creditor, debtor);
+        return AgreementResponseDTO.from(aggregate.getAgreement(), creditor, debtor);
     }
 
 }
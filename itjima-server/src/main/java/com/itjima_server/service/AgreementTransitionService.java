@@ -0,0 +1,141 @@
+package com.itjima_server.service;
+
+import com.itjima_server.domain.agreement.Agreement;
+import com.itjima_server.domain.agreement.AgreementAggregate;
+import com.itjima_server.domain.agreement.AgreementParty;
+import com.itjima_server.domain.agreement.AgreementPartyRole;
+import com.itjima_server.domain.agreement.AgreementStatus;
+import com.itjima_server.domain.agreement.AgreementTransitions;
+import com.itjima_server.domain.item.ItemStatus;
+import com.itjima_server.exception.agreement.NotFoundAgreementException;
+import com.itjima_server.exception.common.InvalidStateException;
+import com.itjima_server.exception.common.NotAuthorException;
+import com.itjima_server.mapper.AgreementMapper;
+import com.itjima_server.mapper.ItemMapper;
+import java.util.Collection;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대여 조회/권한 검증/상태 전이를 대여와 상환 서비스가 함께 쓰도록 모은 서비스
+ * <p>
+ * 상태 전이에 딸린 물품 상태, 대여 통계, 확인 대기 항목, 변경 스탬프, 실시간 이벤트 반영이 한 곳에만 있으므로 호출하는 서비스마다 빠지는
+ * 처리가 생기지 않는다. 호출 측 트랜잭션 안에서 실행된다.
+ *
+ * @author Rege-97
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class AgreementTransitionService {
+
+    private final AgreementMapper agreementMapper;
+    private final ItemMapper itemMapper;
+    private final ChangeStampService changeStampService;
+    private final DashboardStatsService dashboardStatsService;
+    private final PendingActionService pendingActionService;
+    private final EventStreamService eventStreamService;
+
+    /**
+     * ID로 대여 집합체(대여, 참여자, 참여자 이름) 조회 (없으면 예외 발생)
+     *
+     * @param agreementId 대여 ID
+     * @return 조회된 대여 집합체
+     * @throws NotFoundAgreementException 대여가 존재하지 않을 경우
+     */
+    public AgreementAggregate findAggregateById(Long agreementId) {
+        AgreementAggregate aggregate = agreementMapper.findAggregateById(agreementId);
+        if (aggregate == null || aggregate.getAgreement() == null) {
+            throw new NotFoundAgreementException("해당 대여 요청을 찾을 수 없습니다.");
+        }
+        return aggregate;
+    }
+
+    /**
+     * 특정 역할의 사용자가 응답할 수 있는지 검증
+     *
+     * @param userId             사용자 ID
+     * @param aggregate          대여 집합체
+     * @param agreementPartyRole 요구되는 역할 (CREDITOR/DEBTOR, null이면 양측 모두 허용)
+     * @param agreementStatuses  허용되는 상태 목록
+     * @throws InvalidStateException      상태가 허용되지 않을 경우
+     * @throws NotFoundAgreementException 파티 정보가 없을 경우
+     * @throws NotAuthorException         권한 없는 사용자인 경우
+     */
+    public void verifyCanRespond(Long userId, AgreementAggregate aggregate,
+            AgreementPartyRole agreementPartyRole, Collection<AgreementStatus> agreementStatuses) {
+        if (!agreementStatuses.contains(aggregate.getAgreement().getStatus())) {
+            throw new InvalidStateException("이미 처리된 대여 요청입니다.");
+        }
+
+        AgreementParty creditor = aggregate.getCreditor();
+        AgreementParty debtor = aggregate.getDebtor();
+        if (creditor == null || debtor == null) {
+            throw new NotFoundAgreementException("해당 대여의 사용자들을 찾을 수 없습니다.");
+        }
+
+        if (agreementPartyRole != null) {
+            AgreementParty requiredParty =
+                    (agreementPartyRole == AgreementPartyRole.CREDITOR) ? creditor : debtor;
+
+            if (requiredParty.getUserId() != userId) {
+                throw new NotAuthorException("해당 요청을 처리할 권한이 없습니다.");
+            }
+        } else {
+            if (creditor.getUserId() != userId && debtor.getUserId() != userId) {
+                throw new NotAuthorException("해당 요청을 처리할 권한이 없습니다.");
+            }
+        }
+    }
+
+    /**
+     * 대여 상태를 전이하고 전이표에 따라 물품 상태도 함께 변경
+     * <p>
+     * 대여는 허용된 이전 상태이면서 조회한 버전 그대로일 때만, 물품은 이전 대여 상태에 대응하는 상태일 때만 바뀐다. 동시에 들어온 요청
+     * 중 먼저 커밋한 요청만 성공하고 나머지는 0건 UPDATE로 충돌을 감지한다.
+     *
+     * @param agreement    조회한 대여 (성공 시 상태와 버전이 갱신됨)
+     * @param fromStatuses 허용되는 이전 상태 목록
+     * @param target       바꿀 상태
+     * @throws InvalidStateException 다른 요청이 먼저 대여나 물품 상태를 바꾼 경우
+     */
+    public void transition(Agreement agreement, Set<AgreementStatus> fromStatuses,
+            AgreementStatus target) {
+        checkNotConflicted(agreementMapper.transitionStatus(agreement.getId(), fromStatuses,
+                target, agreement.getVersion()));
+
+        AgreementStatus fromStatus = agreement.getStatus();
+        ItemStatus fromItemStatus = AgreementTransitions.itemStatusOf(fromStatus);
+        ItemStatus toItemStatus = AgreementTransitions.itemStatusOf(target);
+        agreement.setStatus(target);
+        agreement.setVersion(agreement.getVersion() + 1);
+
+        if (fromItemStatus != toItemStatus && itemMapper.transitionStatus(agreement.getItemId(),
+                fromItemStatus, toItemStatus) == 0) {
+            throw new InvalidStateException("물품 상태가 대여 상태와 일치하지 않습니다.");
+        }
+        if (target == AgreementStatus.COMPLETED) {
+            // 물품 목록/상세의 대여 통계는 ITEMS에 누적된 값을 그대로 읽음
+            itemMapper.addCompletedRental(agreement.getId());
+        }
+        if (fromStatus == AgreementStatus.PENDING) {
+            pendingActionService.resolveAgreement(agreement);
+        }
+        dashboardStatsService.onTransition(agreement, fromStatus, target);
+        changeStampService.touchAgreement(agreement);
+        eventStreamService.publishAgreementStatus(agreement);
+    }
+
+    /**
+     * 버전 조건부 UPDATE 결과 검증
+     *
+     * @param result 실행된 row 수
+     * @throws InvalidStateException 조회 이후 다른 요청이 대여를 변경한 경우
+     */
+    public void checkNotConflicted(int result) {
+        if (result < 1) {
+            throw new InvalidStateException("다른 요청에 의해 대여가 변경되었습니다. 다시 시도해주세요.");
+        }
+    }
+}
@@ -1,14 +1,15 @@
 package com.itjima_server.service;
 
+import com.itjima_server.client.KakaoOAuthClient;
 import com.itjima_server.domain.user.Provider;
 import com.itjima_server.domain.user.RefreshToken;
 import com.itjima_server.domain.user.User;
+import com.itjima_server.domain.user.VerificationPurpose;
 import com.itjima_server.dto.user.request.TokenRefreshRequestDTO;
 import com.itjima_server.dto.user.request.UserFindEmailRequestDTO;
 import com.itjima_server.dto.user.request.UserFindPasswordRequestDTO;
 import com.itjima_server.dto.user.request.UserLoginRequestDTO;
 import com.itjima_server.dto.user.request.UserRegisterRequestDTO;
-import com.itjima_server.dto.user.response.KakaoTokenResponseDTO;
 import com.itjima_server.dto.user.response.KakaoUserInfoDTO;
 import com.itjima_server.dto.user.response.TokenResponseDTO;
 import com.itjima_server.dto.user.response.UserFindEmailResponseDTO;
@@ -24,23 +25,21 @@ import com.itjima_server.exception.user.NotInsertUserException;
 import com.itjima_server.mapper.RefreshTokenMapper;
 import com.itjima_server.mapper.UserMapper;
 import com.itjima_server.security.JwtTokenProvider;
+import com.itjima_server.security.TokenVersionRegistry;
+import com.itjima_server.security.verification.CodeVerification;
+import com.itjima_server.security.verification.VerificationCodeStore;
+import com.itjima_server.util.HashUtil;
+import io.jsonwebtoken.JwtException;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * 인증 관련 비즈니스 로직을 담당하는 서비스 클래스
@@ -48,6 +47,7 @@ import org.springframework.web.client.RestTemplate;
  * @author Rege-97
  * @since 2025-08-28
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -62,20 +62,9 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final EmailService emailService;
-
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
-    private String kakaoClientId;
-
-    @Value("${spring.security.oauth2.client.registration.kakao.redirect-uri}")
-    private String kakaoRedirectUri;
-
-    @Value("${spring.security.oauth2.client.provider.kakao.token-uri}")
-    private String kakaoTokenUri;
-
-    @Value("${spring.security.oauth2.client.provider.kakao.user-info-uri}")
-    private String kakaoUserInfoUri;
+    private final KakaoOAuthClient kakaoOAuthClient;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final VerificationCodeStore verificationCodeStore;
 
     /**
      * 신규 사용자 회원가입 처리
@@ -95,8 +84,6 @@ public class AuthService {
             throw new DuplicateUserFieldException("이미 사용 중인 전화번호 입니다.");
         }
 
-        String verificationCode = generateVerificationCode();
-
         User user = User.builder()
                 .email(req.getEmail())
                 .name(req.getName())
@@ -105,8 +92,6 @@ public class AuthService {
                 .provider(Provider.LOCAL)
                 .createdAt(LocalDateTime.now())
                 .emailVerified(false)
-                .emailVerificationToken(verificationCode)
-                .emailTokenGeneratedAt(LocalDateTime.now())
                 .build();
 
         int result = userMapper.insert(user);
@@ -114,6 +99,7 @@ public class AuthService {
             throw new NotInsertUserException("회원가입이 정상적으로 되지 않았습니다.");
         }
 
+        String verificationCode = issueCode(VerificationPurpose.EMAIL_VERIFICATION, user.getId());
         emailService.sendVerificationEmail(user.getEmail(), verificationCode);
 
         return UserResponseDTO.from(user);
@@ -121,28 +107,25 @@ public class AuthService {
 
     /**
      * 이메일 인증 처리
+     * <p>
+     * 해당 계정의 코드만 대조하며 실패 횟수를 제한한다.
      *
      * @param token 인증할 인증번호
+     * @param email 인증번호를 받은 이메일
      */
     @Transactional(rollbackFor = Exception.class)
-    public void verifyEmail(String token) {
-        User user = userMapper.findByEmailVerificationToken(token);
-        if (user == null) {
+    public void verifyEmail(String token, String email) {
+        if (token == null || token.isBlank() || email == null || email.isBlank()) {
             throw new IllegalArgumentException("유효하지 않은 인증 토큰입니다.");
         }
+        CodeVerification verification = verifyCode(VerificationPurpose.EMAIL_VERIFICATION, token,
+                email);
+        checkVerification(verification, "인증 시간이 만료되었습니다. 인증번호를 재전송하세요.");
 
-        LocalDateTime tokenGeneratedAt = user.getEmailTokenGeneratedAt();
-        if (tokenGeneratedAt == null) {
-            throw new InvalidStateException("이미 처리된 토큰이거나 토큰 생성 시간이 기록되지 않았습니다.");
-        }
-
-        if (tokenGeneratedAt.plusMinutes(EMAIL_CODE_TTL_MINUTES).isBefore(LocalDateTime.now())) {
-            throw new InvalidStateException("인증 시간이 만료되었습니다. 인증번호를 재전송하세요.");
-        }
-
-        user.setEmailVerified(true);
-        user.setEmailVerificationToken(null);
-        user.setEmailTokenGeneratedAt(null);
+        User user = User.builder()
+                .id(verification.userId())
+                .emailVerified(true)
+                .build();
         checkUpdateResult(userMapper.updateEmailVerification(user), "인증코드를 발송 중 에러가 발생했습니다.");
     }
 
@@ -160,12 +143,7 @@ public class AuthService {
         if (user.isEmailVerified()) {
             throw new InvalidStateException("이미 인증된 계정입니다.");
         }
-        String verificationCode = generateVerificationCode();
-        user.setEmailVerified(false);
-        user.setEmailVerificationToken(verificationCode);
-        user.setEmailTokenGeneratedAt(LocalDateTime.now());
-
-        checkUpdateResult(userMapper.updateEmailVerification(user), "인증코드를 발송 중 에러가 발생했습니다.");
+        String verificationCode = issueCode(VerificationPurpose.EMAIL_VERIFICATION, user.getId());
         emailService.sendVerificationEmail(user.getEmail(), verificationCode);
     }
 
@@ -178,8 +156,8 @@ public class AuthService {
      * @return 로그인 결과(JWT 포함)
      */
     public UserLoginResponseDTO kakaoLogin(String code) {
-        String kakaoAccessToken = getKakaoAccessToken(code);
-        KakaoUserInfoDTO userInfo = getKakaoUserInfo(kakaoAccessToken);
+        String kakaoAccessToken = kakaoOAuthClient.getAccessToken(code);
+        KakaoUserInfoDTO userInfo = kakaoOAuthClient.getUserInfo(kakaoAccessToken);
         User user = findOrCreateUser(userInfo);
         return issueJwtTokens(user);
     }
@@ -204,23 +182,31 @@ public class AuthService {
             throw new LoginFailedException("이메일 인증이 필요합니다. 가입하신 이메일을 확인해주세요.");
         }
 
+        // 저장된 해시의 cost가 현재 설정과 다르면 평문을 알고 있는 지금 재해시
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            userMapper.updatePasswordById(user.getId(), passwordEncoder.encode(req.getPassword()));
+        }
+
         return issueJwtTokens(user);
     }
 
     /**
      * 액세스 토큰 재발급 로직
      * <p>
-     * 리프레쉬 토큰의 유효성 검사 후 액세스 토큰 재발급
+     * 리프레쉬 토큰의 유효성 검사 후 액세스 토큰과 리프레쉬 토큰을 함께 재발급(회전)한다. 이미 회전된 이전 토큰이 다시 제출되면 탈취로
+     * 간주하여 해당 사용자의 리프레쉬 토큰과 액세스 토큰을 모두 폐기한다.
      *
      * @param req 요청 받은 리프레쉬 토큰
-     * @return 새로운 액세스 토큰 정보
+     * @return 새로운 액세스/리프레쉬 토큰 정보
      */
-    @Transactional(rollbackFor = Exception.class)
+    @Transactional(rollbackFor = Exception.class, noRollbackFor = InvalidRefreshTokenException.class)
     public TokenResponseDTO refreshAccessToken(TokenRefreshRequestDTO req) {
         String refreshTokenString = req.getRefreshToken();
+        String tokenHash = HashUtil.sha256Hex(refreshTokenString);
 
-        RefreshToken refreshToken = refreshTokenMapper.findByToken(refreshTokenString);
+        RefreshToken refreshToken = refreshTokenMapper.findByTokenHash(tokenHash);
         if (refreshToken == null) {
+            detectRefreshTokenReuse(refreshTokenString, tokenHash);
             throw new InvalidRefreshTokenException("유효하지 않은 리프레쉬 토큰입니다.");
         }
 
@@ -235,19 +221,46 @@ public class AuthService {
         }
 
         String newAccessToken = jwtTokenProvider.generateAccessToken(user);
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(user);
+
+        // 조건부 UPDATE로 회전: 동시에 같은 토큰으로 요청이 들어오면 한 요청만 성공
+        int rotated = refreshTokenMapper.rotate(user.getId(), tokenHash,
+                HashUtil.sha256Hex(newRefreshToken), refreshExpiryDate());
+        if (rotated == 0) {
+            throw new InvalidRefreshTokenException("이미 사용된 리프레쉬 토큰입니다. 다시 로그인해주세요.");
+        }
 
         return TokenResponseDTO.builder()
                 .accessToken(newAccessToken)
-                .refreshToken(refreshTokenString)
+                .refreshToken(newRefreshToken)
                 .tokenType("Bearer")
                 .expiresIn(jwtTokenProvider.getAccessExpirationMs())
                 .build();
     }
 
+    /**
+     * 만료된 리프레쉬 토큰 정리
+     * <p>
+     * 한 번에 많은 행을 지우며 락을 오래 잡지 않도록 chunkSize 단위로 나누어 삭제한다.
+     *
+     * @param chunkSize 한 번에 삭제할 최대 행 수
+     * @return 삭제된 전체 행 수
+     */
+    public int purgeExpiredRefreshTokens(int chunkSize) {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenMapper.deleteExpired(now, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+        return total;
+    }
+
     /**
      * 로그아웃 로직
      * <p>
-     * 로그아웃 수행 시 리프레쉬 토큰 삭제
+     * 로그아웃 수행 시 리프레쉬 토큰 삭제 및 발급된 액세스 토큰 폐기
      *
      * @param id 인증된 유저의 PK
      */
@@ -258,6 +271,7 @@ public class AuthService {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
         }
         refreshTokenMapper.deleteByUserId(user.getId());
+        tokenVersionRegistry.revokeAll(user.getId());
     }
 
     /**
@@ -288,45 +302,28 @@ public class AuthService {
             throw new IllegalArgumentException("입력하신 정보와 일치하는 사용자가 없습니다.");
         }
 
-        String passwordResetCode = generateVerificationCode();
-
-        user.setPasswordResetToken(passwordResetCode);
-        user.setPasswordTokenGeneratedAt(LocalDateTime.now());
-
+        String passwordResetCode = issueCode(VerificationPurpose.PASSWORD_RESET, user.getId());
         emailService.sendPasswordReset(user.getEmail(), passwordResetCode);
-
-        checkUpdateResult(
-                userMapper.updatePasswordResetById(user.getId(), user.getPasswordResetToken(),
-                        user.getPasswordTokenGeneratedAt(), null),
-                "비밀번호 변경 요청이 정상적으로 완료되지 않았습니다.");
     }
 
     /**
      * 비밀번호 재설정
      *
      * @param code     인증 코드
+     * @param email    인증 코드를 받은 이메일
      * @param password 새 비밀번호
      */
     @Transactional(rollbackFor = Exception.class)
-    public void passwordReset(String code, String password) {
-        User user = userMapper.findByPasswordResetToken(code);
-        if (user == null) {
-            throw new IllegalArgumentException("유효하지 않은 인증 토큰입니다.");
-        }
+    public void passwordReset(String code, String email, String password) {
+        CodeVerification verification = verifyCode(VerificationPurpose.PASSWORD_RESET, code,
+                email);
+        checkVerification(verification, "인증 시간이 만료되었습니다. 다시 시도해주세요.");
 
-        LocalDateTime tokenGeneratedAt = user.getPasswordTokenGeneratedAt();
-        if (tokenGeneratedAt == null) {
-            throw new InvalidStateException("이미 처리된 토큰이거나 토큰 생성 시간이 기록되지 않았습니다.");
-        }
-        if (tokenGeneratedAt.plusMinutes(EMAIL_CODE_TTL_MINUTES).isBefore(LocalDateTime.now())) {
-            throw new InvalidStateException("인증 시간이 만료되었습니다. 다시 시도해주세요.");
-        }
-        user.setPasswordResetToken(null);
-        user.setPasswordTokenGeneratedAt(null);
         checkUpdateResult(
-                userMapper.updatePasswordResetById(user.getId(), user.getPasswordResetToken(),
-                        user.getPasswordTokenGeneratedAt(), passwordEncoder.encode(password)),
+                userMapper.updatePasswordById(verification.userId(),
+                        passwordEncoder.encode(password)),
                 "비밀번호 변경 중 오류가 발생했습니다.");
+        tokenVersionRegistry.revokeAll(verification.userId());
     }
 
     /**
@@ -341,100 +338,17 @@ public class AuthService {
             throw new NotFoundUserException("존재하지 않는 사용자입니다.");
         }
 
-        LocalDateTime tokenGeneratedAt = user.getPasswordTokenGeneratedAt();
-        if (tokenGeneratedAt == null) {
+        if (!verificationCodeStore.hasPending(VerificationPurpose.PASSWORD_RESET, user.getId())) {
             throw new InvalidStateException("이미 처리된 토큰이거나 토큰 생성 시간이 기록되지 않았습니다.");
         }
-        String passwordResetCode = generateVerificationCode();
-        user.setPasswordResetToken(passwordResetCode);
-        user.setPasswordTokenGeneratedAt(LocalDateTime.now());
-
+        String passwordResetCode = issueCode(VerificationPurpose.PASSWORD_RESET, user.getId());
         emailService.sendPasswordReset(user.getEmail(), passwordResetCode);
-
-        checkUpdateResult(
-                userMapper.updatePasswordResetById(user.getId(), user.getPasswordResetToken(),
-                        user.getPasswordTokenGeneratedAt(), null),
-                "비밀번호 변경 요청이 정상적으로 완료되지 않았습니다.");
     }
 
     // ==========================
     // 내부 유틸리티 (카카오 로그인용)
     // ==========================
 
-    /**
-     * 카카오 액세스 토큰 발급
-     * <p>
-     * 인가 코드로 카카오 토큰 엔드포인트에 요청하여 액세스 토큰을 획득한다.
-     *
-     * @param code 인가 코드(authorization_code)
-     * @return 카카오 액세스 토큰 문자열
-     * @throws RuntimeException 카카오 API 통신 실패 또는 유효한 토큰을 받지 못한 경우
-     */
-    private String getKakaoAccessToken(String code) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        params.add("grant_type", "authorization_code");
-        params.add("client_id", kakaoClientId);
-        params.add("redirect_uri", kakaoRedirectUri);
-        params.add("code", code);
-
-        HttpEntity<MultiValueMap<String, String>> kakaoTokenRequest = new HttpEntity<>(params,
-                headers);
-
-        try {
-            ResponseEntity<KakaoTokenResponseDTO> response = restTemplate.exchange(
-                    kakaoTokenUri,
-                    HttpMethod.POST,
-                    kakaoTokenRequest,
-                    KakaoTokenResponseDTO.class
-            );
-
-            if (response.getBody() == null || response.getBody().getAccessToken() == null) {
-                throw new RuntimeException("카카오로부터 액세스 토큰을 받아오지 못했습니다.");
-            }
-            return response.getBody().getAccessToken();
-
-        } catch (RestClientException e) {
-            throw new RuntimeException("카카오 서버와 통신 중 오류가 발생했습니다.", e);
-        }
-    }
-
-    /**
-     * 카카오 사용자 정보 조회
-     * <p>
-     * 발급받은 액세스 토큰으로 사용자 정보 API를 호출하여 카카오 사용자 정보를 가져온다.
-     *
-     * @param accessToken 카카오 액세스 토큰
-     * @return 카카오 사용자 정보 DTO
-     * @throws RuntimeException 카카오 API 통신 실패 또는 유효한 사용자 정보를 받지 못한 경우
-     */
-    private KakaoUserInfoDTO getKakaoUserInfo(String accessToken) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", "Bearer " + accessToken);
-        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-
-        HttpEntity<MultiValueMap<String, String>> kakaoUserInfoRequest = new HttpEntity<>(headers);
-
-        try {
-            ResponseEntity<KakaoUserInfoDTO> response = restTemplate.exchange(
-                    kakaoUserInfoUri,
-                    HttpMethod.POST,
-                    kakaoUserInfoRequest,
-                    KakaoUserInfoDTO.class
-            );
-
-            if (response.getBody() == null || response.getBody().getId() == null) {
-                throw new RuntimeException("카카오로부터 사용자 정보를 받아오지 못했습니다.");
-            }
-            return response.getBody();
-
-        } catch (RestClientException e) {
-            throw new RuntimeException("카카오 서버와 통신 중 오류가 발생했습니다.", e);
-        }
-    }
-
     /**
      * 카카오 사용자로 로컬 사용자 찾기/생성
      * <p>
@@ -493,19 +407,12 @@ public class AuthService {
         String accessToken = jwtTokenProvider.generateAccessToken(user);
         String refreshTokenString = jwtTokenProvider.generateRefreshToken(user);
 
-        LocalDateTime expiryDate = LocalDateTime.now()
-                .plusSeconds(jwtTokenProvider.getRefreshExpirationMs() / 1000);
         RefreshToken refreshToken = RefreshToken.builder()
-                .token(refreshTokenString)
+                .tokenHash(HashUtil.sha256Hex(refreshTokenString))
                 .userId(user.getId())
-                .expiryDate(expiryDate)
+                .expiryDate(refreshExpiryDate())
                 .build();
-
-        if (refreshTokenMapper.existsByUserId(user.getId())) {
-            refreshTokenMapper.update(refreshToken);
-        } else {
-            refreshTokenMapper.insert(refreshToken);
-        }
+        refreshTokenMapper.upsert(refreshToken);
 
         return UserLoginResponseDTO.builder()
                 .id(user.getId())
@@ -518,6 +425,84 @@ public class AuthService {
                 .build();
     }
 
+    /**
+     * 저장소에 없는 리프레쉬 토큰의 재사용 여부 확인
+     * <p>
+     * 서명이 유효하고 해당 사용자의 직전 회전 토큰과 일치하면 탈취된 토큰의 재사용으로 보고, 리프레쉬 토큰을 삭제하고 발급된 액세스 토큰을
+     * 모두 폐기한다.
+     *
+     * @param refreshTokenString 제출된 리프레쉬 토큰
+     * @param tokenHash          제출된 토큰의 해시
+     */
+    private void detectRefreshTokenReuse(String refreshTokenString, String tokenHash) {
+        Long userId;
+        try {
+            userId = jwtTokenProvider.getUserIdFromRefreshToken(refreshTokenString);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        if (userId == null) {
+            return;
+        }
+
+        RefreshToken current = refreshTokenMapper.findByUserId(userId);
+        if (current != null && tokenHash.equals(current.getPreviousTokenHash())) {
+            log.warn("리프레쉬 토큰 재사용이 감지되었습니다. userId={}", userId);
+            refreshTokenMapper.deleteByUserId(userId);
+            tokenVersionRegistry.revokeAll(userId);
+            throw new InvalidRefreshTokenException("재사용된 리프레쉬 토큰입니다. 다시 로그인해주세요.");
+        }
+    }
+
+    /**
+     * 지금부터 리프레쉬 토큰 유효기간이 지난 시각
+     */
+    private LocalDateTime refreshExpiryDate() {
+        return LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshExpirationMs() / 1000);
+    }
+
+    /**
+     * 인증코드를 생성해 저장소에 발급
+     *
+     * @param purpose 용도
+     * @param userId  코드 소유자 ID
+     * @return 발급된 인증코드
+     */
+    private String issueCode(VerificationPurpose purpose, Long userId) {
+        String code = generateVerificationCode();
+        verificationCodeStore.issue(purpose, userId, code,
+                Duration.ofMinutes(EMAIL_CODE_TTL_MINUTES));
+        return code;
+    }
+
+    /**
+     * 이메일 계정의 코드로 검증 (코드만으로는 찾지 않으므로 실패 횟수가 항상 계정별로 집계됨)
+     */
+    private CodeVerification verifyCode(VerificationPurpose purpose, String code, String email) {
+        User user = userMapper.findByEmail(email);
+        if (user == null) {
+            throw new IllegalArgumentException("유효하지 않은 인증 토큰입니다.");
+        }
+        return verificationCodeStore.verify(purpose, user.getId(), code);
+    }
+
+    /**
+     * 인증코드 검증 결과를 예외로 변환
+     *
+     * @param verification   검증 결과
+     * @param expiredMessage 만료 시 예외 메시지
+     */
+    private void checkVerification(CodeVerification verification, String expiredMessage) {
+        switch (verification.status()) {
+            case VALID -> {
+            }
+            case EXPIRED -> throw new InvalidStateException(expiredMessage);
+            case TOO_MANY_ATTEMPTS ->
+                    throw new InvalidStateException("인증 시도 횟수를 초과했습니다. 인증번호를 재전송하세요.");
+            default -> throw new IllegalArgumentException("유효하지 않은 인증 토큰입니다.");
+        }
+    }
+
     /**
      * 6자리 영문 대문자/숫자 조합의 이메일 인증코드를 생성
      *
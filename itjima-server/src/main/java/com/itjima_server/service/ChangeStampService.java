@@ -0,0 +1,90 @@
+package com.itjima_server.service;
+
+import com.itjima_server.domain.agreement.Agreement;
+import com.itjima_server.mapper.ChangeStampMapper;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별 변경 스탬프(USER_CHANGE_STAMPS)를 관리하는 서비스 클래스
+ * <p>
+ * 사용자에게 보이는 대여나 물품이 바뀌면 호출한 트랜잭션 안에서 관련 사용자의 스탬프를 올린다. 조회 API는 스탬프 한 건만 읽어 ETag를
+ * 만든다({@link com.itjima_server.web.ConditionalGetInterceptor}). 같은 사용자들의 대시보드 캐시도 커밋 후 무효화한다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeStampService {
+
+    private final ChangeStampMapper changeStampMapper;
+    private final DashboardCache dashboardCache;
+
+    /**
+     * 사용자들의 변경 스탬프 증가
+     *
+     * @param userIds 변경을 보게 될 사용자 ID
+     */
+    public void touch(long... userIds) {
+        Set<Long> sorted = new TreeSet<>();
+        for (long userId : userIds) {
+            sorted.add(userId);
+        }
+        touchSorted(sorted);
+    }
+
+    /**
+     * 대여 당사자(채권자, 채무자)의 변경 스탬프 증가
+     *
+     * @param agreement 변경된 대여
+     */
+    public void touchAgreement(Agreement agreement) {
+        touch(agreement.getCreditorId(), agreement.getDebtorId());
+    }
+
+    /**
+     * 물품 소유자와 그 물품을 빌린 적 있는 사용자의 변경 스탬프 증가
+     *
+     * @param itemId 변경된 물품 ID
+     */
+    public void touchItem(long itemId) {
+        touchSorted(new TreeSet<>(changeStampMapper.findUserIdsByItemId(itemId)));
+    }
+
+    /**
+     * 사용자와 그 사용자와 대여를 주고받은 적 있는 상대방의 변경 스탬프 증가
+     *
+     * @param userId 이름이나 상태가 바뀐 사용자 ID
+     */
+    public void touchPartners(long userId) {
+        Set<Long> sorted = new TreeSet<>(changeStampMapper.findPartnerIdsByUserId(userId));
+        sorted.add(userId);
+        touchSorted(sorted);
+    }
+
+    /**
+     * 사용자의 현재 변경 스탬프
+     *
+     * @param userId 사용자 ID
+     * @return 스탬프 버전 (한 번도 바뀐 적 없으면 0)
+     */
+    public long versionOf(long userId) {
+        Long version = changeStampMapper.findVersionByUserId(userId);
+        return version == null ? 0L : version;
+    }
+
+    /**
+     * 정렬된 사용자들의 스탬프를 올리고 대시보드 캐시 무효화
+     */
+    private void touchSorted(Set<Long> sortedUserIds) {
+        if (sortedUserIds.isEmpty()) {
+            return;
+        }
+        // 여러 트랜잭션이 같은 순서로 잠그도록 정렬된 순서 그대로 전달
+        changeStampMapper.touch(sortedUserIds);
+        dashboardCache.invalidate(sortedUserIds);
+    }
+}
@@ -0,0 +1,239 @@
+package com.itjima_server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.itjima_server.common.PagedResultDTO;
+import com.itjima_server.dto.dashboard.response.DashboardResponseDTO;
+import com.itjima_server.exception.common.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 대시보드 응답과 요청 목록 첫 페이지 캐시
+ * <p>
+ * 항목에는 만들 때의 사용자 변경 스탬프 버전을 함께 저장하고, 조회 시 요청이 읽은 스탬프 버전과 다르면 쓰지 않는다. 스탬프는 DB에
+ * 있으므로 다른 서버나 SQL 배치가 올린 변경도 이 비교로 반영된다. 같은 서버의 변경은 {@link ChangeStampService}가 당사자들의
+ * 항목을, 대상 사용자를 알 수 없는 배치는 {@link #invalidateAll()}이 전체를 바로 무효화한다. 무효화보다 먼저 시작한 조회가 옛
+ * 값을 저장하지 않도록, 조회 시작 시점의 세대가 저장 시점에도 같을 때만 저장한다.
+ * <p>
+ * 무효화된 대시보드 응답은 남겨 두었다가, 다시 조회하다 제한 시간을 넘기면 대신 응답한다
+ * ({@code dashboard.cache.serve-stale-on-timeout}). 반납까지 남은 일수가 들어 있으므로 날짜가 바뀐 응답은 쓰지 않는다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Component
+public class DashboardCache {
+
+    private static final String SUMMARY = "summary";
+    private static final String PENDING = "pending";
+
+    private final Cache<Long, Entry> cache;
+    /**
+     * 전체 무효화 횟수 (항목이 없던 사용자의 조회도 전체 무효화 뒤에는 저장하지 않도록)
+     */
+    private final AtomicLong epoch = new AtomicLong();
+    private final boolean serveStaleOnTimeout;
+    private final MeterRegistry meterRegistry;
+
+    public DashboardCache(MeterRegistry meterRegistry,
+            @Value("${dashboard.cache.maximum-size:10000}") long maximumSize,
+            @Value("${dashboard.cache.expire-after-write-ms:600000}") long expireAfterWriteMs,
+            @Value("${dashboard.cache.serve-stale-on-timeout:true}") boolean serveStaleOnTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.serveStaleOnTimeout = serveStaleOnTimeout;
+        Counter evictions = meterRegistry.counter("dashboard.cache.evictions");
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                // 무효화가 빠지는 경우를 대비한 안전망
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .removalListener((Long userId, Entry entry, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+        Gauge.builder("dashboard.cache.size", cache, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 대시보드 응답 조회 (없거나 무효화됐거나 스탬프 버전이 다르면 loader로 조회 후 저장)
+     *
+     * @param userId       사용자 ID
+     * @param stampVersion 조회 전에 읽은 사용자 변경 스탬프 버전
+     * @param loader       DB 조회
+     * @return 대시보드 응답
+     * @throws ServiceUnavailableException 조회가 지연되고 대신 줄 이전 응답도 없는 경우
+     */
+    public DashboardResponseDTO getSummary(long userId, long stampVersion,
+            Supplier<DashboardResponseDTO> loader) {
+        LocalDate today = LocalDate.now();
+        Entry entry = cache.getIfPresent(userId);
+        if (entry != null && entry.summaryFresh() && entry.summaryVersion() == stampVersion
+                && today.equals(entry.date())) {
+            count(SUMMARY, "hit");
+            return entry.summary();
+        }
+
+        Snapshot snapshot = snapshot(entry);
+        DashboardResponseDTO loaded;
+        try {
+            loaded = load(SUMMARY, loader);
+        } catch (ServiceUnavailableException e) {
+            if (serveStaleOnTimeout && entry != null && entry.summary() != null
+                    && today.equals(entry.date())) {
+                count(SUMMARY, "stale");
+                return entry.summary();
+            }
+            throw e;
+        }
+        count(SUMMARY, "miss");
+        store(userId, snapshot, current -> current.withSummary(today, stampVersion, loaded));
+        return loaded;
+    }
+
+    /**
+     * 캐시된 요청 목록 첫 페이지 조회 (없거나 무효화됐거나 스탬프 버전이 다르면 loader로 조회 후 저장)
+     *
+     * @param userId       사용자 ID
+     * @param stampVersion 조회 전에 읽은 사용자 변경 스탬프 버전
+     * @param size         페이지 크기
+     * @param loader       DB 조회
+     * @return 첫 페이지
+     */
+    public PagedResultDTO<?> getPendingFirstPage(long userId, long stampVersion, int size,
+            Supplier<PagedResultDTO<?>> loader) {
+        Entry entry = cache.getIfPresent(userId);
+        if (entry != null && entry.pendingPage() != null && entry.pendingSize() == size
+                && entry.pendingVersion() == stampVersion) {
+            count(PENDING, "hit");
+            return entry.pendingPage();
+        }
+
+        Snapshot snapshot = snapshot(entry);
+        PagedResultDTO<?> loaded = load(PENDING, loader);
+        count(PENDING, "miss");
+        store(userId, snapshot, current -> current.withPending(stampVersion, size, loaded));
+        return loaded;
+    }
+
+    /**
+     * 사용자들의 항목 무효화
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화하여, 커밋 전 상태로 조회된 값이 남지 않게 한다.
+     *
+     * @param userIds 사용자 ID
+     */
+    public void invalidate(Collection<Long> userIds) {
+        List<Long> targets = List.copyOf(userIds);
+        invalidateNow(targets);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            invalidateNow(targets);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * 전체 항목 무효화 (대상 사용자를 알 수 없는 배치 변경 후)
+     */
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        cache.asMap().replaceAll((userId, entry) -> entry.invalidated());
+    }
+
+    // ==========================
+    // 내부 유틸리티
+    // ==========================
+
+    private void invalidateNow(Collection<Long> userIds) {
+        for (Long userId : userIds) {
+            // 항목이 없어도 세대를 남겨, 이미 진행 중인 조회가 저장하지 못하게 함
+            cache.asMap().compute(userId,
+                    (key, entry) -> entry == null ? Entry.EMPTY.invalidated() : entry.invalidated());
+        }
+    }
+
+    private Snapshot snapshot(Entry entry) {
+        return new Snapshot(entry == null ? 0L : entry.generation(), epoch.get());
+    }
+
+    private void store(long userId, Snapshot snapshot, UnaryOperator<Entry> update) {
+        cache.asMap().compute(userId, (key, current) -> {
+            long generation = current == null ? 0L : current.generation();
+            if (generation != snapshot.generation() || epoch.get() != snapshot.epoch()) {
+                return current;
+            }
+            return update.apply(current == null ? Entry.EMPTY : current);
+        });
+    }
+
+    private <T> T load(String name, Supplier<T> loader) {
+        return Timer.builder("dashboard.cache.load")
+                .tag("cache", name)
+                .register(meterRegistry)
+                .record(loader);
+    }
+
+    private void count(String name, String result) {
+        Counter.builder("dashboard.cache.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record Snapshot(long generation, long epoch) {
+
+    }
+
+    /**
+     * 사용자 한 명의 캐시 항목
+     *
+     * @param generation     무효화될 때마다 증가
+     * @param date           대시보드 응답을 만든 날짜
+     * @param summaryVersion 대시보드 응답을 만들기 전에 읽은 스탬프 버전
+     * @param summaryFresh   대시보드 응답이 무효화 이후에 만들어졌는지 여부
+     * @param pendingVersion 요청 목록 첫 페이지를 만들기 전에 읽은 스탬프 버전
+     * @param pendingPage    요청 목록 첫 페이지 (무효화되면 버림)
+     */
+    private record Entry(long generation, LocalDate date, long summaryVersion,
+                         DashboardResponseDTO summary, boolean summaryFresh, long pendingVersion,
+                         int pendingSize, PagedResultDTO<?> pendingPage) {
+
+        static final Entry EMPTY = new Entry(0L, null, 0L, null, false, 0L, 0, null);
+
+        Entry invalidated() {
+            return new Entry(generation + 1, date, summaryVersion, summary, false, 0L, 0, null);
+        }
+
+        Entry withSummary(LocalDate date, long summaryVersion, DashboardResponseDTO summary) {
+            return new Entry(generation, date, summaryVersion, summary, true, pendingVersion,
+                    pendingSize, pendingPage);
+        }
+
+        Entry withPending(long pendingVersion, int pendingSize, PagedResultDTO<?> pendingPage) {
+            return new Entry(generation, date, summaryVersion, summary, summaryFresh,
+                    pendingVersion, pendingSize, pendingPage);
+        }
+    }
+}
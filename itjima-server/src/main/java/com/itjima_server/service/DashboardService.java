@@ -1,63 +1,192 @@
 package com.itjima_server.service;
 
 import com.itjima_server.common.PagedResultDTO;
+import com.itjima_server.domain.agreement.AgreementPartyRole;
+import com.itjima_server.domain.dashboard.DashboardStats;
 import com.itjima_server.domain.user.User;
 import com.itjima_server.dto.dashboard.response.DashboardAgreementCountResponseDTO;
 import com.itjima_server.dto.dashboard.response.DashboardComingReturnDTO;
 import com.itjima_server.dto.dashboard.response.DashboardOverdueDTO;
 import com.itjima_server.dto.dashboard.response.DashboardPendingResponseDTO;
 import com.itjima_server.dto.dashboard.response.DashboardResponseDTO;
+import com.itjima_server.exception.common.ServiceUnavailableException;
+import com.itjima_server.exception.user.NotFoundUserException;
 import com.itjima_server.mapper.AgreementMapper;
+import com.itjima_server.mapper.DashboardStatsMapper;
+import com.itjima_server.mapper.PendingActionMapper;
 import com.itjima_server.mapper.UserMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 대쉬보드 관련 비즈니스 로직을 수행하는 서비스 클래스
+ * <p>
+ * 대쉬보드의 조회들은 서로 독립적이므로 전용 스레드 풀에서 동시에 실행한다. 조회마다 별도의 읽기 전용 트랜잭션(커넥션)을 쓰며,
+ * 응답 시간은 가장 느린 조회 하나에 가까워진다. 풀과 큐가 가득 차면 요청 스레드에서 직접 실행해 순차 조회로 물러난다. 풀 크기는 DB
+ * 커넥션 풀의 절반을 넘지 않게 줄여 다른 요청이 쓸 커넥션을 남기고, 제한 시간을 넘긴 조회는 응답을 포기한 뒤에도 DB에서 계속 돌지
+ * 않도록 같은 시간을 트랜잭션 타임아웃(문장 쿼리 타임아웃)으로 건다. 조회별 소요 시간은 {@code dashboard.query} 타이머로
+ * 남긴다. 건수들은 USER_DASHBOARD_STATS에 미리 유지된 카운터 한 행으로 읽고, 오늘 날짜에 따라 달라지는 반납 예정/연체
+ * 목록만 인덱스를 타는 LIMIT 조회로 남긴다. 대시보드 응답과 요청 목록 첫 페이지는 {@link DashboardCache}에 사용자별로
+ * 캐시한다.
  *
  * @author Rege-97
  * @since 2025-09-10
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class DashboardService {
+public class DashboardService implements DisposableBean {
 
     private final AgreementMapper agreementMapper;
     private final UserMapper userMapper;
+    private final DashboardStatsMapper dashboardStatsMapper;
+    private final PendingActionMapper pendingActionMapper;
+    private final DashboardCache dashboardCache;
+    private final ChangeStampService changeStampService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    public DashboardService(AgreementMapper agreementMapper, UserMapper userMapper,
+            DashboardStatsMapper dashboardStatsMapper, PendingActionMapper pendingActionMapper,
+            DashboardCache dashboardCache, ChangeStampService changeStampService,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${dashboard.query.threads:4}") int threads,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+            @Value("${dashboard.query.queue-capacity:64}") int queueCapacity,
+            @Value("${dashboard.query.timeout-ms:5000}") long timeoutMs) {
+        this.agreementMapper = agreementMapper;
+        this.userMapper = userMapper;
+        this.dashboardStatsMapper = dashboardStatsMapper;
+        this.pendingActionMapper = pendingActionMapper;
+        this.dashboardCache = dashboardCache;
+        this.changeStampService = changeStampService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, (timeoutMs + 999) / 1000));
+        this.meterRegistry = meterRegistry;
+        this.timeoutMs = timeoutMs;
+        int poolSize = Math.max(1, Math.min(threads, connectionPoolSize / 2));
+        if (poolSize < threads) {
+            log.warn("대시보드 조회 스레드를 DB 커넥션 풀({})의 절반인 {}개로 줄입니다.", connectionPoolSize,
+                    poolSize);
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "dashboard-query-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        new ExecutorServiceMetrics(executor, "dashboard.query", Tags.empty())
+                .bindTo(meterRegistry);
+    }
 
     /**
      * 대쉬보드 응답
      *
-     * @param userId 로그인한 사용자 ID
+     * @param userId       로그인한 사용자 ID
+     * @param stampVersion 요청에서 이미 읽은 사용자 변경 스탬프 버전 (없으면 null)
      * @return 대쉬보드 응답 DTO
+     * @throws NotFoundUserException       사용자가 없는 경우
+     * @throws ServiceUnavailableException 조회가 제한 시간 안에 끝나지 않았고 캐시된 이전 응답도 없는 경우
+     */
+    public DashboardResponseDTO getDashboardInfo(Long userId, Long stampVersion) {
+        return dashboardCache.getSummary(userId, stampVersionOf(userId, stampVersion),
+                () -> loadDashboardInfo(userId));
+    }
+
+    /**
+     * 처리 대기 요청 목록 (요청함 (created_at, id) 역순 커서 페이지, 첫 페이지는 캐시)
+     *
+     * @param userId        로그인한 사용자 ID
+     * @param stampVersion  요청에서 이미 읽은 사용자 변경 스탬프 버전 (없으면 null)
+     * @param lastCreatedAt 이전 페이지 마지막 항목의 요청일 (첫 페이지면 null)
+     * @param lastId        이전 페이지 마지막 항목의 커서 키 (첫 페이지면 null)
+     * @param size          페이지 크기
+     * @return 페이지 응답
+     * @throws IllegalArgumentException 커서의 두 값 중 하나만 온 경우
      */
-    @Transactional(readOnly = true)
-    public DashboardResponseDTO getDashboardInfo(Long userId) {
-        User user = userMapper.findById(userId);
+    public PagedResultDTO<?> getPending(Long userId, Long stampVersion,
+            LocalDateTime lastCreatedAt, Long lastId, int size) {
+        if ((lastCreatedAt == null) != (lastId == null)) {
+            throw new IllegalArgumentException("다음 페이지는 lastCreatedAt과 lastId를 함께 보내야 합니다.");
+        }
+        if (lastCreatedAt == null) {
+            return dashboardCache.getPendingFirstPage(userId,
+                    stampVersionOf(userId, stampVersion), size,
+                    () -> loadPending(userId, null, null, size));
+        }
+        return loadPending(userId, lastCreatedAt, lastId, size);
+    }
 
-        int pendingCount = agreementMapper.countPendingAgreementsByUserId(userId);
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
 
-        String name = userMapper.findNameById(userId);
+    // ==========================
+    // 내부 유틸리티
+    // ==========================
 
-        List<DashboardAgreementCountResponseDTO> counts = agreementMapper.countAgreementsByUserId(
-                userId);
+    private long stampVersionOf(Long userId, Long stampVersion) {
+        return stampVersion != null ? stampVersion : changeStampService.versionOf(userId);
+    }
 
-        List<DashboardComingReturnDTO> comingReturns = agreementMapper.findComingAgreementsByUserId(
-                userId);
+    private DashboardResponseDTO loadDashboardInfo(Long userId) {
+        CompletableFuture<User> user = query("user", () -> userMapper.findById(userId));
+        CompletableFuture<DashboardStats> stats = query("stats",
+                () -> dashboardStatsMapper.findByUserId(userId));
+        CompletableFuture<List<DashboardComingReturnDTO>> comingReturns = query("coming_returns",
+                () -> agreementMapper.findComingAgreementsByUserId(userId));
+        CompletableFuture<List<DashboardOverdueDTO>> overDues = query("overdues",
+                () -> agreementMapper.findOverdueAgreementsByUserId(userId));
 
-        List<DashboardOverdueDTO> overDues = agreementMapper.findOverdueAgreementsByUserId(userId);
+        awaitAll(user, stats, comingReturns, overDues);
 
-        return new DashboardResponseDTO(user.getPhone(), pendingCount, name, counts, comingReturns,
-                overDues);
+        User found = user.join();
+        if (found == null) {
+            throw new NotFoundUserException("존재하지 않는 사용자입니다.");
+        }
+        // 아직 카운터 행이 없는 사용자는 모든 건수가 0
+        DashboardStats counters = stats.join();
+        if (counters == null) {
+            counters = DashboardStats.builder().userId(userId).build();
+        }
+        return new DashboardResponseDTO(found.getPhone(),
+                counters.getPendingRequests() + counters.getPendingRepayments(), found.getName(),
+                toCounts(counters), comingReturns.join(), overDues.join(),
+                counters.getOverdueLent() + counters.getOverdueBorrowed());
     }
 
-    @Transactional(readOnly = true)
-    public PagedResultDTO<?> getPending(Long userId, Long cursorKey, int size) {
+    private PagedResultDTO<?> loadPending(Long userId, LocalDateTime lastCreatedAt, Long lastId,
+            int size) {
         int sizePlusOne = size + 1;
-        List<DashboardPendingResponseDTO> pendingList = agreementMapper.findPendingAgreementsByUserId(
-                userId, cursorKey, sizePlusOne);
+        List<DashboardPendingResponseDTO> pendingList = pendingActionMapper.findByUserId(userId,
+                lastCreatedAt, lastId, sizePlusOne);
         if (pendingList == null || pendingList.isEmpty()) {
             return PagedResultDTO.from(null, false, null);
         }
@@ -67,8 +196,59 @@ public class DashboardService {
             pendingList.remove(size);
         }
 
-        cursorKey = pendingList.get(pendingList.size() - 1).getCursorKey();
-        return PagedResultDTO.from(pendingList, hasNext, cursorKey);
+        return PagedResultDTO.from(pendingList, hasNext,
+                pendingList.get(pendingList.size() - 1).getCursorKey());
+    }
+
+    /**
+     * 조회 하나를 풀에서 읽기 전용 트랜잭션으로 실행하고 소요 시간 기록
+     */
+    private <T> CompletableFuture<T> query(String name, Supplier<T> query) {
+        Timer timer = meterRegistry.timer("dashboard.query", "query", name);
+        return CompletableFuture.supplyAsync(
+                () -> timer.record(() -> readOnlyTransaction.execute(status -> query.get())),
+                executor);
+    }
+
+    /**
+     * 역할별 활성 대여 건수 목록 (건수가 0인 역할은 제외)
+     */
+    private static List<DashboardAgreementCountResponseDTO> toCounts(DashboardStats stats) {
+        List<DashboardAgreementCountResponseDTO> counts = new ArrayList<>(2);
+        addCount(counts, AgreementPartyRole.CREDITOR, stats.getActiveLent());
+        addCount(counts, AgreementPartyRole.DEBTOR, stats.getActiveBorrowed());
+        return counts;
     }
 
+    private static void addCount(List<DashboardAgreementCountResponseDTO> counts,
+            AgreementPartyRole role, int count) {
+        if (count > 0) {
+            DashboardAgreementCountResponseDTO dto = new DashboardAgreementCountResponseDTO();
+            dto.setRole(role.name());
+            dto.setCount((long) count);
+            counts.add(dto);
+        }
+    }
+
+    private void awaitAll(CompletableFuture<?>... futures) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures);
+        try {
+            all.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            for (CompletableFuture<?> future : futures) {
+                future.cancel(true);
+            }
+            throw new ServiceUnavailableException("대시보드 조회가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("대시보드 조회 중 요청이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException
+                    ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package com.itjima_server.service;
+
+import com.itjima_server.common.BatchRunStats;
+import com.itjima_server.common.KeysetChunkRunner;
+import com.itjima_server.mapper.ChangeStampMapper;
+import com.itjima_server.mapper.DashboardStatsMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 대시보드 카운터 정합성 점검 배치 서비스
+ * <p>
+ * 사용자 청크별로 대여/상환에서 카운터를 다시 세고 값이 어긋난 사용자만 고친다. 카운터 행이 없는 사용자는 먼저 0으로
+ * 만들어 둔다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class DashboardStatsCheckService {
+
+    private final DashboardStatsMapper dashboardStatsMapper;
+    private final ChangeStampMapper changeStampMapper;
+    private final KeysetChunkRunner chunkRunner;
+    private final int chunkSize;
+
+    public DashboardStatsCheckService(DashboardStatsMapper dashboardStatsMapper,
+            ChangeStampMapper changeStampMapper, PlatformTransactionManager transactionManager,
+            @Value("${batch.dashboard-stats.chunk-size:500}") int chunkSize) {
+        this.dashboardStatsMapper = dashboardStatsMapper;
+        this.changeStampMapper = changeStampMapper;
+        this.chunkRunner = new KeysetChunkRunner(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 실제 대여/상환 상태와 다른 카운터를 다시 계산
+     *
+     * @return 실행 통계 (행 수는 값이 어긋나 수정된 사용자 수)
+     */
+    public BatchRunStats reconcile() {
+        return chunkRunner.run(0L,
+                afterId -> dashboardStatsMapper.findUserChunkEndId(afterId, chunkSize),
+                (fromId, toId) -> {
+                    dashboardStatsMapper.insertMissingInRange(fromId, toId);
+                    int rows = dashboardStatsMapper.recomputeInRange(fromId, toId);
+                    if (rows > 0) {
+                        changeStampMapper.touchUserRange(fromId, toId);
+                        log.warn("대시보드 카운터 불일치 {}건을 수정했습니다: 사용자 ID {} ~ {}", rows,
+                                fromId + 1, toId);
+                    }
+                    return rows;
+                });
+    }
+}
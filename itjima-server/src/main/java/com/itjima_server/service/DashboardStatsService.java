@@ -0,0 +1,105 @@
+package com.itjima_server.service;
+
+import com.itjima_server.domain.agreement.Agreement;
+import com.itjima_server.domain.agreement.AgreementStatus;
+import com.itjima_server.domain.dashboard.DashboardStats;
+import com.itjima_server.mapper.DashboardStatsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별 대시보드 카운터(USER_DASHBOARD_STATS)를 증감하는 서비스 클래스
+ * <p>
+ * 대여/상환 상태를 바꾼 트랜잭션 안에서, 상태를 바꾼 뒤에 호출한다. 대여 행을 먼저 잠그고 카운터를 나중에 잠그는 순서를 지켜야
+ * 정합성 점검 배치와 교착 상태가 생기지 않는다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardStatsService {
+
+    private final DashboardStatsMapper dashboardStatsMapper;
+
+    /**
+     * 새 대여(PENDING) 반영
+     *
+     * @param agreement 생성된 대여
+     */
+    public void onAgreementCreated(Agreement agreement) {
+        onTransition(agreement, null, agreement.getStatus());
+    }
+
+    /**
+     * 대여 상태 변경 반영
+     *
+     * @param agreement 상태가 바뀐 대여
+     * @param from      이전 상태 (생성이면 null)
+     * @param to        바뀐 상태
+     */
+    public void onTransition(Agreement agreement, AgreementStatus from, AgreementStatus to) {
+        DashboardStats creditor = DashboardStats.builder()
+                .activeLent(diff(isActive(from), isActive(to)))
+                .overdueLent(diff(from == AgreementStatus.OVERDUE, to == AgreementStatus.OVERDUE))
+                .build();
+        DashboardStats debtor = DashboardStats.builder()
+                .activeBorrowed(diff(isActive(from), isActive(to)))
+                .overdueBorrowed(
+                        diff(from == AgreementStatus.OVERDUE, to == AgreementStatus.OVERDUE))
+                .pendingRequests(
+                        diff(from == AgreementStatus.PENDING, to == AgreementStatus.PENDING))
+                .build();
+        apply(agreement.getCreditorId(), creditor, agreement.getDebtorId(), debtor);
+    }
+
+    /**
+     * 상환 요청 생성 반영 (채권자의 승인 대기 상환 수 증가)
+     *
+     * @param agreement 상환 요청이 들어온 대여
+     */
+    public void onRepaymentRequested(Agreement agreement) {
+        add(agreement.getCreditorId(), DashboardStats.builder().pendingRepayments(1).build());
+    }
+
+    /**
+     * 상환 요청 승인/거절 반영 (채권자의 승인 대기 상환 수 감소)
+     *
+     * @param agreement 상환 요청이 처리된 대여
+     */
+    public void onRepaymentResolved(Agreement agreement) {
+        add(agreement.getCreditorId(), DashboardStats.builder().pendingRepayments(-1).build());
+    }
+
+    // ==========================
+    // 내부 유틸리티
+    // ==========================
+
+    private static boolean isActive(AgreementStatus status) {
+        return status == AgreementStatus.ACCEPTED || status == AgreementStatus.OVERDUE;
+    }
+
+    private static int diff(boolean before, boolean after) {
+        return (after ? 1 : 0) - (before ? 1 : 0);
+    }
+
+    /**
+     * 두 사용자의 카운터를 user_id 오름차순으로 증감 (동시 요청 간 교착 상태 방지)
+     */
+    private void apply(long firstUserId, DashboardStats first, long secondUserId,
+            DashboardStats second) {
+        if (firstUserId <= secondUserId) {
+            add(firstUserId, first);
+            add(secondUserId, second);
+        } else {
+            add(secondUserId, second);
+            add(firstUserId, first);
+        }
+    }
+
+    private void add(long userId, DashboardStats delta) {
+        if (!delta.isEmpty()) {
+            dashboardStatsMapper.add(userId, delta);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.itjima_server.service;
+
+import com.itjima_server.domain.email.EmailOutbox;
+import com.itjima_server.domain.email.EmailOutboxStatus;
+import com.itjima_server.mapper.EmailOutboxMapper;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * EMAIL_OUTBOX 대기열을 비우며 실제 메일을 발송하는 디스패처
+ * <p>
+ * 한 번에 점유한 메일들을 {@link JavaMailSender#send(MimeMessage...)}로 넘겨 하나의 인증된 SMTP 세션에서 연달아 보낸다.
+ * 분당/일일 발송 한도를 넘지 않도록 발송량을 조절하고, 실패한 메일은 지수 백오프로 재시도하다가 한도를 넘으면 FAILED로 남긴다.
+ * 대기열 행은 조건부 UPDATE로 점유하므로 여러 서버가 동시에 돌아도 같은 메일을 두 번 보내지 않는다.
+ * 점유 기한이 지난 행을 다시 점유하면 시도 횟수를 올려, 발송 중 서버를 죽이는 메일이 끝없이 재시도되지 않게 한다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher implements DisposableBean {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxMapper emailOutboxMapper;
+    private final JavaMailSender javaMailSender;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+    private final long leaseMs;
+    private final SendRateLimiter rateLimiter;
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final ExecutorService wakeUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "email-outbox");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmailOutboxDispatcher(EmailOutboxMapper emailOutboxMapper,
+            JavaMailSender javaMailSender,
+            @Value("${email.outbox.batch-size:50}") int batchSize,
+            @Value("${email.outbox.max-per-minute:60}") int maxPerMinute,
+            @Value("${email.outbox.max-per-day:450}") int maxPerDay,
+            @Value("${email.outbox.max-attempts:6}") int maxAttempts,
+            @Value("${email.outbox.backoff-ms:30000}") long backoffMs,
+            @Value("${email.outbox.max-backoff-ms:3600000}") long maxBackoffMs,
+            @Value("${email.outbox.lease-ms:120000}") long leaseMs) {
+        this.emailOutboxMapper = emailOutboxMapper;
+        this.javaMailSender = javaMailSender;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.leaseMs = leaseMs;
+        this.rateLimiter = new SendRateLimiter(maxPerMinute, maxPerDay);
+    }
+
+    /**
+     * 새 메일이 커밋되었음을 알림
+     * <p>
+     * 이미 깨우기 요청이 대기 중이면 합쳐서 한 번만 대기열을 비운다.
+     */
+    public void wakeUp() {
+        if (wakeUpRequested.compareAndSet(false, true)) {
+            wakeUpExecutor.execute(() -> {
+                wakeUpRequested.set(false);
+                drain();
+            });
+        }
+    }
+
+    /**
+     * 커밋 직후 깨우기를 놓친 메일과 재시도 시각이 된 메일을 주기적으로 발송
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:10000}")
+    public void poll() {
+        drain();
+    }
+
+    /**
+     * 발송 한도 안에서 대기열이 빌 때까지 발송
+     * <p>
+     * 다른 스레드가 이미 발송 중이면 요청만 남기고 돌아가며, 발송 중이던 스레드가 잠금을 놓은 뒤 요청을 확인해 한 번 더 비운다.
+     *
+     * @return 이 호출에서 발송에 성공한 메일 수
+     */
+    public int drain() {
+        drainRequested.set(true);
+        int sent = 0;
+        // 잠금을 놓은 직후 들어온 요청도 놓치지 않도록 잠금 밖에서 요청을 다시 확인
+        while (drainRequested.get() && drainLock.tryLock()) {
+            try {
+                drainRequested.set(false);
+                sent += drainOnce();
+            } finally {
+                drainLock.unlock();
+            }
+        }
+        return sent;
+    }
+
+    @Override
+    public void destroy() {
+        wakeUpExecutor.shutdownNow();
+    }
+
+    // ==========================
+    // 내부 유틸리티
+    // ==========================
+
+    private int drainOnce() {
+        int sent = 0;
+        try {
+            while (true) {
+                int permits = rateLimiter.available(batchSize);
+                if (permits == 0) {
+                    break;
+                }
+                List<EmailOutbox> batch = claimBatch(permits);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                rateLimiter.consume(batch.size());
+                sent += sendBatch(batch);
+                if (batch.size() < permits) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("이메일 대기열 처리 중 오류가 발생했습니다.", e);
+        }
+        return sent;
+    }
+
+    private List<EmailOutbox> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plusNanos(leaseMs * 1_000_000);
+        List<EmailOutbox> claimed = new ArrayList<>();
+        for (EmailOutbox outbox : emailOutboxMapper.findDispatchable(now, limit)) {
+            // 다른 서버가 먼저 점유한 행은 건너뜀
+            if (emailOutboxMapper.claim(outbox.getId(), now, leaseUntil) != 1) {
+                continue;
+            }
+            // 점유 기한이 지난 SENDING 행은 발송 도중 서버가 죽은 것이므로 한 번의 시도로 셈
+            if (outbox.getStatus() == EmailOutboxStatus.SENDING) {
+                outbox.setAttempts(outbox.getAttempts() + 1);
+                if (outbox.getAttempts() >= maxAttempts) {
+                    markFailed(outbox,
+                            new IllegalStateException("발송 중 중단된 채 재시도 한도를 넘었습니다."));
+                    continue;
+                }
+            }
+            claimed.add(outbox);
+        }
+        return claimed;
+    }
+
+    /**
+     * 점유한 메일을 하나의 SMTP 세션으로 발송하고 결과를 기록
+     */
+    private int sendBatch(List<EmailOutbox> batch) {
+        // MimeMessage는 equals를 재정의하지 않으므로 객체 동일성으로 매칭되며, 적재 순서대로 발송
+        Map<MimeMessage, EmailOutbox> messages = new LinkedHashMap<>();
+        for (EmailOutbox outbox : batch) {
+            try {
+                messages.put(toMimeMessage(outbox), outbox);
+            } catch (MessagingException e) {
+                markFailed(outbox, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+        } catch (MailException e) {
+            // 인증 실패 등 세션 자체를 열지 못한 경우
+            log.warn("SMTP 세션을 열지 못했습니다: {}", e.getMessage());
+            messages.values().forEach(outbox -> scheduleRetry(outbox, e));
+            return 0;
+        }
+
+        int sent = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<MimeMessage, EmailOutbox> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                emailOutboxMapper.markSent(entry.getValue().getId(), now);
+                sent++;
+            } else {
+                scheduleRetry(entry.getValue(), failure);
+            }
+        }
+        return sent;
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox outbox) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message,
+                StandardCharsets.UTF_8.name());
+        helper.setTo(outbox.getRecipient());
+        helper.setSubject(outbox.getSubject());
+        helper.setText(outbox.getBody());
+        return message;
+    }
+
+    private void scheduleRetry(EmailOutbox outbox, Exception cause) {
+        int attempts = outbox.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            markFailed(outbox, cause);
+            return;
+        }
+        long delayMs = Math.min(maxBackoffMs, backoffMs << Math.min(attempts - 1, 20));
+        emailOutboxMapper.markRetry(outbox.getId(),
+                LocalDateTime.now().plusNanos(delayMs * 1_000_000), errorMessage(cause));
+    }
+
+    private void markFailed(EmailOutbox outbox, Exception cause) {
+        log.error("이메일 발송에 최종 실패했습니다. outboxId={}", outbox.getId(), cause);
+        emailOutboxMapper.markFailed(outbox.getId(), errorMessage(cause));
+    }
+
+    private static String errorMessage(Exception cause) {
+        String message = String.valueOf(cause.getMessage());
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH)
+                : message;
+    }
+
+    /**
+     * 분당 한도는 토큰 버킷으로, 일일 한도는 날짜별 카운터로 제한
+     */
+    private static final class SendRateLimiter {
+
+        private final int maxPerMinute;
+        private final int maxPerDay;
+        private double tokens;
+        private long refilledAtMs;
+        private LocalDate day;
+        private int sentToday;
+
+        private SendRateLimiter(int maxPerMinute, int maxPerDay) {
+            this.maxPerMinute = maxPerMinute;
+            this.maxPerDay = maxPerDay;
+            this.tokens = maxPerMinute;
+            this.refilledAtMs = System.currentTimeMillis();
+            this.day = LocalDate.now();
+        }
+
+        private synchronized int available(int wanted) {
+            long now = System.currentTimeMillis();
+            tokens = Math.min(maxPerMinute,
+                    tokens + (now - refilledAtMs) * maxPerMinute / 60_000.0);
+            refilledAtMs = now;
+            LocalDate today = LocalDate.now();
+            if (!today.equals(day)) {
+                day = today;
+                sentToday = 0;
+            }
+            return Math.max(0, Math.min(wanted, Math.min((int) tokens, maxPerDay - sentToday)));
+        }
+
+        private synchronized void consume(int count) {
+            tokens -= count;
+            sentToday += count;
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.itjima_server.service;
 
+import com.itjima_server.domain.email.EmailOutbox;
+import com.itjima_server.domain.email.EmailOutboxStatus;
+import com.itjima_server.mapper.EmailOutboxMapper;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 이메일 관련 비즈니스 로직 서비스 클래스
+ * <p>
+ * 메일은 호출한 트랜잭션 안에서 EMAIL_OUTBOX에 적재되고, 커밋된 뒤에 {@link EmailOutboxDispatcher}가 발송한다. 롤백된 요청의
+ * 메일은 발송되지 않는다.
  *
  * @author Rege-97
  * @since 2025-08-27
@@ -16,7 +22,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender javaMailSender;
+    private final EmailOutboxMapper emailOutboxMapper;
+    private final EmailOutboxDispatcher emailOutboxDispatcher;
 
 
     /**
@@ -25,15 +32,9 @@ public class EmailService {
      * @param to    상대방 이메일
      * @param token 보낼 인증번호
      */
-    @Async
     public void sendVerificationEmail(String to, String token) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject("[잊지마] 회원가입 이메일 인증을 완료해주세요.");
-
-        message.setText("잊지마에 가입해주셔서 감사합니다.\n아래 인증 번호를 입력하여 이메일 인증을 완료해주세요:\n" + token);
-
-        javaMailSender.send(message);
+        enqueue(to, "[잊지마] 회원가입 이메일 인증을 완료해주세요.",
+                "잊지마에 가입해주셔서 감사합니다.\n아래 인증 번호를 입력하여 이메일 인증을 완료해주세요:\n" + token);
     }
 
     /**
@@ -42,14 +43,53 @@ public class EmailService {
      * @param to    상대방 이메일
      * @param token 보낼 인증번호
      */
-    @Async
     public void sendPasswordReset(String to, String token) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject("[잊지마] 비밀번호 변경 인증 코드");
+        enqueue(to, "[잊지마] 비밀번호 변경 인증 코드",
+                "잊지마를 이용해주셔서 감사합니다.\n아래 인증 번호를 입력하여 비밀번호 변경을 완료해주세요:\n" + token);
+    }
+
+    /**
+     * 발송 완료된 지 오래된 대기열 행 정리
+     *
+     * @param before    이 시각 이전에 발송된 행 삭제
+     * @param chunkSize 한 번에 삭제할 최대 행 수
+     * @return 삭제된 전체 행 수
+     */
+    public int purgeSentEmails(LocalDateTime before, int chunkSize) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = emailOutboxMapper.deleteSentBefore(before, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+        return total;
+    }
+
+    // ==========================
+    // 내부 유틸리티
+    // ==========================
 
-        message.setText("잊지마를 이용해주셔서 감사합니다.\n아래 인증 번호를 입력하여 비밀번호 변경을 완료해주세요:\n" + token);
+    private void enqueue(String to, String subject, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        emailOutboxMapper.insert(EmailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .status(EmailOutboxStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
 
-        javaMailSender.send(message);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            emailOutboxDispatcher.wakeUp();
+                        }
+                    });
+        } else {
+            emailOutboxDispatcher.wakeUp();
+        }
     }
 }
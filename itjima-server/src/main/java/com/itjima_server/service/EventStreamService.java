@@ -0,0 +1,444 @@
+package com.itjima_server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.itjima_server.domain.agreement.Agreement;
+import com.itjima_server.domain.event.ChangeEventType;
+import com.itjima_server.domain.transaction.Transaction;
+import com.itjima_server.dto.event.response.ChangeEventResponseDTO;
+import com.itjima_server.exception.common.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * 사용자별 실시간 변경 이벤트(SSE) 스트림을 관리하는 서비스 클래스
+ * <p>
+ * 대여/상환/알림을 바꾼 서비스가 {@link #publish}를 호출하면 커밋 이후에 해당 사용자들의 연결로 보낸다. 연결마다 크기가 정해진
+ * 전송 큐를 두어 느린 클라이언트가 다른 연결을 막지 않게 하고, 큐가 넘치면 쌓인 이벤트를 버리고 RESYNC 하나로 바꾼다.
+ * <p>
+ * 이벤트 ID는 {@code 노드ID-순번}이다. 재연결 시 Last-Event-ID를 받으면 사용자별로 최근 이벤트를 보관한 버퍼에서 이어 보내고, 다른
+ * 노드(또는 재시작 전)의 ID이거나 버퍼에서 이미 밀려난 경우에는 RESYNC를 보내 화면을 한 번 다시 조회하게 한다. 이벤트는 쓰기를
+ * 처리한 노드에서만 발행되므로 허브는 노드 로컬이다. 여러 노드로 운영하면 다른 노드에 연결한 사용자는 그 노드에서 처리된 변경을
+ * 받지 못하므로, 노드 간 브로커가 생기기 전까지 스트림은 화면을 빨리 갱신하기 위한 힌트일 뿐이며 클라이언트는 기존 조회
+ * (화면 진입/당겨서 새로고침 등)를 그대로 유지해야 한다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class EventStreamService implements DisposableBean {
+
+    private final String nodeId = Long.toString(
+            ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Cache<Long, ReplayBuffer> replayBuffers;
+    private final ThreadPoolExecutor sender;
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+    private final int queueCapacity;
+    private final int replaySize;
+    private final long timeoutMs;
+    private final Counter overflowCounter;
+    private final Counter resyncCounter;
+
+    public EventStreamService(MeterRegistry meterRegistry,
+            @Value("${events.stream.max-connections:2000}") int maxConnections,
+            @Value("${events.stream.max-connections-per-user:3}") int maxConnectionsPerUser,
+            @Value("${events.stream.queue-capacity:32}") int queueCapacity,
+            @Value("${events.stream.replay-size:50}") int replaySize,
+            @Value("${events.stream.replay-ttl-ms:600000}") long replayTtlMs,
+            @Value("${events.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${events.stream.sender-threads:4}") int senderThreads) {
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.queueCapacity = queueCapacity;
+        this.replaySize = replaySize;
+        this.timeoutMs = timeoutMs;
+        // 연결이 끊긴 뒤에도 재연결 동안은 버퍼를 유지
+        this.replayBuffers = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(replayTtlMs))
+                .build();
+        AtomicInteger threadSequence = new AtomicInteger();
+        // 연결마다 전송 작업은 최대 1개만 대기하므로 큐 크기는 연결 수를 넘지 않음
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L,
+                TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "event-stream-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        new ExecutorServiceMetrics(sender, "events.stream.sender", Tags.empty())
+                .bindTo(meterRegistry);
+        meterRegistry.gauge("events.stream.connections", connectionCount);
+        this.overflowCounter = meterRegistry.counter("events.stream.overflows");
+        this.resyncCounter = meterRegistry.counter("events.stream.resyncs");
+    }
+
+    /**
+     * 사용자의 이벤트 스트림 연결
+     *
+     * @param userId      로그인한 사용자 ID
+     * @param lastEventId 재연결이면 마지막으로 받은 이벤트 ID (없으면 null)
+     * @return SSE 연결
+     * @throws ServiceUnavailableException 이 노드의 연결 수가 한도에 이른 경우
+     */
+    public SseEmitter subscribe(long userId, String lastEventId) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new ServiceUnavailableException("실시간 연결이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Connection connection = new Connection(userId, new SseEmitter(timeoutMs));
+        connection.emitter.onCompletion(() -> remove(connection));
+        connection.emitter.onTimeout(() -> remove(connection));
+        connection.emitter.onError(e -> remove(connection));
+
+        // 같은 사용자의 연결 해제와 겹쳐도 맵에서 빠진 집합에 추가되지 않도록 compute 안에서 추가/정리
+        List<Connection> evicted = new ArrayList<>();
+        connections.compute(userId, (key, set) -> {
+            Set<Connection> userConnections = set == null ? ConcurrentHashMap.newKeySet() : set;
+            userConnections.add(connection);
+            // 앱을 다시 열 때 정리되지 않은 이전 연결이 남아 있을 수 있으므로 오래된 연결부터 닫음
+            while (userConnections.size() > maxConnectionsPerUser) {
+                Connection oldest = userConnections.stream()
+                        .min(Comparator.comparingLong(c -> c.openedAt))
+                        .orElseThrow();
+                userConnections.remove(oldest);
+                evicted.add(oldest);
+            }
+            return userConnections;
+        });
+        connectionCount.addAndGet(-evicted.size());
+        // 닫을 때 호출되는 콜백이 다시 compute를 타므로 compute 밖에서 닫음
+        evicted.forEach(Connection::close);
+
+        // 새로 만든 버퍼는 지금 순번 이전 이벤트를 갖고 있지 않으므로, 그보다 앞선 Last-Event-ID는 RESYNC
+        ReplayBuffer buffer = replayBuffers.get(userId,
+                key -> new ReplayBuffer(replaySize, sequence.get()));
+        connection.enqueue(Message.comment("connected"));
+        for (Message missed : replay(buffer, lastEventId)) {
+            connection.enqueue(missed);
+        }
+        return connection.emitter;
+    }
+
+    /**
+     * 사용자들에게 변경 이벤트 발행
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 보내고, 롤백되면 보내지 않는다.
+     *
+     * @param userIds 이벤트를 받을 사용자 ID
+     * @param event   변경 이벤트
+     */
+    public void publish(Collection<Long> userIds, ChangeEventResponseDTO event) {
+        List<Long> targets = List.copyOf(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            dispatch(targets, event);
+                        }
+                    });
+        } else {
+            dispatch(targets, event);
+        }
+    }
+
+    /**
+     * 대여 당사자(채권자, 채무자)에게 대여 상태 변경 이벤트 발행
+     *
+     * @param agreement 생성되었거나 상태가 바뀐 대여
+     */
+    public void publishAgreementStatus(Agreement agreement) {
+        publish(List.of(agreement.getCreditorId(), agreement.getDebtorId()),
+                ChangeEventResponseDTO.builder()
+                        .type(ChangeEventType.AGREEMENT_STATUS_CHANGED)
+                        .agreementId(agreement.getId())
+                        .status(agreement.getStatus().name())
+                        .build());
+    }
+
+    /**
+     * 대여 당사자에게 상환 요청 이벤트 발행
+     *
+     * @param agreement   상환 요청이 속한 대여
+     * @param transaction 생성되었거나 처리된 상환 요청
+     * @param type        {@link ChangeEventType#TRANSACTION_CREATED} 또는
+     *                    {@link ChangeEventType#TRANSACTION_STATUS_CHANGED}
+     */
+    public void publishTransaction(Agreement agreement, Transaction transaction,
+            ChangeEventType type) {
+        publish(List.of(agreement.getCreditorId(), agreement.getDebtorId()),
+                ChangeEventResponseDTO.builder()
+                        .type(type)
+                        .agreementId(agreement.getId())
+                        .transactionId(transaction.getId())
+                        .status(transaction.getStatus().name())
+                        .build());
+    }
+
+    /**
+     * 이벤트를 받을 수 있는 사용자가 있는지 여부 (연결 중이거나 재연결을 기다리는 사용자)
+     * <p>
+     * 수신자를 따로 조회해야 하는 발행자가 아무도 없을 때 조회를 건너뛰는 데 쓴다.
+     *
+     * @return 보관 중인 재연결 버퍼가 있으면 true
+     */
+    public boolean hasListeners() {
+        return replayBuffers.estimatedSize() > 0;
+    }
+
+    /**
+     * 모든 연결에 하트비트 전송 (프록시 유휴 타임아웃 방지, 끊긴 연결 정리)
+     */
+    @Scheduled(fixedDelayString = "${events.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Set<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                connection.enqueue(Message.comment("heartbeat"));
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (Set<Connection> userConnections : connections.values()) {
+            userConnections.forEach(Connection::close);
+        }
+        sender.shutdown();
+    }
+
+    // ==========================
+    // 내부 유틸리티
+    // ==========================
+
+    private void dispatch(Collection<Long> userIds, ChangeEventResponseDTO event) {
+        long seq = sequence.incrementAndGet();
+        Message message = Message.event(eventId(seq), event);
+        for (Long userId : userIds) {
+            // 최근에 연결한 적 없는 사용자는 앱을 열 때 새로 조회하므로 보관하지 않음
+            ReplayBuffer buffer = replayBuffers.getIfPresent(userId);
+            if (buffer != null) {
+                buffer.add(seq, message);
+            }
+            for (Connection connection : connections.getOrDefault(userId, Set.of())) {
+                connection.enqueue(message);
+            }
+        }
+    }
+
+    private List<Message> replay(ReplayBuffer buffer, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        Long lastSeq = parseSequence(lastEventId);
+        List<Message> missed = lastSeq == null ? null : buffer.after(lastSeq);
+        if (missed == null) {
+            resyncCounter.increment();
+            return List.of(resync());
+        }
+        return missed;
+    }
+
+    private Long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !nodeId.equals(eventId.substring(0, separator))) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Message resync() {
+        return Message.event(eventId(sequence.get()),
+                ChangeEventResponseDTO.of(ChangeEventType.RESYNC));
+    }
+
+    private String eventId(long seq) {
+        return nodeId + "-" + seq;
+    }
+
+    private void remove(Connection connection) {
+        AtomicBoolean removed = new AtomicBoolean();
+        connections.compute(connection.userId, (key, set) -> {
+            if (set == null) {
+                return null;
+            }
+            removed.set(set.remove(connection));
+            return set.isEmpty() ? null : set;
+        });
+        if (removed.get()) {
+            connectionCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 전송할 SSE 메시지 (이벤트 또는 주석)
+     */
+    private record Message(String id, ChangeEventResponseDTO event, String comment) {
+
+        static Message event(String id, ChangeEventResponseDTO event) {
+            return new Message(id, event, null);
+        }
+
+        static Message comment(String comment) {
+            return new Message(null, null, comment);
+        }
+
+        SseEventBuilder toSse() {
+            if (event == null) {
+                return SseEmitter.event().comment(comment);
+            }
+            return SseEmitter.event().id(id).name(event.getType().name())
+                    .data(event, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    /**
+     * 사용자 한 명의 최근 이벤트 (재연결 시 이어 보내기용)
+     */
+    private static class ReplayBuffer {
+
+        private final int capacity;
+        private final Deque<Message> messages = new ArrayDeque<>();
+        private final Deque<Long> sequences = new ArrayDeque<>();
+        /**
+         * 이 순번까지의 이벤트는 버퍼에 없음 (만들기 전 이벤트이거나 밀려난 이벤트)
+         */
+        private long evictedUpTo;
+
+        ReplayBuffer(int capacity, long floor) {
+            this.capacity = capacity;
+            this.evictedUpTo = floor;
+        }
+
+        synchronized void add(long seq, Message message) {
+            if (messages.size() == capacity) {
+                messages.removeFirst();
+                evictedUpTo = sequences.removeFirst();
+            }
+            messages.addLast(message);
+            sequences.addLast(seq);
+        }
+
+        /**
+         * lastSeq 이후 이벤트 목록 (이미 밀려난 이벤트가 있으면 null)
+         */
+        synchronized List<Message> after(long lastSeq) {
+            if (lastSeq < evictedUpTo) {
+                return null;
+            }
+            List<Message> result = new ArrayList<>();
+            Iterator<Long> seqIterator = sequences.iterator();
+            for (Message message : messages) {
+                if (seqIterator.next() > lastSeq) {
+                    result.add(message);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * SSE 연결 하나와 전송 큐
+     */
+    private class Connection {
+
+        private final long userId;
+        private final SseEmitter emitter;
+        private final long openedAt = System.nanoTime();
+        private final Queue<Message> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Connection(long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(Message message) {
+            if (!queue.offer(message)) {
+                if (message.event() == null) {
+                    // 밀려 있는 연결에는 하트비트가 필요 없음
+                    return;
+                }
+                // 따라오지 못하는 클라이언트: 쌓인 이벤트 대신 다시 조회하라는 신호 하나만 남김
+                overflowCounter.increment();
+                queue.clear();
+                queue.offer(resync());
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while ((message = queue.poll()) != null) {
+                    emitter.send(message.toSse());
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("이벤트 스트림 전송 실패로 연결을 닫습니다: userId={}", userId, e);
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // 마지막 poll과 draining 해제 사이에 들어온 메시지 처리
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        void close() {
+            remove(this);
+            queue.clear();
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 완료된 연결
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.itjima_server.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 업로드 파일 저장소 (S3 또는 로컬 디스크)
+ * <p>
+ * {@code file.storage} 설정으로 구현을 고른다. 로컬 저장소는 S3 없이 개발/테스트할 때 쓰며, 서명된 PUT URL도 S3처럼
+ * 흉내 낸다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+public interface FileStorage {
+
+    /**
+     * 확인 전인 직접 업로드가 놓이는 경로 (공개 URL로 내려주지 않음)
+     */
+    String PENDING_PREFIX = "pending/";
+
+    /**
+     * 파일 저장
+     *
+     * @param key         저장 경로 (예: items/1/abc.jpg)
+     * @param content     파일 내용
+     * @param contentType MIME 타입
+     * @return 저장된 파일의 URL
+     */
+    String store(String key, byte[] content, String contentType);
+
+    /**
+     * 파일 삭제 (이 저장소의 URL이 아니거나 이미 없으면 무시)
+     *
+     * @param fileUrl 저장 시 반환된 URL
+     */
+    void delete(String fileUrl);
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 직접 올릴 수 있는 서명된 PUT URL 발급
+     *
+     * @param key         저장 경로
+     * @param contentType 올릴 파일의 MIME 타입 (PUT 요청의 Content-Type과 같아야 함)
+     * @param size        올릴 파일 크기
+     * @param ttl         URL 유효 시간
+     * @return PUT URL과 요청에 함께 보내야 하는 헤더
+     */
+    PresignedUpload presignUpload(String key, String contentType, long size, Duration ttl);
+
+    /**
+     * 저장된 객체 정보 조회
+     *
+     * @param key 저장 경로
+     * @return 객체 정보 (없으면 null)
+     */
+    StoredObject stat(String key);
+
+    /**
+     * 저장된 객체를 로컬 파일로 내려받기
+     *
+     * @param key    저장 경로
+     * @param target 내려받을 파일 (없어야 함)
+     */
+    void download(String key, Path target) throws IOException;
+
+    /**
+     * 저장 경로로 객체 삭제 (없으면 무시)
+     *
+     * @param key 저장 경로
+     */
+    void deleteKey(String key);
+
+    /**
+     * 서명된 PUT 요청 정보
+     *
+     * @param url     PUT URL
+     * @param headers 요청에 그대로 보내야 하는 헤더
+     */
+    record PresignedUpload(String url, Map<String, String> headers) {
+
+    }
+
+    /**
+     * 저장된 객체 정보
+     *
+     * @param size        크기
+     * @param contentType MIME 타입 (저장소가 모르면 null)
+     */
+    record StoredObject(long size, String contentType) {
+
+    }
+}
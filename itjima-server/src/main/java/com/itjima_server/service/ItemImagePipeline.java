@@ -0,0 +1,368 @@
+package com.itjima_server.service;
+
+import com.itjima_server.domain.item.ImageJob;
+import com.itjima_server.domain.item.Item;
+import com.itjima_server.exception.common.ServiceUnavailableException;
+import com.itjima_server.mapper.ItemMapper;
+import com.itjima_server.util.ImageUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 물품 이미지 비동기 처리 파이프라인
+ * <p>
+ * 요청 스레드는 원본을 로컬 임시 디렉터리에 옮겨 두기만 하고 바로 응답한다. 커밋 후 작업 스레드가 원본을 디코딩해 상세용/목록
+ * 썸네일용 JPEG을 만들고(EXIF 제거, 방향 보정) 저장소에 올린 뒤, 물품의 처리 중인 작업이 그대로일 때만 file_url과
+ * thumbnail_url을 바꾼다. 원본은 저장소에 남기지 않는다. 클라이언트가 저장소에 직접 올린 원본은 작업 스레드가 내려받아 같은
+ * 방식으로 처리하고, 처리 결과와 관계없이 지운다.
+ * <p>
+ * 작업 큐가 가득 차면 새 업로드를 503으로 거절한다. 임시 파일은 작업과 함께 지워지므로, 서버가 재시작되면 처리 중이던 물품은
+ * 이전 이미지를 유지한 채 PROCESSING으로 남는다. 이런 작업은 {@link #failStaleJobs}가 일정 시간 뒤 FAILED로 바꾸며, 다시
+ * 올리면 된다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class ItemImagePipeline implements DisposableBean {
+
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final int HEAD_BYTES = 64 * 1024;
+
+    private final ItemMapper itemMapper;
+    private final FileStorage fileStorage;
+    private final ChangeStampService changeStampService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate failTransaction;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor workers;
+    private final DistributionSummary inputBytes;
+    private final Path spoolDir;
+    private final int detailSize;
+    private final int thumbnailSize;
+    private final float jpegQuality;
+    private final long maxPixels;
+    private final long staleAfterMs;
+
+    public ItemImagePipeline(ItemMapper itemMapper, FileStorage fileStorage,
+            ChangeStampService changeStampService, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${image.pipeline.threads:2}") int threads,
+            @Value("${image.pipeline.queue-capacity:50}") int queueCapacity,
+            @Value("${image.pipeline.spool-dir:${java.io.tmpdir}/itjima-image-spool}") String spoolDir,
+            @Value("${image.pipeline.detail-size:1600}") int detailSize,
+            @Value("${image.pipeline.thumbnail-size:400}") int thumbnailSize,
+            @Value("${image.pipeline.jpeg-quality:0.85}") float jpegQuality,
+            @Value("${image.pipeline.max-pixels:50000000}") long maxPixels,
+            @Value("${image.pipeline.stale-after-ms:1800000}") long staleAfterMs) {
+        this.itemMapper = itemMapper;
+        this.fileStorage = fileStorage;
+        this.changeStampService = changeStampService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 커밋 후 콜백에서도 호출되므로 끝난 트랜잭션에 합류하지 않도록 새 트랜잭션으로 실행
+        this.failTransaction = new TransactionTemplate(transactionManager);
+        this.failTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.spoolDir = Paths.get(spoolDir);
+        this.detailSize = detailSize;
+        this.thumbnailSize = thumbnailSize;
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        this.staleAfterMs = staleAfterMs;
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "image-pipeline-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // executor.queued{name=image.pipeline}가 처리 대기 중인 이미지 수
+        new ExecutorServiceMetrics(workers, "image.pipeline", Tags.empty()).bindTo(meterRegistry);
+        this.inputBytes = DistributionSummary.builder("image.pipeline.input")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 원본 이미지를 임시 디렉터리에 저장
+     *
+     * @param item 이미지를 바꿀 물품
+     * @param img  업로드된 원본
+     * @return 처리 작업
+     * @throws IllegalArgumentException    이미지 파일이 아닌 경우
+     * @throws ServiceUnavailableException 처리 대기 중인 이미지가 너무 많은 경우
+     */
+    public Job spool(Item item, MultipartFile img) {
+        String contentType = img == null ? null : img.getContentType();
+        if (img == null || img.isEmpty() || contentType == null
+                || !contentType.startsWith("image/")) {
+            throw new IllegalArgumentException("이미지 파일만 업로드할 수 있습니다.");
+        }
+        if (workers.getQueue().remainingCapacity() == 0) {
+            throw new ServiceUnavailableException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        Job job = new Job(jobId, item.getId(), item.getUserId(), spoolDir.resolve(jobId), null);
+        try {
+            Files.createDirectories(spoolDir);
+            img.transferTo(job.spoolFile());
+        } catch (IOException e) {
+            discard(job);
+            throw new RuntimeException("이미지 임시 저장 중 오류가 발생했습니다.", e);
+        }
+        inputBytes.record(img.getSize());
+        return job;
+    }
+
+    /**
+     * 저장소에 직접 올라온 원본으로 처리 작업 생성 (원본은 작업 스레드에서 내려받음)
+     *
+     * @param item      이미지를 바꿀 물품
+     * @param sourceKey 원본 저장 경로
+     * @return 처리 작업
+     * @throws ServiceUnavailableException 처리 대기 중인 이미지가 너무 많은 경우
+     */
+    public Job fromStorage(Item item, String sourceKey) {
+        if (workers.getQueue().remainingCapacity() == 0) {
+            throw new ServiceUnavailableException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        String jobId = UUID.randomUUID().toString();
+        return new Job(jobId, item.getId(), item.getUserId(), spoolDir.resolve(jobId), sourceKey);
+    }
+
+    /**
+     * 커밋되면 작업을 큐에 넣고, 롤백되면 임시 파일을 지움 (트랜잭션 밖이면 바로 큐에 넣음)
+     *
+     * @param job 처리 작업
+     */
+    public void submitAfterCommit(Job job) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(job);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    submit(job);
+                } else {
+                    discard(job);
+                }
+            }
+        });
+    }
+
+    /**
+     * 처리하지 않을 작업의 임시 파일 삭제
+     *
+     * @param job 처리 작업
+     */
+    public void discard(Job job) {
+        try {
+            Files.deleteIfExists(job.spoolFile());
+        } catch (IOException e) {
+            log.warn("이미지 임시 파일을 지우지 못했습니다: {}", job.spoolFile(), e);
+        }
+    }
+
+    /**
+     * 시작한 지 오래된 작업을 처리 실패로 기록 (서버 재시작 등으로 작업 스레드가 끝내지 못한 작업)
+     *
+     * @param chunkSize 한 번에 조회할 최대 작업 수
+     * @return 실패로 기록한 작업 수
+     */
+    public int failStaleJobs(int chunkSize) {
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs));
+        int total = 0;
+        List<ImageJob> stale;
+        do {
+            stale = itemMapper.findStaleImageJobs(before, chunkSize);
+            for (ImageJob imageJob : stale) {
+                if (fail(imageJob.getItemId(), imageJob.getJobId())) {
+                    total++;
+                }
+            }
+        } while (stale.size() == chunkSize);
+        return total;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // ==========================
+    // 내부 유틸리티
+    // ==========================
+
+    private void submit(Job job) {
+        try {
+            workers.execute(() -> process(job));
+        } catch (RejectedExecutionException e) {
+            // 업로드 시점의 확인과 커밋 사이에 큐가 찬 경우
+            log.warn("이미지 처리 큐가 가득 차 작업을 버립니다: itemId={}", job.itemId());
+            discard(job);
+            deleteSource(job);
+            fail(job.itemId(), job.id());
+            record("rejected", System.nanoTime());
+        }
+    }
+
+    private void process(Job job) {
+        long startedAt = System.nanoTime();
+        List<String> stored = new ArrayList<>();
+        String result;
+        try {
+            if (job.sourceKey() != null) {
+                Files.createDirectories(spoolDir);
+                fileStorage.download(job.sourceKey(), job.spoolFile());
+                inputBytes.record(Files.size(job.spoolFile()));
+            }
+            int orientation = ImageUtil.readOrientation(readHead(job.spoolFile()));
+            BufferedImage image = ImageUtil.orient(
+                    ImageUtil.decode(job.spoolFile(), detailSize, maxPixels), orientation);
+
+            String key = "items/" + job.userId() + "/" + job.id();
+            String fileUrl = fileStorage.store(key + ".jpg",
+                    ImageUtil.toJpeg(ImageUtil.resize(image, detailSize), jpegQuality),
+                    CONTENT_TYPE);
+            stored.add(fileUrl);
+            String thumbnailUrl = fileStorage.store(key + "-thumb.jpg",
+                    ImageUtil.toJpeg(ImageUtil.resize(image, thumbnailSize), jpegQuality),
+                    CONTENT_TYPE);
+            stored.add(thumbnailUrl);
+
+            if (Boolean.TRUE.equals(transactionTemplate.execute(
+                    status -> complete(job, fileUrl, thumbnailUrl)))) {
+                result = "ready";
+            } else {
+                // 그사이 새 이미지가 올라왔거나 물품이 삭제됨
+                stored.forEach(fileStorage::delete);
+                result = "superseded";
+            }
+        } catch (Exception e) {
+            log.warn("물품 이미지 처리에 실패했습니다: itemId={}", job.itemId(), e);
+            stored.forEach(fileStorage::delete);
+            try {
+                fail(job.itemId(), job.id());
+            } catch (Exception failError) {
+                log.error("이미지 처리 실패 상태를 기록하지 못했습니다: itemId={}", job.itemId(), failError);
+            }
+            result = "failed";
+        } finally {
+            discard(job);
+            deleteSource(job);
+        }
+        record(result, startedAt);
+    }
+
+    /**
+     * 처리 중인 작업이 그대로일 때만 실패로 기록하고 물품 변경 스탬프 갱신
+     */
+    private boolean fail(long itemId, String jobId) {
+        return Boolean.TRUE.equals(failTransaction.execute(status -> {
+            if (itemMapper.failImageJob(itemId, jobId) < 1) {
+                return false;
+            }
+            changeStampService.touchItem(itemId);
+            return true;
+        }));
+    }
+
+    private boolean complete(Job job, String fileUrl, String thumbnailUrl) {
+        Item previous = itemMapper.findById(job.itemId());
+        if (previous == null || itemMapper.completeImageJob(job.itemId(), job.id(), fileUrl,
+                thumbnailUrl, CONTENT_TYPE) < 1) {
+            return false;
+        }
+        changeStampService.touchItem(job.itemId());
+
+        // 이전 이미지는 새 경로가 커밋된 뒤에 삭제
+        Runnable deletePrevious = () -> {
+            fileStorage.delete(previous.getFileUrl());
+            fileStorage.delete(previous.getThumbnailUrl());
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            deletePrevious.run();
+                        }
+                    });
+        } else {
+            deletePrevious.run();
+        }
+        return true;
+    }
+
+    private void deleteSource(Job job) {
+        if (job.sourceKey() == null) {
+            return;
+        }
+        try {
+            fileStorage.deleteKey(job.sourceKey());
+        } catch (Exception e) {
+            log.warn("직접 업로드된 원본을 지우지 못했습니다: {}", job.sourceKey(), e);
+        }
+    }
+
+    private static byte[] readHead(Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return input.readNBytes(HEAD_BYTES);
+        }
+    }
+
+    private void record(String result, long startedAt) {
+        Timer.builder("image.pipeline.process")
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 이미지 처리 작업
+     *
+     * @param id        작업 ID (ITEMS.image_job_id, 저장 파일 이름)
+     * @param itemId    물품 ID
+     * @param userId    물품 소유자 ID (저장 경로)
+     * @param spoolFile 원본 임시 파일
+     * @param sourceKey 저장소에 직접 올라온 원본 경로 (서버로 받은 원본이면 null)
+     */
+    public record Job(String id, long itemId, long userId, Path spoolFile, String sourceKey) {
+
+    }
+}
@@ -1,6 +1,9 @@
 package com.itjima_server.service;
 
 import com.itjima_server.common.PagedResultDTO;
+import com.itjima_server.common.SearchKeyword;
+import com.itjima_server.common.SearchSort;
+import com.itjima_server.domain.item.ImageStatus;
 import com.itjima_server.domain.item.Item;
 import com.itjima_server.domain.item.ItemStatus;
 import com.itjima_server.dto.item.request.ItemCreateRequestDTO;
@@ -9,6 +12,7 @@ import com.itjima_server.dto.item.response.ItemAgreementHistoryResponseDTO;
 import com.itjima_server.dto.item.response.ItemCountDTO;
 import com.itjima_server.dto.item.response.ItemCountResponseDTO;
 import com.itjima_server.dto.item.response.ItemDetailResponseDTO;
+import com.itjima_server.dto.item.response.ItemImageResponseDTO;
 import com.itjima_server.dto.item.response.ItemResponseDTO;
 import com.itjima_server.dto.item.response.ItemSummaryResponseDTO;
 import com.itjima_server.exception.common.NotAuthorException;
@@ -17,9 +21,8 @@ import com.itjima_server.exception.item.NotFoundItemException;
 import com.itjima_server.exception.item.NotInsertItemException;
 import com.itjima_server.mapper.AgreementMapper;
 import com.itjima_server.mapper.ItemMapper;
-import com.itjima_server.util.FileResult;
 import com.itjima_server.util.FileUtil;
-import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -41,7 +44,8 @@ public class ItemService {
 
     private final ItemMapper itemMapper;
     private final AgreementMapper agreementMapper;
-    private final S3UploadService s3UploadService;
+    private final ItemImagePipeline itemImagePipeline;
+    private final ChangeStampService changeStampService;
 
     /**
      * 대여물품 등록 처리
@@ -66,6 +70,7 @@ public class ItemService {
         if (result < 1) {
             throw new NotInsertItemException("물품 등록 중 알 수 없는 오류가 발생했습니다.");
         }
+        changeStampService.touch(userId);
 
         return ItemResponseDTO.from(item);
     }
@@ -96,45 +101,40 @@ public class ItemService {
         if (result < 1) {
             throw new UpdateFailedException("물품 업데이트 중 알 수 없는 오류가 발생했습니다.");
         }
+        changeStampService.touchItem(item.getId());
 
         return ItemResponseDTO.from(item);
     }
 
     /**
-     * 이미지 저장 및 DB 경로 수정 처리
+     * 이미지 업로드 접수 (변환과 저장소 업로드는 커밋 후 {@link ItemImagePipeline}에서 처리)
      *
-     * @param id  이미지를 저장할 물품 id
-     * @param img 저장할 이미지 파일
-     * @return 저장된 경로 응답 DTO
+     * @param userId 로그인한 사용자 id
+     * @param id     이미지를 저장할 물품 id
+     * @param img    저장할 이미지 파일
+     * @return 처리 상태와 현재(이전) 이미지 경로 응답 DTO
      */
     @Transactional(rollbackFor = Exception.class)
-    public FileResult saveImage(Long id, MultipartFile img) {
+    public ItemImageResponseDTO saveImage(Long userId, Long id, MultipartFile img) {
         Item item = itemMapper.findById(id);
         if (item == null) {
             throw new NotFoundItemException("해당 물품을 찾을 수 없습니다.");
         }
 
-        String oldFileUrl = item.getFileUrl();
-        if (oldFileUrl != null && !oldFileUrl.isEmpty()) {
-            s3UploadService.delete(oldFileUrl);
-        }
-
-        String newImageUrl = null;
-        try {
-            newImageUrl = s3UploadService.upload(img);
-        } catch (IOException e) {
-            throw new RuntimeException("S3에 이미지를 업로드하는 중 오류가 발생했습니다.", e);
+        if (item.getUserId() != userId) {
+            throw new NotAuthorException("로그인한 사용자의 물품이 아닙니다.");
         }
 
-        item.setFileUrl(newImageUrl);
-        int result = itemMapper.updateFileById(item);
-
-        if (result < 1) {
-            // DB 업데이트 실패 시, 방금 업로드한 새 이미지를 다시 삭제
-            s3UploadService.delete(newImageUrl);
+        ItemImagePipeline.Job job = itemImagePipeline.spool(item, img);
+        if (itemMapper.startImageJob(id, job.id()) < 1) {
+            itemImagePipeline.discard(job);
             throw new UpdateFailedException("물품 이미지 정보 업데이트에 실패했습니다.");
         }
-        return FileResult.builder().fileUrl(newImageUrl).build();
+        itemImagePipeline.submitAfterCommit(job);
+        changeStampService.touchItem(item.getId());
+
+        item.setImageStatus(ImageStatus.PROCESSING);
+        return ItemImageResponseDTO.from(item);
     }
 
     /**
@@ -194,19 +194,27 @@ public class ItemService {
     /**
      * 화면 렌더링용 물품 리스트
      *
-     * @param userId  로그인한 사용자 id
-     * @param keyword 물품명 검색 필터
-     * @param status  상태 필터
-     * @param lastId  조회할 마지막 id
-     * @param size    한 페이지에 보여줄 개수
+     * @param userId        로그인한 사용자 id
+     * @param keyword       물품명/설명 검색 필터
+     * @param status        상태 필터
+     * @param sort          정렬 기준
+     * @param lastRelevance 관련도순일 때 이전 페이지 마지막 항목의 관련도
+     * @param lastId        조회할 마지막 id
+     * @param size          한 페이지에 보여줄 개수
      * @return 대여 물품 리스트 응답 DTO
+     * @throws IllegalArgumentException 관련도순 다음 페이지 요청에 lastRelevance가 없는 경우
      */
     @Transactional(readOnly = true)
-    public PagedResultDTO<?> getSummaries(Long userId, String keyword, String status, Long lastId,
-            int size) {
+    public PagedResultDTO<?> getSummaries(Long userId, String keyword, String status,
+            SearchSort sort, BigDecimal lastRelevance, Long lastId, int size) {
         int sizePlusOne = size + 1;
+        SearchKeyword search = SearchKeyword.of(keyword);
+        boolean byRelevance = sort == SearchSort.RELEVANCE && search != null && search.isFullText();
+        if (byRelevance && lastId != null && lastRelevance == null) {
+            throw new IllegalArgumentException("관련도순 다음 페이지는 lastRelevance와 lastId를 함께 보내야 합니다.");
+        }
         List<ItemSummaryResponseDTO> itemSummaries = itemMapper.findItemSummariesByUserId(userId,
-                keyword, status, lastId, sizePlusOne);
+                search, status, byRelevance, lastRelevance, lastId, sizePlusOne);
         if (itemSummaries == null || itemSummaries.isEmpty()) {
             return PagedResultDTO.from(null, false, null);
         }
@@ -0,0 +1,57 @@
+package com.itjima_server.service;
+
+import com.itjima_server.common.BatchRunStats;
+import com.itjima_server.common.KeysetChunkRunner;
+import com.itjima_server.mapper.ChangeStampMapper;
+import com.itjima_server.mapper.ItemMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 물품별 대여 통계 재계산 배치 서비스
+ * <p>
+ * 통계는 대여가 완료될 때 누적되므로, 이 배치는 백필과 누락 보정용이다. 물품 청크별로 완료된 대여에서 다시 계산하고,
+ * 값이 다른 물품만 고친 뒤 해당 소유자의 변경 스탬프를 올린다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class ItemStatsRebuildService {
+
+    private final ItemMapper itemMapper;
+    private final ChangeStampMapper changeStampMapper;
+    private final KeysetChunkRunner chunkRunner;
+    private final int chunkSize;
+
+    public ItemStatsRebuildService(ItemMapper itemMapper, ChangeStampMapper changeStampMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${batch.item-stats.chunk-size:1000}") int chunkSize) {
+        this.itemMapper = itemMapper;
+        this.changeStampMapper = changeStampMapper;
+        this.chunkRunner = new KeysetChunkRunner(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 완료된 대여와 다른 물품 통계를 다시 계산
+     *
+     * @return 실행 통계 (행 수는 값이 달라 수정된 물품 수)
+     */
+    public BatchRunStats rebuild() {
+        return chunkRunner.run(0L,
+                afterId -> itemMapper.findItemChunkEndId(afterId, chunkSize),
+                (fromId, toId) -> {
+                    int rows = itemMapper.rebuildRentalStatsInRange(fromId, toId);
+                    if (rows > 0) {
+                        changeStampMapper.touchItemOwnerRange(fromId, toId);
+                        log.warn("물품 대여 통계 {}건을 다시 계산했습니다: 물품 ID {} ~ {}", rows, fromId + 1,
+                                toId);
+                    }
+                    return rows;
+                });
+    }
+}
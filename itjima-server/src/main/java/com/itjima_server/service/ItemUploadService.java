@@ -0,0 +1,190 @@
+package com.itjima_server.service;
+
+import com.itjima_server.domain.item.ImageStatus;
+import com.itjima_server.domain.item.Item;
+import com.itjima_server.domain.item.PendingUpload;
+import com.itjima_server.dto.item.request.ItemUploadUrlRequestDTO;
+import com.itjima_server.dto.item.response.ItemImageResponseDTO;
+import com.itjima_server.dto.item.response.ItemUploadUrlResponseDTO;
+import com.itjima_server.exception.common.InvalidStateException;
+import com.itjima_server.exception.common.NotAuthorException;
+import com.itjima_server.exception.common.NotInsertException;
+import com.itjima_server.exception.common.UpdateFailedException;
+import com.itjima_server.exception.item.NotFoundItemException;
+import com.itjima_server.exception.item.NotFoundUploadException;
+import com.itjima_server.mapper.ItemMapper;
+import com.itjima_server.mapper.PendingUploadMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 물품 이미지 직접 업로드 서비스
+ * <p>
+ * 이미지 바이트가 서버를 거치지 않도록 클라이언트가 서명된 PUT URL로 저장소에 바로 올린다. URL 발급 시 업로드 정보를
+ * PENDING_UPLOADS에 남기고, 확인 요청에서 저장소에 객체가 서명한 크기/타입 그대로 있는지 본 뒤 이미지 처리 파이프라인에
+ * 넘긴다. 확인되지 않은 채 만료된 업로드는 배치로 객체와 함께 지운다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class ItemUploadService {
+
+    private final ItemMapper itemMapper;
+    private final PendingUploadMapper pendingUploadMapper;
+    private final FileStorage fileStorage;
+    private final ItemImagePipeline itemImagePipeline;
+    private final ChangeStampService changeStampService;
+    private final long maxBytes;
+    private final Duration urlTtl;
+
+    public ItemUploadService(ItemMapper itemMapper, PendingUploadMapper pendingUploadMapper,
+            FileStorage fileStorage, ItemImagePipeline itemImagePipeline,
+            ChangeStampService changeStampService,
+            @Value("${image.upload.max-bytes:20971520}") long maxBytes,
+            @Value("${image.upload.url-ttl-ms:600000}") long urlTtlMs) {
+        this.itemMapper = itemMapper;
+        this.pendingUploadMapper = pendingUploadMapper;
+        this.fileStorage = fileStorage;
+        this.itemImagePipeline = itemImagePipeline;
+        this.changeStampService = changeStampService;
+        this.maxBytes = maxBytes;
+        this.urlTtl = Duration.ofMillis(urlTtlMs);
+    }
+
+    /**
+     * 이미지 업로드 URL 발급
+     *
+     * @param userId 로그인한 사용자 ID
+     * @param itemId 이미지를 바꿀 물품 ID
+     * @param req    올릴 파일 정보
+     * @return 서명된 PUT URL과 업로드 ID
+     * @throws IllegalArgumentException 허용 크기를 넘는 경우
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public ItemUploadUrlResponseDTO createUploadUrl(Long userId, Long itemId,
+            ItemUploadUrlRequestDTO req) {
+        Item item = findOwnedItem(userId, itemId);
+        if (req.getSize() > maxBytes) {
+            throw new IllegalArgumentException(
+                    "이미지는 " + (maxBytes / 1024 / 1024) + "MB까지 업로드할 수 있습니다.");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        PendingUpload pendingUpload = PendingUpload.builder()
+                .id(uploadId)
+                .itemId(item.getId())
+                .userId(userId)
+                .objectKey(FileStorage.PENDING_PREFIX + uploadId)
+                .contentType(req.getContentType())
+                .size(req.getSize())
+                .expiresAt(LocalDateTime.now().plus(urlTtl))
+                .build();
+        if (pendingUploadMapper.insert(pendingUpload) < 1) {
+            throw new NotInsertException("업로드 정보 저장 중 알 수 없는 오류가 발생했습니다.");
+        }
+
+        FileStorage.PresignedUpload presigned = fileStorage.presignUpload(
+                pendingUpload.getObjectKey(), pendingUpload.getContentType(),
+                pendingUpload.getSize(), urlTtl);
+        return new ItemUploadUrlResponseDTO(uploadId, presigned.url(), "PUT", presigned.headers(),
+                pendingUpload.getExpiresAt());
+    }
+
+    /**
+     * 업로드 완료 확인 후 이미지 처리 접수
+     *
+     * @param userId   로그인한 사용자 ID
+     * @param itemId   이미지를 바꿀 물품 ID
+     * @param uploadId 업로드 ID
+     * @return 처리 상태 응답
+     * @throws NotFoundUploadException 업로드 정보가 없거나 이미 확인된 경우
+     * @throws InvalidStateException   만료되었거나 저장소에 올라온 파일이 요청과 다른 경우
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public ItemImageResponseDTO confirm(Long userId, Long itemId, String uploadId) {
+        PendingUpload pendingUpload = pendingUploadMapper.findById(uploadId);
+        if (pendingUpload == null || pendingUpload.getItemId() != itemId) {
+            throw new NotFoundUploadException("해당 업로드를 찾을 수 없습니다.");
+        }
+        if (pendingUpload.getUserId() != userId) {
+            throw new NotAuthorException("로그인한 사용자의 업로드가 아닙니다.");
+        }
+        if (!pendingUpload.getExpiresAt().isAfter(LocalDateTime.now())) {
+            throw new InvalidStateException("업로드 URL이 만료되었습니다. 다시 발급받아 주세요.");
+        }
+
+        FileStorage.StoredObject stored = fileStorage.stat(pendingUpload.getObjectKey());
+        if (stored == null) {
+            throw new InvalidStateException("업로드된 파일이 없습니다.");
+        }
+        // 서명이 크기/타입을 강제하지만, 로컬 저장소처럼 타입을 모르는 경우도 있어 아는 값만 비교
+        if (stored.size() != pendingUpload.getSize() || (stored.contentType() != null
+                && !stored.contentType().equals(pendingUpload.getContentType()))) {
+            throw new InvalidStateException("업로드된 파일이 요청한 파일과 다릅니다.");
+        }
+
+        Item item = findOwnedItem(userId, itemId);
+        ItemImagePipeline.Job job = itemImagePipeline.fromStorage(item,
+                pendingUpload.getObjectKey());
+        if (pendingUploadMapper.deleteById(uploadId) < 1) {
+            // 같은 업로드를 동시에 확인한 경우
+            throw new InvalidStateException("이미 확인된 업로드입니다.");
+        }
+        if (itemMapper.startImageJob(itemId, job.id()) < 1) {
+            throw new UpdateFailedException("물품 이미지 정보 업데이트에 실패했습니다.");
+        }
+        itemImagePipeline.submitAfterCommit(job);
+        changeStampService.touchItem(itemId);
+
+        item.setImageStatus(ImageStatus.PROCESSING);
+        return ItemImageResponseDTO.from(item);
+    }
+
+    /**
+     * 확인되지 않은 채 만료된 업로드 정리 (저장소 객체와 함께 삭제)
+     *
+     * @param chunkSize 한 번에 삭제할 최대 행 수
+     * @return 삭제된 전체 행 수
+     */
+    public int purgeExpiredUploads(int chunkSize) {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        List<PendingUpload> expired;
+        do {
+            expired = pendingUploadMapper.findExpired(now, chunkSize);
+            if (expired.isEmpty()) {
+                break;
+            }
+            for (PendingUpload pendingUpload : expired) {
+                try {
+                    fileStorage.deleteKey(pendingUpload.getObjectKey());
+                } catch (Exception e) {
+                    // 행은 지우고 넘어감: pending/ 아래 남은 객체는 저장소 수명 주기 규칙으로 정리
+                    log.warn("만료된 업로드 파일을 지우지 못했습니다: {}", pendingUpload.getObjectKey(), e);
+                }
+            }
+            total += pendingUploadMapper.deleteByIds(
+                    expired.stream().map(PendingUpload::getId).toList());
+        } while (expired.size() == chunkSize);
+        return total;
+    }
+
+    private Item findOwnedItem(Long userId, Long itemId) {
+        Item item = itemMapper.findById(itemId);
+        if (item == null) {
+            throw new NotFoundItemException("해당 물품을 찾을 수 없습니다.");
+        }
+        if (item.getUserId() != userId) {
+            throw new NotAuthorException("로그인한 사용자의 물품이 아닙니다.");
+        }
+        return item;
+    }
+}
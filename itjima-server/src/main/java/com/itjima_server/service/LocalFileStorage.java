@@ -0,0 +1,231 @@
+package com.itjima_server.service;
+
+import com.itjima_server.exception.common.NotAuthorException;
+import com.itjima_server.util.FileUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로컬 디스크 파일 저장소 ({@code file.upload-dir} 아래에 저장하고 /uploads/** URL 반환)
+ * <p>
+ * 서명된 PUT URL은 S3와 같은 방식으로 흉내 낸다. 저장 경로, Content-Type, 크기, 만료 시각을 HMAC으로 서명한
+ * {@code PUT /uploads/presigned?...} URL을 발급하고, {@link #receive}가 서명을 확인한 뒤 본문을 디스크에 쓴다.
+ * 저장한 파일은 {@code GET /uploads/**}로 내려주며, 확인 전인 pending/ 아래 파일은 내려주지 않는다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Service
+@ConditionalOnProperty(name = "file.storage", havingValue = "local")
+public class LocalFileStorage implements FileStorage {
+
+    public static final String PRESIGNED_PATH = "/uploads/presigned";
+
+    private static final String URL_PREFIX = "/uploads/";
+    private static final String HMAC = "HmacSHA256";
+
+    private final String uploadDir;
+    private final byte[] signingKey;
+
+    public LocalFileStorage(@Value("${file.upload-dir:uploads/}") String uploadDir,
+            @Value("${file.local.signing-key:}") String signingKey) {
+        this.uploadDir = uploadDir.endsWith("/") ? uploadDir : uploadDir + "/";
+        if (signingKey.isBlank()) {
+            // 설정하지 않으면 재시작할 때마다 바뀌며, 그 전에 발급한 URL은 쓸 수 없게 됨
+            this.signingKey = new byte[32];
+            new SecureRandom().nextBytes(this.signingKey);
+        } else {
+            this.signingKey = signingKey.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public String store(String key, byte[] content, String contentType) {
+        return FileUtil.write(content, key, uploadDir);
+    }
+
+    @Override
+    public void delete(String fileUrl) {
+        if (fileUrl != null && fileUrl.startsWith(URL_PREFIX)) {
+            FileUtil.delete(fileUrl, uploadDir);
+        }
+    }
+
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, long size,
+            Duration ttl) {
+        long expires = Instant.now().plus(ttl).getEpochSecond();
+        String url = PRESIGNED_PATH
+                + "?key=" + encode(key)
+                + "&contentType=" + encode(contentType)
+                + "&size=" + size
+                + "&expires=" + expires
+                + "&signature=" + sign(key, contentType, size, expires);
+        return new PresignedUpload(url, Map.of("Content-Type", contentType));
+    }
+
+    @Override
+    public StoredObject stat(String key) {
+        Path file = resolve(key);
+        try {
+            return Files.isRegularFile(file) ? new StoredObject(Files.size(file), null) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void download(String key, Path target) throws IOException {
+        Files.copy(resolve(key), target);
+    }
+
+    @Override
+    public void deleteKey(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new RuntimeException("파일 삭제 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * /uploads/** 로 내려줄 파일 경로
+     *
+     * @param key 저장 경로
+     * @return 파일 경로 (없거나, 업로드 디렉터리 밖이거나, 확인 전인 업로드면 null)
+     */
+    public Path resolveServable(String key) {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path file = root.resolve(key).normalize();
+        if (!file.startsWith(root) || root.relativize(file).toString().startsWith(PENDING_PREFIX)
+                || !Files.isRegularFile(file)) {
+            return null;
+        }
+        return file;
+    }
+
+    /**
+     * 서명된 PUT 요청 본문 저장
+     * <p>
+     * S3처럼 서명이 맞지 않거나 만료되었거나 Content-Type이 다르면 403, 본문 크기가 서명한 크기와 다르면 400으로 거절한다.
+     *
+     * @param key                저장 경로
+     * @param contentType        서명한 Content-Type
+     * @param size               서명한 크기
+     * @param expires            만료 시각 (epoch 초)
+     * @param signature          서명
+     * @param requestContentType PUT 요청의 Content-Type
+     * @param body               PUT 요청 본문
+     * @throws NotAuthorException       서명이 맞지 않거나 만료된 경우
+     * @throws IllegalArgumentException 본문 크기가 다른 경우
+     */
+    public void receive(String key, String contentType, long size, long expires,
+            String signature, String requestContentType, InputStream body) throws IOException {
+        if (!MessageDigest.isEqual(sign(key, contentType, size, expires)
+                .getBytes(StandardCharsets.US_ASCII), signature.getBytes(StandardCharsets.US_ASCII))
+                || Instant.now().getEpochSecond() > expires
+                || !contentType.equals(requestContentType)) {
+            throw new NotAuthorException("업로드 URL이 유효하지 않습니다.");
+        }
+
+        Path file = resolve(key);
+        Files.createDirectories(file.getParent());
+        Path part = file.resolveSibling(file.getFileName() + ".part");
+        try {
+            // 서명한 크기보다 1바이트라도 더 오면 거절해야 하므로 size + 1까지만 읽음
+            long written;
+            try (InputStream limited = new LimitedInputStream(body, size + 1)) {
+                written = Files.copy(limited, part, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (written != size) {
+                throw new IllegalArgumentException("업로드한 파일 크기가 요청한 크기와 다릅니다.");
+            }
+            Files.move(part, file, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    // ==========================
+    // 내부 유틸리티
+    // ==========================
+
+    private Path resolve(String key) {
+        return Paths.get(uploadDir + key);
+    }
+
+    private String sign(String key, String contentType, long size, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(new SecretKeySpec(signingKey, HMAC));
+            byte[] digest = mac.doFinal((key + "\n" + contentType + "\n" + size + "\n" + expires)
+                    .getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static class LimitedInputStream extends InputStream {
+
+        private final InputStream in;
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            this.in = in;
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = in.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() {
+            // 요청 본문은 컨테이너가 닫음
+        }
+    }
+}
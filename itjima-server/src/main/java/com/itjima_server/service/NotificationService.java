@@ -1,24 +1,28 @@
 package com.itjima_server.service;
 
+import com.itjima_server.common.BatchRunStats;
+import com.itjima_server.common.KeysetChunkRunner;
 import com.itjima_server.common.PagedResultDTO;
+import com.itjima_server.domain.agreement.AgreementTransitions;
+import com.itjima_server.domain.event.ChangeEventType;
 import com.itjima_server.domain.notification.Notification;
-import com.itjima_server.domain.notification.NotificationType;
-import com.itjima_server.domain.notification.Schedule;
-import com.itjima_server.domain.notification.ScheduleType;
+import com.itjima_server.domain.notification.ReminderTemplate;
+import com.itjima_server.dto.event.response.ChangeEventResponseDTO;
 import com.itjima_server.dto.notification.response.NotificationResponseDTO;
-import com.itjima_server.exception.agreement.NotInsertAgreementException;
 import com.itjima_server.exception.common.InvalidStateException;
 import com.itjima_server.exception.common.NotAuthorException;
 import com.itjima_server.exception.common.NotFoundException;
 import com.itjima_server.exception.common.UpdateFailedException;
-import com.itjima_server.mapper.AgreementPartyMapper;
 import com.itjima_server.mapper.NotificationMapper;
-import com.itjima_server.mapper.ScheduleMapper;
+import com.itjima_server.mapper.ReminderMapper;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -28,48 +32,64 @@ import org.springframework.transaction.annotation.Transactional;
  * @since 2025-08-27
  */
 @Service
-@RequiredArgsConstructor
 public class NotificationService {
 
     private final NotificationMapper notificationMapper;
-    private final ScheduleMapper scheduleMapper;
-    private final AgreementPartyMapper agreementPartyMapper;
+    private final ReminderMapper reminderMapper;
+    private final EventStreamService eventStreamService;
+    private final KeysetChunkRunner chunkRunner;
+    private final int reminderChunkSize;
+    private final int[] reminderOffsetDays;
+
+    public NotificationService(NotificationMapper notificationMapper,
+            ReminderMapper reminderMapper, EventStreamService eventStreamService,
+            PlatformTransactionManager transactionManager,
+            @Value("${batch.reminder.chunk-size:1000}") int reminderChunkSize,
+            @Value("${reminder.offset-days:7,3,1,0}") int[] reminderOffsetDays) {
+        this.notificationMapper = notificationMapper;
+        this.reminderMapper = reminderMapper;
+        this.eventStreamService = eventStreamService;
+        this.chunkRunner = new KeysetChunkRunner(transactionManager);
+        this.reminderChunkSize = reminderChunkSize;
+        this.reminderOffsetDays = reminderOffsetDays.clone();
+    }
 
     /**
-     * 스케줄 기반 리마인드/연체 알림 생성
+     * 반납 예정일 리마인드/연체 알림 생성
+     * <p>
+     * 알림 대상은 대여 상태와 반납 예정일에서 바로 계산한다. 리마인드 종류마다 대상 대여 청크별로 AGREEMENTS ×
+     * AGREEMENT_PARTIES 조인 INSERT ... SELECT로 알림을 만들고 같은 대상의 발송 기록을 남긴 뒤 커밋한다.
+     * 발송 기록이 있는 대여는 다시 선택되지 않으므로 중단 후 재실행해도 알림이 중복되지 않는다. 실시간 스트림을 듣는 사용자가
+     * 있으면 청크가 커밋된 뒤 수신자들에게 알림 이벤트를 보낸다.
+     *
+     * @return 실행 통계 (행 수는 생성된 알림 수)
      */
-    @Transactional(rollbackFor = Exception.class)
-    public void createReminders() {
-        List<Schedule> pendingSchedules = scheduleMapper.findPendingSchedules();
-
-        for (Schedule schedule : pendingSchedules) {
-            List<Long> userIds = agreementPartyMapper.findUserIdsByAgreementId(
-                    schedule.getAgreementId());
-            String message = null;
-            NotificationType notificationType = null;
-
-            if (ScheduleType.OVERDUE == schedule.getType()) {
-                message = "[ " + schedule.getType().getDescription() + " ] 연체 중입니다!";
-                notificationType = NotificationType.OVERDUE;
-            } else {
-                message = "[ " + schedule.getType().getDescription() + " ] 반납일을 잊지 마세요!";
-                notificationType = NotificationType.REMINDER;
-            }
-            for (Long userId : userIds) {
-                Notification notification = Notification.builder()
-                        .agreementId(schedule.getAgreementId())
-                        .userId(userId)
-                        .type(notificationType)
-                        .message(message)
-                        .build();
-
-                checkInsertResult(notificationMapper.insert(notification), "알림 생성에 실패했습니다.");
-            }
-
-            checkUpdateResult(scheduleMapper.updateNotifiedById(schedule.getId()),
-                    "스케쥴 상태 변경에 실패했습니다.");
-
+    public BatchRunStats createReminders() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        BatchRunStats stats = new BatchRunStats(0L);
+        for (ReminderTemplate template : ReminderTemplate.of(reminderOffsetDays, today)) {
+            chunkRunner.runInto(stats, 0L,
+                    afterId -> reminderMapper.findDueChunkEndId(template, afterId,
+                            reminderChunkSize),
+                    (fromId, toId) -> {
+                        if (eventStreamService.hasListeners()) {
+                            eventStreamService.publish(
+                                    reminderMapper.findRecipientIdsInRange(template, fromId, toId),
+                                    ChangeEventResponseDTO.of(ChangeEventType.NOTIFICATION_CREATED));
+                        }
+                        int rows = reminderMapper.insertNotificationsInRange(template, fromId,
+                                toId);
+                        reminderMapper.markSentInRange(template, fromId, toId, now);
+                        return rows;
+                    });
         }
+
+        reminderMapper.deleteStale(today, AgreementTransitions.activeStatuses(),
+                ReminderTemplate.OVERDUE_KEY);
+        stats.finish();
+        return stats;
     }
 
     /**
@@ -134,19 +154,6 @@ public class NotificationService {
         return NotificationResponseDTO.from(notification);
     }
 
-    /**
-     * INSERT 실행 결과 검증 유틸리티
-     *
-     * @param result       실행된 row 수
-     * @param errorMessage 실패 시 예외 메시지
-     * @throws NotInsertAgreementException insert 실패 시
-     */
-    private void checkInsertResult(int result, String errorMessage) {
-        if (result < 1) {
-            throw new NotInsertAgreementException(errorMessage);
-        }
-    }
-
     /**
      * UPDATE 실행 결과 검증 유틸리티
      *
@@ -0,0 +1,117 @@
+package com.itjima_server.service;
+
+import com.itjima_server.common.BatchRunStats;
+import com.itjima_server.common.KeysetChunkRunner;
+import com.itjima_server.domain.agreement.Agreement;
+import com.itjima_server.domain.agreement.AgreementStatus;
+import com.itjima_server.domain.agreement.AgreementTransitions;
+import com.itjima_server.domain.batch.BatchCheckpoint;
+import com.itjima_server.mapper.AgreementMapper;
+import com.itjima_server.mapper.BatchCheckpointMapper;
+import com.itjima_server.mapper.ChangeStampMapper;
+import com.itjima_server.mapper.DashboardStatsMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 대여 연체 처리 배치 서비스
+ * <p>
+ * 연체 대상 청크마다 상태 일괄 UPDATE와 함께 청크의 끝 ID를 체크포인트로 커밋하므로, 같은 날 다시 실행하면 마지막으로
+ * 커밋한 청크 다음부터 이어서 처리한다. 연체 알림은 리마인드 배치가 OVERDUE 상태로부터 직접 계산하므로 여기서는 따로
+ * 기록하지 않는다. 실시간 스트림을 듣는 사용자가 있으면 청크가 커밋된 뒤 당사자들에게 대여 상태 변경 이벤트를 보낸다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class OverdueBatchService {
+
+    static final String JOB_NAME = "OVERDUE_AGREEMENTS";
+
+    private final AgreementMapper agreementMapper;
+    private final BatchCheckpointMapper batchCheckpointMapper;
+    private final ChangeStampMapper changeStampMapper;
+    private final DashboardStatsMapper dashboardStatsMapper;
+    private final EventStreamService eventStreamService;
+    private final KeysetChunkRunner chunkRunner;
+    private final int chunkSize;
+
+    public OverdueBatchService(AgreementMapper agreementMapper,
+            BatchCheckpointMapper batchCheckpointMapper,
+            ChangeStampMapper changeStampMapper,
+            DashboardStatsMapper dashboardStatsMapper,
+            EventStreamService eventStreamService,
+            PlatformTransactionManager transactionManager,
+            @Value("${batch.overdue.chunk-size:1000}") int chunkSize) {
+        this.agreementMapper = agreementMapper;
+        this.batchCheckpointMapper = batchCheckpointMapper;
+        this.changeStampMapper = changeStampMapper;
+        this.dashboardStatsMapper = dashboardStatsMapper;
+        this.eventStreamService = eventStreamService;
+        this.chunkRunner = new KeysetChunkRunner(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 반납 예정일이 지난 대여를 OVERDUE로 변경
+     *
+     * @return 실행 통계
+     */
+    public BatchRunStats processOverdueAgreements() {
+        LocalDateTime now = LocalDateTime.now();
+        String runKey = now.toLocalDate().toString();
+        Set<AgreementStatus> sources = AgreementTransitions.systemSourcesOf(
+                AgreementStatus.OVERDUE);
+
+        long resumeId = resumePoint(runKey);
+        BatchRunStats stats = new BatchRunStats(resumeId);
+        long afterId = chunkRunner.runInto(stats, resumeId,
+                lastId -> agreementMapper.findOverdueChunkEndId(lastId, sources, now, chunkSize),
+                (fromId, toId) -> {
+                    // 대상 행을 먼저 잠가, 그사이 완료 등으로 상태가 바뀐 대여가 카운터에만 반영되지 않게 함
+                    List<Agreement> changed = agreementMapper.findOverdueInRange(fromId, toId,
+                            sources, now);
+                    // 상태가 바뀌면 조건에서 빠지므로 변경 전에 당사자 카운터와 스탬프부터 올림
+                    dashboardStatsMapper.addOverdueInRange(fromId, toId, sources, now);
+                    changeStampMapper.touchOverdueInRange(fromId, toId, sources, now);
+                    int rows = agreementMapper.markOverdueInRange(fromId, toId, sources, now);
+                    batchCheckpointMapper.save(JOB_NAME, runKey, toId);
+                    // 커밋된 뒤에 보내짐
+                    if (eventStreamService.hasListeners()) {
+                        for (Agreement agreement : changed) {
+                            agreement.setStatus(AgreementStatus.OVERDUE);
+                            eventStreamService.publishAgreementStatus(agreement);
+                        }
+                    }
+                    return rows;
+                });
+
+        batchCheckpointMapper.save(JOB_NAME, runKey, afterId);
+        batchCheckpointMapper.complete(JOB_NAME, runKey, LocalDateTime.now());
+        stats.finish();
+        return stats;
+    }
+
+    // ==========================
+    // 내부 유틸리티
+    // ==========================
+
+    /**
+     * 같은 기준일에 중단된 실행이 있으면 마지막으로 커밋한 위치부터 재개
+     */
+    private long resumePoint(String runKey) {
+        BatchCheckpoint checkpoint = batchCheckpointMapper.findByJobName(JOB_NAME);
+        if (checkpoint == null || checkpoint.getCompletedAt() != null
+                || !runKey.equals(checkpoint.getRunKey())) {
+            return 0L;
+        }
+        log.info("중단된 연체 처리 배치를 ID {} 이후부터 재개합니다.", checkpoint.getLastId());
+        return checkpoint.getLastId();
+    }
+}
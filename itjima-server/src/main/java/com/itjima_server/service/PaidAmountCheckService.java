@@ -0,0 +1,58 @@
+package com.itjima_server.service;
+
+import com.itjima_server.common.BatchRunStats;
+import com.itjima_server.common.KeysetChunkRunner;
+import com.itjima_server.mapper.AgreementMapper;
+import com.itjima_server.mapper.ChangeStampMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 누적 상환액 정합성 점검 배치 서비스
+ * <p>
+ * AGREEMENTS.paid_amount는 상환 승인 시점에 증가시키는 비정규화 값이다. 대여 청크별로 승인된 상환 합계를 다시
+ * 계산하고 값이 어긋난 대여만 고친다. 한 청크의 TRANSACTIONS 집계만 한 번에 읽으므로 상환 테이블 전체를 잠그지 않는다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Slf4j
+@Service
+public class PaidAmountCheckService {
+
+    private final AgreementMapper agreementMapper;
+    private final ChangeStampMapper changeStampMapper;
+    private final KeysetChunkRunner chunkRunner;
+    private final int chunkSize;
+
+    public PaidAmountCheckService(AgreementMapper agreementMapper,
+            ChangeStampMapper changeStampMapper, PlatformTransactionManager transactionManager,
+            @Value("${batch.paid-amount.chunk-size:1000}") int chunkSize) {
+        this.agreementMapper = agreementMapper;
+        this.changeStampMapper = changeStampMapper;
+        this.chunkRunner = new KeysetChunkRunner(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 승인된 상환 합계와 다른 누적 상환액을 다시 계산
+     *
+     * @return 실행 통계 (행 수는 값이 어긋나 수정된 대여 수)
+     */
+    public BatchRunStats recomputeDrift() {
+        return chunkRunner.run(0L,
+                afterId -> agreementMapper.findChunkEndId(afterId, chunkSize),
+                (fromId, toId) -> {
+                    int rows = agreementMapper.recomputePaidAmountInRange(fromId, toId);
+                    if (rows > 0) {
+                        // 드문 경우라 어긋난 행만 고르지 않고 청크 전체 당사자의 캐시를 무효화
+                        changeStampMapper.touchAgreementRange(fromId, toId);
+                        log.warn("누적 상환액 불일치 {}건을 수정했습니다: ID {} ~ {}", rows, fromId + 1,
+                                toId);
+                    }
+                    return rows;
+                });
+    }
+}
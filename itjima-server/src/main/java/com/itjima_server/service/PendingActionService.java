@@ -0,0 +1,73 @@
+package com.itjima_server.service;
+
+import com.itjima_server.domain.agreement.Agreement;
+import com.itjima_server.domain.dashboard.PendingAction;
+import com.itjima_server.domain.dashboard.PendingActionSource;
+import com.itjima_server.domain.transaction.Transaction;
+import com.itjima_server.mapper.PendingActionMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 처리 대기 요청함(PENDING_ACTIONS)을 관리하는 서비스 클래스
+ * <p>
+ * 대여/상환 요청이 PENDING이 되거나 PENDING을 벗어나는 트랜잭션 안에서 호출해, 요청함이 항상 실제 PENDING 행과 같도록 한다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Service
+@RequiredArgsConstructor
+public class PendingActionService {
+
+    private final PendingActionMapper pendingActionMapper;
+
+    /**
+     * 대여 승인 요청을 채무자의 요청함에 추가
+     *
+     * @param agreement 생성된 대여
+     */
+    public void requestAgreement(Agreement agreement) {
+        pendingActionMapper.insert(PendingAction.builder()
+                .userId(agreement.getDebtorId())
+                .source(PendingActionSource.AGREEMENT)
+                .sourceId(agreement.getId())
+                .agreementId(agreement.getId())
+                .requesterId(agreement.getCreditorId())
+                .build());
+    }
+
+    /**
+     * 상환 완료 요청을 채권자의 요청함에 추가
+     *
+     * @param agreement   상환 요청이 들어온 대여
+     * @param transaction 생성된 상환 요청
+     */
+    public void requestRepayment(Agreement agreement, Transaction transaction) {
+        pendingActionMapper.insert(PendingAction.builder()
+                .userId(agreement.getCreditorId())
+                .source(PendingActionSource.TRANSACTION)
+                .sourceId(transaction.getId())
+                .agreementId(agreement.getId())
+                .requesterId(agreement.getDebtorId())
+                .build());
+    }
+
+    /**
+     * 승인/거절/취소된 대여 요청을 요청함에서 제거
+     *
+     * @param agreement PENDING을 벗어난 대여
+     */
+    public void resolveAgreement(Agreement agreement) {
+        pendingActionMapper.deleteBySource(PendingActionSource.AGREEMENT, agreement.getId());
+    }
+
+    /**
+     * 확정/거절된 상환 요청을 요청함에서 제거
+     *
+     * @param transaction PENDING을 벗어난 상환 요청
+     */
+    public void resolveRepayment(Transaction transaction) {
+        pendingActionMapper.deleteBySource(PendingActionSource.TRANSACTION, transaction.getId());
+    }
+}
@@ -0,0 +1,67 @@
+package com.itjima_server.service;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+/**
+ * S3 파일 저장소 (기본값)
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.storage", havingValue = "s3", matchIfMissing = true)
+public class S3FileStorage implements FileStorage {
+
+    private final S3UploadService s3UploadService;
+
+    @Override
+    public String store(String key, byte[] content, String contentType) {
+        return s3UploadService.upload(key, content, contentType);
+    }
+
+    @Override
+    public void delete(String fileUrl) {
+        s3UploadService.delete(fileUrl);
+    }
+
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, long size,
+            Duration ttl) {
+        PresignedPutObjectRequest presigned = s3UploadService.presignUpload(key, contentType, size,
+                ttl);
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> header : presigned.signedHeaders().entrySet()) {
+            // Host는 HTTP 클라이언트가 URL에서 채움
+            if (!"host".equalsIgnoreCase(header.getKey())) {
+                headers.put(header.getKey(), String.join(",", header.getValue()));
+            }
+        }
+        return new PresignedUpload(presigned.url().toString(), headers);
+    }
+
+    @Override
+    public StoredObject stat(String key) {
+        HeadObjectResponse head = s3UploadService.head(key);
+        return head == null ? null : new StoredObject(head.contentLength(), head.contentType());
+    }
+
+    @Override
+    public void download(String key, Path target) {
+        s3UploadService.download(key, target);
+    }
+
+    @Override
+    public void deleteKey(String key) {
+        s3UploadService.deleteKey(key);
+    }
+}
@@ -1,15 +1,26 @@
 package com.itjima_server.service;
 
+import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
 import java.io.IOException;
 import java.util.UUID;
@@ -19,6 +30,7 @@ import java.util.UUID;
 public class S3UploadService {
 
     private final S3Client s3Client; // AWS SDK v2의 S3Client를 주입받습니다.
+    private final S3Presigner s3Presigner;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
@@ -48,6 +60,71 @@ public class S3UploadService {
                 s3FileName);
     }
 
+    public String upload(String key, byte[] content, String contentType) {
+        // 키마다 내용이 바뀌지 않으므로 클라이언트/CDN이 오래 캐시해도 됨
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength((long) content.length)
+                .cacheControl("public, max-age=31536000, immutable")
+                .build();
+
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
+
+        return String.format("https://%s.s3.%s.amazonaws.com/%s",
+                bucket,
+                s3Client.serviceClientConfiguration().region().id(),
+                key);
+    }
+
+    public PresignedPutObjectRequest presignUpload(String key, String contentType, long size,
+            Duration ttl) {
+        // Content-Type과 Content-Length가 서명에 들어가므로 클라이언트가 다른 값으로 올리면 S3가 거절함
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(size)
+                .build();
+
+        return s3Presigner.presignPutObject(presign -> presign
+                .signatureDuration(ttl)
+                .putObjectRequest(putObjectRequest));
+    }
+
+    public HeadObjectResponse head(String key) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (S3Exception e) {
+            // HEAD 응답에는 본문이 없어 NoSuchKey 대신 404 S3Exception으로 오는 경우가 있음
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    public void download(String key, Path target) {
+        s3Client.getObject(GetObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .build(),
+                ResponseTransformer.toFile(target));
+    }
+
+    public void deleteKey(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build());
+    }
+
     public void delete(String fileUrl) {
         if (fileUrl == null || fileUrl.isEmpty()) {
             // URL이 없는 경우 아무 작업도 하지 않음
@@ -55,8 +132,8 @@ public class S3UploadService {
         }
 
         try {
-            // URL에서 파일 키(파일 경로 및 이름)를 추출
-            String key = fileUrl.substring(fileUrl.indexOf(bucket + "/") + bucket.length() + 1);
+            // URL에서 파일 키(파일 경로 및 이름)를 추출 (https://버킷이름.s3.리전.amazonaws.com/키)
+            String key = URI.create(fileUrl).getRawPath().substring(1);
             String decodedKey = URLDecoder.decode(key, StandardCharsets.UTF_8);
 
             // 삭제 요청 객체를 생성
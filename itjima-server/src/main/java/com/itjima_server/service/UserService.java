@@ -13,6 +13,7 @@ import com.itjima_server.exception.user.NotFoundUserException;
 import com.itjima_server.mapper.AgreementMapper;
 import com.itjima_server.mapper.RefreshTokenMapper;
 import com.itjima_server.mapper.UserMapper;
+import com.itjima_server.security.TokenVersionRegistry;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -33,6 +34,8 @@ public class UserService {
     private final UserMapper userMapper;
     private final RefreshTokenMapper refreshTokenMapper;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final ChangeStampService changeStampService;
 
     /**
      * 대여 목록 조회 (무한 스크롤 커서 기반)
@@ -114,8 +117,11 @@ public class UserService {
             String newPassword = passwordEncoder.encode(req.getNewPassword());
             user.setPassword(newPassword);
             checkUpdateResult(userMapper.updatePasswordById(id, newPassword), "비밀번호 변경에 실패했습니다.");
+            tokenVersionRegistry.revokeAll(id);
         }
 
+        // 대시보드 응답에 전화번호가 들어 있으므로 캐시와 ETag를 무효화
+        changeStampService.touch(id);
         return UserResponseDTO.from(user);
     }
 
@@ -133,6 +139,9 @@ public class UserService {
 
         refreshTokenMapper.deleteByUserId(id);
         checkUpdateResult(userMapper.updateDeleteStatusById(id), "회원 탈퇴 중 오류가 발생했습니다.");
+        tokenVersionRegistry.revokeAll(id);
+        // 상대방의 대여 목록/상세에 이 사용자 정보가 함께 나가므로 상대방 캐시도 무효화
+        changeStampService.touchPartners(id);
     }
 
     /**
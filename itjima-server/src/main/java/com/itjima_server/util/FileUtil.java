@@ -57,6 +57,19 @@ public class FileUtil {
         return null;
     }
 
+    public static String write(byte[] content, String key, String uploadDir) {
+        try {
+            // key 예: "items/1/file.jpg" -> 파일 "uploads/items/1/file.jpg", URL "/uploads/items/1/file.jpg"
+            Path filePath = Paths.get(uploadDir + key);
+            Files.createDirectories(filePath.getParent());
+            Files.write(filePath, content);
+            return "/uploads/" + key;
+        } catch (IOException e) {
+            log.error(e.getMessage());
+            throw new RuntimeException("파일 저장 중 오류가 발생했습니다.", e);
+        }
+    }
+
     public static void delete(String fileUrl, String uploadDir) {
         if (fileUrl != null && !fileUrl.isEmpty()) {
             try {
@@ -0,0 +1,219 @@
+package com.itjima_server.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 업로드 이미지 변환 유틸리티 (디코딩, EXIF 방향 보정, 축소, JPEG 인코딩)
+ * <p>
+ * 새로 그린 이미지를 메타데이터 없이 인코딩하므로 결과물에는 EXIF(촬영 위치 등)가 남지 않는다. 방향 정보도 함께 사라지므로 인코딩
+ * 전에 {@link #orient(BufferedImage, int)}로 픽셀을 돌려 둔다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+public class ImageUtil {
+
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    /**
+     * JPEG 앞부분에서 EXIF 방향 값 읽기
+     *
+     * @param head 파일 앞부분 (APP1 세그먼트를 포함할 만큼)
+     * @return 방향 값 1~8 (JPEG이 아니거나 정보가 없으면 1)
+     */
+    public static int readOrientation(byte[] head) {
+        ByteBuffer buffer = ByteBuffer.wrap(head);
+        if (head.length < 4 || buffer.getShort(0) != (short) 0xFFD8) {
+            return 1;
+        }
+        int position = 2;
+        while (position + 4 <= head.length && (head[position] & 0xFF) == 0xFF) {
+            int marker = head[position + 1] & 0xFF;
+            int length = buffer.getShort(position + 2) & 0xFFFF;
+            if (marker == 0xDA) {
+                // 이미지 데이터 시작: 더 이상 메타데이터 없음
+                return 1;
+            }
+            if (marker == 0xE1 && position + 10 <= head.length
+                    && buffer.getInt(position + 4) == 0x45786966) {
+                return readTiffOrientation(buffer, position + 10,
+                        Math.min(head.length, position + 2 + length));
+            }
+            position += 2 + length;
+        }
+        return 1;
+    }
+
+    /**
+     * 긴 변이 maxEdge 이상으로 남는 만큼만 건너뛰며 디코딩 (큰 원본을 통째로 메모리에 올리지 않기 위해)
+     *
+     * @param file      이미지 파일
+     * @param maxEdge   필요한 긴 변의 최대 크기
+     * @param maxPixels 허용하는 원본 픽셀 수
+     * @return 디코딩한 이미지
+     * @throws IllegalArgumentException 지원하지 않는 형식이거나 해상도가 너무 큰 경우
+     */
+    public static BufferedImage decode(Path file, int maxEdge, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다.");
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / maxEdge);
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * EXIF 방향 값에 맞게 픽셀을 돌려 바로 선 이미지로 변환
+     *
+     * @param image       디코딩한 이미지
+     * @param orientation EXIF 방향 값 (1이면 그대로)
+     * @return 바로 선 이미지
+     */
+    public static BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+        boolean swap = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+
+    /**
+     * 긴 변이 maxEdge를 넘지 않게 축소 (투명 영역은 흰색으로 채운 RGB 이미지)
+     *
+     * @param image   원본 이미지
+     * @param maxEdge 긴 변의 최대 크기
+     * @return 축소한 이미지 (이미 작으면 크기 그대로)
+     */
+    public static BufferedImage resize(BufferedImage image, int maxEdge) {
+        int longEdge = Math.max(image.getWidth(), image.getHeight());
+        double scale = Math.min(1.0, (double) maxEdge / longEdge);
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        // 한 번에 크게 줄이면 쌍선형 보간에서 계단 현상이 생기므로 절반씩 줄여 나감
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    /**
+     * 메타데이터 없이 JPEG 인코딩
+     *
+     * @param image   RGB 이미지
+     * @param quality 압축 품질 (0.0 ~ 1.0)
+     * @return JPEG 바이트
+     */
+    public static byte[] toJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static int readTiffOrientation(ByteBuffer buffer, int tiffStart, int end) {
+        if (tiffStart + 8 > end) {
+            return 1;
+        }
+        short byteOrder = buffer.getShort(tiffStart);
+        ByteBuffer tiff = buffer.duplicate().order(
+                byteOrder == 0x4949 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifd = tiffStart + tiff.getInt(tiffStart + 4);
+        if (ifd + 2 > end) {
+            return 1;
+        }
+        int entries = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == EXIF_ORIENTATION_TAG) {
+                int orientation = tiff.getShort(entry + 8) & 0xFFFF;
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+}
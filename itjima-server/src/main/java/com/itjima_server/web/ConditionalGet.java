@@ -0,0 +1,24 @@
+package com.itjima_server.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 로그인한 사용자의 변경 스탬프로 ETag를 붙이고, If-None-Match가 일치하면 304로 응답할 조회 API
+ * <p>
+ * 응답이 로그인한 사용자의 대여/물품 데이터로만 결정되는 API에만 붙인다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    /**
+     * 응답이 오늘 날짜에 따라 달라지는지 여부 (D-day 계산 등). true면 날짜가 바뀔 때 ETag도 바뀐다.
+     */
+    boolean daily() default false;
+}
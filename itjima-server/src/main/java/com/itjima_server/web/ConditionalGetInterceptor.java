@@ -0,0 +1,78 @@
+package com.itjima_server.web;
+
+import com.itjima_server.security.CustomUserDetails;
+import com.itjima_server.service.ChangeStampService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * {@link ConditionalGet}이 붙은 조회 API의 조건부 GET 처리
+ * <p>
+ * 컨트롤러 실행 전에 사용자 변경 스탬프 한 건만 읽어 ETag를 만들고, 클라이언트의 If-None-Match와 같으면 조회 쿼리와 DTO 직렬화
+ * 없이 304로 끝낸다. 스탬프를 먼저 읽으므로 조회 도중 변경이 커밋되면 새 데이터에 이전 ETag가 붙을 수 있지만, 다음 요청에서 스탬프가
+ * 달라 다시 조회하므로 오래된 응답이 남지는 않는다. 읽은 스탬프 버전은 {@link #STAMP_VERSION} 요청 속성으로 남겨, 컨트롤러가
+ * 서버 메모리 캐시를 검증할 때 다시 읽지 않게 한다.
+ *
+ * @author Rege-97
+ * @since 2026-10-17
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    /**
+     * preHandle에서 읽은 사용자 변경 스탬프 버전 요청 속성 (Long)
+     */
+    public static final String STAMP_VERSION =
+            "com.itjima_server.web.ConditionalGetInterceptor.stampVersion";
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate()
+            .getHeaderValue();
+
+    private final ChangeStampService changeStampService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !(authentication.getPrincipal() instanceof CustomUserDetails user)) {
+            return true;
+        }
+
+        // 캐시하되 매번 재검증하도록 (Spring Security 기본 no-store 대신)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        long version = changeStampService.versionOf(user.getId());
+        request.setAttribute(STAMP_VERSION, version);
+        String etag = etagOf(user.getId(), version, conditionalGet.daily());
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+    private static String etagOf(long userId, long version, boolean daily) {
+        StringBuilder etag = new StringBuilder("W/\"").append(userId).append('-')
+                .append(version);
+        if (daily) {
+            etag.append('-').append(LocalDate.now());
+        }
+        return etag.append('"').toString();
+    }
+}
@@ -4,6 +4,7 @@ import com.itjima_server.common.ApiResponseDTO;
 import com.itjima_server.exception.common.InvalidStateException;
 import com.itjima_server.exception.common.NotAuthorException;
 import com.itjima_server.exception.common.NotFoundException;
+import com.itjima_server.exception.common.ServiceUnavailableException;
 import com.itjima_server.exception.user.DuplicateUserFieldException;
 import com.itjima_server.exception.user.InvalidRefreshTokenException;
 import com.itjima_server.exception.user.LoginFailedException;
@@ -11,6 +12,7 @@ import com.itjima_server.exception.common.NotInsertException;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -98,6 +100,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResponseDTO.error(HttpStatus.CONFLICT.value(), e.getMessage()));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<?> handleServiceUnavailableException(ServiceUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponseDTO.error(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleException(Exception e) {
         log.error(e.getMessage(), e);
@@ -0,0 +1,32 @@
+-- 기존 DB용: AGREEMENTS에 채권자/채무자 ID 컬럼 추가 및 백필
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+
+-- 1. 컬럼 추가 (백필 전까지 NULL 허용)
+ALTER TABLE `AGREEMENTS`
+    ADD COLUMN `creditor_id` bigint NULL COMMENT '채권자ID (AGREEMENT_PARTIES의 CREDITOR와 동일)' AFTER `item_id`,
+    ADD COLUMN `debtor_id`   bigint NULL COMMENT '채무자ID (AGREEMENT_PARTIES의 DEBTOR와 동일)' AFTER `creditor_id`;
+
+-- 2. AGREEMENT_PARTIES에서 백필
+UPDATE `AGREEMENTS` a
+    JOIN `AGREEMENT_PARTIES` creditor_party
+    ON creditor_party.agreement_id = a.id AND creditor_party.role = 'CREDITOR'
+    JOIN `AGREEMENT_PARTIES` debtor_party
+    ON debtor_party.agreement_id = a.id AND debtor_party.role = 'DEBTOR'
+SET a.creditor_id = creditor_party.user_id,
+    a.debtor_id   = debtor_party.user_id
+WHERE a.creditor_id IS NULL;
+
+-- 3. 백필되지 않은 행 확인 (0이어야 다음 단계 진행)
+SELECT COUNT(*) AS missing_party_ids
+FROM `AGREEMENTS`
+WHERE creditor_id IS NULL
+   OR debtor_id IS NULL;
+
+-- 4. 제약 조건과 인덱스
+ALTER TABLE `AGREEMENTS`
+    MODIFY COLUMN `creditor_id` bigint NOT NULL COMMENT '채권자ID (AGREEMENT_PARTIES의 CREDITOR와 동일)',
+    MODIFY COLUMN `debtor_id`   bigint NOT NULL COMMENT '채무자ID (AGREEMENT_PARTIES의 DEBTOR와 동일)',
+    ADD KEY `idx_creditor_id` (`creditor_id`, `id`),
+    ADD KEY `idx_debtor_id` (`debtor_id`, `id`),
+    ADD CONSTRAINT `fk_agreements_creditor` FOREIGN KEY (`creditor_id`) REFERENCES `USERS` (`id`),
+    ADD CONSTRAINT `fk_agreements_debtor` FOREIGN KEY (`debtor_id`) REFERENCES `USERS` (`id`);
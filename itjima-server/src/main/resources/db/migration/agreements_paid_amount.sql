@@ -0,0 +1,13 @@
+-- 기존 DB용: AGREEMENTS에 누적 상환액 컬럼 추가 및 백필
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+
+ALTER TABLE `AGREEMENTS`
+    ADD COLUMN `paid_amount` decimal(10, 0) NOT NULL DEFAULT '0' COMMENT '승인된 상환 누적액' AFTER `amount`;
+
+UPDATE `AGREEMENTS` a
+    JOIN (SELECT agreement_id, SUM(amount) AS total_paid
+          FROM `TRANSACTIONS`
+          WHERE type = 'REPAYMENT'
+            AND status = 'CONFIRMED'
+          GROUP BY agreement_id) t_sum ON t_sum.agreement_id = a.id
+SET a.paid_amount = t_sum.total_paid;
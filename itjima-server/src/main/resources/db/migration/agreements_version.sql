@@ -0,0 +1,5 @@
+-- 기존 DB용: AGREEMENTS에 상태 변경 버전(낙관적 잠금) 컬럼 추가
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+
+ALTER TABLE `AGREEMENTS`
+    ADD COLUMN `version` int NOT NULL DEFAULT '0' COMMENT '상태 변경 버전(낙관적 잠금)' AFTER `return_date`;
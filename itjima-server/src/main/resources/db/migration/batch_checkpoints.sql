@@ -0,0 +1,16 @@
+-- 기존 DB용: 배치 체크포인트 테이블과 연체 배치용 AGREEMENTS (status, id) 인덱스 추가
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+
+CREATE TABLE IF NOT EXISTS `BATCH_CHECKPOINTS`
+(
+    `job_name`     varchar(50) NOT NULL COMMENT '배치 이름',
+    `run_key`      varchar(50) NOT NULL COMMENT '실행 구분값(기준일)',
+    `last_id`      bigint      NOT NULL DEFAULT '0' COMMENT '마지막으로 커밋한 청크의 끝 ID',
+    `completed_at` datetime             DEFAULT NULL COMMENT '완료일시',
+    `updated_at`   datetime    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일',
+    PRIMARY KEY (`job_name`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='배치 체크포인트';
+
+ALTER TABLE `AGREEMENTS`
+    ADD KEY `idx_status_id` (`status`, `id`);
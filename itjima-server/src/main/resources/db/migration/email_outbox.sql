@@ -0,0 +1,29 @@
+-- 기존 DB용: 이메일 발송 대기열 테이블 추가
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+-- 본문에는 인증코드 원문이 들어가므로 발송 완료/실패 시 NULL로 비운다.
+
+CREATE TABLE IF NOT EXISTS `EMAIL_OUTBOX`
+(
+    `id`              bigint       NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `recipient`       varchar(256) NOT NULL COMMENT '수신자 이메일',
+    `subject`         varchar(255) NOT NULL COMMENT '제목',
+    `body`            text                  DEFAULT NULL COMMENT '본문(발송 완료/실패 후 삭제)',
+    `status`          varchar(20)  NOT NULL DEFAULT 'PENDING' COMMENT '상태(PENDING, SENDING, SENT, FAILED)',
+    `attempts`        int          NOT NULL DEFAULT '0' COMMENT '발송 시도 횟수',
+    `next_attempt_at` datetime     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '다음 발송 시도 일시(SENDING이면 점유 만료 일시)',
+    `last_error`      varchar(500)          DEFAULT NULL COMMENT '마지막 오류 메시지',
+    `created_at`      datetime     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일',
+    `sent_at`         datetime              DEFAULT NULL COMMENT '발송일',
+    PRIMARY KEY (`id`),
+    KEY `idx_status_next_attempt_at` (`status`, `next_attempt_at`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='이메일 발송 대기열';
+
+-- 이미 만들어 둔 경우: 본문 NULL 허용으로 바꾸고 발송이 끝난 행의 본문 비우기
+ALTER TABLE `EMAIL_OUTBOX`
+    MODIFY COLUMN `body` text DEFAULT NULL COMMENT '본문(발송 완료/실패 후 삭제)';
+
+UPDATE `EMAIL_OUTBOX`
+SET body = NULL
+WHERE status IN ('SENT', 'FAILED')
+  AND body IS NOT NULL;
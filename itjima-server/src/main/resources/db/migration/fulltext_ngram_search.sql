@@ -0,0 +1,9 @@
+-- 기존 DB용: 목록 검색용 ngram FULLTEXT 인덱스 추가
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+-- 검색어 변환(SearchKeyword)은 ngram_token_size 기본값 2를 전제로 한다.
+
+ALTER TABLE `ITEMS`
+    ADD FULLTEXT KEY `ft_items_title_description` (`title`, `description`) WITH PARSER ngram;
+
+ALTER TABLE `USERS`
+    ADD FULLTEXT KEY `ft_users_name` (`name`) WITH PARSER ngram;
@@ -0,0 +1,10 @@
+-- 기존 DB용: 물품 이미지 비동기 처리(썸네일/상태) 컬럼 추가
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+-- 기존 이미지는 원본 그대로 두며, 썸네일은 이미지를 다시 올릴 때 만들어진다.
+
+ALTER TABLE `ITEMS`
+    ADD COLUMN `thumbnail_url` varchar(2048) NULL COMMENT '목록용 썸네일 경로' AFTER `file_type`,
+    ADD COLUMN `image_status`  varchar(20)   NULL COMMENT '이미지 처리 상태 (PROCESSING, READY, FAILED)' AFTER `thumbnail_url`,
+    ADD COLUMN `image_job_id`  char(36)      NULL COMMENT '처리 중인 이미지 작업ID' AFTER `image_status`,
+    ADD COLUMN `image_job_started_at` datetime NULL COMMENT '이미지 작업 시작일시' AFTER `image_job_id`,
+    ADD KEY `idx_image_job_started_at` (`image_job_started_at`);
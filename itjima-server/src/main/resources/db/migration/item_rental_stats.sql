@@ -0,0 +1,32 @@
+-- 기존 DB용: 물품별 대여 통계 컬럼 추가 및 백필
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+-- 백필 이후 어긋난 값은 물품 통계 재계산 배치(ItemStatsRebuildService)가 바로잡는다.
+
+ALTER TABLE `ITEMS`
+    ADD COLUMN `loan_count`        int         NOT NULL DEFAULT '0' COMMENT '완료된 대여 횟수' AFTER `file_type`,
+    ADD COLUMN `total_rental_days` int         NOT NULL DEFAULT '0' COMMENT '완료된 대여의 총 대여일' AFTER `loan_count`,
+    ADD COLUMN `last_debtor_name`  varchar(64) NULL COMMENT '마지막(가장 최근 반납) 대여자 이름' AFTER `total_rental_days`,
+    ADD COLUMN `last_returned_at`  datetime    NULL COMMENT '마지막 반납일시' AFTER `last_debtor_name`;
+
+UPDATE `ITEMS` i
+    JOIN (SELECT r.item_id,
+                 COUNT(*)                                       AS loan_count,
+                 SUM(r.rental_days)                             AS total_rental_days,
+                 MAX(CASE WHEN r.rn = 1 THEN r.debtor_name END) AS last_debtor_name,
+                 MAX(r.return_date)                             AS last_returned_at
+          FROM (SELECT a.item_id,
+                       u.name                                          AS debtor_name,
+                       a.return_date,
+                       IFNULL(DATEDIFF(a.due_at, ap.confirm_at) + 1, 0) AS rental_days,
+                       ROW_NUMBER() OVER (PARTITION BY a.item_id
+                           ORDER BY a.return_date DESC, a.id DESC)     AS rn
+                FROM `AGREEMENTS` a
+                         JOIN `AGREEMENT_PARTIES` ap
+                              ON a.id = ap.agreement_id AND ap.role = 'DEBTOR'
+                         JOIN `USERS` u ON ap.user_id = u.id
+                WHERE a.status = 'COMPLETED') r
+          GROUP BY r.item_id) s ON s.item_id = i.id
+SET i.loan_count        = s.loan_count,
+    i.total_rental_days = s.total_rental_days,
+    i.last_debtor_name  = s.last_debtor_name,
+    i.last_returned_at  = s.last_returned_at;
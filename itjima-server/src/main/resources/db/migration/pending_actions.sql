@@ -0,0 +1,30 @@
+-- 기존 DB용: 처리 대기 요청함 테이블 추가 및 현재 PENDING인 대여/상환 요청 백필
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+
+CREATE TABLE IF NOT EXISTS `PENDING_ACTIONS`
+(
+    `id`           bigint                          NOT NULL AUTO_INCREMENT COMMENT '요청ID',
+    `user_id`      bigint                          NOT NULL COMMENT '요청을 처리할 사용자ID',
+    `source`       enum ('AGREEMENT','TRANSACTION') NOT NULL COMMENT '출처',
+    `source_id`    bigint                          NOT NULL COMMENT '출처 행ID (AGREEMENTS.id 또는 TRANSACTIONS.id)',
+    `agreement_id` bigint                          NOT NULL COMMENT '대여ID',
+    `requester_id` bigint                          NOT NULL COMMENT '요청을 보낸 사용자ID',
+    `created_at`   datetime                        NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '요청일',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_pending_actions_source` (`source`, `source_id`),
+    KEY `idx_pending_actions_user_created` (`user_id`, `created_at`, `id`),
+    CONSTRAINT `fk_pending_actions_user` FOREIGN KEY (`user_id`) REFERENCES `USERS` (`id`) ON DELETE CASCADE,
+    CONSTRAINT `fk_pending_actions_agreement` FOREIGN KEY (`agreement_id`) REFERENCES `AGREEMENTS` (`id`) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='처리 대기 요청함';
+
+INSERT IGNORE INTO PENDING_ACTIONS (user_id, source, source_id, agreement_id, requester_id, created_at)
+SELECT a.debtor_id, 'AGREEMENT', a.id, a.id, a.creditor_id, a.created_at
+FROM AGREEMENTS a
+WHERE a.status = 'PENDING';
+
+INSERT IGNORE INTO PENDING_ACTIONS (user_id, source, source_id, agreement_id, requester_id, created_at)
+SELECT a.creditor_id, 'TRANSACTION', t.id, a.id, a.debtor_id, t.created_at
+FROM TRANSACTIONS t
+       JOIN AGREEMENTS a ON a.id = t.agreement_id
+WHERE t.status = 'PENDING';
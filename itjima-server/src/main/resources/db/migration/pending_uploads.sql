@@ -0,0 +1,19 @@
+-- 기존 DB용: 물품 이미지 직접 업로드(서명된 PUT URL) 확인 대기 테이블 추가
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+
+CREATE TABLE IF NOT EXISTS `PENDING_UPLOADS`
+(
+    `id`           char(36)     NOT NULL COMMENT '업로드ID',
+    `item_id`      bigint       NOT NULL COMMENT '대여품목ID',
+    `user_id`      bigint       NOT NULL COMMENT '업로드한 사용자ID',
+    `object_key`   varchar(255) NOT NULL COMMENT '저장소 경로',
+    `content_type` varchar(100) NOT NULL COMMENT '서명한 파일 타입',
+    `size`         bigint       NOT NULL COMMENT '서명한 파일 크기',
+    `expires_at`   datetime     NOT NULL COMMENT 'URL 만료일시',
+    `created_at`   datetime     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '발급일시',
+    PRIMARY KEY (`id`),
+    KEY `idx_expires_at` (`expires_at`),
+    CONSTRAINT `fk_pending_uploads_item` FOREIGN KEY (`item_id`) REFERENCES `ITEMS` (`id`),
+    CONSTRAINT `fk_pending_uploads_user` FOREIGN KEY (`user_id`) REFERENCES `USERS` (`id`) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='확인 대기 중인 직접 업로드';
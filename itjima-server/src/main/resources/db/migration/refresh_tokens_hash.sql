@@ -0,0 +1,20 @@
+-- 기존 DB용: REFRESH_TOKENS의 토큰 원문을 SHA-256 해시로 교체하고 회전/만료 정리용 인덱스 추가
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+-- SHA2(token, 256)은 HashUtil.sha256Hex와 같은 소문자 16진수이므로 기존 세션은 다시 로그인하지 않아도 된다.
+
+-- 1. 해시 컬럼 추가 (백필 전까지 NULL 허용)
+ALTER TABLE `REFRESH_TOKENS`
+    ADD COLUMN `token_hash`          char(64) NULL COMMENT '리프레시 토큰 SHA-256 해시' AFTER `user_id`,
+    ADD COLUMN `previous_token_hash` char(64) DEFAULT NULL COMMENT '직전 회전 토큰 해시(재사용 탐지용)' AFTER `token_hash`;
+
+-- 2. 기존 토큰 원문에서 백필
+UPDATE `REFRESH_TOKENS`
+SET token_hash = SHA2(token, 256)
+WHERE token_hash IS NULL;
+
+-- 3. 원문 컬럼 삭제, 제약 및 인덱스 추가
+ALTER TABLE `REFRESH_TOKENS`
+    DROP COLUMN `token`,
+    MODIFY COLUMN `token_hash` char(64) NOT NULL COMMENT '리프레시 토큰 SHA-256 해시',
+    ADD UNIQUE KEY `uk_token_hash` (`token_hash`),
+    ADD KEY `idx_expiry_date` (`expiry_date`);
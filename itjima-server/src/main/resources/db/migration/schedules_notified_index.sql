@@ -0,0 +1,5 @@
+-- 기존 DB용: 리마인드 배치의 청크 경계 조회용 SCHEDULES (notified, id) 인덱스 추가
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+
+ALTER TABLE `SCHEDULES`
+    ADD KEY `idx_notified_id` (`notified`, `id`);
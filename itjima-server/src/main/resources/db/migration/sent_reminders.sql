@@ -0,0 +1,49 @@
+-- 기존 DB용: 리마인드 발송 기록 테이블 추가, 기존 발송 내역으로 채운 뒤 SCHEDULES 삭제
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+-- 새 리마인드 배치는 SENT_REMINDERS에 기록이 없는 대여에 다시 발송하므로, 배포 전에 적용해야 중복 알림이 나가지 않는다.
+
+-- 1. 발송 기록 테이블과 리마인드 대상 조회용 인덱스 추가
+CREATE TABLE IF NOT EXISTS `SENT_REMINDERS`
+(
+    `agreement_id` bigint      NOT NULL COMMENT '대여ID',
+    `reminder_key` varchar(10) NOT NULL COMMENT '리마인드 종류 (D-7, D-3, D-1, D-DAY, OVERDUE)',
+    `due_at`       date        NOT NULL COMMENT '발송 당시 반납예정일',
+    `sent_at`      datetime    NOT NULL COMMENT '발송시각',
+    PRIMARY KEY (`agreement_id`, `reminder_key`, `due_at`),
+    CONSTRAINT `fk_sent_reminders_agreement` FOREIGN KEY (`agreement_id`) REFERENCES `AGREEMENTS` (`id`) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='리마인드 발송 기록';
+
+ALTER TABLE `AGREEMENTS`
+    ADD KEY `idx_status_due_at` (`status`, `due_at`);
+
+-- 2. 발송된 반납 예정일 리마인드 기록 (일정일 + 남은 일수가 현재 반납 예정일과 같을 때만; 연장된 대여는 새 날짜 기준으로 다시 발송)
+INSERT IGNORE INTO `SENT_REMINDERS` (agreement_id, reminder_key, due_at, sent_at)
+SELECT s.agreement_id, k.reminder_key, a.due_at, NOW()
+FROM `SCHEDULES` s
+         JOIN (SELECT 'D_MINUS_7' AS schedule_type, 'D-7' AS reminder_key, 7 AS offset_days
+               UNION ALL SELECT 'D_MINUS_3', 'D-3', 3
+               UNION ALL SELECT 'D_MINUS_1', 'D-1', 1
+               UNION ALL SELECT 'D_DAY', 'D-DAY', 0) k ON k.schedule_type = s.schedule_type
+         JOIN `AGREEMENTS` a ON a.id = s.agreement_id
+WHERE s.notified = 1
+  AND DATE(s.due_at) + INTERVAL k.offset_days DAY = a.due_at
+  AND a.status IN ('ACCEPTED', 'OVERDUE');
+
+-- 3. 이미 연체 알림을 받은 연체 대여 기록 (발송된 OVERDUE 일정이나 OVERDUE 알림이 있는 경우)
+INSERT IGNORE INTO `SENT_REMINDERS` (agreement_id, reminder_key, due_at, sent_at)
+SELECT a.id, 'OVERDUE', a.due_at, NOW()
+FROM `AGREEMENTS` a
+WHERE a.status = 'OVERDUE'
+  AND (EXISTS (SELECT 1
+               FROM `SCHEDULES` s
+               WHERE s.agreement_id = a.id
+                 AND s.schedule_type = 'OVERDUE'
+                 AND s.notified = 1)
+    OR EXISTS (SELECT 1
+               FROM `NOTIFICATIONS` n
+               WHERE n.agreement_id = a.id
+                 AND n.type = 'OVERDUE'));
+
+-- 4. 더 이상 쓰지 않는 일정 테이블 삭제
+DROP TABLE IF EXISTS `SCHEDULES`;
@@ -0,0 +1,13 @@
+-- 기존 DB용: 조건부 GET(ETag)용 사용자별 변경 스탬프 테이블 추가
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+-- 행이 없는 사용자는 버전 0으로 취급하므로 백필은 필요 없다.
+
+CREATE TABLE IF NOT EXISTS `USER_CHANGE_STAMPS`
+(
+    `user_id`    bigint   NOT NULL COMMENT '사용자ID',
+    `version`    bigint   NOT NULL DEFAULT '0' COMMENT '사용자에게 보이는 대여/물품이 바뀔 때마다 증가',
+    `updated_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일',
+    PRIMARY KEY (`user_id`),
+    CONSTRAINT `fk_user_change_stamps_user` FOREIGN KEY (`user_id`) REFERENCES `USERS` (`id`) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='사용자별 변경 스탬프';
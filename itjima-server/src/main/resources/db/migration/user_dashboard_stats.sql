@@ -0,0 +1,45 @@
+-- 기존 DB용: 사용자별 대시보드 카운터 테이블 추가 및 백필
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+-- 백필 이후 어긋난 값은 정합성 점검 배치(DashboardStatsCheckService)가 바로잡는다.
+
+CREATE TABLE IF NOT EXISTS `USER_DASHBOARD_STATS`
+(
+    `user_id`            bigint   NOT NULL COMMENT '사용자ID',
+    `active_lent`        int      NOT NULL DEFAULT '0' COMMENT '빌려준 진행 중(ACCEPTED/OVERDUE) 대여 수',
+    `active_borrowed`    int      NOT NULL DEFAULT '0' COMMENT '빌린 진행 중(ACCEPTED/OVERDUE) 대여 수',
+    `overdue_lent`       int      NOT NULL DEFAULT '0' COMMENT '빌려준 연체 대여 수',
+    `overdue_borrowed`   int      NOT NULL DEFAULT '0' COMMENT '빌린 연체 대여 수',
+    `pending_requests`   int      NOT NULL DEFAULT '0' COMMENT '응답 대기 중인 받은 대여 요청 수',
+    `pending_repayments` int      NOT NULL DEFAULT '0' COMMENT '승인 대기 중인 받은 상환 요청 수',
+    `updated_at`         datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일',
+    PRIMARY KEY (`user_id`),
+    CONSTRAINT `fk_user_dashboard_stats_user` FOREIGN KEY (`user_id`) REFERENCES `USERS` (`id`) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='사용자별 대시보드 카운터';
+
+INSERT INTO `USER_DASHBOARD_STATS` (user_id, active_lent, active_borrowed, overdue_lent,
+                                    overdue_borrowed, pending_requests, pending_repayments)
+SELECT u.id,
+       IFNULL(c.active, 0),
+       IFNULL(d.active, 0),
+       IFNULL(c.overdue, 0),
+       IFNULL(d.overdue, 0),
+       IFNULL(d.pending, 0),
+       IFNULL(p.repayments, 0)
+FROM `USERS` u
+       LEFT JOIN (SELECT creditor_id,
+                         SUM(status IN ('ACCEPTED', 'OVERDUE')) AS active,
+                         SUM(status = 'OVERDUE')                AS overdue
+                  FROM `AGREEMENTS`
+                  GROUP BY creditor_id) c ON c.creditor_id = u.id
+       LEFT JOIN (SELECT debtor_id,
+                         SUM(status IN ('ACCEPTED', 'OVERDUE')) AS active,
+                         SUM(status = 'OVERDUE')                AS overdue,
+                         SUM(status = 'PENDING')                AS pending
+                  FROM `AGREEMENTS`
+                  GROUP BY debtor_id) d ON d.debtor_id = u.id
+       LEFT JOIN (SELECT a.creditor_id, COUNT(*) AS repayments
+                  FROM `TRANSACTIONS` t
+                         JOIN `AGREEMENTS` a ON a.id = t.agreement_id
+                  WHERE t.status = 'PENDING'
+                  GROUP BY a.creditor_id) p ON p.creditor_id = u.id;
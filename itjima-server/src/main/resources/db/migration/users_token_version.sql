@@ -0,0 +1,6 @@
+-- 기존 DB용: USERS에 액세스 토큰 버전 컬럼 추가
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+-- 기존 사용자는 0에서 시작하고, 버전 클레임이 없는 기존 토큰은 만료될 때까지 예전 방식으로 검증된다.
+
+ALTER TABLE `USERS`
+    ADD COLUMN `token_version` int NOT NULL DEFAULT '0' COMMENT '액세스 토큰 버전(증가 시 기존 토큰 무효화)' AFTER `password_token_generated_at`;
@@ -0,0 +1,16 @@
+-- 기존 DB용: 이메일 인증/비밀번호 재설정 인증코드 테이블 추가 (verification.code-store=db일 때 사용)
+-- schema.sql로 새로 만든 DB에는 적용하지 않는다.
+-- 배포 시점에 USERS 토큰 컬럼으로 발급된 코드는 이어받지 않으므로, 진행 중이던 사용자는 인증번호를 재전송해야 한다.
+
+CREATE TABLE IF NOT EXISTS `VERIFICATION_CODES`
+(
+    `purpose`    varchar(30) NOT NULL COMMENT '용도(EMAIL_VERIFICATION, PASSWORD_RESET)',
+    `user_id`    bigint      NOT NULL COMMENT '사용자ID',
+    `code_hash`  char(64)    NOT NULL COMMENT '인증코드 SHA-256 해시',
+    `attempts`   int         NOT NULL DEFAULT '0' COMMENT '실패 시도 횟수',
+    `expires_at` datetime    NOT NULL COMMENT '만료일시',
+    PRIMARY KEY (`purpose`, `user_id`),
+    KEY `idx_expires_at` (`expires_at`),
+    CONSTRAINT `fk_verification_codes_user` FOREIGN KEY (`user_id`) REFERENCES `USERS` (`id`) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='인증코드';
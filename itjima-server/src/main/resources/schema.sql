@@ -19,9 +19,11 @@ CREATE TABLE IF NOT EXISTS `USERS`
     `email_token_generated_at`    datetime              DEFAULT NULL COMMENT '이메일 인증 토큰 생성 시간',
     `password_reset_token`        varchar(255)          DEFAULT NULL COMMENT '비밀번호 재설정 토큰',
     `password_token_generated_at` datetime              DEFAULT NULL COMMENT '비밀번호 재설정 토큰 생성 시간',
+    `token_version`               int          NOT NULL DEFAULT '0' COMMENT '액세스 토큰 버전(증가 시 기존 토큰 무효화)',
     PRIMARY KEY (`id`),
     UNIQUE KEY `uk_email` (`email`),
-    UNIQUE KEY `uk_phone` (`phone`)
+    UNIQUE KEY `uk_phone` (`phone`),
+    FULLTEXT KEY `ft_users_name` (`name`) WITH PARSER ngram
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4 COMMENT ='사용자'
 
@@ -31,16 +33,51 @@ CREATE TABLE IF NOT EXISTS `USERS`
 -- 리프레시 토큰 테이블
 CREATE TABLE IF NOT EXISTS `REFRESH_TOKENS`
 (
-    `id`          bigint       NOT NULL AUTO_INCREMENT COMMENT 'ID',
-    `user_id`     bigint       NOT NULL COMMENT '사용자ID',
-    `token`       varchar(512) NOT NULL COMMENT '리프레시 토큰',
-    `expiry_date` datetime     NOT NULL COMMENT '만료일시',
+    `id`                  bigint   NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `user_id`             bigint   NOT NULL COMMENT '사용자ID',
+    `token_hash`          char(64) NOT NULL COMMENT '리프레시 토큰 SHA-256 해시',
+    `previous_token_hash` char(64)          DEFAULT NULL COMMENT '직전 회전 토큰 해시(재사용 탐지용)',
+    `expiry_date`         datetime NOT NULL COMMENT '만료일시',
     PRIMARY KEY (`id`),
     UNIQUE KEY `uk_user_id` (`user_id`),
+    UNIQUE KEY `uk_token_hash` (`token_hash`),
+    KEY `idx_expiry_date` (`expiry_date`),
     CONSTRAINT `fk_refresh_tokens_user` FOREIGN KEY (`user_id`) REFERENCES `USERS` (`id`) ON DELETE CASCADE
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4 COMMENT ='리프레시 토큰';
 
+-- 인증코드 테이블 (verification.code-store=db 일 때 사용)
+CREATE TABLE IF NOT EXISTS `VERIFICATION_CODES`
+(
+    `purpose`    varchar(30) NOT NULL COMMENT '용도(EMAIL_VERIFICATION, PASSWORD_RESET)',
+    `user_id`    bigint      NOT NULL COMMENT '사용자ID',
+    `code_hash`  char(64)    NOT NULL COMMENT '인증코드 SHA-256 해시',
+    `attempts`   int         NOT NULL DEFAULT '0' COMMENT '실패 시도 횟수',
+    `expires_at` datetime    NOT NULL COMMENT '만료일시',
+    PRIMARY KEY (`purpose`, `user_id`),
+    KEY `idx_expires_at` (`expires_at`),
+    CONSTRAINT `fk_verification_codes_user` FOREIGN KEY (`user_id`) REFERENCES `USERS` (`id`) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='인증코드';
+
+-- 이메일 발송 대기열 테이블
+CREATE TABLE IF NOT EXISTS `EMAIL_OUTBOX`
+(
+    `id`              bigint       NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    `recipient`       varchar(256) NOT NULL COMMENT '수신자 이메일',
+    `subject`         varchar(255) NOT NULL COMMENT '제목',
+    `body`            text                  DEFAULT NULL COMMENT '본문(발송 완료/실패 후 삭제)',
+    `status`          varchar(20)  NOT NULL DEFAULT 'PENDING' COMMENT '상태(PENDING, SENDING, SENT, FAILED)',
+    `attempts`        int          NOT NULL DEFAULT '0' COMMENT '발송 시도 횟수',
+    `next_attempt_at` datetime     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '다음 발송 시도 일시(SENDING이면 점유 만료 일시)',
+    `last_error`      varchar(500)          DEFAULT NULL COMMENT '마지막 오류 메시지',
+    `created_at`      datetime     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일',
+    `sent_at`         datetime              DEFAULT NULL COMMENT '발송일',
+    PRIMARY KEY (`id`),
+    KEY `idx_status_next_attempt_at` (`status`, `next_attempt_at`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='이메일 발송 대기열';
+
 -- 대여품목 테이블
 CREATE TABLE IF NOT EXISTS `ITEMS`
 (
@@ -52,26 +89,76 @@ CREATE TABLE IF NOT EXISTS `ITEMS`
     `status`      varchar(20)  NOT NULL DEFAULT 'AVAILABLE',
     `file_url`    varchar(2048) COMMENT '파일 경로',
     `file_type`   varchar(100) COMMENT '파일 타입',
+    `thumbnail_url` varchar(2048) NULL COMMENT '목록용 썸네일 경로',
+    `image_status`  varchar(20)   NULL COMMENT '이미지 처리 상태 (PROCESSING, READY, FAILED)',
+    `image_job_id`  char(36)      NULL COMMENT '처리 중인 이미지 작업ID',
+    `image_job_started_at` datetime NULL COMMENT '이미지 작업 시작일시',
+    `loan_count`        int         NOT NULL DEFAULT '0' COMMENT '완료된 대여 횟수',
+    `total_rental_days` int         NOT NULL DEFAULT '0' COMMENT '완료된 대여의 총 대여일',
+    `last_debtor_name`  varchar(64) NULL COMMENT '마지막(가장 최근 반납) 대여자 이름',
+    `last_returned_at`  datetime    NULL COMMENT '마지막 반납일시',
     `created_at`  datetime     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '등록일',
     PRIMARY KEY (`id`),
+    KEY `idx_image_job_started_at` (`image_job_started_at`),
+    FULLTEXT KEY `ft_items_title_description` (`title`, `description`) WITH PARSER ngram,
     CONSTRAINT `fk_items_user` FOREIGN KEY (`user_id`) REFERENCES `USERS` (`id`)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4 COMMENT ='대여품목';
 
+-- 확인 대기 중인 물품 이미지 직접 업로드 테이블 (서명된 PUT URL 발급 ~ 확인 요청)
+CREATE TABLE IF NOT EXISTS `PENDING_UPLOADS`
+(
+    `id`           char(36)     NOT NULL COMMENT '업로드ID',
+    `item_id`      bigint       NOT NULL COMMENT '대여품목ID',
+    `user_id`      bigint       NOT NULL COMMENT '업로드한 사용자ID',
+    `object_key`   varchar(255) NOT NULL COMMENT '저장소 경로',
+    `content_type` varchar(100) NOT NULL COMMENT '서명한 파일 타입',
+    `size`         bigint       NOT NULL COMMENT '서명한 파일 크기',
+    `expires_at`   datetime     NOT NULL COMMENT 'URL 만료일시',
+    `created_at`   datetime     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '발급일시',
+    PRIMARY KEY (`id`),
+    KEY `idx_expires_at` (`expires_at`),
+    CONSTRAINT `fk_pending_uploads_item` FOREIGN KEY (`item_id`) REFERENCES `ITEMS` (`id`),
+    CONSTRAINT `fk_pending_uploads_user` FOREIGN KEY (`user_id`) REFERENCES `USERS` (`id`) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='확인 대기 중인 직접 업로드';
+
+-- 배치 체크포인트 테이블 (청크 단위 커밋 배치의 재시작 위치)
+CREATE TABLE IF NOT EXISTS `BATCH_CHECKPOINTS`
+(
+    `job_name`     varchar(50) NOT NULL COMMENT '배치 이름',
+    `run_key`      varchar(50) NOT NULL COMMENT '실행 구분값(기준일)',
+    `last_id`      bigint      NOT NULL DEFAULT '0' COMMENT '마지막으로 커밋한 청크의 끝 ID',
+    `completed_at` datetime             DEFAULT NULL COMMENT '완료일시',
+    `updated_at`   datetime    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일',
+    PRIMARY KEY (`job_name`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='배치 체크포인트';
+
 -- 대여 계약 테이블
 CREATE TABLE IF NOT EXISTS `AGREEMENTS`
 (
     `id`          bigint         NOT NULL AUTO_INCREMENT COMMENT '대여ID',
     `item_id`     bigint         NULL COMMENT '대여품목ID (금전 거래 시 NULL 가능)',
+    `creditor_id` bigint         NOT NULL COMMENT '채권자ID (AGREEMENT_PARTIES의 CREDITOR와 동일)',
+    `debtor_id`   bigint         NOT NULL COMMENT '채무자ID (AGREEMENT_PARTIES의 DEBTOR와 동일)',
     `status`      varchar(20)    NOT NULL COMMENT '상태',
     `amount`      decimal(10, 0) NULL COMMENT '금액',
+    `paid_amount` decimal(10, 0) NOT NULL DEFAULT '0' COMMENT '승인된 상환 누적액',
     `due_at`      date           NOT NULL COMMENT '반납예정일',
     `terms`       text           NULL COMMENT '메모',
     `created_at`  datetime       NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일',
     `updated_at`  datetime       NULL ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일',
     `return_date` datetime       NULL COMMENT '실제 반납일',
+    `version`     int            NOT NULL DEFAULT '0' COMMENT '상태 변경 버전(낙관적 잠금)',
     PRIMARY KEY (`id`),
-    CONSTRAINT `fk_agreements_item` FOREIGN KEY (`item_id`) REFERENCES `ITEMS` (`id`)
+    KEY `idx_status_id` (`status`, `id`),
+    KEY `idx_status_due_at` (`status`, `due_at`),
+    KEY `idx_creditor_id` (`creditor_id`, `id`),
+    KEY `idx_debtor_id` (`debtor_id`, `id`),
+    CONSTRAINT `fk_agreements_item` FOREIGN KEY (`item_id`) REFERENCES `ITEMS` (`id`),
+    CONSTRAINT `fk_agreements_creditor` FOREIGN KEY (`creditor_id`) REFERENCES `USERS` (`id`),
+    CONSTRAINT `fk_agreements_debtor` FOREIGN KEY (`debtor_id`) REFERENCES `USERS` (`id`)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4 COMMENT ='대여 계약';
 
@@ -104,18 +191,62 @@ CREATE TABLE IF NOT EXISTS `TRANSACTIONS`
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4 COMMENT ='상환/거래 기록';
 
--- 일정/리마인드 테이블
-CREATE TABLE IF NOT EXISTS `SCHEDULES`
+-- 리마인드 발송 기록 테이블
+CREATE TABLE IF NOT EXISTS `SENT_REMINDERS`
+(
+    `agreement_id` bigint      NOT NULL COMMENT '대여ID',
+    `reminder_key` varchar(10) NOT NULL COMMENT '리마인드 종류 (D-7, D-3, D-1, D-DAY, OVERDUE)',
+    `due_at`       date        NOT NULL COMMENT '발송 당시 반납예정일',
+    `sent_at`      datetime    NOT NULL COMMENT '발송시각',
+    PRIMARY KEY (`agreement_id`, `reminder_key`, `due_at`),
+    CONSTRAINT `fk_sent_reminders_agreement` FOREIGN KEY (`agreement_id`) REFERENCES `AGREEMENTS` (`id`) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='리마인드 발송 기록';
+
+-- 사용자별 변경 스탬프 테이블 (조건부 GET의 ETag 기준값)
+CREATE TABLE IF NOT EXISTS `USER_CHANGE_STAMPS`
 (
-    `id`            bigint      NOT NULL AUTO_INCREMENT COMMENT 'ID',
-    `agreement_id`  bigint      NOT NULL COMMENT '대여ID',
-    `schedule_type` varchar(10) NOT NULL COMMENT '일정 유형 (D-3, D-1, D-DAY)',
-    `due_at`        datetime    NOT NULL COMMENT '예정일',
-    `notified`      tinyint(1)  NOT NULL DEFAULT '0' COMMENT '알림발송여부',
+    `user_id`    bigint   NOT NULL COMMENT '사용자ID',
+    `version`    bigint   NOT NULL DEFAULT '0' COMMENT '사용자에게 보이는 대여/물품이 바뀔 때마다 증가',
+    `updated_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일',
+    PRIMARY KEY (`user_id`),
+    CONSTRAINT `fk_user_change_stamps_user` FOREIGN KEY (`user_id`) REFERENCES `USERS` (`id`) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='사용자별 변경 스탬프';
+
+-- 처리 대기 요청함 (대여/상환 요청이 PENDING인 동안만 존재)
+CREATE TABLE IF NOT EXISTS `PENDING_ACTIONS`
+(
+    `id`           bigint                          NOT NULL AUTO_INCREMENT COMMENT '요청ID',
+    `user_id`      bigint                          NOT NULL COMMENT '요청을 처리할 사용자ID',
+    `source`       enum ('AGREEMENT','TRANSACTION') NOT NULL COMMENT '출처',
+    `source_id`    bigint                          NOT NULL COMMENT '출처 행ID (AGREEMENTS.id 또는 TRANSACTIONS.id)',
+    `agreement_id` bigint                          NOT NULL COMMENT '대여ID',
+    `requester_id` bigint                          NOT NULL COMMENT '요청을 보낸 사용자ID',
+    `created_at`   datetime                        NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '요청일',
     PRIMARY KEY (`id`),
-    CONSTRAINT `fk_schedules_agreement` FOREIGN KEY (`agreement_id`) REFERENCES `AGREEMENTS` (`id`) ON DELETE CASCADE
+    UNIQUE KEY `uk_pending_actions_source` (`source`, `source_id`),
+    KEY `idx_pending_actions_user_created` (`user_id`, `created_at`, `id`),
+    CONSTRAINT `fk_pending_actions_user` FOREIGN KEY (`user_id`) REFERENCES `USERS` (`id`) ON DELETE CASCADE,
+    CONSTRAINT `fk_pending_actions_agreement` FOREIGN KEY (`agreement_id`) REFERENCES `AGREEMENTS` (`id`) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='처리 대기 요청함';
+
+-- 사용자별 대시보드 카운터 테이블 (대여/상환 상태가 바뀌는 트랜잭션에서 함께 증감)
+CREATE TABLE IF NOT EXISTS `USER_DASHBOARD_STATS`
+(
+    `user_id`            bigint   NOT NULL COMMENT '사용자ID',
+    `active_lent`        int      NOT NULL DEFAULT '0' COMMENT '빌려준 진행 중(ACCEPTED/OVERDUE) 대여 수',
+    `active_borrowed`    int      NOT NULL DEFAULT '0' COMMENT '빌린 진행 중(ACCEPTED/OVERDUE) 대여 수',
+    `overdue_lent`       int      NOT NULL DEFAULT '0' COMMENT '빌려준 연체 대여 수',
+    `overdue_borrowed`   int      NOT NULL DEFAULT '0' COMMENT '빌린 연체 대여 수',
+    `pending_requests`   int      NOT NULL DEFAULT '0' COMMENT '응답 대기 중인 받은 대여 요청 수',
+    `pending_repayments` int      NOT NULL DEFAULT '0' COMMENT '승인 대기 중인 받은 상환 요청 수',
+    `updated_at`         datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일',
+    PRIMARY KEY (`user_id`),
+    CONSTRAINT `fk_user_dashboard_stats_user` FOREIGN KEY (`user_id`) REFERENCES `USERS` (`id`) ON DELETE CASCADE
 ) ENGINE = InnoDB
-  DEFAULT CHARSET = utf8mb4 COMMENT ='일정/리마인드';
+  DEFAULT CHARSET = utf8mb4 COMMENT ='사용자별 대시보드 카운터';
 
 -- 알림 테이블
 CREATE TABLE IF NOT EXISTS `NOTIFICATIONS`
@@ -0,0 +1,129 @@
+package com.itjima_server.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.itjima_server.dto.user.response.KakaoUserInfoDTO;
+import com.itjima_server.exception.common.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class KakaoOAuthClientTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+
+    private KakaoStubServer stub;
+    private KakaoOAuthClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = KakaoStubServer.start();
+        client = new KakaoOAuthClient(new SimpleMeterRegistry(), 500, 300, 2, 50,
+                FAILURE_THRESHOLD, 60_000);
+        ReflectionTestUtils.setField(client, "clientId", "client-id");
+        ReflectionTestUtils.setField(client, "redirectUri", "http://localhost/callback");
+        ReflectionTestUtils.setField(client, "tokenUri",
+                stub.baseUrl() + KakaoStubServer.TOKEN_PATH);
+        ReflectionTestUtils.setField(client, "userInfoUri",
+                stub.baseUrl() + KakaoStubServer.USER_INFO_PATH);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Nested
+    @DisplayName("정상 호출")
+    class SuccessTest {
+
+        @Test
+        @DisplayName("성공 - 토큰 발급 후 사용자 정보 조회")
+        void get_token_and_user_info() {
+            String accessToken = client.getAccessToken("code");
+            KakaoUserInfoDTO userInfo = client.getUserInfo(accessToken);
+
+            assertEquals("stub-access-token", accessToken);
+            assertEquals("1234567890", userInfo.getId());
+            assertEquals("stub@kakao.com", userInfo.getKakaoAccount().getEmail());
+        }
+
+        @Test
+        @DisplayName("실패 - 4xx 응답은 400으로 변환되고 장애로 집계되지 않음")
+        void client_error_does_not_open_circuit() {
+            stub.setStatus(401);
+
+            for (int i = 0; i < FAILURE_THRESHOLD + 1; i++) {
+                assertThrows(IllegalArgumentException.class, () -> client.getAccessToken("code"));
+            }
+            assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+        }
+    }
+
+    @Nested
+    @DisplayName("장애 대응")
+    class FailureTest {
+
+        @Test
+        @DisplayName("실패 - 응답 지연 시 타임아웃 후 503 예외")
+        void read_timeout() {
+            stub.setLatencyMs(1_000);
+
+            long start = System.currentTimeMillis();
+            assertThrows(ServiceUnavailableException.class, () -> client.getAccessToken("code"));
+            assertTrue(System.currentTimeMillis() - start < 1_000);
+        }
+
+        @Test
+        @DisplayName("실패 - 연속 5xx 후 서킷이 열리면 호출 없이 즉시 실패")
+        void circuit_opens_after_consecutive_failures() {
+            stub.setStatus(500);
+            for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+                assertThrows(ServiceUnavailableException.class,
+                        () -> client.getAccessToken("code"));
+            }
+            int requestsBeforeOpen = stub.getRequestCount();
+
+            assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+            assertThrows(ServiceUnavailableException.class, () -> client.getAccessToken("code"));
+            assertEquals(requestsBeforeOpen, stub.getRequestCount());
+        }
+
+        @Test
+        @DisplayName("실패 - 동시 호출 한도를 넘으면 503 예외")
+        void bulkhead_rejects_excess_calls() throws Exception {
+            stub.setLatencyMs(250);
+            ExecutorService pool = Executors.newFixedThreadPool(6);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(pool.submit(() -> client.getAccessToken("code")));
+            }
+
+            int rejected = 0;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    if (e.getCause() instanceof ServiceUnavailableException) {
+                        rejected++;
+                    }
+                }
+            }
+            pool.shutdown();
+
+            assertTrue(rejected >= 4);
+            assertTrue(stub.getRequestCount() <= 2);
+        }
+    }
+}
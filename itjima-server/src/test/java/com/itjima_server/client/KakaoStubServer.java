@@ -0,0 +1,102 @@
+package com.itjima_server.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 카카오 토큰/사용자 정보 API를 흉내 내는 프로세스 내 스텁 서버
+ * <p>
+ * 응답 지연과 응답 상태 코드를 실행 중에 바꿀 수 있어 타임아웃·서킷 브레이커 동작을 외부망 없이 시험할 수 있다. 부하 테스트 시에는
+ * {@link #main(String[])}로 띄운 뒤 kakao token-uri/user-info-uri를 이 서버로 지정한다.
+ */
+public class KakaoStubServer implements AutoCloseable {
+
+    public static final String TOKEN_PATH = "/oauth/token";
+    public static final String USER_INFO_PATH = "/v2/user/me";
+
+    private final HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long latencyMs;
+    private volatile int status = 200;
+
+    public KakaoStubServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext(TOKEN_PATH, exchange -> respond(exchange,
+                "{\"access_token\":\"stub-access-token\",\"token_type\":\"bearer\",\"expires_in\":21599}"));
+        server.createContext(USER_INFO_PATH, exchange -> respond(exchange,
+                "{\"id\":\"1234567890\",\"kakao_account\":{\"email\":\"stub@kakao.com\"},"
+                        + "\"properties\":{\"nickname\":\"스텁\"}}"));
+    }
+
+    public static KakaoStubServer start() throws IOException {
+        KakaoStubServer stub = new KakaoStubServer(0);
+        stub.server.start();
+        return stub;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+        KakaoStubServer stub = new KakaoStubServer(port);
+        if (args.length > 1) {
+            stub.setLatencyMs(Long.parseLong(args[1]));
+        }
+        if (args.length > 2) {
+            stub.setStatus(Integer.parseInt(args[2]));
+        }
+        stub.server.start();
+        System.out.printf("Kakao stub server listening on http://127.0.0.1:%d%n", port);
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        requestCount.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        byte[] bytes = (status == 200 ? body : "{\"error\":\"stub\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=utf-8");
+        try {
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.itjima_server.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SearchKeywordTest {
+
+    @Nested
+    @DisplayName("FULLTEXT 질의 변환")
+    class FullTextTest {
+
+        @Test
+        @DisplayName("성공 - 단어마다 필수 구문 검색으로 변환")
+        void convert_words_to_required_phrases() {
+            SearchKeyword search = SearchKeyword.of("  노트북  충전기 ");
+
+            assertTrue(search.isFullText());
+            assertEquals("노트북  충전기", search.getKeyword());
+            assertEquals("+\"노트북\" +\"충전기\"", search.getBooleanQuery());
+        }
+
+        @Test
+        @DisplayName("성공 - BOOLEAN MODE 연산자는 제거")
+        void strip_boolean_operators() {
+            SearchKeyword search = SearchKeyword.of("-맥북* \"에어\"");
+
+            assertEquals("+\"맥북\" +\"에어\"", search.getBooleanQuery());
+        }
+
+        @Test
+        @DisplayName("성공 - 여러 컬럼 검색용 단어별 구문과 관련도 질의 생성")
+        void build_per_word_phrases() {
+            SearchKeyword search = SearchKeyword.of("아이패드 홍길동");
+
+            assertEquals(List.of("\"아이패드\"", "\"홍길동\""), search.getPhrases());
+            assertEquals("\"아이패드\" \"홍길동\"", search.getRelevanceQuery());
+        }
+    }
+
+    @Nested
+    @DisplayName("LIKE 검색 대체")
+    class LikeFallbackTest {
+
+        @Test
+        @DisplayName("성공 - ngram 토큰보다 짧은 단어가 있으면 LIKE 검색")
+        void fall_back_to_like_for_short_term() {
+            SearchKeyword search = SearchKeyword.of("책 대여");
+
+            assertFalse(search.isFullText());
+            assertEquals("책 대여", search.getKeyword());
+        }
+
+        @Test
+        @DisplayName("성공 - 연산자만 입력하면 LIKE 검색")
+        void fall_back_to_like_for_operators_only() {
+            assertFalse(SearchKeyword.of("+-").isFullText());
+        }
+
+        @Test
+        @DisplayName("성공 - 빈 검색어는 필터 없음")
+        void no_filter_for_blank_keyword() {
+            assertNull(SearchKeyword.of(null));
+            assertNull(SearchKeyword.of("   "));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.itjima_server.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.itjima_server.service.LocalFileStorage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class LocalFileControllerTest {
+
+    private static final String NAME = "3f1c2a9e-7b1d-4c55-9a0e-2f0b6c8d1e47.jpg";
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+    private static final Instant MODIFIED = Instant.parse("2026-10-01T00:00:00Z");
+
+    @TempDir
+    private Path tempDir;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        write("items/7/" + NAME);
+        write("items/7/legacy.jpg");
+        write("pending/" + NAME);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new LocalFileController(new LocalFileStorage(tempDir.toString(), ""))).build();
+    }
+
+    @Nested
+    @DisplayName("파일 제공")
+    class ServeTest {
+
+        @Test
+        @DisplayName("성공 - UUID 이름의 파일은 immutable로 캐시")
+        void serve_content_addressed() throws Exception {
+            MvcResult result = mockMvc.perform(get("/uploads/items/7/" + NAME))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/jpeg"))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL,
+                            "public, max-age=31536000, immutable"))
+                    .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                    .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED,
+                            MODIFIED.toEpochMilli()))
+                    .andReturn();
+
+            assertArrayEquals(CONTENT, result.getResponse().getContentAsByteArray());
+        }
+
+        @Test
+        @DisplayName("성공 - 이름이 내용과 무관한 파일은 매번 재검증")
+        void serve_legacy_name() throws Exception {
+            mockMvc.perform(get("/uploads/items/7/legacy.jpg"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+        }
+
+        @Test
+        @DisplayName("성공 - HEAD는 본문 없이 헤더만")
+        void head_without_body() throws Exception {
+            MvcResult result = mockMvc.perform(head("/uploads/items/7/" + NAME))
+                    .andExpect(status().isOk())
+                    .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+                    .andReturn();
+
+            assertEquals(0, result.getResponse().getContentAsByteArray().length);
+        }
+
+        @Test
+        @DisplayName("성공 - 변경되지 않았으면 304")
+        void not_modified() throws Exception {
+            mockMvc.perform(get("/uploads/items/7/" + NAME)
+                            .header(HttpHeaders.IF_MODIFIED_SINCE, "Thu, 01 Oct 2026 00:00:00 GMT"))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("성공 - sendfile을 지원하면 본문 대신 파일 구간을 컨테이너에 넘김")
+        void hand_off_to_sendfile() throws Exception {
+            MvcResult result = mockMvc.perform(get("/uploads/items/7/" + NAME)
+                            .header(HttpHeaders.RANGE, "bytes=2-5")
+                            .requestAttr("org.apache.tomcat.sendfile.support", true))
+                    .andExpect(status().isPartialContent())
+                    .andReturn();
+
+            MockHttpServletRequest request = result.getRequest();
+            assertEquals(tempDir.resolve("items/7/" + NAME).toAbsolutePath().toString(),
+                    request.getAttribute("org.apache.tomcat.sendfile.filename"));
+            assertEquals(2L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+            assertEquals(6L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+            assertEquals(0, result.getResponse().getContentAsByteArray().length);
+        }
+
+        @Test
+        @DisplayName("실패 - 확인 전인 업로드와 업로드 디렉터리 밖 경로는 404")
+        void hide_pending_and_outside() throws Exception {
+            mockMvc.perform(get("/uploads/pending/" + NAME))
+                    .andExpect(status().isNotFound());
+            mockMvc.perform(get("/uploads/items/7/../../pending/" + NAME))
+                    .andExpect(status().isNotFound());
+            mockMvc.perform(get("/uploads/items/7/missing.jpg"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("바이트 구간")
+    class RangeTest {
+
+        @Test
+        @DisplayName("성공 - 요청한 구간만 206으로")
+        void partial_content() throws Exception {
+            MvcResult result = mockMvc.perform(get("/uploads/items/7/" + NAME)
+                            .header(HttpHeaders.RANGE, "bytes=2-5"))
+                    .andExpect(status().isPartialContent())
+                    .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                    .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                    .andReturn();
+
+            assertEquals("2345", result.getResponse().getContentAsString());
+        }
+
+        @Test
+        @DisplayName("성공 - 끝에서부터의 구간")
+        void suffix_range() throws Exception {
+            MvcResult result = mockMvc.perform(get("/uploads/items/7/" + NAME)
+                            .header(HttpHeaders.RANGE, "bytes=-3"))
+                    .andExpect(status().isPartialContent())
+                    .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10"))
+                    .andReturn();
+
+            assertEquals("789", result.getResponse().getContentAsString());
+        }
+
+        @Test
+        @DisplayName("성공 - If-Range가 맞지 않으면 전체 응답")
+        void if_range_mismatch() throws Exception {
+            mockMvc.perform(get("/uploads/items/7/" + NAME)
+                            .header(HttpHeaders.RANGE, "bytes=2-5")
+                            .header(HttpHeaders.IF_RANGE, "Wed, 30 Sep 2026 00:00:00 GMT"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length));
+        }
+
+        @Test
+        @DisplayName("실패 - 파일 밖의 구간은 416")
+        void range_not_satisfiable() throws Exception {
+            mockMvc.perform(get("/uploads/items/7/" + NAME)
+                            .header(HttpHeaders.RANGE, "bytes=10-"))
+                    .andExpect(status().isRequestedRangeNotSatisfiable())
+                    .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+        }
+    }
+
+    private void write(String key) throws Exception {
+        Path file = tempDir.resolve(key);
+        Files.createDirectories(file.getParent());
+        Files.write(file, CONTENT);
+        Files.setLastModifiedTime(file, FileTime.from(MODIFIED));
+    }
+}
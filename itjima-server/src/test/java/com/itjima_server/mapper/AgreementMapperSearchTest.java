@@ -0,0 +1,124 @@
+package com.itjima_server.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.itjima_server.common.SearchKeyword;
+import com.itjima_server.domain.item.ItemType;
+import com.itjima_server.dto.agreement.request.AgreementCreateRequestDTO;
+import com.itjima_server.dto.agreement.response.AgreementSummaryResponseDTO;
+import com.itjima_server.dto.item.request.ItemCreateRequestDTO;
+import com.itjima_server.dto.user.request.UserRegisterRequestDTO;
+import com.itjima_server.service.AgreementService;
+import com.itjima_server.service.AuthService;
+import com.itjima_server.service.ItemService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// InnoDB FULLTEXT 인덱스는 커밋된 행만 반영하므로 테스트 트랜잭션(@Transactional)으로 감싸지 않음
+@SpringBootTest
+@DisplayName("대여 목록 검색어 매퍼 테스트")
+class AgreementMapperSearchTest {
+
+    private static final int SIZE_PLUS_ONE = 11;
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private AgreementService agreementService;
+    @Autowired
+    private AgreementMapper agreementMapper;
+
+    private Long creditorId;
+    private Long ipadAgreementId;
+    private Long macbookAgreementId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        creditorId = register("김철수", "creditor" + suffix, "010" + suffix.substring(
+                suffix.length() - 8));
+        Long debtorId = register("홍길동", "debtor" + suffix, "011" + suffix.substring(
+                suffix.length() - 8));
+
+        ipadAgreementId = createAgreement(debtorId, "아이패드 프로", "충전기 포함");
+        macbookAgreementId = createAgreement(debtorId, "맥북 에어", "파우치 포함");
+    }
+
+    @Nested
+    @DisplayName("FULLTEXT 검색")
+    class FullTextTest {
+
+        @Test
+        @DisplayName("성공 - 단어가 물품 제목과 상대방 이름에 나뉘어 있어도 검색")
+        void match_words_across_columns() {
+            List<AgreementSummaryResponseDTO> result = search("아이패드 홍길동", true);
+
+            assertEquals(List.of(ipadAgreementId), ids(result));
+            assertTrue(result.get(0).getRelevance().signum() > 0);
+        }
+
+        @Test
+        @DisplayName("성공 - 단어 순서와 관계없이 검색")
+        void match_words_in_any_order() {
+            assertEquals(List.of(ipadAgreementId), ids(search("홍길동 아이패드", false)));
+        }
+
+        @Test
+        @DisplayName("성공 - 한 컬럼 안의 여러 단어도 검색")
+        void match_words_in_same_column() {
+            assertEquals(List.of(macbookAgreementId), ids(search("맥북 에어", false)));
+        }
+
+        @Test
+        @DisplayName("실패 - 어느 컬럼에도 없는 단어가 하나라도 있으면 제외")
+        void exclude_when_any_word_missing() {
+            assertTrue(search("아이패드 이순신", false).isEmpty());
+        }
+    }
+
+    private List<AgreementSummaryResponseDTO> search(String keyword, boolean byRelevance) {
+        SearchKeyword search = SearchKeyword.of(keyword);
+        assertTrue(search.isFullText());
+        return agreementMapper.findAgreementSummariesByUserId(creditorId, search, null,
+                byRelevance, null, null, SIZE_PLUS_ONE);
+    }
+
+    private static List<Long> ids(List<AgreementSummaryResponseDTO> summaries) {
+        return summaries.stream().map(AgreementSummaryResponseDTO::getId).toList();
+    }
+
+    private Long createAgreement(Long debtorId, String title, String description) {
+        ItemCreateRequestDTO itemReq = new ItemCreateRequestDTO();
+        itemReq.setType(ItemType.OBJECT);
+        itemReq.setTitle(title);
+        itemReq.setDescription(description);
+        Long itemId = itemService.create(itemReq, creditorId).getId();
+
+        AgreementCreateRequestDTO agreementReq = new AgreementCreateRequestDTO();
+        agreementReq.setItemId(itemId);
+        agreementReq.setDebtorUserId(debtorId);
+        agreementReq.setAmount(new BigDecimal("10000.00"));
+        agreementReq.setDueAt(LocalDate.now().plusDays(7));
+        agreementReq.setTerms("7일 대여");
+        return agreementService.create(creditorId, agreementReq).getId();
+    }
+
+    private Long register(String name, String emailPrefix, String phone) {
+        UserRegisterRequestDTO req = new UserRegisterRequestDTO();
+        req.setName(name);
+        req.setEmail(emailPrefix + "@example.com");
+        req.setPassword("password123!");
+        req.setPhone(phone);
+        return authService.register(req).getId();
+    }
+}
@@ -0,0 +1,134 @@
+package com.itjima_server.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class AuthenticatedPrincipalCacheTest {
+
+    private static final int MAX_SIZE = 3;
+    private static final long TTL_MS = 60_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticatedPrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 정리 작업을 호출 스레드에서 바로 실행해 크기 상한을 결정적으로 확인
+        cache = new AuthenticatedPrincipalCache(meterRegistry, MAX_SIZE, now::get, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("만료")
+    class ExpiryTest {
+
+        @Test
+        @DisplayName("성공 - 토큰의 exp 전까지는 캐시된 주체 반환")
+        void hit_before_expiration() {
+            cache.put("token-1", principal(1L), expiresIn(TTL_MS));
+
+            now.addAndGet(TTL_MS - 1);
+
+            assertEquals(1L, cache.get("token-1").getId());
+        }
+
+        @Test
+        @DisplayName("성공 - 토큰의 exp가 지나면 캐시에서 빠짐")
+        void miss_after_expiration() {
+            cache.put("token-1", principal(1L), expiresIn(TTL_MS));
+            cache.put("token-2", principal(2L), expiresIn(TTL_MS * 2));
+
+            now.addAndGet(TTL_MS);
+
+            assertNull(cache.get("token-1"));
+            assertEquals(2L, cache.get("token-2").getId());
+        }
+
+        @Test
+        @DisplayName("실패 - 이미 만료된 토큰은 저장하지 않음")
+        void skip_expired_token() {
+            cache.put("token-1", principal(1L), expiresIn(0));
+
+            assertNull(cache.get("token-1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("크기 상한")
+    class SizeTest {
+
+        @Test
+        @DisplayName("성공 - 상한에 이르러도 계속 저장하며 항목 수는 상한을 넘지 않음")
+        void evict_at_capacity() {
+            for (long userId = 1; userId <= MAX_SIZE * 3; userId++) {
+                cache.put("token-" + userId, principal(userId), expiresIn(TTL_MS));
+            }
+
+            assertEquals(MAX_SIZE,
+                    meterRegistry.get("auth.principal.cache.size").gauge().value());
+        }
+    }
+
+    @Nested
+    @DisplayName("사용자 항목 제거")
+    class EvictUserTest {
+
+        @Test
+        @DisplayName("성공 - 해당 사용자의 토큰만 모두 제거")
+        void evict_only_user() {
+            cache.put("token-1", principal(1L), expiresIn(TTL_MS));
+            cache.put("token-1b", principal(1L), expiresIn(TTL_MS));
+            cache.put("token-2", principal(2L), expiresIn(TTL_MS));
+
+            cache.evictUser(1L);
+
+            assertNull(cache.get("token-1"));
+            assertNull(cache.get("token-1b"));
+            assertEquals(2L, cache.get("token-2").getId());
+        }
+
+        @Test
+        @DisplayName("성공 - 트랜잭션 안이면 커밋 전에 다시 캐시된 항목도 커밋 후 제거")
+        void evict_again_after_commit() {
+            TransactionSynchronizationManager.initSynchronization();
+            cache.put("token-1", principal(1L), expiresIn(TTL_MS));
+
+            cache.evictUser(1L);
+            // 커밋 전에 들어온 요청이 변경 전 정보로 다시 캐시
+            cache.put("token-1", principal(1L), expiresIn(TTL_MS));
+            List<TransactionSynchronization> synchronizations =
+                    TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+            assertNull(cache.get("token-1"));
+        }
+    }
+
+    private Date expiresIn(long ms) {
+        return new Date(now.get() + ms);
+    }
+
+    private static CustomUserDetails principal(long userId) {
+        return new CustomUserDetails(userId, "user" + userId + "@example.com", "", List.of());
+    }
+}
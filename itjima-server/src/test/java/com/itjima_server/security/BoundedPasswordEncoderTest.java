@@ -0,0 +1,207 @@
+package com.itjima_server.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.itjima_server.exception.common.ServiceUnavailableException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Nested
+    @DisplayName("해시/검증")
+    class EncodeTest {
+
+        @Test
+        @DisplayName("성공 - 전용 풀에서 해시 후 검증")
+        void encode_and_matches() {
+            encoder = new BoundedPasswordEncoder(4, 1, 4, 5_000);
+
+            String encoded = encoder.encode("password123!");
+
+            assertTrue(encoded.startsWith("$2a$04$"));
+            assertTrue(encoder.matches("password123!", encoded));
+            assertFalse(encoder.matches("wrong", encoded));
+        }
+
+        @Test
+        @DisplayName("성공 - cost가 낮은 해시만 재해시 대상")
+        void upgrade_encoding_when_cost_lower() {
+            encoder = new BoundedPasswordEncoder(5, 1, 4, 5_000);
+
+            assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("pw")));
+            assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("pw")));
+            assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("pw")));
+            assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+        }
+    }
+
+    @Nested
+    @DisplayName("과부하 차단")
+    class SaturationTest {
+
+        @Test
+        @DisplayName("실패 - 큐가 가득 차면 503 예외")
+        void reject_when_queue_is_full() throws Exception {
+            encoder = new BoundedPasswordEncoder(4, 1, 1, 5_000);
+            CountDownLatch release = new CountDownLatch(1);
+            // 작업자 1개와 큐 1칸을 모두 점유
+            encoder.getExecutor().submit(() -> awaitQuietly(release));
+            encoder.getExecutor().submit(() -> awaitQuietly(release));
+
+            try {
+                assertThrows(ServiceUnavailableException.class,
+                        () -> encoder.encode("password123!"));
+            } finally {
+                release.countDown();
+            }
+        }
+
+        @Test
+        @DisplayName("실패 - 대기 시간 초과 시 503 예외")
+        void reject_when_wait_timeout() {
+            encoder = new BoundedPasswordEncoder(4, 1, 4, 50);
+            CountDownLatch release = new CountDownLatch(1);
+            encoder.getExecutor().submit(() -> awaitQuietly(release));
+
+            try {
+                assertThrows(ServiceUnavailableException.class,
+                        () -> encoder.matches("pw", "$2a$04$invalid"));
+            } finally {
+                release.countDown();
+            }
+        }
+    }
+
+    /**
+     * 로그인 폭주 중 비인증 요청의 p99 지연 비교
+     * <p>
+     * 요청 스레드 풀(Tomcat 대용)에 로그인 요청을 쉬지 않고 밀어 넣는 동안 가벼운 일반 요청을 일정 간격으로 보내고, 일반 요청이
+     * 제출부터 완료까지 걸린 시간의 p99를 출력한다. 실행 환경에 따라 수치가 달라지므로 기본 테스트에서는 제외하고
+     * {@code gradle benchmark}로만 실행한다.
+     */
+    @Nested
+    @Tag("benchmark")
+    @DisplayName("벤치마크 - 로그인 폭주 중 일반 요청 p99")
+    class LoginStormBenchmark {
+
+        private static final int REQUEST_THREADS = 32;
+        private static final int STORM_CLIENTS = 64;
+        private static final int OTHER_REQUESTS = 200;
+        private static final long OTHER_INTERVAL_MS = 10;
+        private static final int STRENGTH = 10;
+
+        @Test
+        void compare_p99() throws Exception {
+            String hash = new BCryptPasswordEncoder(STRENGTH).encode("password123!");
+
+            long directP99 = runStorm(new BCryptPasswordEncoder(STRENGTH), hash);
+            encoder = new BoundedPasswordEncoder(STRENGTH,
+                    Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 4, 1_000);
+            long boundedP99 = runStorm(encoder, hash);
+
+            System.out.printf("[benchmark] 일반 요청 p99 - 요청 스레드에서 직접 해시: %dms, 전용 풀: %dms%n",
+                    directP99, boundedP99);
+        }
+
+        private long runStorm(PasswordEncoder passwordEncoder, String hash) throws Exception {
+            ExecutorService requestPool = Executors.newFixedThreadPool(REQUEST_THREADS);
+            ExecutorService stormClients = Executors.newFixedThreadPool(STORM_CLIENTS);
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicInteger logins = new AtomicInteger();
+            AtomicInteger rejected = new AtomicInteger();
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            try {
+                for (int i = 0; i < STORM_CLIENTS; i++) {
+                    stormClients.submit(() -> {
+                        while (running.get()) {
+                            boolean accepted = requestPool.submit(() -> {
+                                try {
+                                    passwordEncoder.matches("password123!", hash);
+                                    logins.incrementAndGet();
+                                    return true;
+                                } catch (ServiceUnavailableException e) {
+                                    rejected.incrementAndGet();
+                                    return false;
+                                }
+                            }).get();
+                            if (!accepted) {
+                                // 503을 받은 클라이언트는 잠시 쉬었다가 재시도
+                                Thread.sleep(5);
+                            }
+                        }
+                        return null;
+                    });
+                }
+
+                List<Future<?>> others = new ArrayList<>();
+                for (int i = 0; i < OTHER_REQUESTS; i++) {
+                    long submittedAt = System.nanoTime();
+                    others.add(requestPool.submit(() -> {
+                        busyWork();
+                        latencies.add(TimeUnit.NANOSECONDS.toMillis(
+                                System.nanoTime() - submittedAt));
+                    }));
+                    Thread.sleep(OTHER_INTERVAL_MS);
+                }
+                for (Future<?> other : others) {
+                    other.get(5, TimeUnit.MINUTES);
+                }
+            } finally {
+                running.set(false);
+                stormClients.shutdown();
+                stormClients.awaitTermination(1, TimeUnit.MINUTES);
+                requestPool.shutdownNow();
+            }
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            long p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+            System.out.printf("[benchmark] %s: p99=%dms, 로그인 처리=%d, 503 응답=%d%n",
+                    passwordEncoder.getClass().getSimpleName(), p99, logins.get(),
+                    rejected.get());
+            return p99;
+        }
+
+        private void busyWork() {
+            long sum = 0;
+            for (int i = 0; i < 100_000; i++) {
+                sum += i % 7;
+            }
+            if (sum < 0) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    private static Object awaitQuietly(CountDownLatch latch) throws InterruptedException {
+        latch.await(5, TimeUnit.SECONDS);
+        return null;
+    }
+}
@@ -0,0 +1,121 @@
+package com.itjima_server.security.verification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.itjima_server.domain.user.VerificationPurpose;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class InMemoryVerificationCodeStoreTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private InMemoryVerificationCodeStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryVerificationCodeStore(MAX_ATTEMPTS, now::get);
+    }
+
+    @Nested
+    @DisplayName("발급/검증")
+    class VerifyTest {
+
+        @Test
+        @DisplayName("성공 - 계정의 코드로 검증하면 소유자를 반환하고 코드는 소모")
+        void verify_by_user() {
+            store.issue(VerificationPurpose.EMAIL_VERIFICATION, 1L, "ABC123", TTL);
+
+            CodeVerification first = store.verify(VerificationPurpose.EMAIL_VERIFICATION, 1L,
+                    "ABC123");
+            CodeVerification second = store.verify(VerificationPurpose.EMAIL_VERIFICATION, 1L,
+                    "ABC123");
+
+            assertEquals(CodeVerification.Status.VALID, first.status());
+            assertEquals(1L, first.userId());
+            assertEquals(CodeVerification.Status.NOT_FOUND, second.status());
+        }
+
+        @Test
+        @DisplayName("성공 - 재발급하면 이전 코드는 무효")
+        void reissue_replaces_previous_code() {
+            store.issue(VerificationPurpose.PASSWORD_RESET, 1L, "OLD111", TTL);
+            store.issue(VerificationPurpose.PASSWORD_RESET, 1L, "NEW222", TTL);
+
+            assertEquals(CodeVerification.Status.NOT_FOUND,
+                    store.verify(VerificationPurpose.PASSWORD_RESET, 1L, "OLD111").status());
+            assertEquals(CodeVerification.Status.VALID,
+                    store.verify(VerificationPurpose.PASSWORD_RESET, 1L, "NEW222").status());
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 코드로는 검증되지 않음")
+        void reject_code_of_other_user() {
+            store.issue(VerificationPurpose.EMAIL_VERIFICATION, 1L, "ABC123", TTL);
+
+            assertEquals(CodeVerification.Status.NOT_FOUND,
+                    store.verify(VerificationPurpose.EMAIL_VERIFICATION, 2L, "ABC123").status());
+            assertTrue(store.hasPending(VerificationPurpose.EMAIL_VERIFICATION, 1L));
+        }
+
+        @Test
+        @DisplayName("실패 - 유효 시간이 지나면 만료")
+        void expired_code() {
+            store.issue(VerificationPurpose.EMAIL_VERIFICATION, 1L, "ABC123", TTL);
+            now.addAndGet(TTL.toMillis());
+
+            assertFalse(store.hasPending(VerificationPurpose.EMAIL_VERIFICATION, 1L));
+            assertEquals(CodeVerification.Status.EXPIRED,
+                    store.verify(VerificationPurpose.EMAIL_VERIFICATION, 1L, "ABC123").status());
+        }
+
+        @Test
+        @DisplayName("실패 - 계정별 검증 실패가 한도에 이르면 코드 폐기")
+        void too_many_attempts() {
+            store.issue(VerificationPurpose.PASSWORD_RESET, 1L, "ABC123", TTL);
+
+            for (int i = 0; i < MAX_ATTEMPTS - 1; i++) {
+                assertEquals(CodeVerification.Status.NOT_FOUND,
+                        store.verify(VerificationPurpose.PASSWORD_RESET, 1L, "WRONG1").status());
+            }
+            assertEquals(CodeVerification.Status.TOO_MANY_ATTEMPTS,
+                    store.verify(VerificationPurpose.PASSWORD_RESET, 1L, "WRONG1").status());
+            assertEquals(CodeVerification.Status.NOT_FOUND,
+                    store.verify(VerificationPurpose.PASSWORD_RESET, 1L, "ABC123").status());
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 정리")
+    class ExpiryTest {
+
+        @Test
+        @DisplayName("성공 - 휠이 만료 시각을 지나면 항목 제거")
+        void advance_removes_expired_entries() {
+            store.issue(VerificationPurpose.EMAIL_VERIFICATION, 1L, "ABC123", TTL);
+            store.issue(VerificationPurpose.EMAIL_VERIFICATION, 2L, "DEF456",
+                    Duration.ofMinutes(20));
+
+            now.addAndGet(TTL.toMillis() + 1_000);
+            store.advance();
+            assertEquals(1, store.size());
+
+            // 휠 한 바퀴(512초)보다 긴 TTL도 만료 전에는 유지
+            now.addAndGet(Duration.ofMinutes(10).toMillis());
+            store.advance();
+            assertEquals(1, store.size());
+
+            now.addAndGet(Duration.ofMinutes(10).toMillis());
+            store.advance();
+            assertEquals(0, store.size());
+        }
+    }
+}
@@ -8,13 +8,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.itjima_server.common.PagedResultDTO;
 import com.itjima_server.domain.agreement.Agreement;
+import com.itjima_server.domain.agreement.AgreementAggregate;
 import com.itjima_server.domain.agreement.AgreementParty;
 import com.itjima_server.domain.agreement.AgreementPartyRole;
 import com.itjima_server.domain.agreement.AgreementStatus;
@@ -53,14 +57,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 public class AgreementServiceTest {
 
-    @InjectMocks
     private AgreementService agreementService;
 
     @Mock
@@ -73,6 +75,14 @@ public class AgreementServiceTest {
     private ItemMapper itemMapper;
     @Mock
     private TransactionMapper transactionMapper;
+    @Mock
+    private ChangeStampService changeStampService;
+    @Mock
+    private DashboardStatsService dashboardStatsService;
+    @Mock
+    private PendingActionService pendingActionService;
+    @Mock
+    private EventStreamService eventStreamService;
 
     private User creditor; // 채권자 (ID: 1)
     private User debtor;   // 채무자 (ID: 2)
@@ -80,6 +90,14 @@ public class AgreementServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 상태 전이는 실제 AgreementTransitionService가 같은 목 매퍼로 수행
+        AgreementTransitionService agreementTransitionService = new AgreementTransitionService(
+                agreementMapper, itemMapper, changeStampService, dashboardStatsService,
+                pendingActionService, eventStreamService);
+        agreementService = new AgreementService(agreementMapper, agreementPartyMapper,
+                userMapper, itemMapper, transactionMapper, null, changeStampService,
+                dashboardStatsService, pendingActionService, eventStreamService,
+                agreementTransitionService);
         creditor = User.builder().id(1L).name("Creditor").build();
         debtor = User.builder().id(2L).name("Debtor").build();
         item = Item.builder().id(10L).userId(creditor.getId()).title("Test Item")
@@ -109,7 +127,7 @@ public class AgreementServiceTest {
             when(itemMapper.findById(item.getId())).thenReturn(item);
             when(agreementMapper.insert(any(Agreement.class))).thenReturn(1);
             when(agreementPartyMapper.insert(any(AgreementParty.class))).thenReturn(1);
-            when(itemMapper.updateStatusById(anyLong(), any(ItemStatus.class))).thenReturn(1);
+            when(itemMapper.transitionStatus(anyLong(), any(), any())).thenReturn(1);
 
             // when
             AgreementResponseDTO res = agreementService.create(creditor.getId(),
@@ -122,8 +140,10 @@ public class AgreementServiceTest {
             assertEquals(debtor.getName(), res.getDebtor().getUser().getName());
             verify(userMapper, times(2)).findById(anyLong());
             verify(itemMapper, times(1)).findById(anyLong());
-            verify(agreementMapper, times(1)).insert(any(Agreement.class));
-            verify(itemMapper, times(1)).updateStatusById(anyLong(), any(ItemStatus.class));
+            verify(agreementMapper, times(1)).insert(
+                    argThat(a -> a.getCreditorId() == creditor.getId()
+                            && a.getDebtorId() == debtor.getId()));
+            verify(itemMapper, times(1)).transitionStatus(anyLong(), any(), any());
         }
 
         @Test
@@ -220,7 +240,7 @@ public class AgreementServiceTest {
         }
 
         @Test
-        @DisplayName("실패 - DB 오류(대여 물품 상태 변경 실패)")
+        @DisplayName("실패 - 다른 요청이 먼저 물품을 대여함")
         void create_fail_when_item_status_update_return_zero() {
             // given
             when(userMapper.findById(creditor.getId())).thenReturn(creditor);
@@ -228,10 +248,10 @@ public class AgreementServiceTest {
             when(itemMapper.findById(item.getId())).thenReturn(item);
             when(agreementMapper.insert(any(Agreement.class))).thenReturn(1);
             when(agreementPartyMapper.insert(any(AgreementParty.class))).thenReturn(1);
-            when(itemMapper.updateStatusById(anyLong(), any(ItemStatus.class))).thenReturn(0);
+            when(itemMapper.transitionStatus(anyLong(), any(), any())).thenReturn(0);
 
             // when & then
-            assertThrows(UpdateFailedException.class,
+            assertThrows(InvalidStateException.class,
                     () -> agreementService.create(creditor.getId(), agreementCreateRequestDTO));
         }
     }
@@ -272,16 +292,13 @@ public class AgreementServiceTest {
         @DisplayName("성공")
         void accept_success() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId())).thenReturn(
-                    List.of(creditorParty, debtorParty));
-            when(agreementMapper.updateStatusById(anyLong(),
-                    any(AgreementStatus.class))).thenReturn(1);
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(agreementMapper.transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong())).thenReturn(1);
             when(agreementPartyMapper.updateConfirmedAtById(anyLong(),
                     any(LocalDateTime.class))).thenReturn(1);
-            when(itemMapper.updateStatusById(anyLong(), any(ItemStatus.class))).thenReturn(1);
-            when(userMapper.findById(creditor.getId())).thenReturn(creditor);
-            when(userMapper.findById(debtor.getId())).thenReturn(debtor);
+            when(itemMapper.transitionStatus(anyLong(), any(), any())).thenReturn(1);
 
             // when
             AgreementResponseDTO res = agreementService.accept(debtor.getId(),
@@ -291,21 +308,25 @@ public class AgreementServiceTest {
             assertNotNull(res);
             assertEquals(agreement.getId(), res.getId());
             assertEquals(AgreementStatus.ACCEPTED, res.getStatus());
-            verify(agreementMapper, times(1)).findById(agreement.getId());
-            verify(agreementPartyMapper, times(1)).findByAgreementId(agreement.getId());
-            verify(agreementMapper, times(1)).updateStatusById(anyLong(),
-                    any(AgreementStatus.class));
+            verify(agreementMapper, times(1)).findAggregateById(agreement.getId());
+            verify(agreementMapper, times(1)).transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong());
             verify(agreementPartyMapper, times(1)).updateConfirmedAtById(anyLong(),
                     any(LocalDateTime.class));
-            verify(itemMapper, times(1)).updateStatusById(anyLong(), any(ItemStatus.class));
-            verify(userMapper, times(2)).findById(anyLong());
+            verify(itemMapper, times(1)).transitionStatus(anyLong(), any(), any());
+            verify(pendingActionService, times(1)).resolveAgreement(any(Agreement.class));
+            verify(dashboardStatsService, times(1)).onTransition(any(Agreement.class),
+                    eq(AgreementStatus.PENDING), eq(AgreementStatus.ACCEPTED));
+            verify(changeStampService, times(1)).touchAgreement(any(Agreement.class));
+            verify(eventStreamService, times(1)).publishAgreementStatus(any(Agreement.class));
+            verify(userMapper, never()).findById(anyLong());
         }
 
         @Test
         @DisplayName("실패 - 대여 없음")
         void accept_fail_when_agreement_not_found() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(null);
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(null);
 
             // when & then
             assertThrows(com.itjima_server.exception.agreement.NotFoundAgreementException.class,
@@ -316,13 +337,11 @@ public class AgreementServiceTest {
         @DisplayName("실패 - 요청자가 채무자가 아님")
         void accept_fail_when_not_debtor() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
             AgreementParty fakeDebtor = AgreementParty.builder()
                     .id(2002L).agreementId(agreement.getId())
                     .userId(999L).role(AgreementPartyRole.DEBTOR).build();
-
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, fakeDebtor));
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, fakeDebtor));
 
             // when & then
             assertThrows(NotAuthorException.class,
@@ -334,7 +353,8 @@ public class AgreementServiceTest {
         void accept_fail_when_status_invalid() {
             // given
             agreement.setStatus(AgreementStatus.REJECTED);
-            when(agreementMapper.findById(eq(agreement.getId()))).thenReturn(agreement);
+            when(agreementMapper.findAggregateById(eq(agreement.getId()))).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
 
             // when & then
             assertThrows(InvalidStateException.class,
@@ -342,18 +362,18 @@ public class AgreementServiceTest {
         }
 
         @Test
-        @DisplayName("실패 - DB 오류(상태 업데이트 실패)")
+        @DisplayName("실패 - 다른 요청이 먼저 상태를 변경함")
         void accept_fail_when_update_status_zero() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, debtorParty));
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
 
-            when(agreementMapper.updateStatusById(anyLong(), any(AgreementStatus.class)))
+            when(agreementMapper.transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong()))
                     .thenReturn(0);
 
             // when & then
-            assertThrows(UpdateFailedException.class,
+            assertThrows(InvalidStateException.class,
                     () -> agreementService.accept(debtor.getId(), agreement.getId()));
         }
 
@@ -361,11 +381,12 @@ public class AgreementServiceTest {
         @DisplayName("실패 - DB 오류(확인일 업데이트 실패)")
         void accept_fail_when_update_confirm_zero() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(agreementMapper.updateStatusById(anyLong(), any(AgreementStatus.class)))
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(agreementMapper.transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong()))
                     .thenReturn(1);
+            when(itemMapper.transitionStatus(anyLong(), any(), any())).thenReturn(1);
             when(agreementPartyMapper.updateConfirmedAtById(anyLong(), any(LocalDateTime.class)))
                     .thenReturn(0);
 
@@ -375,21 +396,19 @@ public class AgreementServiceTest {
         }
 
         @Test
-        @DisplayName("실패 - DB 오류(대여 물품 상태 업데이트 실패)")
+        @DisplayName("실패 - 물품 상태가 이미 변경됨")
         void accept_fail_when_item_update_zero() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(agreementMapper.updateStatusById(anyLong(), any(AgreementStatus.class)))
-                    .thenReturn(1);
-            when(agreementPartyMapper.updateConfirmedAtById(anyLong(), any(LocalDateTime.class)))
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(agreementMapper.transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong()))
                     .thenReturn(1);
-            when(itemMapper.updateStatusById(anyLong(), any(ItemStatus.class)))
+            when(itemMapper.transitionStatus(anyLong(), any(), any()))
                     .thenReturn(0);
 
             // when & then
-            assertThrows(UpdateFailedException.class,
+            assertThrows(InvalidStateException.class,
                     () -> agreementService.accept(debtor.getId(), agreement.getId()));
         }
     }
@@ -422,15 +441,13 @@ public class AgreementServiceTest {
         @DisplayName("성공")
         void reject_success() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(agreementMapper.updateStatusById(anyLong(), any(AgreementStatus.class)))
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(agreementMapper.transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong()))
                     .thenReturn(1);
-            when(itemMapper.updateStatusById(anyLong(), any(ItemStatus.class)))
+            when(itemMapper.transitionStatus(anyLong(), any(), any()))
                     .thenReturn(1);
-            when(userMapper.findById(creditor.getId())).thenReturn(creditor);
-            when(userMapper.findById(debtor.getId())).thenReturn(debtor);
 
             // when
             AgreementResponseDTO res = agreementService.reject(debtor.getId(), agreement.getId());
@@ -438,19 +455,18 @@ public class AgreementServiceTest {
             // then
             assertNotNull(res);
             assertEquals(AgreementStatus.REJECTED, res.getStatus());
-            verify(agreementMapper, times(1)).findById(agreement.getId());
-            verify(agreementPartyMapper, times(1)).findByAgreementId(agreement.getId());
-            verify(agreementMapper, times(1)).updateStatusById(anyLong(),
-                    any(AgreementStatus.class));
-            verify(itemMapper, times(1)).updateStatusById(anyLong(), any(ItemStatus.class));
-            verify(userMapper, times(2)).findById(anyLong());
+            verify(agreementMapper, times(1)).findAggregateById(agreement.getId());
+            verify(agreementMapper, times(1)).transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong());
+            verify(itemMapper, times(1)).transitionStatus(anyLong(), any(), any());
+            verify(userMapper, never()).findById(anyLong());
         }
 
         @Test
         @DisplayName("실패 - 대여 없음")
         void reject_fail_when_agreement_not_found() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(null);
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(null);
 
             // when & then
             assertThrows(com.itjima_server.exception.agreement.NotFoundAgreementException.class,
@@ -461,12 +477,11 @@ public class AgreementServiceTest {
         @DisplayName("실패 - 요청자가 채무자가 아님")
         void reject_fail_not_debtor() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
             AgreementParty fakeDebtor = AgreementParty.builder()
                     .id(3003L).agreementId(agreement.getId())
                     .userId(999L).role(AgreementPartyRole.DEBTOR).build();
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, fakeDebtor));
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, fakeDebtor));
 
             // when & then
             assertThrows(NotAuthorException.class,
@@ -474,34 +489,34 @@ public class AgreementServiceTest {
         }
 
         @Test
-        @DisplayName("실패 - 상태 업데이트 실패")
+        @DisplayName("실패 - 다른 요청이 먼저 상태를 변경함")
         void reject_fail_when_update_status_zero() {
             //given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(agreementMapper.updateStatusById(anyLong(), any(AgreementStatus.class)))
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(agreementMapper.transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong()))
                     .thenReturn(0);
 
             // when & then
-            assertThrows(UpdateFailedException.class,
+            assertThrows(InvalidStateException.class,
                     () -> agreementService.reject(debtor.getId(), agreement.getId()));
         }
 
         @Test
-        @DisplayName("실패 - 물품 상태 업데이트 실패")
+        @DisplayName("실패 - 물품 상태가 이미 변경됨")
         void reject_fail_when_item_update_zero() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(agreementMapper.updateStatusById(anyLong(), any(AgreementStatus.class)))
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(agreementMapper.transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong()))
                     .thenReturn(1);
-            when(itemMapper.updateStatusById(anyLong(), any(ItemStatus.class)))
+            when(itemMapper.transitionStatus(anyLong(), any(), any()))
                     .thenReturn(0);
 
             // when
-            assertThrows(UpdateFailedException.class,
+            assertThrows(InvalidStateException.class,
                     () -> agreementService.reject(debtor.getId(), agreement.getId()));
         }
     }
@@ -534,15 +549,13 @@ public class AgreementServiceTest {
         @DisplayName("성공")
         void cancel_success() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(agreementMapper.updateStatusById(anyLong(), any(AgreementStatus.class)))
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(agreementMapper.transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong()))
                     .thenReturn(1);
-            when(itemMapper.updateStatusById(anyLong(), any(ItemStatus.class)))
+            when(itemMapper.transitionStatus(anyLong(), any(), any()))
                     .thenReturn(1);
-            when(userMapper.findById(creditor.getId())).thenReturn(creditor);
-            when(userMapper.findById(debtor.getId())).thenReturn(debtor);
 
             // when
             AgreementResponseDTO res = agreementService.cancel(creditor.getId(), agreement.getId());
@@ -550,19 +563,18 @@ public class AgreementServiceTest {
             // then
             assertNotNull(res);
             assertEquals(AgreementStatus.CANCELED, res.getStatus());
-            verify(agreementMapper, times(1)).findById(agreement.getId());
-            verify(agreementPartyMapper, times(1)).findByAgreementId(agreement.getId());
-            verify(agreementMapper, times(1)).updateStatusById(anyLong(),
-                    any(AgreementStatus.class));
-            verify(itemMapper, times(1)).updateStatusById(anyLong(), any(ItemStatus.class));
-            verify(userMapper, times(2)).findById(anyLong());
+            verify(agreementMapper, times(1)).findAggregateById(agreement.getId());
+            verify(agreementMapper, times(1)).transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong());
+            verify(itemMapper, times(1)).transitionStatus(anyLong(), any(), any());
+            verify(userMapper, never()).findById(anyLong());
         }
 
         @Test
         @DisplayName("실패 - 대여 없음")
         void cancel_fail_when_agreement_not_found() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(null);
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(null);
 
             // when & then
             assertThrows(com.itjima_server.exception.agreement.NotFoundAgreementException.class,
@@ -574,7 +586,8 @@ public class AgreementServiceTest {
         void cancel_fail_status_invalid() {
             // given
             agreement.setStatus(AgreementStatus.ACCEPTED);
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
 
             // when & then
             assertThrows(InvalidStateException.class,
@@ -591,9 +604,8 @@ public class AgreementServiceTest {
                     .userId(999L)
                     .role(AgreementPartyRole.CREDITOR)
                     .build();
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(fakeCreditor, debtorParty));
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, fakeCreditor, debtorParty));
 
             // when & then
             assertThrows(NotAuthorException.class,
@@ -601,34 +613,34 @@ public class AgreementServiceTest {
         }
 
         @Test
-        @DisplayName("실패 - DB 오류(상태 업데이트 실패)")
+        @DisplayName("실패 - 다른 요청이 먼저 상태를 변경함")
         void cancel_fail_update_status_zero() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(agreementMapper.updateStatusById(anyLong(), any(AgreementStatus.class)))
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(agreementMapper.transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong()))
                     .thenReturn(0);
 
             // when & then
-            assertThrows(UpdateFailedException.class,
+            assertThrows(InvalidStateException.class,
                     () -> agreementService.cancel(creditor.getId(), agreement.getId()));
         }
 
         @Test
-        @DisplayName("실패 - DB 오류(대여 물품 상태 업데이트 실패)")
+        @DisplayName("실패 - 물품 상태가 이미 변경됨")
         void cancel_fail_item_update_zero() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(agreementMapper.updateStatusById(anyLong(), any(AgreementStatus.class)))
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(agreementMapper.transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong()))
                     .thenReturn(1);
-            when(itemMapper.updateStatusById(anyLong(), any(ItemStatus.class)))
+            when(itemMapper.transitionStatus(anyLong(), any(), any()))
                     .thenReturn(0);
 
             // when & then
-            assertThrows(UpdateFailedException.class,
+            assertThrows(InvalidStateException.class,
                     () -> agreementService.cancel(creditor.getId(), agreement.getId()));
         }
     }
@@ -661,15 +673,13 @@ public class AgreementServiceTest {
         @DisplayName("성공")
         void complete_success() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(agreementMapper.updateStatusById(anyLong(), any(AgreementStatus.class)))
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(agreementMapper.transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong()))
                     .thenReturn(1);
-            when(itemMapper.updateStatusById(anyLong(), any(ItemStatus.class)))
+            when(itemMapper.transitionStatus(anyLong(), any(), any()))
                     .thenReturn(1);
-            when(userMapper.findById(creditor.getId())).thenReturn(creditor);
-            when(userMapper.findById(debtor.getId())).thenReturn(debtor);
 
             // when
             AgreementResponseDTO res = agreementService.complete(creditor.getId(),
@@ -678,19 +688,19 @@ public class AgreementServiceTest {
             // then
             assertNotNull(res);
             assertEquals(AgreementStatus.COMPLETED, res.getStatus());
-            verify(agreementMapper, times(1)).findById(agreement.getId());
-            verify(agreementPartyMapper, times(1)).findByAgreementId(agreement.getId());
-            verify(agreementMapper, times(1)).updateStatusById(anyLong(),
-                    any(AgreementStatus.class));
-            verify(itemMapper, times(1)).updateStatusById(anyLong(), any(ItemStatus.class));
-            verify(userMapper, times(2)).findById(anyLong());
+            verify(agreementMapper, times(1)).findAggregateById(agreement.getId());
+            verify(agreementMapper, times(1)).transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong());
+            verify(itemMapper, times(1)).transitionStatus(anyLong(), any(), any());
+            verify(itemMapper, times(1)).addCompletedRental(agreement.getId());
+            verify(userMapper, never()).findById(anyLong());
         }
 
         @Test
         @DisplayName("실패 - 대여 없음")
         void complete_fail_when_agreement_not_found() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(null);
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(null);
 
             // when & then
             assertThrows(com.itjima_server.exception.agreement.NotFoundAgreementException.class,
@@ -702,7 +712,8 @@ public class AgreementServiceTest {
         void complete_fail_status_invalid() {
             // given
             agreement.setStatus(AgreementStatus.REJECTED);
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
 
             // when & then
             assertThrows(InvalidStateException.class,
@@ -716,9 +727,8 @@ public class AgreementServiceTest {
             AgreementParty fakeCreditor = AgreementParty.builder()
                     .id(5003L).agreementId(agreement.getId())
                     .userId(999L).role(AgreementPartyRole.CREDITOR).build();
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(fakeCreditor, debtorParty));
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, fakeCreditor, debtorParty));
 
             // when & then
             assertThrows(NotAuthorException.class,
@@ -726,34 +736,34 @@ public class AgreementServiceTest {
         }
 
         @Test
-        @DisplayName("실패 - DB 오류(상태 업데이트 실패)")
+        @DisplayName("실패 - 다른 요청이 먼저 상태를 변경함")
         void complete_fail_update_status_zero() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(agreementMapper.updateStatusById(anyLong(), any(AgreementStatus.class)))
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(agreementMapper.transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong()))
                     .thenReturn(0);
 
             // when & then
-            assertThrows(UpdateFailedException.class,
+            assertThrows(InvalidStateException.class,
                     () -> agreementService.complete(creditor.getId(), agreement.getId()));
         }
 
         @Test
-        @DisplayName("실패 - DB 오류(대여 물품 상태 업데이트 실패)")
+        @DisplayName("실패 - 물품 상태가 이미 변경됨")
         void complete_fail_item_update_zero() {
             // given
-            when(agreementMapper.findById(agreement.getId())).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreement.getId()))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(agreementMapper.updateStatusById(anyLong(), any(AgreementStatus.class)))
+            when(agreementMapper.findAggregateById(agreement.getId())).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(agreementMapper.transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong()))
                     .thenReturn(1);
-            when(itemMapper.updateStatusById(anyLong(), any(ItemStatus.class)))
+            when(itemMapper.transitionStatus(anyLong(), any(), any()))
                     .thenReturn(0);
 
             // when & then
-            assertThrows(UpdateFailedException.class,
+            assertThrows(InvalidStateException.class,
                     () -> agreementService.complete(creditor.getId(), agreement.getId()));
         }
     }
@@ -931,12 +941,10 @@ public class AgreementServiceTest {
         @DisplayName("성공")
         void create_transaction_success() {
             // given
-            when(agreementMapper.findById(agreementMoney.getId())).thenReturn(agreementMoney);
+            when(agreementMapper.findAggregateById(agreementMoney.getId())).thenReturn(
+                    aggregate(agreementMoney, creditorParty, debtorParty));
             when(itemMapper.findById(agreementMoney.getItemId())).thenReturn(moneyItem);
-            when(agreementPartyMapper.findByAgreementId(agreementMoney.getId())).thenReturn(
-                    List.of(creditorParty, debtorParty));
-            when(transactionMapper.sumConfirmedAmountByAgreementId(agreementMoney.getId()))
-                    .thenReturn(new BigDecimal("3000.00"));
+            agreementMoney.setPaidAmount(new BigDecimal("3000.00"));
             when(transactionMapper.insert(any())).thenReturn(1);
 
             // when
@@ -954,7 +962,8 @@ public class AgreementServiceTest {
         @DisplayName("실패 - 금전 대여가 아닌 경우")
         void create_transaction_fail_not_money_item() {
             // given
-            when(agreementMapper.findById(agreementObject.getId())).thenReturn(agreementObject);
+            when(agreementMapper.findAggregateById(agreementObject.getId())).thenReturn(
+                    aggregate(agreementObject, creditorParty, debtorParty));
             when(itemMapper.findById(agreementObject.getItemId())).thenReturn(objectItem);
 
             // when & then
@@ -969,7 +978,8 @@ public class AgreementServiceTest {
             // given
             agreementMoney.setStatus(AgreementStatus.PENDING);
 
-            when(agreementMapper.findById(agreementMoney.getId())).thenReturn(agreementMoney);
+            when(agreementMapper.findAggregateById(agreementMoney.getId())).thenReturn(
+                    aggregate(agreementMoney, creditorParty, debtorParty));
             when(itemMapper.findById(agreementMoney.getItemId())).thenReturn(moneyItem);
 
             // when & then
@@ -982,10 +992,9 @@ public class AgreementServiceTest {
         @DisplayName("실패 - 채무자가 아님")
         void create_transaction_fail_not_debtor() {
             // given
-            when(agreementMapper.findById(agreementMoney.getId())).thenReturn(agreementMoney);
+            when(agreementMapper.findAggregateById(agreementMoney.getId())).thenReturn(
+                    aggregate(agreementMoney, creditorParty, debtorParty));
             when(itemMapper.findById(agreementMoney.getItemId())).thenReturn(moneyItem);
-            when(agreementPartyMapper.findByAgreementId(agreementMoney.getId())).thenReturn(
-                    List.of(creditorParty, debtorParty));
 
             // when & then
             assertThrows(NotAuthorException.class, () ->
@@ -997,14 +1006,12 @@ public class AgreementServiceTest {
         @DisplayName("실패 - 남은 금액 초과")
         void create_transaction_fail_over_amount() {
             // given
-            when(agreementMapper.findById(agreementMoney.getId())).thenReturn(agreementMoney);
+            when(agreementMapper.findAggregateById(agreementMoney.getId())).thenReturn(
+                    aggregate(agreementMoney, creditorParty, debtorParty));
             when(itemMapper.findById(agreementMoney.getItemId()))
                     .thenReturn(moneyItem);
-            when(agreementPartyMapper.findByAgreementId(agreementMoney.getId())).thenReturn(
-                    List.of(creditorParty, debtorParty));
             // 총 확정 상환 9,000 → 남은 1,000
-            when(transactionMapper.sumConfirmedAmountByAgreementId(agreementMoney.getId()))
-                    .thenReturn(new BigDecimal("9000.00"));
+            agreementMoney.setPaidAmount(new BigDecimal("9000.00"));
 
             // when & then (요청 2,000은 초과)
             assertThrows(InvalidStateException.class, () ->
@@ -1109,10 +1116,9 @@ public class AgreementServiceTest {
             // given
             int size = 5;
 
-            when(agreementMapper.findById(agreementMoney.getId())).thenReturn(agreementMoney);
+            when(agreementMapper.findAggregateById(agreementMoney.getId())).thenReturn(
+                    aggregate(agreementMoney, creditorParty, debtorParty));
             when(itemMapper.findById(agreementMoney.getItemId())).thenReturn(moneyItem);
-            when(agreementPartyMapper.findByAgreementId(agreementMoney.getId())).thenReturn(
-                    List.of(creditorParty, debtorParty));
             when(transactionMapper.findByAgreementId(agreementMoney.getId(), null,
                     size + 1)).thenReturn(
                     List.of(transaction1));
@@ -1135,10 +1141,9 @@ public class AgreementServiceTest {
             List<Transaction> dummyList = Arrays.asList(
                     transaction1, transaction2, transaction3
             );
-            when(agreementMapper.findById(agreementMoney.getId())).thenReturn(agreementMoney);
+            when(agreementMapper.findAggregateById(agreementMoney.getId())).thenReturn(
+                    aggregate(agreementMoney, creditorParty, debtorParty));
             when(itemMapper.findById(agreementMoney.getItemId())).thenReturn(moneyItem);
-            when(agreementPartyMapper.findByAgreementId(agreementMoney.getId())).thenReturn(
-                    List.of(creditorParty, debtorParty));
             when(transactionMapper.findByAgreementId(agreementMoney.getId(), null,
                     size + 1)).thenReturn(new ArrayList<>(dummyList));
 
@@ -1156,7 +1161,8 @@ public class AgreementServiceTest {
         @DisplayName("실패 - 금전 대여가 아닌 경우")
         void create_transaction_fail_not_money_item() {
             // given
-            when(agreementMapper.findById(agreementObject.getId())).thenReturn(agreementObject);
+            when(agreementMapper.findAggregateById(agreementObject.getId())).thenReturn(
+                    aggregate(agreementObject, creditorParty, debtorParty));
             when(itemMapper.findById(agreementObject.getItemId())).thenReturn(objectItem);
 
             // when & then
@@ -1171,7 +1177,8 @@ public class AgreementServiceTest {
             // given
             agreementMoney.setStatus(AgreementStatus.PENDING);
 
-            when(agreementMapper.findById(agreementMoney.getId())).thenReturn(agreementMoney);
+            when(agreementMapper.findAggregateById(agreementMoney.getId())).thenReturn(
+                    aggregate(agreementMoney, creditorParty, debtorParty));
             when(itemMapper.findById(agreementMoney.getItemId())).thenReturn(moneyItem);
 
             // when & then
@@ -1180,6 +1187,10 @@ public class AgreementServiceTest {
                             agreementMoney.getId(), null, anyInt()));
         }
     }
-}
-
 
+    private AgreementAggregate aggregate(Agreement agreement, AgreementParty creditorParty,
+            AgreementParty debtorParty) {
+        return new AgreementAggregate(agreement, creditorParty, creditor.getName(), debtorParty,
+                debtor.getName());
+    }
+}
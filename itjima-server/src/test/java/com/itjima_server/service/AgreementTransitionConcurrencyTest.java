@@ -0,0 +1,140 @@
+package com.itjima_server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import com.itjima_server.domain.agreement.Agreement;
+import com.itjima_server.domain.agreement.AgreementStatus;
+import com.itjima_server.domain.item.Item;
+import com.itjima_server.domain.item.ItemStatus;
+import com.itjima_server.domain.item.ItemType;
+import com.itjima_server.dto.agreement.request.AgreementCreateRequestDTO;
+import com.itjima_server.dto.item.request.ItemCreateRequestDTO;
+import com.itjima_server.dto.user.request.UserRegisterRequestDTO;
+import com.itjima_server.exception.common.InvalidStateException;
+import com.itjima_server.mapper.AgreementMapper;
+import com.itjima_server.mapper.ItemMapper;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 각 스레드가 커밋된 데이터를 읽어야 하므로 테스트 트랜잭션(@Transactional)으로 감싸지 않음
+@SpringBootTest
+@DisplayName("대여 상태 전이 동시성 테스트")
+class AgreementTransitionConcurrencyTest {
+
+    // 스레드마다 커넥션을 잡은 채 기다리므로 커넥션 풀(기본 10)보다 작게
+    private static final int THREADS = 8;
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private AgreementService agreementService;
+    @Autowired
+    private AgreementTransitionService agreementTransitionService;
+    @Autowired
+    private AgreementMapper agreementMapper;
+    @Autowired
+    private ItemMapper itemMapper;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long agreementId;
+    private Long itemId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        Long creditorId = register("creditor" + suffix, "010" + suffix.substring(
+                suffix.length() - 8));
+        Long debtorId = register("debtor" + suffix, "011" + suffix.substring(
+                suffix.length() - 8));
+
+        ItemCreateRequestDTO itemReq = new ItemCreateRequestDTO();
+        itemReq.setType(ItemType.OBJECT);
+        itemReq.setTitle("동시성 테스트 물품");
+        itemReq.setDescription("설명");
+        itemId = itemService.create(itemReq, creditorId).getId();
+
+        AgreementCreateRequestDTO agreementReq = new AgreementCreateRequestDTO();
+        agreementReq.setItemId(itemId);
+        agreementReq.setDebtorUserId(debtorId);
+        agreementReq.setAmount(new BigDecimal("10000.00"));
+        agreementReq.setDueAt(LocalDate.now().plusDays(7));
+        agreementReq.setTerms("7일 대여");
+        agreementId = agreementService.create(creditorId, agreementReq).getId();
+    }
+
+    @Test
+    @DisplayName("성공 - 같은 대여에 승인/취소가 동시에 들어오면 하나만 반영되고 나머지는 충돌")
+    void only_one_transition_wins() throws Exception {
+        // given: 모든 스레드가 같은 버전을 읽은 뒤에 조건부 UPDATE를 실행하도록 맞춤
+        CyclicBarrier readBarrier = new CyclicBarrier(THREADS);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            AgreementStatus target = i % 2 == 0 ? AgreementStatus.ACCEPTED
+                    : AgreementStatus.CANCELED;
+            results.add(executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                Agreement agreement = agreementMapper.findById(agreementId);
+                try {
+                    readBarrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                agreementTransitionService.transition(agreement,
+                        Set.of(AgreementStatus.PENDING), target);
+            })));
+        }
+        int succeeded = 0;
+        int conflicted = 0;
+        for (Future<?> result : results) {
+            try {
+                result.get(30, TimeUnit.SECONDS);
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(InvalidStateException.class, e.getCause());
+                conflicted++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        Agreement agreement = agreementMapper.findById(agreementId);
+        Item item = itemMapper.findById(itemId);
+        assertEquals(1, succeeded);
+        assertEquals(THREADS - 1, conflicted);
+        assertEquals(1, agreement.getVersion());
+        assertEquals(agreement.getStatus() == AgreementStatus.ACCEPTED ? ItemStatus.ON_LOAN
+                : ItemStatus.AVAILABLE, item.getStatus());
+    }
+
+    private Long register(String name, String phone) {
+        UserRegisterRequestDTO req = new UserRegisterRequestDTO();
+        req.setName(name);
+        req.setEmail(name + "@example.com");
+        req.setPassword("password123!");
+        req.setPhone(phone);
+        return authService.register(req).getId();
+    }
+}
@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -23,6 +25,10 @@ import com.itjima_server.exception.user.LoginFailedException;
 import com.itjima_server.exception.user.NotInsertUserException;
 import com.itjima_server.mapper.RefreshTokenMapper;
 import com.itjima_server.mapper.UserMapper;
+import com.itjima_server.security.TokenVersionRegistry;
+import com.itjima_server.security.verification.VerificationCodeStore;
+import com.itjima_server.util.HashUtil;
+import io.jsonwebtoken.MalformedJwtException;
 import com.itjima_server.security.JwtTokenProvider;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +36,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -53,6 +60,12 @@ public class AuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Mock
+    private VerificationCodeStore verificationCodeStore;
+
     @Spy
     private BCryptPasswordEncoder passwordEncoder;
 
@@ -61,6 +74,7 @@ public class AuthServiceTest {
     private TokenRefreshRequestDTO tokenRefreshRequestDTO;
     private User fakeUser;
     private RefreshToken fakeRefreshToken;
+    private String tokenHash;
 
     @Nested
     @DisplayName("회원가입 로직")
@@ -151,12 +165,13 @@ public class AuthServiceTest {
                     .id(1L) // ID 추가
                     .email(userLoginRequestDTO.getEmail())
                     .password(passwordEncoder.encode(userLoginRequestDTO.getPassword()))
+                    .emailVerified(true)
                     .build();
         }
 
         @Test
-        @DisplayName("성공 - 기존 Refresh Token 업데이트")
-        void login_success_and_update_token() {
+        @DisplayName("성공 - Refresh Token 해시 upsert")
+        void login_success_and_upsert_token() {
             // given
             when(userMapper.findByEmail(userLoginRequestDTO.getEmail())).thenReturn(fakeUser);
             when(passwordEncoder.matches(userLoginRequestDTO.getPassword(),
@@ -164,8 +179,6 @@ public class AuthServiceTest {
             when(jwtTokenProvider.generateAccessToken(fakeUser)).thenReturn("access_token");
             when(jwtTokenProvider.generateRefreshToken(fakeUser)).thenReturn("refresh_token");
 
-            when(refreshTokenMapper.existsByUserId(fakeUser.getId())).thenReturn(true);
-
             // when
             UserLoginResponseDTO res = authService.login(userLoginRequestDTO);
 
@@ -174,32 +187,30 @@ public class AuthServiceTest {
             assertEquals("access_token", res.getAccessToken());
             assertEquals("refresh_token", res.getRefreshToken());
 
-            verify(refreshTokenMapper, times(1)).update(any(RefreshToken.class));
-            verify(refreshTokenMapper, never()).insert(any(RefreshToken.class));
+            ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+            verify(refreshTokenMapper, times(1)).upsert(captor.capture());
+            assertEquals(HashUtil.sha256Hex("refresh_token"), captor.getValue().getTokenHash());
         }
 
         @Test
-        @DisplayName("성공 - 신규 Refresh Token 생성")
-        void login_success_and_insert_token() {
+        @DisplayName("성공 - cost가 다른 해시는 로그인 시 재해시")
+        void login_success_and_rehash_outdated_password() {
             // given
-            when(userMapper.findByEmail(userLoginRequestDTO.getEmail())).thenReturn(fakeUser);
-            when(passwordEncoder.matches(userLoginRequestDTO.getPassword(),
-                    fakeUser.getPassword())).thenReturn(true);
-            when(jwtTokenProvider.generateAccessToken(fakeUser)).thenReturn("access_token");
-            when(jwtTokenProvider.generateRefreshToken(fakeUser)).thenReturn("refresh_token");
-
-            when(refreshTokenMapper.existsByUserId(fakeUser.getId())).thenReturn(false);
+            User outdatedUser = User.builder()
+                    .id(1L)
+                    .email(userLoginRequestDTO.getEmail())
+                    .password(new BCryptPasswordEncoder(4).encode(userLoginRequestDTO.getPassword()))
+                    .emailVerified(true)
+                    .build();
+            when(userMapper.findByEmail(userLoginRequestDTO.getEmail())).thenReturn(outdatedUser);
+            when(jwtTokenProvider.generateAccessToken(outdatedUser)).thenReturn("access_token");
+            when(jwtTokenProvider.generateRefreshToken(outdatedUser)).thenReturn("refresh_token");
 
             // when
-            UserLoginResponseDTO res = authService.login(userLoginRequestDTO);
+            authService.login(userLoginRequestDTO);
 
             // then
-            assertNotNull(res);
-            assertEquals("access_token", res.getAccessToken());
-            assertEquals("refresh_token", res.getRefreshToken());
-
-            verify(refreshTokenMapper, times(1)).insert(any(RefreshToken.class));
-            verify(refreshTokenMapper, never()).update(any(RefreshToken.class));
+            verify(userMapper, times(1)).updatePasswordById(eq(1L), anyString());
         }
 
         @Test
@@ -234,10 +245,11 @@ public class AuthServiceTest {
         void setUp() {
             tokenRefreshRequestDTO = new TokenRefreshRequestDTO();
             tokenRefreshRequestDTO.setRefreshToken("refresh_token");
+            tokenHash = HashUtil.sha256Hex("refresh_token");
             fakeRefreshToken = RefreshToken.builder()
                     .id(1L)
                     .userId(1L)
-                    .token("refresh_token")
+                    .tokenHash(tokenHash)
                     .expiryDate(LocalDateTime.now().plusMinutes(10))
                     .build();
 
@@ -249,13 +261,16 @@ public class AuthServiceTest {
         }
 
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공 - 토큰 회전")
         void refresh_access_token_success() {
             // given
-            when(refreshTokenMapper.findByToken(
-                    tokenRefreshRequestDTO.getRefreshToken())).thenReturn(fakeRefreshToken);
-            when(userMapper.findById(fakeRefreshToken.getId())).thenReturn(fakeUser);
+            when(refreshTokenMapper.findByTokenHash(tokenHash)).thenReturn(fakeRefreshToken);
+            when(userMapper.findById(fakeRefreshToken.getUserId())).thenReturn(fakeUser);
             when(jwtTokenProvider.generateAccessToken(fakeUser)).thenReturn("new_access_token");
+            when(jwtTokenProvider.generateRefreshToken(fakeUser)).thenReturn("new_refresh_token");
+            when(refreshTokenMapper.rotate(eq(fakeUser.getId()), eq(tokenHash),
+                    eq(HashUtil.sha256Hex("new_refresh_token")), any(LocalDateTime.class)))
+                    .thenReturn(1);
 
             // when
             TokenResponseDTO res = authService.refreshAccessToken(tokenRefreshRequestDTO);
@@ -263,32 +278,70 @@ public class AuthServiceTest {
             // then
             assertNotNull(res);
             assertEquals("new_access_token", res.getAccessToken());
-            assertEquals(tokenRefreshRequestDTO.getRefreshToken(), res.getRefreshToken());
+            assertEquals("new_refresh_token", res.getRefreshToken());
 
-            verify(refreshTokenMapper, times(1)).findByToken(
-                    tokenRefreshRequestDTO.getRefreshToken());
-            verify(userMapper, times(1)).findById(fakeRefreshToken.getId());
+            verify(refreshTokenMapper, times(1)).findByTokenHash(tokenHash);
+            verify(userMapper, times(1)).findById(fakeRefreshToken.getUserId());
             verify(jwtTokenProvider, times(1)).generateAccessToken(fakeUser);
         }
 
+        @Test
+        @DisplayName("실패 - 동시 회전으로 이미 사용된 토큰")
+        void refresh_access_token_fail_when_rotated_concurrently() {
+            // given
+            when(refreshTokenMapper.findByTokenHash(tokenHash)).thenReturn(fakeRefreshToken);
+            when(userMapper.findById(fakeRefreshToken.getUserId())).thenReturn(fakeUser);
+            when(jwtTokenProvider.generateRefreshToken(fakeUser)).thenReturn("new_refresh_token");
+            when(refreshTokenMapper.rotate(eq(fakeUser.getId()), eq(tokenHash), anyString(),
+                    any(LocalDateTime.class))).thenReturn(0);
+
+            // when & then
+            assertThrows(InvalidRefreshTokenException.class,
+                    () -> authService.refreshAccessToken(tokenRefreshRequestDTO));
+        }
+
         @Test
         @DisplayName("실패 - 유효하지 않은 리프레쉬 토큰")
         void refresh_access_token_fail_when_not_exist_refresh_token() {
             // given
-            when(refreshTokenMapper.findByToken(
-                    tokenRefreshRequestDTO.getRefreshToken())).thenReturn(null);
+            when(refreshTokenMapper.findByTokenHash(tokenHash)).thenReturn(null);
+            when(jwtTokenProvider.getUserIdFromRefreshToken(
+                    tokenRefreshRequestDTO.getRefreshToken())).thenThrow(
+                    new MalformedJwtException("invalid"));
+
+            // when & then
+            assertThrows(InvalidRefreshTokenException.class,
+                    () -> authService.refreshAccessToken(tokenRefreshRequestDTO));
+            verify(refreshTokenMapper, never()).deleteByUserId(anyLong());
+        }
+
+        @Test
+        @DisplayName("실패 - 회전된 이전 토큰 재사용 시 전체 폐기")
+        void refresh_access_token_fail_when_reused_refresh_token() {
+            // given
+            when(refreshTokenMapper.findByTokenHash(tokenHash)).thenReturn(null);
+            when(jwtTokenProvider.getUserIdFromRefreshToken(
+                    tokenRefreshRequestDTO.getRefreshToken())).thenReturn(1L);
+            when(refreshTokenMapper.findByUserId(1L)).thenReturn(
+                    RefreshToken.builder()
+                            .userId(1L)
+                            .tokenHash(HashUtil.sha256Hex("rotated_refresh_token"))
+                            .previousTokenHash(tokenHash)
+                            .expiryDate(LocalDateTime.now().plusDays(1))
+                            .build());
 
             // when & then
             assertThrows(InvalidRefreshTokenException.class,
                     () -> authService.refreshAccessToken(tokenRefreshRequestDTO));
+            verify(refreshTokenMapper, times(1)).deleteByUserId(1L);
+            verify(tokenVersionRegistry, times(1)).revokeAll(1L);
         }
 
         @Test
         @DisplayName("실패 - 만료된 리프레쉬 토큰")
         void refresh_access_token_fail_when_over_expired_refresh_token() {
             // given
-            when(refreshTokenMapper.findByToken(
-                    tokenRefreshRequestDTO.getRefreshToken())).thenReturn(
+            when(refreshTokenMapper.findByTokenHash(tokenHash)).thenReturn(
                     RefreshToken.builder()
                             .userId(1L)
                             .expiryDate(LocalDateTime.now().minusDays(1))
@@ -304,9 +357,8 @@ public class AuthServiceTest {
         @DisplayName("실패 - 사용자를 찾을 수 없음")
         void refresh_access_token_fail_when_not_found_user() {
             // given
-            when(refreshTokenMapper.findByToken(
-                    tokenRefreshRequestDTO.getRefreshToken())).thenReturn(fakeRefreshToken);
-            when(userMapper.findById(fakeRefreshToken.getId())).thenReturn(null);
+            when(refreshTokenMapper.findByTokenHash(tokenHash)).thenReturn(fakeRefreshToken);
+            when(userMapper.findById(fakeRefreshToken.getUserId())).thenReturn(null);
 
             // when & then
             assertThrows(UsernameNotFoundException.class,
@@ -342,6 +394,7 @@ public class AuthServiceTest {
             // then
             verify(userMapper, times(1)).findById(id);
             verify(refreshTokenMapper, times(1)).deleteByUserId(id);
+            verify(tokenVersionRegistry, times(1)).revokeAll(id);
         }
 
         @Test
@@ -0,0 +1,175 @@
+package com.itjima_server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.itjima_server.common.PagedResultDTO;
+import com.itjima_server.dto.dashboard.response.DashboardResponseDTO;
+import com.itjima_server.exception.common.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DashboardCacheTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+    private static final long VERSION = 3L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DashboardCache dashboardCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dashboardCache = new DashboardCache(meterRegistry, 100, 600_000, true);
+        loads = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("대시보드 응답 캐시")
+    class SummaryTest {
+
+        @Test
+        @DisplayName("성공 - 두 번째 조회부터는 적중하고 적중/실패 수를 기록")
+        void hit_after_first_load() {
+            DashboardResponseDTO first = dashboardCache.getSummary(USER_ID, VERSION, summaryLoader());
+            DashboardResponseDTO second = dashboardCache.getSummary(USER_ID, VERSION, summaryLoader());
+
+            assertSame(first, second);
+            assertEquals(1, loads.get());
+            assertEquals(1.0, requests("summary", "hit"));
+            assertEquals(1.0, requests("summary", "miss"));
+            assertEquals(1, meterRegistry.get("dashboard.cache.load").tag("cache", "summary")
+                    .timer().count());
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 서버가 스탬프를 올려 버전이 다르면 다시 조회")
+        void reload_when_stamp_version_changed() {
+            DashboardResponseDTO first = dashboardCache.getSummary(USER_ID, VERSION,
+                    summaryLoader());
+            DashboardResponseDTO second = dashboardCache.getSummary(USER_ID, VERSION + 1,
+                    summaryLoader());
+            DashboardResponseDTO third = dashboardCache.getSummary(USER_ID, VERSION + 1,
+                    summaryLoader());
+
+            assertNotSame(first, second);
+            assertSame(second, third);
+            assertEquals(2, loads.get());
+        }
+
+        @Test
+        @DisplayName("성공 - 무효화된 사용자만 다시 조회")
+        void reload_only_invalidated_user() {
+            dashboardCache.getSummary(USER_ID, VERSION, summaryLoader());
+            dashboardCache.getSummary(OTHER_USER_ID, VERSION, summaryLoader());
+
+            dashboardCache.invalidate(Set.of(USER_ID));
+            dashboardCache.getSummary(USER_ID, VERSION, summaryLoader());
+            dashboardCache.getSummary(OTHER_USER_ID, VERSION, summaryLoader());
+
+            assertEquals(3, loads.get());
+        }
+
+        @Test
+        @DisplayName("성공 - 조회 도중 무효화되면 조회한 값을 저장하지 않음")
+        void discard_load_raced_by_invalidation() {
+            dashboardCache.getSummary(USER_ID, VERSION, () -> {
+                loads.incrementAndGet();
+                dashboardCache.invalidate(Set.of(USER_ID));
+                return response();
+            });
+            dashboardCache.getSummary(USER_ID, VERSION, summaryLoader());
+
+            assertEquals(2, loads.get());
+        }
+
+        @Test
+        @DisplayName("성공 - 전체 무효화 후에는 모든 사용자를 다시 조회")
+        void reload_after_invalidate_all() {
+            dashboardCache.getSummary(USER_ID, VERSION, summaryLoader());
+
+            dashboardCache.invalidateAll();
+            dashboardCache.getSummary(USER_ID, VERSION, summaryLoader());
+
+            assertEquals(2, loads.get());
+        }
+
+        @Test
+        @DisplayName("성공 - 다시 조회하다 지연되면 무효화 전 응답으로 대신 응답")
+        void serve_stale_on_timeout() {
+            DashboardResponseDTO cached = dashboardCache.getSummary(USER_ID, VERSION, summaryLoader());
+            dashboardCache.invalidate(Set.of(USER_ID));
+
+            DashboardResponseDTO res = dashboardCache.getSummary(USER_ID, VERSION, () -> {
+                throw new ServiceUnavailableException("지연");
+            });
+
+            assertSame(cached, res);
+            assertEquals(1.0, requests("summary", "stale"));
+        }
+
+        @Test
+        @DisplayName("실패 - 대신 줄 응답이 없으면 지연 예외 전달")
+        void fail_on_timeout_without_stale() {
+            assertThrows(ServiceUnavailableException.class,
+                    () -> dashboardCache.getSummary(USER_ID, VERSION, () -> {
+                        throw new ServiceUnavailableException("지연");
+                    }));
+        }
+    }
+
+    @Nested
+    @DisplayName("요청 목록 첫 페이지 캐시")
+    class PendingTest {
+
+        @Test
+        @DisplayName("성공 - 같은 크기는 적중하고 무효화되면 다시 조회")
+        void hit_until_invalidated() {
+            dashboardCache.getPendingFirstPage(USER_ID, VERSION, 5, pendingLoader());
+            dashboardCache.getPendingFirstPage(USER_ID, VERSION, 5, pendingLoader());
+            assertEquals(1, loads.get());
+
+            dashboardCache.getPendingFirstPage(USER_ID, VERSION, 10, pendingLoader());
+            assertEquals(2, loads.get());
+
+            dashboardCache.invalidate(Set.of(USER_ID));
+            dashboardCache.getPendingFirstPage(USER_ID, VERSION, 10, pendingLoader());
+            assertEquals(3, loads.get());
+        }
+    }
+
+    private Supplier<DashboardResponseDTO> summaryLoader() {
+        return () -> {
+            loads.incrementAndGet();
+            return response();
+        };
+    }
+
+    private Supplier<PagedResultDTO<?>> pendingLoader() {
+        return () -> {
+            loads.incrementAndGet();
+            return PagedResultDTO.from(List.of(), false, null);
+        };
+    }
+
+    private double requests(String cache, String result) {
+        return meterRegistry.get("dashboard.cache.requests").tag("cache", cache)
+                .tag("result", result).counter().count();
+    }
+
+    private static DashboardResponseDTO response() {
+        return new DashboardResponseDTO("01012345678", 0, "홍길동", List.of(), List.of(),
+                List.of(), 0);
+    }
+}
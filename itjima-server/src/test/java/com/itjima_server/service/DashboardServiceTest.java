@@ -0,0 +1,263 @@
+package com.itjima_server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.itjima_server.common.PagedResultDTO;
+import com.itjima_server.domain.dashboard.DashboardStats;
+import com.itjima_server.domain.user.User;
+import com.itjima_server.dto.dashboard.response.DashboardPendingResponseDTO;
+import com.itjima_server.dto.dashboard.response.DashboardResponseDTO;
+import com.itjima_server.exception.common.ServiceUnavailableException;
+import com.itjima_server.exception.user.NotFoundUserException;
+import com.itjima_server.mapper.AgreementMapper;
+import com.itjima_server.mapper.DashboardStatsMapper;
+import com.itjima_server.mapper.PendingActionMapper;
+import com.itjima_server.mapper.UserMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    private static final long USER_ID = 1L;
+    private static final int QUERIES = 4;
+
+    @Mock
+    private AgreementMapper agreementMapper;
+    @Mock
+    private UserMapper userMapper;
+    @Mock
+    private DashboardStatsMapper dashboardStatsMapper;
+    @Mock
+    private PendingActionMapper pendingActionMapper;
+    @Mock
+    private ChangeStampService changeStampService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dashboardService = new DashboardService(agreementMapper, userMapper,
+                dashboardStatsMapper, pendingActionMapper, newCache(), changeStampService,
+                transactionManager, meterRegistry, QUERIES, 10, 16, 2_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.destroy();
+    }
+
+    @Nested
+    @DisplayName("대시보드 조회")
+    class GetDashboardInfoTest {
+
+        @Test
+        @DisplayName("성공 - 독립 조회를 동시에 실행하고 조회별 시간을 기록")
+        void run_queries_concurrently() {
+            // 네 조회가 모두 동시에 실행 중이어야만 래치가 풀림
+            CountDownLatch allStarted = new CountDownLatch(QUERIES);
+            when(userMapper.findById(USER_ID)).thenAnswer(invocation -> {
+                awaitOthers(allStarted);
+                return User.builder().id(USER_ID).name("홍길동").phone("01012345678").build();
+            });
+            when(dashboardStatsMapper.findByUserId(USER_ID)).thenAnswer(invocation -> {
+                awaitOthers(allStarted);
+                return DashboardStats.builder().userId(USER_ID).pendingRequests(2)
+                        .pendingRepayments(1).build();
+            });
+            when(agreementMapper.findComingAgreementsByUserId(USER_ID)).thenAnswer(invocation -> {
+                awaitOthers(allStarted);
+                return List.of();
+            });
+            when(agreementMapper.findOverdueAgreementsByUserId(USER_ID)).thenAnswer(invocation -> {
+                awaitOthers(allStarted);
+                return List.of();
+            });
+
+            DashboardResponseDTO res = dashboardService.getDashboardInfo(USER_ID, 0L);
+
+            assertEquals("홍길동", res.getName());
+            assertEquals("01012345678", res.getPhone());
+            assertEquals(3, res.getPendingCount());
+            assertEquals(1, meterRegistry.get("dashboard.query").tag("query", "stats")
+                    .timer().count());
+            assertEquals(QUERIES, meterRegistry.get("dashboard.query").timers().size());
+        }
+
+        @Test
+        @DisplayName("성공 - 조회마다 제한 시간을 읽기 전용 트랜잭션 타임아웃으로 건다")
+        void apply_timeout_to_query_transactions() {
+            when(userMapper.findById(USER_ID)).thenReturn(
+                    User.builder().id(USER_ID).name("홍길동").phone("01012345678").build());
+
+            dashboardService.getDashboardInfo(USER_ID, 0L);
+
+            verify(transactionManager, times(QUERIES)).getTransaction(
+                    argThat(definition -> definition.isReadOnly()
+                            && definition.getTimeout() == 2));
+        }
+
+        @Test
+        @DisplayName("성공 - 카운터 행의 값으로 건수를 채우고 0건인 역할은 제외")
+        void build_counts_from_stats() {
+            when(userMapper.findById(USER_ID)).thenReturn(
+                    User.builder().id(USER_ID).name("홍길동").phone("01012345678").build());
+            when(dashboardStatsMapper.findByUserId(USER_ID)).thenReturn(
+                    DashboardStats.builder().userId(USER_ID).activeLent(4).overdueLent(1)
+                            .overdueBorrowed(1).build());
+
+            DashboardResponseDTO res = dashboardService.getDashboardInfo(USER_ID, 0L);
+
+            assertEquals(1, res.getCounts().size());
+            assertEquals("CREDITOR", res.getCounts().get(0).getRole());
+            assertEquals(4L, res.getCounts().get(0).getCount());
+            assertEquals(2, res.getOverdueCount());
+            assertEquals(0, res.getPendingCount());
+        }
+
+        @Test
+        @DisplayName("성공 - 다시 열면 DB 조회 없이 캐시된 응답 반환")
+        void serve_repeated_open_from_cache() {
+            when(userMapper.findById(USER_ID)).thenReturn(
+                    User.builder().id(USER_ID).name("홍길동").phone("01012345678").build());
+
+            DashboardResponseDTO first = dashboardService.getDashboardInfo(USER_ID, 0L);
+            DashboardResponseDTO second = dashboardService.getDashboardInfo(USER_ID, 0L);
+
+            assertSame(first, second);
+            verify(userMapper, times(1)).findById(USER_ID);
+            verify(dashboardStatsMapper, times(1)).findByUserId(USER_ID);
+        }
+
+        @Test
+        @DisplayName("성공 - 카운터 행이 없으면 모든 건수가 0")
+        void zero_counts_without_stats_row() {
+            when(userMapper.findById(USER_ID)).thenReturn(
+                    User.builder().id(USER_ID).name("홍길동").phone("01012345678").build());
+
+            DashboardResponseDTO res = dashboardService.getDashboardInfo(USER_ID, 0L);
+
+            assertTrue(res.getCounts().isEmpty());
+            assertEquals(0, res.getPendingCount());
+            assertEquals(0, res.getOverdueCount());
+        }
+
+        @Test
+        @DisplayName("실패 - 사용자가 없으면 예외")
+        void fail_when_user_not_found() {
+            when(userMapper.findById(USER_ID)).thenReturn(null);
+
+            assertThrows(NotFoundUserException.class,
+                    () -> dashboardService.getDashboardInfo(USER_ID, 0L));
+        }
+
+        @Test
+        @DisplayName("실패 - 조회 중 예외가 나면 그대로 전달")
+        void propagate_query_failure() {
+            when(dashboardStatsMapper.findByUserId(USER_ID))
+                    .thenThrow(new IllegalStateException("DB 오류"));
+
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                    () -> dashboardService.getDashboardInfo(USER_ID, 0L));
+            assertEquals("DB 오류", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("실패 - 제한 시간 안에 끝나지 않으면 503")
+        void fail_on_timeout() {
+            dashboardService.destroy();
+            dashboardService = new DashboardService(agreementMapper, userMapper,
+                    dashboardStatsMapper, pendingActionMapper, newCache(), changeStampService,
+                    transactionManager, meterRegistry, QUERIES, 10, 16, 100);
+            when(agreementMapper.findOverdueAgreementsByUserId(USER_ID)).thenAnswer(invocation -> {
+                Thread.sleep(1_000);
+                return List.of();
+            });
+
+            assertThrows(ServiceUnavailableException.class,
+                    () -> dashboardService.getDashboardInfo(USER_ID, 0L));
+        }
+    }
+
+    @Nested
+    @DisplayName("요청 목록 조회")
+    class GetPendingTest {
+
+        @Test
+        @DisplayName("성공 - 요청함 커서로 조회하고 다음 페이지 여부와 마지막 커서 키 반환")
+        void page_by_inbox_cursor() {
+            LocalDateTime lastCreatedAt = LocalDateTime.of(2026, 10, 17, 12, 0);
+            when(pendingActionMapper.findByUserId(USER_ID, lastCreatedAt, 30L, 3)).thenReturn(
+                    new ArrayList<>(List.of(pending(29L), pending(28L), pending(27L))));
+
+            PagedResultDTO<?> res = dashboardService.getPending(USER_ID, 0L, lastCreatedAt, 30L, 2);
+
+            assertTrue(res.isHasNext());
+            assertEquals(2, res.getItems().size());
+            assertEquals(28L, res.getLastId());
+        }
+
+        @Test
+        @DisplayName("성공 - 요청이 없으면 빈 페이지")
+        void empty_page() {
+            when(pendingActionMapper.findByUserId(USER_ID, null, null, 6)).thenReturn(List.of());
+
+            PagedResultDTO<?> res = dashboardService.getPending(USER_ID, 0L, null, null, 5);
+
+            assertFalse(res.isHasNext());
+            assertNull(res.getLastId());
+        }
+
+        @Test
+        @DisplayName("실패 - lastCreatedAt 없이 lastId만 보내면 400")
+        void reject_partial_cursor() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> dashboardService.getPending(USER_ID, 0L, null, 30L, 2));
+            verify(pendingActionMapper, never()).findByUserId(any(), any(), any(), anyInt());
+        }
+    }
+
+    private DashboardCache newCache() {
+        return new DashboardCache(meterRegistry, 100, 600_000, true);
+    }
+
+    private static DashboardPendingResponseDTO pending(long cursorKey) {
+        DashboardPendingResponseDTO dto = new DashboardPendingResponseDTO();
+        dto.setCursorKey(cursorKey);
+        return dto;
+    }
+
+    private static void awaitOthers(CountDownLatch latch) throws InterruptedException {
+        latch.countDown();
+        assertTrue(latch.await(1, TimeUnit.SECONDS), "조회가 동시에 실행되지 않았습니다.");
+    }
+}
@@ -0,0 +1,79 @@
+package com.itjima_server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.itjima_server.common.BatchRunStats;
+import com.itjima_server.mapper.ChangeStampMapper;
+import com.itjima_server.mapper.DashboardStatsMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardStatsCheckServiceTest {
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Mock
+    private DashboardStatsMapper dashboardStatsMapper;
+    @Mock
+    private ChangeStampMapper changeStampMapper;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DashboardStatsCheckService dashboardStatsCheckService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardStatsCheckService = new DashboardStatsCheckService(dashboardStatsMapper,
+                changeStampMapper, transactionManager, CHUNK_SIZE);
+    }
+
+    @Nested
+    @DisplayName("대시보드 카운터 정합성 점검")
+    class ReconcileTest {
+
+        @Test
+        @DisplayName("성공 - 사용자 청크마다 빠진 행을 만들고 어긋난 카운터만 수정")
+        void reconcile_per_chunk() {
+            when(dashboardStatsMapper.findUserChunkEndId(0L, CHUNK_SIZE)).thenReturn(100L);
+            when(dashboardStatsMapper.findUserChunkEndId(100L, CHUNK_SIZE)).thenReturn(150L);
+            when(dashboardStatsMapper.findUserChunkEndId(150L, CHUNK_SIZE)).thenReturn(null);
+            when(dashboardStatsMapper.recomputeInRange(0L, 100L)).thenReturn(0);
+            when(dashboardStatsMapper.recomputeInRange(100L, 150L)).thenReturn(3);
+
+            BatchRunStats stats = dashboardStatsCheckService.reconcile();
+
+            assertEquals(2, stats.getChunks());
+            assertEquals(3, stats.getRows());
+            verify(dashboardStatsMapper).insertMissingInRange(0L, 100L);
+            verify(dashboardStatsMapper).insertMissingInRange(100L, 150L);
+            verify(transactionManager, times(2)).commit(any());
+            verify(changeStampMapper, never()).touchUserRange(0L, 100L);
+            verify(changeStampMapper).touchUserRange(100L, 150L);
+        }
+
+        @Test
+        @DisplayName("성공 - 사용자가 없으면 점검하지 않음")
+        void nothing_to_check() {
+            when(dashboardStatsMapper.findUserChunkEndId(eq(0L), eq(CHUNK_SIZE))).thenReturn(null);
+
+            BatchRunStats stats = dashboardStatsCheckService.reconcile();
+
+            assertEquals(0, stats.getChunks());
+            verify(dashboardStatsMapper, never()).recomputeInRange(anyLong(), anyLong());
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.itjima_server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.itjima_server.domain.email.EmailOutbox;
+import com.itjima_server.domain.email.EmailOutboxStatus;
+import com.itjima_server.mapper.EmailOutboxMapper;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private EmailOutboxMapper emailOutboxMapper;
+
+    private CountingMailSender mailSender;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new CountingMailSender();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+    }
+
+    @Nested
+    @DisplayName("발송")
+    class DispatchTest {
+
+        @Test
+        @DisplayName("성공 - 점유한 메일을 하나의 SMTP 세션으로 발송")
+        void send_batch_in_single_session() throws Exception {
+            dispatcher = newDispatcher(60);
+            List<EmailOutbox> pending = pending(5);
+            when(emailOutboxMapper.findDispatchable(any(), eq(50))).thenReturn(pending);
+            when(emailOutboxMapper.claim(anyLong(), any(), any())).thenReturn(1);
+
+            int sent = dispatcher.drain();
+
+            assertEquals(5, sent);
+            assertEquals(1, mailSender.sessions.get());
+            MimeMessage[] received = greenMail.getReceivedMessages();
+            assertEquals(5, received.length);
+            assertEquals("제목0", received[0].getSubject());
+            assertEquals("본문0", received[0].getContent().toString().trim());
+            verify(emailOutboxMapper, times(5)).markSent(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 서버가 먼저 점유한 메일은 발송하지 않음")
+        void skip_rows_claimed_by_others() {
+            dispatcher = newDispatcher(60);
+            List<EmailOutbox> pending = pending(2);
+            when(emailOutboxMapper.findDispatchable(any(), eq(50))).thenReturn(pending);
+            when(emailOutboxMapper.claim(eq(0L), any(), any())).thenReturn(0);
+            when(emailOutboxMapper.claim(eq(1L), any(), any())).thenReturn(1);
+
+            assertEquals(1, dispatcher.drain());
+            assertEquals(1, greenMail.getReceivedMessages().length);
+            verify(emailOutboxMapper, never()).markSent(eq(0L), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 분당 발송 한도만큼만 점유")
+        void throttle_to_rate_limit() {
+            dispatcher = newDispatcher(2);
+            when(emailOutboxMapper.findDispatchable(any(), eq(2))).thenReturn(pending(2));
+            when(emailOutboxMapper.claim(anyLong(), any(), any())).thenReturn(1);
+
+            assertEquals(2, dispatcher.drain());
+            assertEquals(0, dispatcher.drain());
+            verify(emailOutboxMapper, times(1)).findDispatchable(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("성공 - 발송 중에 들어온 요청은 놓치지 않고 이어서 처리")
+        void drain_again_when_requested_while_running() throws Exception {
+            dispatcher = newDispatcher(60);
+            CountDownLatch firstQueryStarted = new CountDownLatch(1);
+            CountDownLatch secondRequestMade = new CountDownLatch(1);
+            when(emailOutboxMapper.findDispatchable(any(), eq(50)))
+                    .thenAnswer(invocation -> {
+                        // 첫 조회가 끝나기 전에 새 메일이 커밋되고 발송 요청이 들어옴
+                        firstQueryStarted.countDown();
+                        secondRequestMade.await(5, TimeUnit.SECONDS);
+                        return List.of();
+                    })
+                    .thenAnswer(invocation -> pending(1));
+            when(emailOutboxMapper.claim(anyLong(), any(), any())).thenReturn(1);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+
+            Future<Integer> running = executor.submit(dispatcher::drain);
+            assertTrue(firstQueryStarted.await(5, TimeUnit.SECONDS));
+            int sentByLoser = dispatcher.drain();
+            secondRequestMade.countDown();
+
+            assertEquals(0, sentByLoser);
+            assertEquals(1, running.get(5, TimeUnit.SECONDS));
+            assertEquals(1, greenMail.getReceivedMessages().length);
+            executor.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("재시도")
+    class RetryTest {
+
+        @Test
+        @DisplayName("실패 - SMTP 서버에 연결하지 못하면 백오프 후 재시도 예약")
+        void schedule_retry_when_smtp_is_down() throws Exception {
+            mailSender.setPort(unusedPort());
+            dispatcher = newDispatcher(60);
+            when(emailOutboxMapper.findDispatchable(any(), eq(50))).thenReturn(pending(1));
+            when(emailOutboxMapper.claim(anyLong(), any(), any())).thenReturn(1);
+            LocalDateTime before = LocalDateTime.now();
+
+            assertEquals(0, dispatcher.drain());
+
+            ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(
+                    LocalDateTime.class);
+            verify(emailOutboxMapper).markRetry(eq(0L), nextAttemptAt.capture(), anyString());
+            assertTrue(nextAttemptAt.getValue().isAfter(before.plusSeconds(29)));
+            verify(emailOutboxMapper, never()).markSent(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("실패 - 재시도 한도에 이르면 FAILED로 기록")
+        void mark_failed_after_max_attempts() throws Exception {
+            mailSender.setPort(unusedPort());
+            dispatcher = newDispatcher(60);
+            List<EmailOutbox> pending = pending(1);
+            pending.get(0).setAttempts(MAX_ATTEMPTS - 1);
+            when(emailOutboxMapper.findDispatchable(any(), eq(50))).thenReturn(pending);
+            when(emailOutboxMapper.claim(anyLong(), any(), any())).thenReturn(1);
+
+            dispatcher.drain();
+
+            verify(emailOutboxMapper).markFailed(eq(0L), anyString());
+            verify(emailOutboxMapper, never()).markRetry(anyLong(), any(), anyString());
+        }
+
+        @Test
+        @DisplayName("실패 - 점유 기한이 지난 발송을 다시 점유하면 시도 횟수에 포함")
+        void count_reclaim_as_attempt() throws Exception {
+            mailSender.setPort(unusedPort());
+            dispatcher = newDispatcher(60);
+            List<EmailOutbox> stale = pending(1);
+            stale.get(0).setStatus(EmailOutboxStatus.SENDING);
+            stale.get(0).setAttempts(MAX_ATTEMPTS - 2);
+            when(emailOutboxMapper.findDispatchable(any(), eq(50))).thenReturn(stale);
+            when(emailOutboxMapper.claim(anyLong(), any(), any())).thenReturn(1);
+
+            dispatcher.drain();
+
+            verify(emailOutboxMapper).markFailed(eq(0L), anyString());
+            verify(emailOutboxMapper, never()).markRetry(anyLong(), any(), anyString());
+        }
+
+        @Test
+        @DisplayName("실패 - 다시 점유하며 재시도 한도에 이르면 발송하지 않고 FAILED로 기록")
+        void mark_failed_when_reclaim_exhausts_attempts() {
+            dispatcher = newDispatcher(60);
+            List<EmailOutbox> stale = pending(1);
+            stale.get(0).setStatus(EmailOutboxStatus.SENDING);
+            stale.get(0).setAttempts(MAX_ATTEMPTS - 1);
+            when(emailOutboxMapper.findDispatchable(any(), eq(50))).thenReturn(stale);
+            when(emailOutboxMapper.claim(anyLong(), any(), any())).thenReturn(1);
+
+            assertEquals(0, dispatcher.drain());
+
+            assertEquals(0, greenMail.getReceivedMessages().length);
+            verify(emailOutboxMapper).markFailed(eq(0L), anyString());
+            verify(emailOutboxMapper, never()).markSent(anyLong(), any());
+        }
+    }
+
+    private EmailOutboxDispatcher newDispatcher(int maxPerMinute) {
+        return new EmailOutboxDispatcher(emailOutboxMapper, mailSender, 50, maxPerMinute, 450,
+                MAX_ATTEMPTS, 30_000, 3_600_000, 120_000);
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static List<EmailOutbox> pending(int count) {
+        List<EmailOutbox> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(EmailOutbox.builder()
+                    .id(i)
+                    .recipient("user" + i + "@example.com")
+                    .subject("제목" + i)
+                    .body("본문" + i)
+                    .status(EmailOutboxStatus.PENDING)
+                    .nextAttemptAt(LocalDateTime.now())
+                    .build());
+        }
+        return rows;
+    }
+
+    /**
+     * SMTP 연결 횟수를 세는 메일 발송기
+     */
+    private static class CountingMailSender extends JavaMailSenderImpl {
+
+        private final AtomicInteger sessions = new AtomicInteger();
+
+        @Override
+        protected Transport connectTransport() throws MessagingException {
+            sessions.incrementAndGet();
+            return super.connectTransport();
+        }
+    }
+}
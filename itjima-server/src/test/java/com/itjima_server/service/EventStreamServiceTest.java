@@ -0,0 +1,247 @@
+package com.itjima_server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.itjima_server.controller.EventStreamController;
+import com.itjima_server.domain.agreement.Agreement;
+import com.itjima_server.domain.agreement.AgreementStatus;
+import com.itjima_server.exception.common.ServiceUnavailableException;
+import com.itjima_server.security.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class EventStreamServiceTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_ID = 2L;
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventStreamService eventStreamService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventStreamService = newService(100, 3);
+        mockMvc = MockMvcBuilders.standaloneSetup(new EventStreamController(eventStreamService))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        CustomUserDetails user = new CustomUserDetails(USER_ID, "user@example.com", "",
+                List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        eventStreamService.destroy();
+    }
+
+    @Nested
+    @DisplayName("이벤트 전달")
+    class DeliverTest {
+
+        @Test
+        @DisplayName("성공 - 트랜잭션 밖에서 발행하면 바로 당사자 연결로 전송")
+        void deliver_to_parties() throws Exception {
+            MvcResult stream = connect(null);
+
+            eventStreamService.publishAgreementStatus(agreement(5L));
+
+            String content = awaitContent(stream, "\"agreementId\":5");
+            assertTrue(content.contains("event:AGREEMENT_STATUS_CHANGED"));
+            assertTrue(content.contains("\"status\":\"ACCEPTED\""));
+        }
+
+        @Test
+        @DisplayName("성공 - 트랜잭션이 커밋되지 않으면 전송하지 않음")
+        void skip_when_not_committed() throws Exception {
+            MvcResult stream = connect(null);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                eventStreamService.publishAgreementStatus(agreement(5L));
+            } finally {
+                // 롤백: afterCommit이 호출되지 않음
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            eventStreamService.publishAgreementStatus(agreement(6L));
+
+            String content = awaitContent(stream, "\"agreementId\":6");
+            assertFalse(content.contains("\"agreementId\":5"));
+        }
+    }
+
+    @Nested
+    @DisplayName("재연결")
+    class ResumeTest {
+
+        @Test
+        @DisplayName("성공 - Last-Event-ID 이후 놓친 이벤트만 이어서 전송")
+        void replay_after_last_event_id() throws Exception {
+            MvcResult first = connect(null);
+            eventStreamService.publishAgreementStatus(agreement(5L));
+            Matcher matcher = EVENT_ID.matcher(awaitContent(first, "\"agreementId\":5"));
+            assertTrue(matcher.find());
+            eventStreamService.publishAgreementStatus(agreement(6L));
+            eventStreamService.publishAgreementStatus(agreement(7L));
+
+            MvcResult resumed = connect(matcher.group(1));
+
+            String content = awaitContent(resumed, "\"agreementId\":7");
+            assertTrue(content.contains("\"agreementId\":6"));
+            assertFalse(content.contains("\"agreementId\":5"));
+            assertFalse(content.contains("event:RESYNC"));
+        }
+
+        @Test
+        @DisplayName("성공 - 버퍼가 만료된 사이에 놓친 이벤트가 있으면 RESYNC 전송")
+        void resync_when_buffer_recreated() throws Exception {
+            eventStreamService.destroy();
+            eventStreamService = new EventStreamService(meterRegistry, 100, 3, 32, 50, 100,
+                    60_000, 2);
+            mockMvc = MockMvcBuilders.standaloneSetup(
+                            new EventStreamController(eventStreamService))
+                    .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                    .build();
+            MvcResult first = connect(null);
+            eventStreamService.publishAgreementStatus(agreement(5L));
+            Matcher matcher = EVENT_ID.matcher(awaitContent(first, "\"agreementId\":5"));
+            assertTrue(matcher.find());
+
+            // 보관 시간이 지나 버퍼가 사라진 뒤의 이벤트는 보관되지 않음
+            Thread.sleep(300);
+            eventStreamService.publishAgreementStatus(agreement(6L));
+            MvcResult resumed = connect(matcher.group(1));
+
+            awaitContent(resumed, "event:RESYNC");
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 노드(또는 재시작 전)의 이벤트 ID면 RESYNC 전송")
+        void resync_for_unknown_event_id() throws Exception {
+            MvcResult stream = connect("othernode-42");
+
+            awaitContent(stream, "event:RESYNC");
+            assertEquals(1.0, meterRegistry.get("events.stream.resyncs").counter().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("연결 수 제한")
+    class LimitTest {
+
+        @Test
+        @DisplayName("실패 - 노드의 연결 수가 한도에 이르면 503")
+        void fail_over_node_limit() {
+            eventStreamService.destroy();
+            eventStreamService = newService(2, 3);
+            eventStreamService.subscribe(USER_ID, null);
+            eventStreamService.subscribe(OTHER_ID, null);
+
+            assertThrows(ServiceUnavailableException.class,
+                    () -> eventStreamService.subscribe(3L, null));
+        }
+
+        @Test
+        @DisplayName("성공 - 사용자별 한도를 넘으면 가장 오래된 연결을 닫음")
+        void close_oldest_over_user_limit() {
+            for (int i = 0; i < 4; i++) {
+                eventStreamService.subscribe(USER_ID, null);
+            }
+
+            assertEquals(3.0, meterRegistry.get("events.stream.connections").gauge().value());
+        }
+
+        @Test
+        @DisplayName("성공 - 이전 연결이 닫히는 중에 다시 연결해도 새 연결이 사용자 연결로 남음")
+        void reconnect_while_previous_closing() throws Exception {
+            // 사용자당 1개: 새 연결이 맵에서 빠진 집합에 들어가면 다음 연결 때 닫히지 않아 2개가 됨
+            eventStreamService.destroy();
+            meterRegistry = new SimpleMeterRegistry();
+            eventStreamService = newService(100, 1);
+            mockMvc = MockMvcBuilders.standaloneSetup(
+                            new EventStreamController(eventStreamService))
+                    .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                    .build();
+            ExecutorService reconnector = Executors.newSingleThreadExecutor();
+            try {
+                for (int i = 0; i < 500; i++) {
+                    MvcResult previous = connect(null);
+                    assertEquals(1.0,
+                            meterRegistry.get("events.stream.connections").gauge().value());
+
+                    CyclicBarrier start = new CyclicBarrier(2);
+                    Future<?> reconnecting = reconnector.submit(() -> {
+                        start.await();
+                        return eventStreamService.subscribe(USER_ID, null);
+                    });
+                    start.await();
+                    previous.getRequest().getAsyncContext().complete();
+                    reconnecting.get(5, TimeUnit.SECONDS);
+
+                    assertEquals(1.0,
+                            meterRegistry.get("events.stream.connections").gauge().value());
+                }
+            } finally {
+                reconnector.shutdownNow();
+            }
+        }
+    }
+
+    private EventStreamService newService(int maxConnections, int maxConnectionsPerUser) {
+        return new EventStreamService(meterRegistry, maxConnections, maxConnectionsPerUser, 32,
+                50, 600_000, 60_000, 2);
+    }
+
+    private MvcResult connect(String lastEventId) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/api/events/stream");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 2_000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), () -> "전송되지 않음: " + expected);
+        return content;
+    }
+
+    private static Agreement agreement(long id) {
+        return Agreement.builder().id(id).creditorId(USER_ID).debtorId(OTHER_ID)
+                .status(AgreementStatus.ACCEPTED).build();
+    }
+}
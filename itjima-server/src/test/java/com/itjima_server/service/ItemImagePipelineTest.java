@@ -0,0 +1,259 @@
+package com.itjima_server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.itjima_server.domain.item.ImageJob;
+import com.itjima_server.domain.item.Item;
+import com.itjima_server.mapper.ItemMapper;
+import com.itjima_server.util.ImageUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ItemImagePipelineTest {
+
+    private static final long ITEM_ID = 3L;
+    private static final long USER_ID = 7L;
+
+    @Mock
+    private ItemMapper itemMapper;
+    @Mock
+    private ChangeStampService changeStampService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ItemImagePipeline pipeline;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new ItemImagePipeline(itemMapper,
+                new LocalFileStorage(tempDir.resolve("uploads").toString(), ""),
+                changeStampService, transactionManager, meterRegistry, 1, 4,
+                tempDir.resolve("spool").toString(), 800, 200, 0.8f, 50_000_000, 60_000);
+        item = Item.builder().id(ITEM_ID).userId(USER_ID).build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.destroy();
+    }
+
+    @Nested
+    @DisplayName("이미지 처리")
+    class ProcessTest {
+
+        @Test
+        @DisplayName("성공 - 상세용/썸네일 JPEG을 저장하고 물품에 반영한 뒤 이전 이미지와 임시 파일 삭제")
+        void store_variants() throws Exception {
+            Path previous = Files.createDirectories(tempDir.resolve("uploads/items/7"))
+                    .resolve("old.jpg");
+            Files.write(previous, new byte[]{1});
+            when(itemMapper.findById(ITEM_ID)).thenReturn(Item.builder().id(ITEM_ID)
+                    .userId(USER_ID).fileUrl("/uploads/items/7/old.jpg").build());
+            when(itemMapper.completeImageJob(eq(ITEM_ID), anyString(), anyString(), anyString(),
+                    eq("image/jpeg"))).thenReturn(1);
+
+            ItemImagePipeline.Job job = pipeline.spool(item, png(2000, 1000));
+            pipeline.submitAfterCommit(job);
+
+            String key = "/uploads/items/7/" + job.id();
+            verify(itemMapper, timeout(5_000)).completeImageJob(ITEM_ID, job.id(), key + ".jpg",
+                    key + "-thumb.jpg", "image/jpeg");
+            verify(changeStampService, timeout(5_000)).touchItem(ITEM_ID);
+            BufferedImage detail = ImageIO.read(tempDir.resolve("uploads/items/7/" + job.id()
+                    + ".jpg").toFile());
+            BufferedImage thumbnail = ImageIO.read(tempDir.resolve("uploads/items/7/" + job.id()
+                    + "-thumb.jpg").toFile());
+            assertEquals(800, detail.getWidth());
+            assertEquals(400, detail.getHeight());
+            assertEquals(200, thumbnail.getWidth());
+            awaitDeleted(previous);
+            awaitDeleted(job.spoolFile());
+            assertEquals(1, meterRegistry.get("image.pipeline.process").tag("result", "ready")
+                    .timer().count());
+        }
+
+        @Test
+        @DisplayName("성공 - 저장소에 직접 올라온 원본을 내려받아 처리한 뒤 원본 삭제")
+        void process_from_storage() throws Exception {
+            Path source = Files.createDirectories(tempDir.resolve("uploads/pending"))
+                    .resolve("upload-1");
+            Files.write(source, png(600, 300).getBytes());
+            when(itemMapper.findById(ITEM_ID)).thenReturn(item);
+            when(itemMapper.completeImageJob(eq(ITEM_ID), anyString(), anyString(), anyString(),
+                    eq("image/jpeg"))).thenReturn(1);
+
+            ItemImagePipeline.Job job = pipeline.fromStorage(item, "pending/upload-1");
+            pipeline.submitAfterCommit(job);
+
+            verify(itemMapper, timeout(5_000)).completeImageJob(eq(ITEM_ID), eq(job.id()),
+                    anyString(), anyString(), eq("image/jpeg"));
+            assertTrue(Files.exists(tempDir.resolve("uploads/items/7/" + job.id() + ".jpg")));
+            awaitDeleted(source);
+            awaitDeleted(job.spoolFile());
+        }
+
+        @Test
+        @DisplayName("성공 - 처리 중 새 이미지가 올라왔으면 만든 파일을 지우고 반영하지 않음")
+        void discard_superseded() throws Exception {
+            when(itemMapper.findById(ITEM_ID)).thenReturn(item);
+            when(itemMapper.completeImageJob(eq(ITEM_ID), anyString(), anyString(), anyString(),
+                    anyString())).thenReturn(0);
+
+            ItemImagePipeline.Job job = pipeline.spool(item, png(300, 300));
+            pipeline.submitAfterCommit(job);
+
+            verify(itemMapper, timeout(5_000)).completeImageJob(eq(ITEM_ID), eq(job.id()),
+                    anyString(), anyString(), anyString());
+            awaitDeleted(tempDir.resolve("uploads/items/7/" + job.id() + ".jpg"));
+            awaitDeleted(tempDir.resolve("uploads/items/7/" + job.id() + "-thumb.jpg"));
+        }
+
+        @Test
+        @DisplayName("실패 - 디코딩할 수 없는 파일이면 처리 실패로 기록하고 변경 스탬프 갱신")
+        void fail_on_undecodable() throws Exception {
+            when(itemMapper.failImageJob(eq(ITEM_ID), anyString())).thenReturn(1);
+            ItemImagePipeline.Job job = pipeline.spool(item,
+                    new MockMultipartFile("img", "a.jpg", "image/jpeg", new byte[]{1, 2, 3}));
+            pipeline.submitAfterCommit(job);
+
+            verify(itemMapper, timeout(5_000)).failImageJob(ITEM_ID, job.id());
+            verify(changeStampService, timeout(5_000)).touchItem(ITEM_ID);
+            awaitDeleted(job.spoolFile());
+        }
+
+        @Test
+        @DisplayName("실패 - 이미지가 아닌 파일은 접수하지 않음")
+        void reject_non_image() {
+            assertThrows(IllegalArgumentException.class, () -> pipeline.spool(item,
+                    new MockMultipartFile("img", "a.txt", "text/plain", new byte[]{1})));
+        }
+    }
+
+    @Nested
+    @DisplayName("끝나지 않은 작업 정리")
+    class StaleJobTest {
+
+        @Test
+        @DisplayName("성공 - 오래된 작업을 실패로 기록하고, 그사이 바뀐 작업은 건너뜀")
+        void fail_stale_jobs() {
+            List<ImageJob> staleJobs = List.of(
+                    ImageJob.builder().itemId(ITEM_ID).jobId("job-1").build(),
+                    ImageJob.builder().itemId(4L).jobId("job-2").build());
+            when(itemMapper.findStaleImageJobs(any(LocalDateTime.class), eq(2)))
+                    .thenAnswer(invocation -> staleJobs)
+                    .thenAnswer(invocation -> List.of());
+            when(itemMapper.failImageJob(ITEM_ID, "job-1")).thenReturn(1);
+            when(itemMapper.failImageJob(4L, "job-2")).thenReturn(0);
+
+            assertEquals(1, pipeline.failStaleJobs(2));
+            verify(changeStampService).touchItem(ITEM_ID);
+            verify(changeStampService, never()).touchItem(4L);
+        }
+    }
+
+    @Nested
+    @DisplayName("이미지 변환")
+    class ImageUtilTest {
+
+        @Test
+        @DisplayName("성공 - EXIF 방향 값을 읽어 픽셀을 돌리고, 결과 JPEG에는 EXIF를 남기지 않음")
+        void orient_and_strip_exif() throws Exception {
+            byte[] jpeg = withOrientation(ImageUtil.toJpeg(rgb(400, 200), 0.8f), 6);
+            assertEquals(6, ImageUtil.readOrientation(jpeg));
+
+            Path file = Files.write(tempDir.resolve("rotated.jpg"), jpeg);
+            BufferedImage oriented = ImageUtil.orient(ImageUtil.decode(file, 1600, 50_000_000), 6);
+            byte[] output = ImageUtil.toJpeg(ImageUtil.resize(oriented, 1600), 0.8f);
+
+            assertEquals(200, oriented.getWidth());
+            assertEquals(400, oriented.getHeight());
+            assertEquals(1, ImageUtil.readOrientation(output));
+            assertFalse(new String(output, StandardCharsets.ISO_8859_1).contains("Exif"));
+        }
+
+        @Test
+        @DisplayName("실패 - 허용 픽셀 수를 넘는 이미지는 디코딩하지 않음")
+        void reject_too_many_pixels() throws Exception {
+            Path file = Files.write(tempDir.resolve("big.jpg"),
+                    ImageUtil.toJpeg(rgb(400, 200), 0.8f));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> ImageUtil.decode(file, 1600, 10_000));
+        }
+    }
+
+    private static MockMultipartFile png(int width, int height) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(rgb(width, height), "png", bytes);
+        return new MockMultipartFile("img", "photo.png", "image/png", bytes.toByteArray());
+    }
+
+    private static BufferedImage rgb(int width, int height) {
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * SOI 바로 뒤에 방향 태그 하나만 있는 EXIF(APP1) 세그먼트 삽입
+     */
+    private static byte[] withOrientation(byte[] jpeg, int orientation) throws Exception {
+        byte[] tiff = {
+                'M', 'M', 0, 42, 0, 0, 0, 8,          // 빅엔디언 TIFF 헤더, IFD0 오프셋 8
+                0, 1,                                  // 항목 1개
+                0x01, 0x12, 0, 3, 0, 0, 0, 1,          // Orientation, SHORT, 1개
+                0, (byte) orientation, 0, 0,
+                0, 0, 0, 0                             // 다음 IFD 없음
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        int length = 2 + 6 + tiff.length;
+        out.write(new byte[]{(byte) 0xFF, (byte) 0xE1, (byte) (length >> 8), (byte) length});
+        out.write(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.write(tiff);
+        new ByteArrayInputStream(jpeg, 2, jpeg.length - 2).transferTo(out);
+        return out.toByteArray();
+    }
+
+    private static void awaitDeleted(Path file) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (Files.exists(file) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(Files.notExists(file), () -> "삭제되지 않음: " + file);
+    }
+}
@@ -4,25 +4,29 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.itjima_server.common.PagedResultDTO;
+import com.itjima_server.common.SearchSort;
+import com.itjima_server.domain.item.ImageStatus;
 import com.itjima_server.domain.item.Item;
 import com.itjima_server.domain.item.ItemType;
 import com.itjima_server.dto.item.request.ItemCreateRequestDTO;
 import com.itjima_server.dto.item.request.ItemUpdateRequestDTO;
+import com.itjima_server.dto.item.response.ItemImageResponseDTO;
 import com.itjima_server.dto.item.response.ItemResponseDTO;
 import com.itjima_server.exception.common.NotAuthorException;
 import com.itjima_server.exception.common.UpdateFailedException;
 import com.itjima_server.exception.item.NotFoundItemException;
 import com.itjima_server.exception.item.NotInsertItemException;
 import com.itjima_server.mapper.ItemMapper;
-import com.itjima_server.util.FileResult;
-import com.itjima_server.util.FileUtil;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -33,9 +37,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +49,12 @@ public class ItemServiceTest {
     @Mock
     private ItemMapper itemMapper;
 
+    @Mock
+    private ChangeStampService changeStampService;
+
+    @Mock
+    private ItemImagePipeline itemImagePipeline;
+
     @Mock
     private MultipartFile multipartFile;
 
@@ -185,71 +193,76 @@ public class ItemServiceTest {
     class SaveImageServiceTest {
 
         private Long id;
-        private Long userId;
+        private Item item;
+        private ItemImagePipeline.Job job;
 
         @BeforeEach
         void setUp() {
-            ReflectionTestUtils.setField(itemService, "uploadDir", "uploads");
             id = 1L;
-            userId = 1L;
+            item = Item.builder().id(id).userId(1L).fileUrl("old-url").build();
+            job = new ItemImagePipeline.Job("job-1", id, 1L, Path.of("spool", "job-1"),
+                    null);
         }
 
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공 - 원본을 접수하고 커밋 후 처리하도록 등록")
         void save_image_success() {
-            try (MockedStatic<FileUtil> fileUtilMock = mockStatic(FileUtil.class)) {
-                // given
-                FileResult mockFileResult = FileResult.builder()
-                        .fileUrl("url")
-                        .fileType("image/png")
-                        .build();
-                fileUtilMock.when(() -> FileUtil.save(multipartFile, "items", userId, "uploads"))
-                        .thenReturn(mockFileResult);
-                when(itemMapper.updateFileById(any())).thenReturn(1);
-
-                // when
-                FileResult result = itemService.saveImage(id, multipartFile);
-
-                // then
-                assertThat(result).isEqualTo(mockFileResult);
-                fileUtilMock.verify(() -> FileUtil.save(multipartFile, "items", userId, "uploads"));
-                verify(itemMapper).updateFileById(any());
-            }
+            // given
+            when(itemMapper.findById(id)).thenReturn(item);
+            when(itemImagePipeline.spool(item, multipartFile)).thenReturn(job);
+            when(itemMapper.startImageJob(id, "job-1")).thenReturn(1);
+
+            // when
+            ItemImageResponseDTO result = itemService.saveImage(1L, id, multipartFile);
+
+            // then
+            assertEquals(ImageStatus.PROCESSING, result.getImageStatus());
+            assertEquals("old-url", result.getFileUrl());
+            verify(itemImagePipeline).submitAfterCommit(job);
+            verify(changeStampService).touchItem(id);
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 물품이면 접수하지 않음")
+        void saveImage_notOwner_throwsException() {
+            // given
+            when(itemMapper.findById(id)).thenReturn(item);
+
+            // when & then
+            assertThrows(NotAuthorException.class,
+                    () -> itemService.saveImage(2L, id, multipartFile));
+            verify(itemImagePipeline, never()).spool(any(), any());
+            verify(itemMapper, never()).startImageJob(any(), any());
         }
 
         @Test
-        @DisplayName("실패 - 파일 저장 실패")
+        @DisplayName("실패 - 이미지 파일이 아니면 접수하지 않음")
         void saveImage_invalidFile_throwsException() {
-            try (MockedStatic<FileUtil> fileUtilMock = mockStatic(FileUtil.class)) {
-                // given
-                fileUtilMock.when(() -> FileUtil.save(multipartFile, "items", userId, "uploads"))
-                        .thenReturn(null);
-
-                // when & then
-                assertThrows(IllegalArgumentException.class,
-                        () -> itemService.saveImage(1L, multipartFile));
-            }
+            // given
+            when(itemMapper.findById(id)).thenReturn(item);
+            when(itemImagePipeline.spool(item, multipartFile))
+                    .thenThrow(new IllegalArgumentException("이미지 파일만 업로드할 수 있습니다."));
+
+            // when & then
+            assertThrows(IllegalArgumentException.class,
+                    () -> itemService.saveImage(1L, id, multipartFile));
+            verify(itemMapper, never()).startImageJob(any(), any());
         }
 
         @Test
-        @DisplayName("실패 - DB 수정 실패 및 파일 저장 롤백")
+        @DisplayName("실패 - DB 수정 실패 시 임시 파일 삭제")
         void saveImage_updateFails_rollbackAndDelete() {
-            try (MockedStatic<FileUtil> fileUtilMock = mockStatic(FileUtil.class)) {
-                // given
-                FileResult mockFileResult = FileResult.builder()
-                        .fileUrl("url")
-                        .fileType("image/png")
-                        .build();
-                fileUtilMock.when(() -> FileUtil.save(multipartFile, "items", userId, "uploads"))
-                        .thenReturn(mockFileResult);
-                when(itemMapper.updateFileById(any())).thenReturn(0);
-
-                //when & then
-                assertThrows(UpdateFailedException.class,
-                        () -> itemService.saveImage(id, multipartFile));
-
-                fileUtilMock.verify(() -> FileUtil.delete("url", "uploads"));
-            }
+            // given
+            when(itemMapper.findById(id)).thenReturn(item);
+            when(itemImagePipeline.spool(item, multipartFile)).thenReturn(job);
+            when(itemMapper.startImageJob(id, "job-1")).thenReturn(0);
+
+            //when & then
+            assertThrows(UpdateFailedException.class,
+                    () -> itemService.saveImage(1L, id, multipartFile));
+
+            verify(itemImagePipeline).discard(job);
+            verify(itemImagePipeline, never()).submitAfterCommit(any());
         }
     }
 
@@ -307,6 +320,17 @@ public class ItemServiceTest {
             assertThat(result.isHasNext()).isFalse();
             assertThat(result.getLastId()).isNull();
         }
+
+        @Test
+        @DisplayName("실패 - 관련도순 다음 페이지에 lastRelevance 없음")
+        void get_summaries_fail_relevance_cursor_without_score() {
+            // when & then
+            assertThrows(IllegalArgumentException.class,
+                    () -> itemService.getSummaries(userId, "우산", null, SearchSort.RELEVANCE,
+                            null, 10L, size));
+            verify(itemMapper, never()).findItemSummariesByUserId(any(), any(), any(),
+                    anyBoolean(), any(), any(), anyInt());
+        }
     }
 
     @Nested
@@ -0,0 +1,77 @@
+package com.itjima_server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.itjima_server.common.BatchRunStats;
+import com.itjima_server.mapper.ChangeStampMapper;
+import com.itjima_server.mapper.ItemMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ItemStatsRebuildServiceTest {
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Mock
+    private ItemMapper itemMapper;
+    @Mock
+    private ChangeStampMapper changeStampMapper;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ItemStatsRebuildService itemStatsRebuildService;
+
+    @BeforeEach
+    void setUp() {
+        itemStatsRebuildService = new ItemStatsRebuildService(itemMapper,
+                changeStampMapper, transactionManager, CHUNK_SIZE);
+    }
+
+    @Nested
+    @DisplayName("물품 대여 통계 재계산")
+    class RebuildTest {
+
+        @Test
+        @DisplayName("성공 - 물품 청크마다 다시 계산하고 값이 바뀐 청크만 소유자 스탬프 갱신")
+        void rebuild_per_chunk() {
+            when(itemMapper.findItemChunkEndId(0L, CHUNK_SIZE)).thenReturn(100L);
+            when(itemMapper.findItemChunkEndId(100L, CHUNK_SIZE)).thenReturn(150L);
+            when(itemMapper.findItemChunkEndId(150L, CHUNK_SIZE)).thenReturn(null);
+            when(itemMapper.rebuildRentalStatsInRange(0L, 100L)).thenReturn(0);
+            when(itemMapper.rebuildRentalStatsInRange(100L, 150L)).thenReturn(3);
+
+            BatchRunStats stats = itemStatsRebuildService.rebuild();
+
+            assertEquals(2, stats.getChunks());
+            assertEquals(3, stats.getRows());
+            verify(transactionManager, times(2)).commit(any());
+            verify(changeStampMapper, never()).touchItemOwnerRange(0L, 100L);
+            verify(changeStampMapper).touchItemOwnerRange(100L, 150L);
+        }
+
+        @Test
+        @DisplayName("성공 - 물품이 없으면 계산하지 않음")
+        void nothing_to_rebuild() {
+            when(itemMapper.findItemChunkEndId(eq(0L), eq(CHUNK_SIZE))).thenReturn(null);
+
+            BatchRunStats stats = itemStatsRebuildService.rebuild();
+
+            assertEquals(0, stats.getChunks());
+            verify(itemMapper, never()).rebuildRentalStatsInRange(anyLong(), anyLong());
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.itjima_server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.itjima_server.controller.LocalUploadController;
+import com.itjima_server.domain.item.ImageStatus;
+import com.itjima_server.domain.item.Item;
+import com.itjima_server.domain.item.PendingUpload;
+import com.itjima_server.dto.item.request.ItemUploadUrlRequestDTO;
+import com.itjima_server.dto.item.response.ItemImageResponseDTO;
+import com.itjima_server.dto.item.response.ItemUploadUrlResponseDTO;
+import com.itjima_server.exception.common.InvalidStateException;
+import com.itjima_server.exception.common.NotAuthorException;
+import com.itjima_server.mapper.ItemMapper;
+import com.itjima_server.mapper.PendingUploadMapper;
+import com.itjima_server.web.advice.GlobalExceptionHandler;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class ItemUploadServiceTest {
+
+    private static final long ITEM_ID = 3L;
+    private static final long USER_ID = 7L;
+    private static final long MAX_BYTES = 1024;
+
+    @Mock
+    private ItemMapper itemMapper;
+    @Mock
+    private PendingUploadMapper pendingUploadMapper;
+    @Mock
+    private ItemImagePipeline itemImagePipeline;
+    @Mock
+    private ChangeStampService changeStampService;
+
+    @TempDir
+    private Path tempDir;
+
+    private ItemUploadService itemUploadService;
+    private MockMvc mockMvc;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        // S3 대신 서명된 PUT을 그대로 흉내 내는 로컬 저장소
+        LocalFileStorage storage = new LocalFileStorage(tempDir.toString(), "test-signing-key");
+        itemUploadService = new ItemUploadService(itemMapper, pendingUploadMapper, storage,
+                itemImagePipeline, changeStampService, MAX_BYTES, 600_000);
+        mockMvc = MockMvcBuilders.standaloneSetup(new LocalUploadController(storage))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        item = Item.builder().id(ITEM_ID).userId(USER_ID).fileUrl("old-url").build();
+    }
+
+    @Nested
+    @DisplayName("업로드 URL 발급")
+    class CreateUploadUrlTest {
+
+        @Test
+        @DisplayName("성공 - 업로드 정보를 남기고 pending/ 경로의 서명된 PUT URL 발급")
+        void create_upload_url() {
+            when(itemMapper.findById(ITEM_ID)).thenReturn(item);
+            when(pendingUploadMapper.insert(any())).thenReturn(1);
+
+            ItemUploadUrlResponseDTO res = itemUploadService.createUploadUrl(USER_ID, ITEM_ID,
+                    request("image/png", 100));
+
+            ArgumentCaptor<PendingUpload> captor = ArgumentCaptor.forClass(PendingUpload.class);
+            verify(pendingUploadMapper).insert(captor.capture());
+            assertEquals("pending/" + res.getUploadId(), captor.getValue().getObjectKey());
+            assertEquals(100, captor.getValue().getSize());
+            assertEquals("PUT", res.getMethod());
+            assertEquals("image/png", res.getHeaders().get("Content-Type"));
+            assertTrue(res.getUploadUrl().startsWith(LocalFileStorage.PRESIGNED_PATH + "?"));
+        }
+
+        @Test
+        @DisplayName("실패 - 허용 크기를 넘으면 발급하지 않음")
+        void fail_too_large() {
+            when(itemMapper.findById(ITEM_ID)).thenReturn(item);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> itemUploadService.createUploadUrl(USER_ID, ITEM_ID,
+                            request("image/png", MAX_BYTES + 1)));
+            verify(pendingUploadMapper, never()).insert(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 물품")
+        void fail_not_owner() {
+            when(itemMapper.findById(ITEM_ID)).thenReturn(item);
+
+            assertThrows(NotAuthorException.class,
+                    () -> itemUploadService.createUploadUrl(99L, ITEM_ID,
+                            request("image/png", 100)));
+        }
+    }
+
+    @Nested
+    @DisplayName("서명된 URL로 업로드 후 확인")
+    class UploadAndConfirmTest {
+
+        private PendingUpload pendingUpload;
+        private ItemUploadUrlResponseDTO issued;
+
+        @BeforeEach
+        void issue() {
+            when(itemMapper.findById(ITEM_ID)).thenReturn(item);
+            when(pendingUploadMapper.insert(any())).thenReturn(1);
+            issued = itemUploadService.createUploadUrl(USER_ID, ITEM_ID, request("image/png", 4));
+            ArgumentCaptor<PendingUpload> captor = ArgumentCaptor.forClass(PendingUpload.class);
+            verify(pendingUploadMapper).insert(captor.capture());
+            pendingUpload = captor.getValue();
+        }
+
+        @Test
+        @DisplayName("성공 - 올라온 파일을 확인하고 이미지 처리 접수")
+        void upload_and_confirm() throws Exception {
+            mockMvc.perform(put(URI.create(issued.getUploadUrl()))
+                            .contentType("image/png").content(new byte[]{1, 2, 3, 4}))
+                    .andExpect(status().isOk());
+            ItemImagePipeline.Job job = new ItemImagePipeline.Job("job-1", ITEM_ID, USER_ID,
+                    tempDir.resolve("spool/job-1"), pendingUpload.getObjectKey());
+            when(pendingUploadMapper.findById(issued.getUploadId())).thenReturn(pendingUpload);
+            when(itemImagePipeline.fromStorage(item, pendingUpload.getObjectKey())).thenReturn(job);
+            when(pendingUploadMapper.deleteById(issued.getUploadId())).thenReturn(1);
+            when(itemMapper.startImageJob(ITEM_ID, "job-1")).thenReturn(1);
+
+            ItemImageResponseDTO res = itemUploadService.confirm(USER_ID, ITEM_ID,
+                    issued.getUploadId());
+
+            assertEquals(ImageStatus.PROCESSING, res.getImageStatus());
+            assertEquals("old-url", res.getFileUrl());
+            verify(itemImagePipeline).submitAfterCommit(job);
+            verify(changeStampService).touchItem(ITEM_ID);
+        }
+
+        @Test
+        @DisplayName("실패 - 서명한 것과 다른 Content-Type으로 올리면 403")
+        void reject_other_content_type() throws Exception {
+            mockMvc.perform(put(URI.create(issued.getUploadUrl()))
+                            .contentType("text/html").content(new byte[]{1, 2, 3, 4}))
+                    .andExpect(status().isForbidden());
+
+            assertFalse(Files.exists(tempDir.resolve(pendingUpload.getObjectKey())));
+        }
+
+        @Test
+        @DisplayName("실패 - 서명을 바꾸면 403")
+        void reject_tampered_signature() throws Exception {
+            String tampered = issued.getUploadUrl().replace("size=4", "size=5");
+
+            mockMvc.perform(put(URI.create(tampered))
+                            .contentType("image/png").content(new byte[]{1, 2, 3, 4, 5}))
+                    .andExpect(status().isForbidden());
+
+            assertFalse(Files.exists(tempDir.resolve(pendingUpload.getObjectKey())));
+        }
+
+        @Test
+        @DisplayName("실패 - 서명한 크기보다 크게 올리면 400")
+        void reject_other_size() throws Exception {
+            mockMvc.perform(put(URI.create(issued.getUploadUrl()))
+                            .contentType("image/png").content(new byte[]{1, 2, 3, 4, 5}))
+                    .andExpect(status().isBadRequest());
+
+            assertFalse(Files.exists(tempDir.resolve(pendingUpload.getObjectKey())));
+        }
+
+        @Test
+        @DisplayName("실패 - 올리지 않고 확인하면 409")
+        void fail_not_uploaded() {
+            when(pendingUploadMapper.findById(issued.getUploadId())).thenReturn(pendingUpload);
+
+            assertThrows(InvalidStateException.class,
+                    () -> itemUploadService.confirm(USER_ID, ITEM_ID, issued.getUploadId()));
+            verify(itemImagePipeline, never()).fromStorage(any(), anyString());
+        }
+
+        @Test
+        @DisplayName("실패 - 만료된 업로드")
+        void fail_expired() {
+            pendingUpload.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+            when(pendingUploadMapper.findById(issued.getUploadId())).thenReturn(pendingUpload);
+
+            assertThrows(InvalidStateException.class,
+                    () -> itemUploadService.confirm(USER_ID, ITEM_ID, issued.getUploadId()));
+        }
+
+        @Test
+        @DisplayName("실패 - 동시에 확인되어 이미 처리된 업로드면 작업을 시작하지 않음")
+        void fail_already_confirmed() throws Exception {
+            mockMvc.perform(put(URI.create(issued.getUploadUrl()))
+                            .contentType("image/png").content(new byte[]{1, 2, 3, 4}))
+                    .andExpect(status().isOk());
+            when(pendingUploadMapper.findById(issued.getUploadId())).thenReturn(pendingUpload);
+            when(itemImagePipeline.fromStorage(item, pendingUpload.getObjectKey())).thenReturn(
+                    new ItemImagePipeline.Job("job-1", ITEM_ID, USER_ID,
+                            tempDir.resolve("spool/job-1"), pendingUpload.getObjectKey()));
+            when(pendingUploadMapper.deleteById(issued.getUploadId())).thenReturn(0);
+
+            assertThrows(InvalidStateException.class,
+                    () -> itemUploadService.confirm(USER_ID, ITEM_ID, issued.getUploadId()));
+            verify(itemMapper, never()).startImageJob(anyLong(), anyString());
+            verify(itemImagePipeline, never()).submitAfterCommit(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 업로드 정리")
+    class PurgeTest {
+
+        @Test
+        @DisplayName("성공 - 확인되지 않은 업로드의 파일과 행 삭제")
+        void purge_expired() throws Exception {
+            Path file = Files.createDirectories(tempDir.resolve("pending")).resolve("u1");
+            Files.write(file, new byte[]{1});
+            PendingUpload expired = PendingUpload.builder().id("u1").objectKey("pending/u1")
+                    .build();
+            when(pendingUploadMapper.findExpired(any(), anyInt()))
+                    .thenReturn(List.of(expired));
+            when(pendingUploadMapper.deleteByIds(List.of("u1"))).thenReturn(1);
+
+            int deleted = itemUploadService.purgeExpiredUploads(10);
+
+            assertEquals(1, deleted);
+            assertFalse(Files.exists(file));
+        }
+    }
+
+    private static ItemUploadUrlRequestDTO request(String contentType, long size) {
+        ItemUploadUrlRequestDTO req = new ItemUploadUrlRequestDTO();
+        req.setContentType(contentType);
+        req.setSize(size);
+        return req;
+    }
+}
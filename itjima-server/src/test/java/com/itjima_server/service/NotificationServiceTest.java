@@ -0,0 +1,135 @@
+package com.itjima_server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.itjima_server.common.BatchRunStats;
+import com.itjima_server.domain.agreement.AgreementStatus;
+import com.itjima_server.domain.notification.NotificationType;
+import com.itjima_server.domain.notification.ReminderTemplate;
+import com.itjima_server.mapper.NotificationMapper;
+import com.itjima_server.mapper.ReminderMapper;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int[] OFFSET_DAYS = {3, 0};
+
+    @Mock
+    private NotificationMapper notificationMapper;
+    @Mock
+    private ReminderMapper reminderMapper;
+    @Mock
+    private EventStreamService eventStreamService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(notificationMapper, reminderMapper,
+                eventStreamService, transactionManager, CHUNK_SIZE, OFFSET_DAYS);
+    }
+
+    @Nested
+    @DisplayName("리마인드 알림 생성")
+    class CreateRemindersTest {
+
+        @Test
+        @DisplayName("성공 - 리마인드 종류별 청크마다 알림 일괄 생성 후 같은 범위에 발송 기록")
+        void create_reminders_per_chunk() {
+            lenient().when(reminderMapper.findDueChunkEndId(any(), anyLong(), anyInt()))
+                    .thenReturn(null);
+            when(reminderMapper.findDueChunkEndId(keyIs("D-3"), eq(0L), eq(CHUNK_SIZE)))
+                    .thenReturn(700L);
+            when(reminderMapper.findDueChunkEndId(keyIs("D-3"), eq(700L), eq(CHUNK_SIZE)))
+                    .thenReturn(1200L);
+            when(reminderMapper.findDueChunkEndId(keyIs("OVERDUE"), eq(0L), eq(CHUNK_SIZE)))
+                    .thenReturn(90L);
+            when(reminderMapper.insertNotificationsInRange(any(), eq(0L), eq(700L)))
+                    .thenReturn(1000);
+            when(reminderMapper.insertNotificationsInRange(any(), eq(700L), eq(1200L)))
+                    .thenReturn(600);
+            when(reminderMapper.insertNotificationsInRange(any(), eq(0L), eq(90L)))
+                    .thenReturn(20);
+
+            BatchRunStats stats = notificationService.createReminders();
+
+            assertEquals(3, stats.getChunks());
+            assertEquals(1620, stats.getRows());
+            verify(reminderMapper).markSentInRange(keyIs("D-3"), eq(0L), eq(700L), any());
+            verify(reminderMapper).markSentInRange(keyIs("D-3"), eq(700L), eq(1200L), any());
+            verify(reminderMapper).markSentInRange(keyIs("OVERDUE"), eq(0L), eq(90L), any());
+            verify(transactionManager, times(3)).commit(any());
+            verify(reminderMapper).deleteStale(any(), any(), eq(ReminderTemplate.OVERDUE_KEY));
+        }
+
+        @Test
+        @DisplayName("성공 - 대상 대여가 없으면 알림을 만들지 않음")
+        void nothing_to_notify() {
+            when(reminderMapper.findDueChunkEndId(any(), eq(0L), eq(CHUNK_SIZE)))
+                    .thenReturn(null);
+
+            BatchRunStats stats = notificationService.createReminders();
+
+            assertEquals(0, stats.getRows());
+            verify(reminderMapper, times(OFFSET_DAYS.length + 1)).findDueChunkEndId(any(),
+                    eq(0L), eq(CHUNK_SIZE));
+            verify(reminderMapper, never()).insertNotificationsInRange(any(), anyLong(),
+                    anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("리마인드 템플릿")
+    class ReminderTemplateTest {
+
+        @Test
+        @DisplayName("성공 - 설정한 일수만큼 뒤의 반납 예정일과 연체 상태로 대상을 계산")
+        void templates_from_offsets() {
+            LocalDate today = LocalDate.of(2026, 10, 17);
+
+            List<ReminderTemplate> templates = ReminderTemplate.of(new int[]{7, 0}, today);
+
+            assertEquals(3, templates.size());
+            assertEquals("D-7", templates.get(0).getKey());
+            assertEquals(LocalDate.of(2026, 10, 24), templates.get(0).getDueAt());
+            assertEquals("[ D-7 ] 반납일을 잊지 마세요!", templates.get(0).getMessage());
+            assertEquals("D-DAY", templates.get(1).getKey());
+            assertTrue(templates.get(1).getStatuses().contains(AgreementStatus.OVERDUE));
+
+            ReminderTemplate overdue = templates.get(2);
+            assertEquals(ReminderTemplate.OVERDUE_KEY, overdue.getKey());
+            assertNull(overdue.getDueAt());
+            assertEquals(NotificationType.OVERDUE, overdue.getNotificationType());
+            assertEquals("[ 연체 ] 연체 중입니다!", overdue.getMessage());
+        }
+    }
+
+    private static ReminderTemplate keyIs(String key) {
+        return argThat(t -> t != null && key.equals(t.getKey()));
+    }
+}
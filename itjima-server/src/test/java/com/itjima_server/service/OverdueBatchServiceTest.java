@@ -0,0 +1,190 @@
+package com.itjima_server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.itjima_server.common.BatchRunStats;
+import com.itjima_server.domain.agreement.Agreement;
+import com.itjima_server.domain.agreement.AgreementStatus;
+import com.itjima_server.domain.batch.BatchCheckpoint;
+import com.itjima_server.mapper.AgreementMapper;
+import com.itjima_server.mapper.BatchCheckpointMapper;
+import com.itjima_server.mapper.ChangeStampMapper;
+import com.itjima_server.mapper.DashboardStatsMapper;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueBatchServiceTest {
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Mock
+    private AgreementMapper agreementMapper;
+    @Mock
+    private BatchCheckpointMapper batchCheckpointMapper;
+    @Mock
+    private ChangeStampMapper changeStampMapper;
+    @Mock
+    private DashboardStatsMapper dashboardStatsMapper;
+    @Mock
+    private EventStreamService eventStreamService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OverdueBatchService overdueBatchService;
+    private String today;
+
+    @BeforeEach
+    void setUp() {
+        overdueBatchService = new OverdueBatchService(agreementMapper,
+                batchCheckpointMapper, changeStampMapper, dashboardStatsMapper, eventStreamService,
+                transactionManager,
+                CHUNK_SIZE);
+        today = LocalDate.now().toString();
+    }
+
+    @Nested
+    @DisplayName("청크 처리")
+    class ChunkTest {
+
+        @Test
+        @DisplayName("성공 - 키셋 청크마다 상태 변경과 체크포인트를 함께 커밋")
+        void commit_per_chunk() {
+            when(agreementMapper.findOverdueChunkEndId(eq(0L), anySet(), any(),
+                    eq(CHUNK_SIZE))).thenReturn(150L);
+            when(agreementMapper.findOverdueChunkEndId(eq(150L), anySet(), any(),
+                    eq(CHUNK_SIZE))).thenReturn(260L);
+            when(agreementMapper.findOverdueChunkEndId(eq(260L), anySet(), any(),
+                    eq(CHUNK_SIZE))).thenReturn(null);
+            when(agreementMapper.markOverdueInRange(eq(0L), eq(150L), anySet(), any()))
+                    .thenReturn(100);
+            when(agreementMapper.markOverdueInRange(eq(150L), eq(260L), anySet(), any()))
+                    .thenReturn(40);
+
+            BatchRunStats stats = overdueBatchService.processOverdueAgreements();
+
+            assertEquals(2, stats.getChunks());
+            assertEquals(140, stats.getRows());
+            verify(batchCheckpointMapper).save(OverdueBatchService.JOB_NAME, today, 150L);
+            verify(batchCheckpointMapper, times(2)).save(OverdueBatchService.JOB_NAME, today,
+                    260L);
+            verify(transactionManager, times(2)).commit(any());
+            verify(changeStampMapper).touchOverdueInRange(eq(0L), eq(150L), anySet(), any());
+            verify(changeStampMapper).touchOverdueInRange(eq(150L), eq(260L), anySet(), any());
+            verify(dashboardStatsMapper).addOverdueInRange(eq(0L), eq(150L), anySet(), any());
+            verify(dashboardStatsMapper).addOverdueInRange(eq(150L), eq(260L), anySet(), any());
+            verify(batchCheckpointMapper).complete(eq(OverdueBatchService.JOB_NAME), eq(today),
+                    any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 스트림을 듣는 사용자가 있으면 바뀐 대여마다 상태 변경 이벤트 발행")
+        void publish_status_events_when_listening() {
+            when(eventStreamService.hasListeners()).thenReturn(true);
+            when(agreementMapper.findOverdueChunkEndId(eq(0L), anySet(), any(),
+                    eq(CHUNK_SIZE))).thenReturn(150L);
+            when(agreementMapper.findOverdueChunkEndId(eq(150L), anySet(), any(),
+                    eq(CHUNK_SIZE))).thenReturn(null);
+            Agreement agreement = Agreement.builder().id(120L).creditorId(1L).debtorId(2L)
+                    .build();
+            when(agreementMapper.findOverdueInRange(eq(0L), eq(150L), anySet(), any()))
+                    .thenReturn(List.of(agreement));
+
+            overdueBatchService.processOverdueAgreements();
+
+            verify(eventStreamService).publishAgreementStatus(agreement);
+            assertEquals(AgreementStatus.OVERDUE, agreement.getStatus());
+        }
+
+        @Test
+        @DisplayName("성공 - 듣는 사용자가 없어도 대상 행을 먼저 잠그고 이벤트는 발행하지 않음")
+        void lock_before_counters_without_listeners() {
+            when(agreementMapper.findOverdueChunkEndId(eq(0L), anySet(), any(),
+                    eq(CHUNK_SIZE))).thenReturn(150L);
+            when(agreementMapper.findOverdueChunkEndId(eq(150L), anySet(), any(),
+                    eq(CHUNK_SIZE))).thenReturn(null);
+            when(agreementMapper.findOverdueInRange(eq(0L), eq(150L), anySet(), any()))
+                    .thenReturn(List.of(Agreement.builder().id(120L).build()));
+
+            overdueBatchService.processOverdueAgreements();
+
+            InOrder inOrder = inOrder(agreementMapper, dashboardStatsMapper, changeStampMapper);
+            inOrder.verify(agreementMapper).findOverdueInRange(eq(0L), eq(150L), anySet(), any());
+            inOrder.verify(dashboardStatsMapper).addOverdueInRange(eq(0L), eq(150L), anySet(),
+                    any());
+            inOrder.verify(changeStampMapper).touchOverdueInRange(eq(0L), eq(150L), anySet(),
+                    any());
+            inOrder.verify(agreementMapper).markOverdueInRange(eq(0L), eq(150L), anySet(), any());
+            verify(eventStreamService, never()).publishAgreementStatus(any());
+        }
+
+        @Test
+        @DisplayName("성공 - 연체 대상이 없으면 변경 없이 완료")
+        void nothing_to_process() {
+            when(agreementMapper.findOverdueChunkEndId(eq(0L), anySet(), any(),
+                    eq(CHUNK_SIZE))).thenReturn(null);
+
+            BatchRunStats stats = overdueBatchService.processOverdueAgreements();
+
+            assertEquals(0, stats.getChunks());
+            verify(agreementMapper, never()).markOverdueInRange(anyLong(), anyLong(), anySet(),
+                    any());
+            verify(transactionManager, never()).getTransaction(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("재시작")
+    class ResumeTest {
+
+        @Test
+        @DisplayName("성공 - 같은 날 중단된 실행은 마지막 체크포인트 이후부터 재개")
+        void resume_from_checkpoint() {
+            when(batchCheckpointMapper.findByJobName(OverdueBatchService.JOB_NAME)).thenReturn(
+                    BatchCheckpoint.builder().jobName(OverdueBatchService.JOB_NAME)
+                            .runKey(today).lastId(500L).build());
+            when(agreementMapper.findOverdueChunkEndId(eq(500L), anySet(), any(),
+                    eq(CHUNK_SIZE))).thenReturn(null);
+
+            BatchRunStats stats = overdueBatchService.processOverdueAgreements();
+
+            assertEquals(500L, stats.getResumedFromId());
+            verify(agreementMapper, never()).findOverdueChunkEndId(eq(0L), anySet(), any(),
+                    eq(CHUNK_SIZE));
+        }
+
+        @Test
+        @DisplayName("성공 - 완료된 체크포인트나 이전 날짜의 체크포인트는 처음부터 실행")
+        void restart_after_completed_run() {
+            when(batchCheckpointMapper.findByJobName(OverdueBatchService.JOB_NAME)).thenReturn(
+                    BatchCheckpoint.builder().jobName(OverdueBatchService.JOB_NAME)
+                            .runKey(LocalDate.now().minusDays(1).toString()).lastId(500L)
+                            .build());
+            when(agreementMapper.findOverdueChunkEndId(eq(0L), anySet(), any(),
+                    eq(CHUNK_SIZE))).thenReturn(null);
+
+            BatchRunStats stats = overdueBatchService.processOverdueAgreements();
+
+            assertEquals(0L, stats.getResumedFromId());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.itjima_server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.itjima_server.common.BatchRunStats;
+import com.itjima_server.mapper.AgreementMapper;
+import com.itjima_server.mapper.ChangeStampMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class PaidAmountCheckServiceTest {
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Mock
+    private AgreementMapper agreementMapper;
+    @Mock
+    private ChangeStampMapper changeStampMapper;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PaidAmountCheckService paidAmountCheckService;
+
+    @BeforeEach
+    void setUp() {
+        paidAmountCheckService = new PaidAmountCheckService(agreementMapper, changeStampMapper,
+                transactionManager, CHUNK_SIZE);
+    }
+
+    @Nested
+    @DisplayName("누적 상환액 재계산")
+    class RecomputeTest {
+
+        @Test
+        @DisplayName("성공 - 키셋 청크마다 어긋난 누적 상환액만 수정하고 커밋")
+        void recompute_per_chunk() {
+            when(agreementMapper.findChunkEndId(0L, CHUNK_SIZE)).thenReturn(100L);
+            when(agreementMapper.findChunkEndId(100L, CHUNK_SIZE)).thenReturn(180L);
+            when(agreementMapper.findChunkEndId(180L, CHUNK_SIZE)).thenReturn(null);
+            when(agreementMapper.recomputePaidAmountInRange(0L, 100L)).thenReturn(2);
+            when(agreementMapper.recomputePaidAmountInRange(100L, 180L)).thenReturn(0);
+
+            BatchRunStats stats = paidAmountCheckService.recomputeDrift();
+
+            assertEquals(2, stats.getChunks());
+            assertEquals(2, stats.getRows());
+            verify(transactionManager, times(2)).commit(any());
+            verify(changeStampMapper).touchAgreementRange(0L, 100L);
+            verify(changeStampMapper, never()).touchAgreementRange(100L, 180L);
+        }
+
+        @Test
+        @DisplayName("성공 - 대여가 없으면 재계산하지 않음")
+        void nothing_to_check() {
+            when(agreementMapper.findChunkEndId(eq(0L), eq(CHUNK_SIZE))).thenReturn(null);
+
+            BatchRunStats stats = paidAmountCheckService.recomputeDrift();
+
+            assertEquals(0, stats.getChunks());
+            verify(agreementMapper, never()).recomputePaidAmountInRange(anyLong(), anyLong());
+        }
+    }
+}
@@ -5,12 +5,15 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.itjima_server.domain.agreement.Agreement;
+import com.itjima_server.domain.agreement.AgreementAggregate;
 import com.itjima_server.domain.agreement.AgreementParty;
 import com.itjima_server.domain.agreement.AgreementPartyRole;
 import com.itjima_server.domain.agreement.AgreementStatus;
@@ -21,39 +24,43 @@ import com.itjima_server.dto.transaction.response.TransactionResponseDTO;
 import com.itjima_server.exception.agreement.NotFoundAgreementException;
 import com.itjima_server.exception.common.InvalidStateException;
 import com.itjima_server.exception.common.NotAuthorException;
-import com.itjima_server.exception.common.UpdateFailedException;
 import com.itjima_server.exception.transaction.NotFoundTransactionException;
 import com.itjima_server.mapper.AgreementMapper;
-import com.itjima_server.mapper.AgreementPartyMapper;
+import com.itjima_server.mapper.AuditLogMapper;
 import com.itjima_server.mapper.ItemMapper;
 import com.itjima_server.mapper.TransactionMapper;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 public class TransactionServiceTest {
 
-    @InjectMocks
     private TransactionService transactionService;
 
     @Mock
     private AgreementMapper agreementMapper;
     @Mock
-    private AgreementPartyMapper agreementPartyMapper;
-    @Mock
     private ItemMapper itemMapper;
     @Mock
     private TransactionMapper transactionMapper;
+    @Mock
+    private AuditLogMapper auditLogMapper;
+    @Mock
+    private ChangeStampService changeStampService;
+    @Mock
+    private DashboardStatsService dashboardStatsService;
+    @Mock
+    private PendingActionService pendingActionService;
+    @Mock
+    private EventStreamService eventStreamService;
 
     private Long creditorId;
     private Long debtorId;
@@ -70,6 +77,13 @@ public class TransactionServiceTest {
 
     @BeforeEach
     void init() {
+        // 상태 전이는 실제 AgreementTransitionService가 같은 목 매퍼로 수행
+        AgreementTransitionService agreementTransitionService = new AgreementTransitionService(
+                agreementMapper, itemMapper, changeStampService, dashboardStatsService,
+                pendingActionService, eventStreamService);
+        transactionService = new TransactionService(agreementMapper, transactionMapper,
+                auditLogMapper, changeStampService, dashboardStatsService, pendingActionService,
+                eventStreamService, agreementTransitionService);
         creditorId = 1L;
         debtorId = 2L;
         agreementId = 100L;
@@ -119,17 +133,20 @@ public class TransactionServiceTest {
         void confirm_success_and_complete() {
             // given
             when(transactionMapper.findById(transactionId)).thenReturn(transaction);
-            when(agreementMapper.findById(agreementId)).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreementId))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(transactionMapper.updateStatusById(transactionId, TransactionStatus.CONFIRMED))
+            when(agreementMapper.findAggregateById(agreementId)).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(transactionMapper.transitionStatus(transactionId, TransactionStatus.PENDING,
+                    TransactionStatus.CONFIRMED))
                     .thenReturn(1);
             // 방금 확정된 금액까지 합산되어 총액 == 대여금액
-            when(transactionMapper.sumConfirmedAmountByAgreementId(agreementId))
+            when(agreementMapper.addPaidAmount(agreementId, transaction.getAmount()))
+                    .thenReturn(1);
+            when(agreementMapper.findPaidAmountById(agreementId))
                     .thenReturn(new BigDecimal("10000.00"));
-            when(agreementMapper.updateStatusById(agreementId, AgreementStatus.COMPLETED))
+            when(agreementMapper.transitionStatus(eq(agreementId), anySet(),
+                    eq(AgreementStatus.COMPLETED), anyLong()))
                     .thenReturn(1);
-            when(itemMapper.updateStatusById(itemId, ItemStatus.AVAILABLE))
+            when(itemMapper.transitionStatus(itemId, ItemStatus.ON_LOAN, ItemStatus.AVAILABLE))
                     .thenReturn(1);
 
             // when
@@ -139,13 +156,20 @@ public class TransactionServiceTest {
             assertNotNull(res);
             assertEquals(TransactionStatus.CONFIRMED, res.getStatus());
             verify(transactionMapper, times(1))
-                    .updateStatusById(transactionId, TransactionStatus.CONFIRMED);
-            verify(transactionMapper, times(1))
-                    .sumConfirmedAmountByAgreementId(agreementId);
+                    .transitionStatus(transactionId, TransactionStatus.PENDING,
+                    TransactionStatus.CONFIRMED);
+            verify(agreementMapper, times(1))
+                    .addPaidAmount(agreementId, transaction.getAmount());
             verify(agreementMapper, times(1))
-                    .updateStatusById(agreementId, AgreementStatus.COMPLETED);
+                    .transitionStatus(eq(agreementId), anySet(),
+                    eq(AgreementStatus.COMPLETED), anyLong());
             verify(itemMapper, times(1))
-                    .updateStatusById(itemId, ItemStatus.AVAILABLE);
+                    .transitionStatus(itemId, ItemStatus.ON_LOAN, ItemStatus.AVAILABLE);
+            verify(itemMapper, times(1)).addCompletedRental(agreementId);
+            verify(pendingActionService, times(1)).resolveRepayment(transaction);
+            verify(dashboardStatsService, times(1)).onRepaymentResolved(any(Agreement.class));
+            verify(dashboardStatsService, times(1)).onTransition(any(Agreement.class), any(),
+                    eq(AgreementStatus.COMPLETED));
         }
 
         @Test
@@ -153,13 +177,15 @@ public class TransactionServiceTest {
         void confirm_success_without_complete() {
             // given
             when(transactionMapper.findById(transactionId)).thenReturn(transaction);
-            when(agreementMapper.findById(agreementId)).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreementId))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(transactionMapper.updateStatusById(transactionId, TransactionStatus.CONFIRMED))
+            when(agreementMapper.findAggregateById(agreementId)).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(transactionMapper.transitionStatus(transactionId, TransactionStatus.PENDING,
+                    TransactionStatus.CONFIRMED))
                     .thenReturn(1);
             // 아직 총 상환액 < 대여금액
-            when(transactionMapper.sumConfirmedAmountByAgreementId(agreementId))
+            when(agreementMapper.addPaidAmount(agreementId, transaction.getAmount()))
+                    .thenReturn(1);
+            when(agreementMapper.findPaidAmountById(agreementId))
                     .thenReturn(new BigDecimal("5000.00"));
 
             // when
@@ -169,9 +195,10 @@ public class TransactionServiceTest {
             assertNotNull(res);
             assertEquals(TransactionStatus.CONFIRMED, res.getStatus());
             verify(agreementMapper, never())
-                    .updateStatusById(anyLong(), any(AgreementStatus.class));
+                    .transitionStatus(anyLong(), anySet(), any(AgreementStatus.class), anyLong());
             verify(itemMapper, never())
-                    .updateStatusById(anyLong(), any(ItemStatus.class));
+                    .transitionStatus(anyLong(), any(), any());
+            verify(itemMapper, never()).addCompletedRental(anyLong());
         }
 
         @Test
@@ -202,9 +229,8 @@ public class TransactionServiceTest {
         void confirm_fail_not_author() {
             // given
             when(transactionMapper.findById(transactionId)).thenReturn(transaction);
-            when(agreementMapper.findById(agreementId)).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreementId))
-                    .thenReturn(List.of(creditorParty, debtorParty));
+            when(agreementMapper.findAggregateById(agreementId)).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
 
             // when & then (채무자 시도)
             assertThrows(NotAuthorException.class,
@@ -212,18 +238,18 @@ public class TransactionServiceTest {
         }
 
         @Test
-        @DisplayName("실패 - 상태 업데이트 실패")
+        @DisplayName("실패 - 다른 요청이 먼저 상태를 변경함")
         void confirm_fail_update_failed() {
             // given
             when(transactionMapper.findById(transactionId)).thenReturn(transaction);
-            when(agreementMapper.findById(agreementId)).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreementId))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(transactionMapper.updateStatusById(transactionId, TransactionStatus.CONFIRMED))
+            when(agreementMapper.findAggregateById(agreementId)).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(transactionMapper.transitionStatus(transactionId, TransactionStatus.PENDING,
+                    TransactionStatus.CONFIRMED))
                     .thenReturn(0);
 
             // when & then
-            assertThrows(UpdateFailedException.class,
+            assertThrows(InvalidStateException.class,
                     () -> transactionService.confirm(transactionId, creditorId));
         }
 
@@ -232,7 +258,7 @@ public class TransactionServiceTest {
         void confirm_fail_agreement_not_found() {
             // given
             when(transactionMapper.findById(transactionId)).thenReturn(transaction);
-            when(agreementMapper.findById(agreementId)).thenReturn(null);
+            when(agreementMapper.findAggregateById(agreementId)).thenReturn(null);
 
             // when & then
             assertThrows(NotFoundAgreementException.class,
@@ -249,10 +275,10 @@ public class TransactionServiceTest {
         void reject_success() {
             // given
             when(transactionMapper.findById(transactionId)).thenReturn(transaction);
-            when(agreementMapper.findById(agreementId)).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreementId))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(transactionMapper.updateStatusById(transactionId, TransactionStatus.REJECTED))
+            when(agreementMapper.findAggregateById(agreementId)).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(transactionMapper.transitionStatus(transactionId, TransactionStatus.PENDING,
+                    TransactionStatus.REJECTED))
                     .thenReturn(1);
 
             // when
@@ -262,11 +288,12 @@ public class TransactionServiceTest {
             assertNotNull(res);
             assertEquals(TransactionStatus.REJECTED, res.getStatus());
             verify(transactionMapper, times(1))
-                    .updateStatusById(transactionId, TransactionStatus.REJECTED);
-            verify(transactionMapper, never()).sumConfirmedAmountByAgreementId(anyLong());
-            verify(agreementMapper, never()).updateStatusById(anyLong(),
-                    any(AgreementStatus.class));
-            verify(itemMapper, never()).updateStatusById(anyLong(), any(ItemStatus.class));
+                    .transitionStatus(transactionId, TransactionStatus.PENDING,
+                    TransactionStatus.REJECTED);
+            verify(agreementMapper, never()).addPaidAmount(anyLong(), any());
+            verify(agreementMapper, never()).transitionStatus(anyLong(), anySet(),
+                    any(AgreementStatus.class), anyLong());
+            verify(itemMapper, never()).transitionStatus(anyLong(), any(), any());
         }
 
         @Test
@@ -286,9 +313,8 @@ public class TransactionServiceTest {
         void reject_fail_not_author() {
             // given
             when(transactionMapper.findById(transactionId)).thenReturn(transaction);
-            when(agreementMapper.findById(agreementId)).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreementId))
-                    .thenReturn(List.of(creditorParty, debtorParty));
+            when(agreementMapper.findAggregateById(agreementId)).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
 
             // when & then (채무자 시도)
             assertThrows(NotAuthorException.class,
@@ -307,19 +333,24 @@ public class TransactionServiceTest {
         }
 
         @Test
-        @DisplayName("실패 - 상태 업데이트 실패")
+        @DisplayName("실패 - 다른 요청이 먼저 상태를 변경함")
         void reject_fail_update_failed() {
             // given
             when(transactionMapper.findById(transactionId)).thenReturn(transaction);
-            when(agreementMapper.findById(agreementId)).thenReturn(agreement);
-            when(agreementPartyMapper.findByAgreementId(agreementId))
-                    .thenReturn(List.of(creditorParty, debtorParty));
-            when(transactionMapper.updateStatusById(transactionId, TransactionStatus.REJECTED))
+            when(agreementMapper.findAggregateById(agreementId)).thenReturn(
+                    aggregate(agreement, creditorParty, debtorParty));
+            when(transactionMapper.transitionStatus(transactionId, TransactionStatus.PENDING,
+                    TransactionStatus.REJECTED))
                     .thenReturn(0);
 
             // when & then
-            assertThrows(UpdateFailedException.class,
+            assertThrows(InvalidStateException.class,
                     () -> transactionService.reject(transactionId, creditorId));
         }
     }
+
+    private AgreementAggregate aggregate(Agreement agreement, AgreementParty creditorParty,
+            AgreementParty debtorParty) {
+        return new AgreementAggregate(agreement, creditorParty, null, debtorParty, null);
+    }
 }
@@ -20,7 +20,9 @@ import com.itjima_server.exception.common.UpdateFailedException;
 import com.itjima_server.exception.user.DuplicateUserFieldException;
 import com.itjima_server.exception.user.NotFoundUserException;
 import com.itjima_server.mapper.AgreementMapper;
+import com.itjima_server.mapper.RefreshTokenMapper;
 import com.itjima_server.mapper.UserMapper;
+import com.itjima_server.security.TokenVersionRegistry;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -47,9 +49,18 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private RefreshTokenMapper refreshTokenMapper;
+
+    @Mock
+    private ChangeStampService changeStampService;
+
     private Long userId;
     private int size;
     User baseUser;
@@ -269,4 +280,22 @@ class UserServiceTest {
             assertThrows(UpdateFailedException.class, () -> userService.changeProfile(userId, req));
         }
     }
+
+    @Nested
+    @DisplayName("회원 탈퇴")
+    class DeleteUserTest {
+
+        @Test
+        @DisplayName("성공 - 토큰 폐기 후 상대방 변경 스탬프까지 증가")
+        void delete_user_success() {
+            when(userMapper.findById(userId)).thenReturn(baseUser);
+            when(userMapper.updateDeleteStatusById(userId)).thenReturn(1);
+
+            userService.deleteUser(userId);
+
+            verify(refreshTokenMapper).deleteByUserId(userId);
+            verify(tokenVersionRegistry).revokeAll(userId);
+            verify(changeStampService).touchPartners(userId);
+        }
+    }
 }
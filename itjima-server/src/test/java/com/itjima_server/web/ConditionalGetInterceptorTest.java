@@ -0,0 +1,130 @@
+package com.itjima_server.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.itjima_server.security.CustomUserDetails;
+import com.itjima_server.service.ChangeStampService;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetInterceptorTest {
+
+    private static final long USER_ID = 7L;
+
+    @Mock
+    private ChangeStampService changeStampService;
+
+    private ConditionalGetInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ConditionalGetInterceptor(changeStampService);
+        request = new MockHttpServletRequest("GET", "/api/agreements/summary");
+        response = new MockHttpServletResponse();
+        CustomUserDetails user = new CustomUserDetails(USER_ID, "user@example.com", "",
+                List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("조건부 GET")
+    class ConditionalTest {
+
+        @Test
+        @DisplayName("성공 - 스탬프 기반 ETag를 붙이고 조회 진행")
+        void attach_etag() throws Exception {
+            when(changeStampService.versionOf(USER_ID)).thenReturn(3L);
+
+            assertTrue(interceptor.preHandle(request, response, handler("stamped")));
+            assertEquals("W/\"7-3\"", response.getHeader(HttpHeaders.ETAG));
+            assertEquals("no-cache, private", response.getHeader(HttpHeaders.CACHE_CONTROL));
+            assertEquals(3L, request.getAttribute(ConditionalGetInterceptor.STAMP_VERSION));
+        }
+
+        @Test
+        @DisplayName("성공 - If-None-Match가 같으면 조회 없이 304")
+        void not_modified_when_etag_matches() throws Exception {
+            when(changeStampService.versionOf(USER_ID)).thenReturn(3L);
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"7-3\"");
+
+            assertFalse(interceptor.preHandle(request, response, handler("stamped")));
+            assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+        }
+
+        @Test
+        @DisplayName("성공 - 스탬프가 바뀌었으면 다시 조회")
+        void proceed_when_stamp_changed() throws Exception {
+            when(changeStampService.versionOf(USER_ID)).thenReturn(4L);
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"7-3\"");
+
+            assertTrue(interceptor.preHandle(request, response, handler("stamped")));
+            assertEquals(HttpStatus.OK.value(), response.getStatus());
+        }
+
+        @Test
+        @DisplayName("성공 - 날짜에 따라 달라지는 응답은 ETag에 날짜 포함")
+        void include_date_for_daily() throws Exception {
+            when(changeStampService.versionOf(USER_ID)).thenReturn(3L);
+
+            interceptor.preHandle(request, response, handler("daily"));
+
+            assertEquals("W/\"7-3-" + LocalDate.now() + "\"",
+                    response.getHeader(HttpHeaders.ETAG));
+        }
+
+        @Test
+        @DisplayName("성공 - 어노테이션이 없는 API는 건드리지 않음")
+        void skip_unannotated() throws Exception {
+            assertTrue(interceptor.preHandle(request, response, handler("plain")));
+            assertNull(response.getHeader(HttpHeaders.ETAG));
+            verifyNoInteractions(changeStampService);
+        }
+    }
+
+    private static HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getMethod(methodName));
+    }
+
+    static class Handlers {
+
+        @ConditionalGet
+        public void stamped() {
+        }
+
+        @ConditionalGet(daily = true)
+        public void daily() {
+        }
+
+        public void plain() {
+        }
+    }
+}